@@ -31,6 +31,16 @@ import java.lang.annotation.*;
  *   <li>{@code Future<T>} - allows caller to wait for result</li>
  * </ul>
  *
+ * <p>For future-returning methods the executor only runs the method body up to
+ * the point where it returns its future; the caller's future then completes from
+ * that one without holding a pool thread, so nested {@code @Async} calls cannot
+ * starve the pool. Methods with any other return type run synchronously.
+ *
+ * <p>With an {@link #orderingKey()}, calls with equal keys run one at a time in
+ * call order, while calls with different keys run in parallel on the same
+ * executor. Ordering covers the method body; for future-returning methods the
+ * work behind the returned future is not ordered.
+ *
  * <p>Example usage:
  * <pre>{@code
  * @Component
@@ -62,9 +72,28 @@ public @interface Async {
      * The name of the executor to use for this async method.
      * If empty, the default executor will be used.
      *
+     * <p>The name {@code "virtual"} runs the method on a new virtual thread (JDK 21+,
+     * platform threads otherwise); other names refer to executors registered with
+     * {@code AsyncExecutor.registerExecutor} or {@code registerVirtualExecutor}.
+     *
      * @return the executor name
      */
     String value() default "";
+
+    /**
+     * Property path of the key that orders calls of this method.
+     *
+     * <p>The path starts with a parameter name and may continue through public
+     * getters, e.g. {@code "orderId"} or {@code "order.customer.id"}; an
+     * intermediate {@code null} yields a {@code null} key, which runs unordered.
+     * Keys are compared with {@code equals} and shared with
+     * {@code AsyncExecutor.submitOrdered} on the same executor.
+     *
+     * <p>Default is empty string (no ordering).
+     *
+     * @return the ordering key path
+     */
+    String orderingKey() default "";
     
     /**
      * Timeout in milliseconds for the async operation.
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Batches calls of a single-key method into calls of a bulk method.
+ *
+ * <p>Calls made while a batch is open, from any thread, are collected and
+ * dispatched once to {@link #bulkMethod()} on the executor named by
+ * {@link #executor()}. A batch closes when its flush runs, after
+ * {@link #windowMillis()} if set, or as soon as it holds
+ * {@link #maxBatchSize()} distinct keys. Each caller gets its own future.
+ * Within an open {@code BatchScope}, repeated keys are loaded only once.
+ *
+ * <p>The annotated method must take one parameter, the key, and return
+ * {@code CompletableFuture<V>} or {@code CompletionStage<V>}; its body is not
+ * called. The bulk method must be declared in the same class, take a
+ * {@code List} of keys and return either a {@code Map<K, V>} (missing keys
+ * complete with {@code null}) or a {@code List<V>} in key order.
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * @Component
+ * public class UserRepository {
+ *
+ *     @Batched(bulkMethod = "findAllByIds", maxBatchSize = 200)
+ *     public CompletableFuture<User> findById(Long id) {
+ *         throw new UnsupportedOperationException("batched");
+ *     }
+ *
+ *     public Map<Long, User> findAllByIds(List<Long> ids) {
+ *         return database.selectUsers(ids);
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Batched {
+
+    /**
+     * Name of the method that loads a batch of keys.
+     *
+     * @return the bulk method name
+     */
+    String bulkMethod();
+
+    /**
+     * Maximum number of distinct keys per bulk call.
+     *
+     * @return the maximum batch size
+     */
+    int maxBatchSize() default 100;
+
+    /**
+     * Time in milliseconds a batch collects keys before it is dispatched.
+     *
+     * <p>Default is 0: the flush is submitted at once and takes the keys
+     * requested until the executor runs it.
+     *
+     * @return the collection window in milliseconds
+     */
+    long windowMillis() default 0;
+
+    /**
+     * The name of the executor that runs the bulk calls, as for {@link Async#value()}.
+     * If empty, the default executor is used.
+     *
+     * @return the executor name
+     */
+    String executor() default "";
+}
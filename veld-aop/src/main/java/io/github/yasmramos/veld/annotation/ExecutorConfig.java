@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.annotation;
+
+import io.github.yasmramos.veld.runtime.async.ExecutorDefinition;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares a named executor for {@link Async @Async} methods.
+ *
+ * <p>The declaration may sit on any component of the compilation; every
+ * {@code @Async("name")} must refer to a declared executor, the default executor
+ * ({@code ""}) or {@code "virtual"}, otherwise the AOP processor reports a
+ * compile error. The generated wrappers create the pool the first time they are
+ * loaded, unless an executor with that name was already registered with
+ * {@code AsyncExecutor}. Each attribute can be overridden at runtime through the
+ * {@code veld.async.executor.<name>.*} system properties.</p>
+ *
+ * <p>Example usage:
+ * <pre>{@code
+ * @Component
+ * @ExecutorConfig(name = "reports", coreSize = 2, maxSize = 8,
+ *                 queue = ExecutorDefinition.QueueType.ARRAY, queueCapacity = 500,
+ *                 rejection = ExecutorDefinition.RejectionPolicy.ABORT)
+ * public class ReportService {
+ *
+ *     @Async("reports")
+ *     public CompletableFuture<Report> render(ReportRequest request) {
+ *         return CompletableFuture.completedFuture(renderer.render(request));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see ExecutorDefinition
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(ExecutorConfigs.class)
+public @interface ExecutorConfig {
+
+    /**
+     * The executor name referenced by {@code @Async}.
+     *
+     * @return the executor name
+     */
+    String name();
+
+    /**
+     * The number of threads kept even when idle.
+     *
+     * @return the core pool size
+     */
+    int coreSize() default 1;
+
+    /**
+     * The maximum number of threads; {@code 0} means the core size.
+     *
+     * @return the maximum pool size
+     */
+    int maxSize() default 0;
+
+    /**
+     * The work queue type.
+     *
+     * @return the queue type
+     */
+    ExecutorDefinition.QueueType queue() default ExecutorDefinition.QueueType.LINKED;
+
+    /**
+     * The queue capacity; ignored for {@link ExecutorDefinition.QueueType#SYNCHRONOUS}.
+     *
+     * @return the queue capacity
+     */
+    int queueCapacity() default ExecutorDefinition.DEFAULT_QUEUE_CAPACITY;
+
+    /**
+     * What happens to a task when the pool and its queue are full.
+     *
+     * @return the rejection policy
+     */
+    ExecutorDefinition.RejectionPolicy rejection() default ExecutorDefinition.RejectionPolicy.CALLER_RUNS;
+
+    /**
+     * The priority of the pool threads.
+     *
+     * @return the thread priority
+     */
+    int priority() default Thread.NORM_PRIORITY;
+
+    /**
+     * How long an idle thread above the core size is kept, in seconds.
+     *
+     * @return the keep-alive time in seconds
+     */
+    long keepAliveSeconds() default 60;
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Container for repeated {@link ExecutorConfig} declarations.
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ExecutorConfigs {
+
+    /**
+     * The executor declarations.
+     *
+     * @return the declarations
+     */
+    ExecutorConfig[] value();
+}
@@ -87,8 +87,12 @@ public @interface Scheduled {
      *   <li>"0 0 2 * * ?" - Daily at 2 AM</li>
      *   <li>"0 0/30 * * * ?" - Every 30 minutes</li>
      *   <li>"0 0 9-17 * * MON-FRI" - Every hour 9-5 on weekdays</li>
+     *   <li>"0 0 18 LW * ?" - 6 PM on the last weekday of the month</li>
+     *   <li>"0 0 10 ? * FRI#3" - 10 AM on the third Friday of the month</li>
      * </ul>
      *
+     * <p>Invalid expressions are reported at compile time.
+     *
      * @return cron expression, empty if not used
      */
     String cron() default "";
@@ -29,20 +29,30 @@ import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import io.github.yasmramos.veld.aop.interceptor.LoggingInterceptor;
 import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import io.github.yasmramos.veld.runtime.async.ExecutorDefinition;
 import io.github.yasmramos.veld.runtime.async.SchedulerService;
+import io.github.yasmramos.veld.runtime.async.StripedLaneExecutor;
+import io.github.yasmramos.veld.runtime.batch.BatchLoader;
 
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import java.io.IOException;
+import java.time.Duration;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,8 +64,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -88,6 +97,7 @@ public class AopClassGenerator implements AopGenerator {
         "io.github.yasmramos.veld.annotation.Before",
         "io.github.yasmramos.veld.annotation.After",
         "io.github.yasmramos.veld.annotation.Async",
+        "io.github.yasmramos.veld.annotation.Batched",
         "io.github.yasmramos.veld.annotation.Scheduled",
         "io.github.yasmramos.veld.annotation.Retry",
         "io.github.yasmramos.veld.annotation.RateLimiter",
@@ -95,6 +105,10 @@ public class AopClassGenerator implements AopGenerator {
         "io.github.yasmramos.veld.annotation.Valid"
     );
 
+    private static final String BATCHED = "io.github.yasmramos.veld.annotation.Batched";
+    private static final String EXECUTOR_CONFIG = "io.github.yasmramos.veld.annotation.ExecutorConfig";
+    private static final String EXECUTOR_CONFIGS = "io.github.yasmramos.veld.annotation.ExecutorConfigs";
+
     private final AopGenerationContext context;
     private final Types typeUtils;
     private final Elements elementUtils;
@@ -102,6 +116,9 @@ public class AopClassGenerator implements AopGenerator {
     // Maps original class to its AOP wrapper class name
     private final Map<String, String> aopClassMap = new HashMap<>();
 
+    // Executors declared with @ExecutorConfig on any of the processed components
+    private final Map<String, ExecutorDefinition> declaredExecutors = new LinkedHashMap<>();
+
     // Track generated AOP class names to avoid recreating files in different rounds
     // Using static field to persist across multiple instances of AopClassGenerator
     private static final Set<String> generatedAopClasses = Collections.synchronizedSet(new HashSet<>());
@@ -139,7 +156,10 @@ public class AopClassGenerator implements AopGenerator {
         if (components == null) {
             return aopClassMap;
         }
-        
+
+        // @Async executor names are checked against the declarations of the whole compilation
+        collectExecutorConfigs(components);
+
         for (AopComponentNode component : components) {
             if (hasInterceptedMethods(component)) {
                 String aopClassName = component.getClassName() + AOP_SUFFIX;
@@ -164,6 +184,72 @@ public class AopClassGenerator implements AopGenerator {
         return aopClassMap;
     }
 
+    /**
+     * Collects the {@code @ExecutorConfig} declarations of all components.
+     */
+    @SuppressWarnings("unchecked")
+    private void collectExecutorConfigs(List<? extends AopComponentNode> components) {
+        if (typeUtils == null) return;
+
+        for (AopComponentNode component : components) {
+            TypeMirror typeMirror = component.getTypeMirror();
+            if (typeMirror == null) continue;
+            Element element = typeUtils.asElement(typeMirror);
+            if (!(element instanceof TypeElement)) continue;
+
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                String annotationName = annotation.getAnnotationType().toString();
+                if (EXECUTOR_CONFIG.equals(annotationName)) {
+                    declareExecutor((TypeElement) element, annotation);
+                } else if (EXECUTOR_CONFIGS.equals(annotationName)) {
+                    for (AnnotationValue value : annotation.getElementValues().values()) {
+                        for (AnnotationValue config : (List<? extends AnnotationValue>) value.getValue()) {
+                            declareExecutor((TypeElement) element, (AnnotationMirror) config.getValue());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Validates one {@code @ExecutorConfig} and records its definition.
+     */
+    private void declareExecutor(TypeElement typeElement, AnnotationMirror annotation) {
+        Map<String, Object> values = new HashMap<>();
+        for (var entry : elementUtils.getElementValuesWithDefaults(annotation).entrySet()) {
+            Object value = entry.getValue().getValue();
+            values.put(entry.getKey().getSimpleName().toString(),
+                    value instanceof VariableElement ? ((VariableElement) value).getSimpleName().toString() : value);
+        }
+
+        ExecutorDefinition definition;
+        try {
+            ExecutorDefinition.Builder builder = ExecutorDefinition.builder((String) values.get("name"))
+                    .coreSize((Integer) values.get("coreSize"))
+                    .queue(ExecutorDefinition.QueueType.valueOf((String) values.get("queue")),
+                            (Integer) values.get("queueCapacity"))
+                    .rejection(ExecutorDefinition.RejectionPolicy.valueOf((String) values.get("rejection")))
+                    .threadPriority((Integer) values.get("priority"))
+                    .keepAlive(Duration.ofSeconds((Long) values.get("keepAliveSeconds")));
+            int maxSize = (Integer) values.get("maxSize");
+            if (maxSize != 0) {
+                builder.maxSize(maxSize);
+            }
+            definition = builder.build();
+        } catch (IllegalArgumentException e) {
+            context.reportError("Invalid @ExecutorConfig on " + typeElement.getQualifiedName() + ": "
+                    + e.getMessage(), typeElement);
+            return;
+        }
+
+        ExecutorDefinition previous = declaredExecutors.putIfAbsent(definition.getName(), definition);
+        if (previous != null && !previous.equals(definition)) {
+            context.reportError("Executor '" + definition.getName() + "' on " + typeElement.getQualifiedName()
+                    + " conflicts with an earlier declaration: " + previous, typeElement);
+        }
+    }
+
     /**
      * Checks if a component has any intercepted methods.
      */
@@ -359,53 +445,198 @@ public class AopClassGenerator implements AopGenerator {
 
     /**
      * Generates static fields for async executor optimization.
+     *
+     * <p>Each executor name used by an {@code @Async} method gets one constant: the
+     * default executor and the {@code "virtual"} virtual-thread executor are bound
+     * directly, other names to a stable view that resolves the registered
+     * executor per task.</p>
      */
     private void generateAsyncExecutorFields(TypeSpec.Builder classBuilder, TypeElement typeElement) {
         // Collect all executor names used in @Async annotations
-        Set<String> defaultExecutors = new LinkedHashSet<>();
-        Map<String, String> customExecutors = new LinkedHashMap<>();
+        Set<String> executorNames = new LinkedHashSet<>();
+        Set<String> orderedExecutorNames = new LinkedHashSet<>();
 
         for (Element enclosed : typeElement.getEnclosedElements()) {
             if (enclosed.getKind() != ElementKind.METHOD) continue;
 
             ExecutableElement method = (ExecutableElement) enclosed;
-            if (!hasAnnotation(method, "io.github.yasmramos.veld.annotation.Async")) continue;
+            boolean batched = hasAnnotation(method, BATCHED);
+            if (!batched && !hasAnnotation(method, "io.github.yasmramos.veld.annotation.Async")) continue;
+
+            String executorName = batched
+                    ? getAnnotationValue(method, BATCHED, "executor", "")
+                    : getAnnotationValue(method, "io.github.yasmramos.veld.annotation.Async", "value", "");
+            // Executors may also be registered in code or through veld.async.executors,
+            // which only the runtime sees; it rejects tasks for names still unknown then
+            if (!executorName.isEmpty() && !AsyncExecutor.VIRTUAL.equals(executorName)
+                    && !declaredExecutors.containsKey(executorName)) {
+                context.reportWarning((batched ? "@Batched" : "@Async") + " method " + typeElement.getQualifiedName()
+                        + "." + method.getSimpleName() + " uses undeclared executor '" + executorName
+                        + "'; declare it with @ExecutorConfig(name = \"" + executorName
+                        + "\") or register it before the method is called", method);
+            }
+            executorNames.add(executorName);
+            if (!batched && !getAnnotationValue(method, "io.github.yasmramos.veld.annotation.Async", "orderingKey", "").isEmpty()) {
+                orderedExecutorNames.add(executorName);
+            }
+        }
+
+        for (String executorName : executorNames) {
+            classBuilder.addField(asyncExecutorField(executorName, declaredExecutors.get(executorName)));
+        }
+        // After the plain constants, so named executors are declared before their lanes
+        for (String executorName : orderedExecutorNames) {
+            classBuilder.addField(FieldSpec.builder(ClassName.get(StripedLaneExecutor.class),
+                            orderedExecutorFieldName(executorName))
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.getInstance().getOrderedExecutor($S)", AsyncExecutor.class, executorName)
+                    .build());
+        }
+    }
 
-            String executorName = getAnnotationValue(method, "io.github.yasmramos.veld.annotation.Async", "value", "");
+    /**
+     * Returns the name of the constant holding the keyed lanes for an {@code @Async} executor name.
+     */
+    static String orderedExecutorFieldName(String executorName) {
+        return "ORDERED_" + asyncExecutorFieldName(executorName);
+    }
 
-            if (executorName.isEmpty()) {
-                defaultExecutors.add("default");
-            } else {
-                // Use short name for field to avoid conflicts
-                String fieldName = "EXECUTOR_" + executorName.toUpperCase().replace("-", "_").replace(" ", "_");
-                customExecutors.put(executorName, fieldName);
+    /**
+     * Compiles an {@code @Async(orderingKey)} path into an expression over the
+     * method parameters.
+     *
+     * <p>The first segment names a parameter; further segments read public
+     * getters ({@code getX()}, {@code isX()} or {@code x()}), guarded so that an
+     * intermediate {@code null} yields a {@code null} key.</p>
+     *
+     * @throws IllegalArgumentException if the path does not resolve
+     */
+    CodeBlock compileOrderingKey(ExecutableElement method, String path) {
+        String[] segments = path.split("\\.", -1);
+        VariableElement parameter = null;
+        for (VariableElement candidate : method.getParameters()) {
+            if (candidate.getSimpleName().contentEquals(segments[0].trim())) {
+                parameter = candidate;
             }
         }
+        if (parameter == null) {
+            throw new IllegalArgumentException("no parameter named '" + segments[0].trim() + "'");
+        }
+        CodeBlock code = CodeBlock.of("$N", parameter.getSimpleName().toString());
+        TypeMirror type = parameter.asType();
+        List<CodeBlock> guards = new ArrayList<>();
+        for (int i = 1; i < segments.length; i++) {
+            String property = segments[i].trim();
+            if (property.isEmpty()) {
+                throw new IllegalArgumentException("empty property in '" + path + "'");
+            }
+            while (type.getKind() == TypeKind.TYPEVAR) {
+                type = ((TypeVariable) type).getUpperBound();
+            }
+            if (type.getKind() != TypeKind.DECLARED || typeUtils == null) {
+                throw new IllegalArgumentException("cannot access property '" + property + "' of type " + type);
+            }
+            DeclaredType owner = (DeclaredType) type;
+            ExecutableElement accessor = findAccessor(owner, property);
+            if (accessor == null) {
+                throw new IllegalArgumentException("no public accessor for property '" + property + "' on "
+                        + owner.asElement().getSimpleName());
+            }
+            guards.add(CodeBlock.of("$L != null", code));
+            code = CodeBlock.of("$L.$N()", code, accessor.getSimpleName().toString());
+            type = ((ExecutableType) typeUtils.asMemberOf(owner, accessor)).getReturnType();
+        }
+        if (guards.isEmpty()) {
+            return code;
+        }
+        return CodeBlock.of("$L ? $L : null", CodeBlock.join(guards, " && "), code);
+    }
 
-        // Generate default executor constant (constant folding)
-        if (!defaultExecutors.isEmpty()) {
-            FieldSpec defaultExecutorField = FieldSpec.builder(
-                    ClassName.get(ExecutorService.class), "DEFAULT_EXECUTOR")
-                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
-                    .initializer("$T.getInstance().getDefaultExecutor()", AsyncExecutor.class)
-                    .build();
-            classBuilder.addField(defaultExecutorField);
+    private ExecutableElement findAccessor(DeclaredType owner, String property) {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        ExecutableElement getter = null;
+        ExecutableElement isGetter = null;
+        ExecutableElement plain = null;
+        for (Element member : elementUtils.getAllMembers((TypeElement) owner.asElement())) {
+            if (member.getKind() != ElementKind.METHOD
+                    || !member.getModifiers().contains(Modifier.PUBLIC)
+                    || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            ExecutableElement candidate = (ExecutableElement) member;
+            if (!candidate.getParameters().isEmpty() || candidate.getReturnType().getKind() == TypeKind.VOID) {
+                continue;
+            }
+            String name = candidate.getSimpleName().toString();
+            if (name.equals("get" + suffix)) {
+                getter = candidate;
+            } else if (name.equals("is" + suffix)) {
+                isGetter = candidate;
+            } else if (name.equals(property)) {
+                plain = candidate;
+            }
         }
+        return getter != null ? getter : isGetter != null ? isGetter : plain;
+    }
 
-        // Generate ThreadLocal cache for custom executors
-        for (Map.Entry<String, String> entry : customExecutors.entrySet()) {
-            String executorName = entry.getKey();
-            String fieldName = entry.getValue();
+    /**
+     * Returns the name of the constant holding the executor for an {@code @Async} executor name.
+     */
+    static String asyncExecutorFieldName(String executorName) {
+        if (executorName.isEmpty()) {
+            return "DEFAULT_EXECUTOR";
+        }
+        if (AsyncExecutor.VIRTUAL.equals(executorName)) {
+            return "VIRTUAL_EXECUTOR";
+        }
+        // Use short name for field to avoid conflicts
+        return "EXECUTOR_" + executorName.toUpperCase().replace("-", "_").replace(" ", "_");
+    }
 
-            FieldSpec customExecutorField = FieldSpec.builder(
-                    ParameterizedTypeName.get(ClassName.get(ThreadLocal.class), ClassName.get(ExecutorService.class)),
-                    fieldName)
-                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
-                    .initializer("$T.withInitial(() -> $T.getInstance().getExecutor($S))",
-                            ThreadLocal.class, AsyncExecutor.class, executorName)
-                    .build();
-            classBuilder.addField(customExecutorField);
+    /**
+     * Builds the constant holding the executor for an {@code @Async} executor name.
+     */
+    static FieldSpec asyncExecutorField(String executorName) {
+        return asyncExecutorField(executorName, null);
+    }
+
+    /**
+     * Builds the constant holding the executor for an {@code @Async} executor name,
+     * declaring the executor first when a definition is given.
+     */
+    static FieldSpec asyncExecutorField(String executorName, ExecutorDefinition definition) {
+        CodeBlock initializer;
+        if (definition != null) {
+            initializer = CodeBlock.of("$T.getInstance().declareExecutor($L)",
+                    AsyncExecutor.class, executorDefinition(definition));
+        } else if (executorName.isEmpty()) {
+            initializer = CodeBlock.of("$T.getInstance().getDefaultExecutor()", AsyncExecutor.class);
+        } else if (AsyncExecutor.VIRTUAL.equals(executorName)) {
+            initializer = CodeBlock.of("$T.getInstance().getVirtualExecutor()", AsyncExecutor.class);
+        } else {
+            initializer = CodeBlock.of("$T.getInstance().getExecutor($S)", AsyncExecutor.class, executorName);
         }
+        return FieldSpec.builder(ClassName.get(Executor.class), asyncExecutorFieldName(executorName))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(initializer)
+                .build();
+    }
+
+    /**
+     * Builds the expression recreating an executor definition at runtime.
+     */
+    static CodeBlock executorDefinition(ExecutorDefinition definition) {
+        return CodeBlock.builder()
+                .add("$T.builder($S)", ExecutorDefinition.class, definition.getName())
+                .add(".coreSize($L).maxSize($L)", definition.getCoreSize(), definition.getMaxSize())
+                .add(".queue($T.$L, $L)", ExecutorDefinition.QueueType.class,
+                        definition.getQueueType().name(), definition.getQueueCapacity())
+                .add(".rejection($T.$L)", ExecutorDefinition.RejectionPolicy.class,
+                        definition.getRejectionPolicy().name())
+                .add(".threadPriority($L)", definition.getThreadPriority())
+                .add(".keepAlive($T.ofSeconds($LL))", Duration.class, definition.getKeepAlive().getSeconds())
+                .add(".build()")
+                .build();
     }
 
     /**
@@ -569,7 +800,7 @@ public class AopClassGenerator implements AopGenerator {
                 ParameterizedTypeName.get(ClassName.get(List.class), ClassName.get("java.util.concurrent", "ScheduledFuture")),
                 "__scheduledTasks__")
                 .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
-                .initializer("$T.asList(new $T[$N])", Arrays.class, ClassName.get("java.util.concurrent", "ScheduledFuture"), countScheduledMethods(typeElement))
+                .initializer("$T.asList(new $T[$L])", Arrays.class, ClassName.get("java.util.concurrent", "ScheduledFuture"), countScheduledMethods(typeElement))
                 .addJavadoc("Stores references to scheduled tasks for cleanup on shutdown.\n")
                 .build());
 
@@ -604,14 +835,21 @@ public class AopClassGenerator implements AopGenerator {
 
             if (!cron.isEmpty()) {
                 // Cron-based scheduling - these tasks self-reschedule, no need to track
-                methodBuilder.addStatement("scheduler.scheduleCron(task_$N, $S, $S)", methodName, cron, zone);
+                try {
+                    SchedulerService.CronExpression.parse(cron);
+                } catch (IllegalArgumentException e) {
+                    context.reportError("@Scheduled method " + typeElement.getSimpleName() + "." + methodName
+                            + ": " + e.getMessage(), method);
+                }
+                CodeBlock zoneId = zone.isEmpty() ? CodeBlock.of("null") : CodeBlock.of("$T.of($S)", ZoneId.class, zone);
+                methodBuilder.addStatement("scheduler.scheduleCron(task_$N, $S, $L)", methodName, cron, zoneId);
             } else if (!fixedRate.equals("-1") && Long.parseLong(fixedRate) > 0) {
                 // Fixed rate scheduling - store the future for cleanup
-                methodBuilder.addStatement("__scheduledTasks__[__taskIndex__++] = scheduler.scheduleAtFixedRate(task_$N, $NL, $NL, $T.MILLISECONDS)",
+                methodBuilder.addStatement("__scheduledTasks__.set(__taskIndex__++, scheduler.scheduleAtFixedRate(task_$N, $LL, $LL, $T.MILLISECONDS))",
                         methodName, initialDelay, fixedRate, TimeUnit.class);
             } else if (!fixedDelay.equals("-1") && Long.parseLong(fixedDelay) > 0) {
                 // Fixed delay scheduling - store the future for cleanup
-                methodBuilder.addStatement("__scheduledTasks__[__taskIndex__++] = scheduler.scheduleWithFixedDelay(task_$N, $NL, $NL, $T.MILLISECONDS)",
+                methodBuilder.addStatement("__scheduledTasks__.set(__taskIndex__++, scheduler.scheduleWithFixedDelay(task_$N, $LL, $LL, $T.MILLISECONDS))",
                         methodName, initialDelay, fixedDelay, TimeUnit.class);
             }
             taskIndex++;
@@ -646,10 +884,11 @@ public class AopClassGenerator implements AopGenerator {
                 .addModifiers(Modifier.PRIVATE)
                 .addJavadoc("Cancels all scheduled tasks to prevent memory leaks.\n" +
                         "Should be called during component shutdown or application termination.\n")
-                .addStatement("for ($T task : __scheduledTasks__)",
+                .beginControlFlow("for ($T task : __scheduledTasks__)",
                     ClassName.get("java.util.concurrent", "ScheduledFuture"))
                 .beginControlFlow("if (task != null && !task.isDone())")
                 .addStatement("task.cancel(false)")
+                .endControlFlow()
                 .endControlFlow();
 
         classBuilder.addMethod(methodBuilder.build());
@@ -683,6 +922,12 @@ public class AopClassGenerator implements AopGenerator {
                 continue;
             }
 
+            // Check for @Batched annotation
+            if (hasAnnotation(method, BATCHED)) {
+                generateBatchedMethod(classBuilder, method, typeElement, simpleClassName);
+                continue;
+            }
+
             // Check for @Retry annotation
             if (hasAnnotation(method, "io.github.yasmramos.veld.annotation.Retry")) {
                 generateRetryMethod(classBuilder, method, simpleClassName);
@@ -738,22 +983,35 @@ public class AopClassGenerator implements AopGenerator {
 
     /**
      * Generates an async method wrapper with constant folding optimization.
+     *
+     * <p>Future-returning methods are composed rather than joined: the executor
+     * runs the method body until it returns its future, and the wrapper's future
+     * completes from that one, so no pool thread waits on a nested async call.</p>
      */
     private void generateAsyncMethod(TypeSpec.Builder classBuilder, ExecutableElement method, String simpleClassName) {
         String methodName = method.getSimpleName().toString();
         TypeMirror returnType = method.getReturnType();
         String returnTypeName = returnType.toString();
         boolean isVoid = returnTypeName.equals("void");
-        boolean isCompletableFuture = returnTypeName.startsWith("java.util.concurrent.CompletableFuture");
+        boolean isCompletionStage = returnTypeName.startsWith("java.util.concurrent.CompletableFuture")
+                || returnTypeName.startsWith("java.util.concurrent.CompletionStage");
+        boolean isFuture = returnTypeName.startsWith("java.util.concurrent.Future");
 
         // Get executor name from annotation
         String executorName = getAnnotationValue(method, "io.github.yasmramos.veld.annotation.Async", "value", "");
 
-        // Determine which optimized path to use
-        boolean useDefaultExecutor = executorName.isEmpty();
-        String executorFieldName = useDefaultExecutor ? "DEFAULT_EXECUTOR" :
-            "EXECUTOR_" + executorName.toUpperCase().replace("-", "_").replace(" ", "_");
-        String executorAccess = useDefaultExecutor ? executorFieldName : executorFieldName + ".get()";
+        // Constant generated by generateAsyncExecutorFields
+        CodeBlock executorAccess = CodeBlock.of("$N", asyncExecutorFieldName(executorName));
+        String orderingKey = getAnnotationValue(method, "io.github.yasmramos.veld.annotation.Async", "orderingKey", "");
+        if (!orderingKey.isEmpty()) {
+            try {
+                executorAccess = CodeBlock.of("$N.withKey($L)", orderedExecutorFieldName(executorName),
+                        compileOrderingKey(method, orderingKey));
+            } catch (IllegalArgumentException e) {
+                context.reportError("Invalid @Async orderingKey \"" + orderingKey + "\" on " + simpleClassName
+                        + "." + methodName + ": " + e.getMessage(), method);
+            }
+        }
 
         // Build parameter list
         List<ParameterSpec> params = new ArrayList<>();
@@ -782,31 +1040,136 @@ public class AopClassGenerator implements AopGenerator {
             methodBuilder.addStatement("$T.err.println(\"[Veld] Async method failed: $N - \" + e.getMessage())", System.class, methodName);
             methodBuilder.endControlFlow();
             methodBuilder.addStatement("}, $L)", executorAccess);
-        } else if (isCompletableFuture) {
-            // Return CompletableFuture with optimized executor
-            methodBuilder.addStatement("return $T.supplyAsync(() -> {", CompletableFuture.class);
-            methodBuilder.beginControlFlow("try");
-            methodBuilder.addStatement("return super.$N($L).join()", methodName, String.join(", ", args));
-            methodBuilder.endControlFlow();
-            methodBuilder.beginControlFlow("catch ($T e)", Exception.class);
-            methodBuilder.addStatement("throw new $T(e)", CompletionException.class);
-            methodBuilder.endControlFlow();
-            methodBuilder.addStatement("}, $L)", executorAccess);
+        } else if (isCompletionStage) {
+            // Only the body runs on the executor; the returned future is handed off, not joined
+            methodBuilder.addStatement("return $T.composeAsync(() -> super.$N($L), $L)",
+                    AsyncExecutor.class, methodName, String.join(", ", args), executorAccess);
+        } else if (isFuture) {
+            methodBuilder.addStatement("return $T.composeAsync(() -> $T.asCompletionStage(super.$N($L)), $L)",
+                    AsyncExecutor.class, AsyncExecutor.class, methodName, String.join(", ", args),
+                    executorAccess);
         } else {
-            // Other return types - wrap in CompletableFuture and block
-            methodBuilder.addStatement("return $T.supplyAsync(() -> {", CompletableFuture.class);
-            methodBuilder.beginControlFlow("try");
+            // The caller needs the value itself, so a pool thread would only add a blocked caller
+            context.reportWarning("@Async method " + simpleClassName + "." + methodName + " returns "
+                    + returnTypeName + " and runs synchronously; return void or a CompletableFuture", method);
+            for (TypeMirror thrownType : method.getThrownTypes()) {
+                methodBuilder.addException(TypeName.get(thrownType));
+            }
             methodBuilder.addStatement("return super.$N($L)", methodName, String.join(", ", args));
-            methodBuilder.endControlFlow();
-            methodBuilder.beginControlFlow("catch ($T e)", Exception.class);
-            methodBuilder.addStatement("throw new $T(e)", CompletionException.class);
-            methodBuilder.endControlFlow();
-            methodBuilder.addStatement("}, $L).get()", executorAccess);
         }
 
         classBuilder.addMethod(methodBuilder.build());
     }
 
+    /**
+     * Generates a batched method: a {@link BatchLoader} field backed by the bulk
+     * method, and an override that hands the key to it.
+     */
+    private void generateBatchedMethod(TypeSpec.Builder classBuilder, ExecutableElement method,
+                                       TypeElement typeElement, String simpleClassName) {
+        String methodName = method.getSimpleName().toString();
+        String bulkMethodName = getAnnotationValue(method, BATCHED, "bulkMethod", "");
+        String maxBatchSize = getAnnotationValue(method, BATCHED, "maxBatchSize", "100");
+        String windowMillis = getAnnotationValue(method, BATCHED, "windowMillis", "0");
+        String executorName = getAnnotationValue(method, BATCHED, "executor", "");
+        String where = simpleClassName + "." + methodName;
+
+        if (method.getParameters().size() != 1) {
+            context.reportError("@Batched method " + where + " must take exactly one key parameter", method);
+            return;
+        }
+        TypeMirror returnType = method.getReturnType();
+        String rawReturnType = returnType.getKind() == TypeKind.DECLARED
+                ? ((TypeElement) ((DeclaredType) returnType).asElement()).getQualifiedName().toString()
+                : "";
+        if ((!rawReturnType.equals(CompletableFuture.class.getName())
+                && !rawReturnType.equals("java.util.concurrent.CompletionStage"))
+                || ((DeclaredType) returnType).getTypeArguments().size() != 1) {
+            context.reportError("@Batched method " + where + " must return CompletableFuture<V> or CompletionStage<V>",
+                    method);
+            return;
+        }
+        ExecutableElement bulkMethod = findBulkMethod(typeElement, bulkMethodName);
+        if (bulkMethod == null) {
+            context.reportError("@Batched method " + where + " refers to bulk method '" + bulkMethodName
+                    + "', which must be a non-private method of " + simpleClassName + " taking a List of keys", method);
+            return;
+        }
+        boolean returnsMap = isErasureAssignable(bulkMethod.getReturnType(), Map.class);
+        if (!returnsMap && !isErasureAssignable(bulkMethod.getReturnType(), List.class)) {
+            context.reportError("Bulk method " + simpleClassName + "." + bulkMethodName
+                    + " must return a Map of values by key or a List of values in key order", bulkMethod);
+            return;
+        }
+
+        VariableElement key = method.getParameters().get(0);
+        TypeName keyType = TypeName.get(key.asType()).box();
+        TypeName valueType = TypeName.get(((DeclaredType) returnType).getTypeArguments().get(0));
+        CodeBlock bulkCall = returnsMap
+                ? CodeBlock.of("keys -> $N(keys)", bulkMethodName)
+                : CodeBlock.of("keys -> $T.zip(keys, $N(keys))", BatchLoader.class, bulkMethodName);
+
+        String fieldName = methodName + "BatchLoader";
+        for (int i = 2; containsField(classBuilder, fieldName); i++) {
+            fieldName = methodName + "BatchLoader" + i;
+        }
+        CodeBlock.Builder initializer = CodeBlock.builder()
+                .add("$T.<$T, $T>builder($L)", BatchLoader.class, keyType, valueType, bulkCall)
+                .add(".maxBatchSize($L)", maxBatchSize);
+        if (Long.parseLong(windowMillis) > 0) {
+            initializer.add(".window($T.ofMillis($LL))", Duration.class, windowMillis);
+        }
+        initializer.add(".executor($N).build()", asyncExecutorFieldName(executorName));
+        classBuilder.addField(FieldSpec.builder(
+                        ParameterizedTypeName.get(ClassName.get(BatchLoader.class), keyType, valueType), fieldName)
+                .addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                .initializer(initializer.build())
+                .build());
+
+        String keyName = key.getSimpleName().toString();
+        classBuilder.addMethod(MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(TypeName.get(key.asType()), keyName)
+                .addAnnotation(Override.class)
+                .returns(TypeName.get(returnType))
+                .addStatement("return $N.load($N)", fieldName, keyName)
+                .build());
+    }
+
+    /**
+     * Finds the non-private method of a component that takes a list of keys.
+     */
+    private ExecutableElement findBulkMethod(TypeElement typeElement, String name) {
+        for (Element member : elementUtils.getAllMembers(typeElement)) {
+            if (member.getKind() != ElementKind.METHOD || !member.getSimpleName().contentEquals(name)
+                    || member.getModifiers().contains(Modifier.PRIVATE)) {
+                continue;
+            }
+            ExecutableElement candidate = (ExecutableElement) member;
+            if (candidate.getParameters().size() == 1) {
+                TypeMirror list = typeUtils.erasure(elementUtils.getTypeElement(List.class.getName()).asType());
+                if (typeUtils.isAssignable(list, typeUtils.erasure(candidate.getParameters().get(0).asType()))) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean isErasureAssignable(TypeMirror type, Class<?> target) {
+        TypeMirror erased = typeUtils.erasure(elementUtils.getTypeElement(target.getName()).asType());
+        return typeUtils.isAssignable(typeUtils.erasure(type), erased);
+    }
+
+    private static boolean containsField(TypeSpec.Builder classBuilder, String name) {
+        for (FieldSpec field : classBuilder.fieldSpecs) {
+            if (field.name.equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Generates a retry method wrapper.
      */
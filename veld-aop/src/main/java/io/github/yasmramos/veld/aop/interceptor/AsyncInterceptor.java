@@ -18,7 +18,7 @@ package io.github.yasmramos.veld.aop.interceptor;
 import io.github.yasmramos.veld.aop.CompileTimeInterceptor;
 import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Future;
 
 /**
@@ -60,6 +60,7 @@ public class AsyncInterceptor implements CompileTimeInterceptor {
      * @param directInvoker the direct method invoker
      * @return CompletableFuture for the result, or null for void methods
      */
+    @SuppressWarnings("unchecked")
     public static Object wrapAsync(Object target, String methodName, Object[] args,
                                    String executorName, DirectInvoker directInvoker) {
         Class<?> returnType = directInvoker.getReturnType();
@@ -74,25 +75,14 @@ public class AsyncInterceptor implements CompileTimeInterceptor {
                 }
             }, executorName);
             return null;
-        } else if (CompletableFuture.class.isAssignableFrom(returnType)) {
-            // Return CompletableFuture
-            return AsyncExecutor.getInstance().submit(() -> {
-                try {
-                    CompletableFuture<?> result = (CompletableFuture<?>) directInvoker.invoke();
-                    return result != null ? result.join() : null;
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }, executorName);
+        } else if (CompletionStage.class.isAssignableFrom(returnType)) {
+            // Hand off the method's own future instead of joining it on a pool thread
+            return AsyncExecutor.getInstance().submitComposed(
+                () -> (CompletionStage<Object>) directInvoker.invoke(), executorName);
         } else if (Future.class.isAssignableFrom(returnType)) {
-            // Return Future wrapped in CompletableFuture
-            return AsyncExecutor.getInstance().submit(() -> {
-                try {
-                    return directInvoker.invoke();
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }, executorName);
+            // Flatten the Future instead of returning a future of a future
+            return AsyncExecutor.getInstance().submitComposed(
+                () -> AsyncExecutor.asCompletionStage((Future<Object>) directInvoker.invoke()), executorName);
         } else {
             // Non-void, non-Future return type - wrap in CompletableFuture
             return AsyncExecutor.getInstance().submit(() -> {
@@ -15,11 +15,29 @@
  */
 package io.github.yasmramos.veld.aop;
 
+import io.github.yasmramos.veld.runtime.async.ExecutorDefinition;
 import org.junit.jupiter.api.*;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -268,6 +286,456 @@ class AopClassGeneratorTest {
         }
     }
 
+    @Nested
+    @DisplayName("Async Executor Field Tests")
+    class AsyncExecutorFieldTests {
+
+        @Test
+        @DisplayName("should bind default and virtual executors directly")
+        void shouldBindBuiltInExecutors() {
+            assertEquals("DEFAULT_EXECUTOR", AopClassGenerator.asyncExecutorFieldName(""));
+            assertEquals("VIRTUAL_EXECUTOR", AopClassGenerator.asyncExecutorFieldName("virtual"));
+            String defaultField = AopClassGenerator.asyncExecutorField("").toString();
+            String virtualField = AopClassGenerator.asyncExecutorField("virtual").toString();
+
+            assertTrue(defaultField.contains("private static final java.util.concurrent.Executor DEFAULT_EXECUTOR"),
+                    defaultField);
+            assertTrue(defaultField.contains("AsyncExecutor.getInstance().getDefaultExecutor()"), defaultField);
+            assertTrue(virtualField.contains("AsyncExecutor.getInstance().getVirtualExecutor()"), virtualField);
+        }
+
+        @Test
+        @DisplayName("should resolve named executors without a ThreadLocal")
+        void shouldResolveNamedExecutors() {
+            String field = AopClassGenerator.asyncExecutorField("report-io").toString();
+
+            assertEquals("EXECUTOR_REPORT_IO", AopClassGenerator.asyncExecutorFieldName("report-io"));
+            assertTrue(field.contains("EXECUTOR_REPORT_IO = io.github.yasmramos.veld.runtime.async.AsyncExecutor"
+                    + ".getInstance().getExecutor(\"report-io\")"), field);
+            assertFalse(field.contains("ThreadLocal"), field);
+        }
+    }
+
+    @Nested
+    @DisplayName("Executor Config Tests")
+    class ExecutorConfigTests {
+
+        private static final String MAILER = "package test;\n" +
+                "import io.github.yasmramos.veld.annotation.Async;\n" +
+                "import io.github.yasmramos.veld.annotation.ExecutorConfig;\n" +
+                "import io.github.yasmramos.veld.runtime.async.ExecutorDefinition;\n" +
+                "@ExecutorConfig(name = \"mail\", coreSize = 2, maxSize = 4,\n" +
+                "        queue = ExecutorDefinition.QueueType.ARRAY, queueCapacity = 50)\n" +
+                "public class ConfiguredMailer {\n" +
+                "    @Async(\"mail\") public void send() { }\n" +
+                "    @Async(\"missing\") public void lost() { }\n" +
+                "}\n";
+
+        private static final String NEWSLETTER = "package test;\n" +
+                "public class ConfiguredNewsletter {\n" +
+                "    @io.github.yasmramos.veld.annotation.Async(\"mail\") public void blast() { }\n" +
+                "    @io.github.yasmramos.veld.annotation.Async(\"virtual\") public void archive() { }\n" +
+                "}\n";
+
+        @TempDir
+        Path generatedDir;
+
+        @Test
+        @DisplayName("should declare configured executors in the generated field")
+        void shouldDeclareConfiguredExecutor() {
+            ExecutorDefinition definition = ExecutorDefinition.builder("reports")
+                    .coreSize(2)
+                    .maxSize(8)
+                    .queue(ExecutorDefinition.QueueType.ARRAY, 500)
+                    .rejection(ExecutorDefinition.RejectionPolicy.ABORT)
+                    .build();
+            String field = AopClassGenerator.asyncExecutorField("reports", definition).toString();
+
+            assertTrue(field.contains("EXECUTOR_REPORTS = io.github.yasmramos.veld.runtime.async.AsyncExecutor"
+                    + ".getInstance().declareExecutor("), field);
+            assertTrue(field.contains(".builder(\"reports\").coreSize(2).maxSize(8)"), field);
+            assertTrue(field.contains("ExecutorDefinition.QueueType.ARRAY, 500)"), field);
+            assertTrue(field.contains("ExecutorDefinition.RejectionPolicy.ABORT)"), field);
+            assertTrue(field.contains(".keepAlive(java.time.Duration.ofSeconds(60L))"), field);
+        }
+
+        @Test
+        @DisplayName("should warn about @Async names without an executor declaration")
+        void shouldWarnAboutUndeclaredExecutor() throws Exception {
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-proc:only", "-s", generatedDir.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.ConfiguredMailer", MAILER),
+                            source("test.ConfiguredNewsletter", NEWSLETTER)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            task.call();
+
+            List<String> errors = new ArrayList<>();
+            List<String> warnings = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                } else if (diagnostic.getKind() == Diagnostic.Kind.WARNING
+                        && diagnostic.getMessage(null).contains("undeclared executor")) {
+                    warnings.add(diagnostic.getMessage(null));
+                }
+            }
+            assertTrue(errors.isEmpty(), errors.toString());
+            assertEquals(1, warnings.size(), warnings.toString());
+            assertTrue(warnings.get(0).contains("test.ConfiguredMailer.lost uses undeclared executor 'missing'"),
+                    warnings.get(0));
+
+            // The name may still be registered at runtime, so the wrapper resolves it per task
+            String mailer = Files.readString(generatedDir.resolve("test/ConfiguredMailer$$Aop.java"));
+            assertTrue(mailer.contains(".getInstance().getExecutor(\"missing\")"), mailer);
+
+            // The declaration on the mailer also covers the newsletter
+            String newsletter = Files.readString(generatedDir.resolve("test/ConfiguredNewsletter$$Aop.java"));
+            assertTrue(newsletter.contains("declareExecutor(ExecutorDefinition.builder(\"mail\").coreSize(2)"
+                    + ".maxSize(4).queue(ExecutorDefinition.QueueType.ARRAY, 50)"), newsletter);
+            assertTrue(newsletter.contains("getVirtualExecutor()"), newsletter);
+        }
+
+        @Test
+        @DisplayName("should compose future-returning @Async methods without blocking pool threads")
+        void shouldComposeNestedAsyncCalls() throws Exception {
+            String reports = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Async;\n" +
+                    "import io.github.yasmramos.veld.annotation.ExecutorConfig;\n" +
+                    "import java.util.concurrent.CompletableFuture;\n" +
+                    "@ExecutorConfig(name = \"single\")\n" +
+                    "public class NestedReports {\n" +
+                    "    public NestedReports self;\n" +
+                    "    @Async(\"single\") public CompletableFuture<String> outer() {\n" +
+                    "        return self.inner().thenApply(value -> \"outer(\" + value + \")\");\n" +
+                    "    }\n" +
+                    "    @Async(\"single\") public CompletableFuture<String> inner() {\n" +
+                    "        return CompletableFuture.completedFuture(\"inner\");\n" +
+                    "    }\n" +
+                    "    @Async public java.util.concurrent.Future<Integer> count() {\n" +
+                    "        return new java.util.concurrent.FutureTask<>(() -> 1);\n" +
+                    "    }\n" +
+                    "}\n";
+            Path classes = Files.createDirectories(generatedDir.resolve("classes"));
+            Path sources = Files.createDirectories(generatedDir.resolve("sources"));
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-d", classes.toString(), "-s", sources.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.NestedReports", reports)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+
+            String generated = Files.readString(sources.resolve("test/NestedReports$$Aop.java"));
+            assertTrue(generated.contains("return AsyncExecutor.composeAsync(() -> super.outer(), EXECUTOR_SINGLE)"),
+                    generated);
+            assertFalse(generated.contains(".join()"), generated);
+            assertFalse(generated.contains(".get()"), generated);
+
+            try (java.net.URLClassLoader loader = new java.net.URLClassLoader(
+                    new java.net.URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+                Class<?> wrapperType = loader.loadClass("test.NestedReports$$Aop");
+                Object wrapper = wrapperType.getDeclaredConstructor().newInstance();
+                wrapperType.getField("self").set(wrapper, wrapper);
+
+                // With a one-thread pool, joining inner() inside outer() would never finish
+                CompletableFuture<?> outer = (CompletableFuture<?>) wrapperType.getMethod("outer").invoke(wrapper);
+                assertEquals("outer(inner)", outer.get(5, java.util.concurrent.TimeUnit.SECONDS));
+            } finally {
+                io.github.yasmramos.veld.runtime.async.AsyncExecutor.reset();
+            }
+        }
+
+        @Test
+        @DisplayName("should run @Async calls with equal ordering keys in call order")
+        void shouldOrderCallsByKey() throws Exception {
+            String ledger = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Async;\n" +
+                    "import java.util.concurrent.CompletableFuture;\n" +
+                    "public class Ledger {\n" +
+                    "    public static class Entry {\n" +
+                    "        private final String account; private final int seq;\n" +
+                    "        public Entry(String account, int seq) { this.account = account; this.seq = seq; }\n" +
+                    "        public String getAccount() { return account; }\n" +
+                    "        public int getSeq() { return seq; }\n" +
+                    "    }\n" +
+                    "    public final java.util.Map<String, java.util.List<Integer>> applied =\n" +
+                    "            new java.util.concurrent.ConcurrentHashMap<>();\n" +
+                    "    @Async(orderingKey = \"entry.account\") public void apply(Entry entry) {\n" +
+                    "        if (entry.getSeq() % 7 == 0) { Thread.yield(); }\n" +
+                    "        applied.computeIfAbsent(entry.getAccount(), k -> new java.util.ArrayList<>())\n" +
+                    "                .add(entry.getSeq());\n" +
+                    "    }\n" +
+                    "    @Async(orderingKey = \"account\") public CompletableFuture<Integer> count(String account) {\n" +
+                    "        return CompletableFuture.completedFuture(applied.get(account).size());\n" +
+                    "    }\n" +
+                    "}\n";
+            Path classes = Files.createDirectories(generatedDir.resolve("classes"));
+            Path sources = Files.createDirectories(generatedDir.resolve("sources"));
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-d", classes.toString(), "-s", sources.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.Ledger", ledger)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+
+            String generated = Files.readString(sources.resolve("test/Ledger$$Aop.java"));
+            assertTrue(generated.contains("ORDERED_DEFAULT_EXECUTOR = AsyncExecutor.getInstance().getOrderedExecutor(\"\")"),
+                    generated);
+            assertTrue(generated.contains("ORDERED_DEFAULT_EXECUTOR.withKey(entry != null ? entry.getAccount() : null)"),
+                    generated);
+            assertTrue(generated.contains("ORDERED_DEFAULT_EXECUTOR.withKey(account)"), generated);
+
+            try (java.net.URLClassLoader loader = new java.net.URLClassLoader(
+                    new java.net.URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+                Class<?> wrapperType = loader.loadClass("test.Ledger$$Aop");
+                Class<?> entryType = loader.loadClass("test.Ledger$Entry");
+                Object wrapper = wrapperType.getDeclaredConstructor().newInstance();
+                java.lang.reflect.Method apply = wrapperType.getMethod("apply", entryType);
+                java.lang.reflect.Constructor<?> entry = entryType.getConstructor(String.class, int.class);
+                for (int seq = 0; seq < 200; seq++) {
+                    apply.invoke(wrapper, entry.newInstance("acct-" + (seq % 3), seq));
+                }
+
+                // count() shares the lanes, so it runs after every earlier apply() of its account
+                for (int account = 0; account < 3; account++) {
+                    CompletableFuture<?> count = (CompletableFuture<?>) wrapperType.getMethod("count", String.class)
+                            .invoke(wrapper, "acct-" + account);
+                    assertEquals(account == 2 ? 66 : 67, count.get(5, java.util.concurrent.TimeUnit.SECONDS));
+                }
+                @SuppressWarnings("unchecked")
+                java.util.Map<String, List<Integer>> applied =
+                        (java.util.Map<String, List<Integer>>) wrapperType.getField("applied").get(wrapper);
+                for (List<Integer> sequence : applied.values()) {
+                    List<Integer> sorted = new ArrayList<>(sequence);
+                    java.util.Collections.sort(sorted);
+                    assertEquals(sorted, sequence);
+                }
+            } finally {
+                io.github.yasmramos.veld.runtime.async.AsyncExecutor.reset();
+            }
+        }
+
+        @Test
+        @DisplayName("should reject ordering keys that do not resolve")
+        void shouldRejectInvalidOrderingKey() {
+            String broken = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Async;\n" +
+                    "public class BrokenLedger {\n" +
+                    "    @Async(orderingKey = \"order.id\") public void apply(String entry) { }\n" +
+                    "    @Async(orderingKey = \"entry.missing\") public void replay(String entry) { }\n" +
+                    "}\n";
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-proc:only", "-s", generatedDir.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.BrokenLedger", broken)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            task.call();
+
+            List<String> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+            assertEquals(2, errors.size(), errors.toString());
+            assertTrue(errors.get(0).contains("BrokenLedger.apply: no parameter named 'order'"), errors.get(0));
+            assertTrue(errors.get(1).contains("no public accessor for property 'missing' on String"), errors.get(1));
+        }
+
+        @Test
+        @DisplayName("should batch @Batched calls into one call of the bulk method")
+        void shouldBatchCallsIntoBulkMethod() throws Exception {
+            String repository = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Batched;\n" +
+                    "import java.util.*;\n" +
+                    "import java.util.concurrent.*;\n" +
+                    "public class UserRepository {\n" +
+                    "    public final List<List<Long>> calls = new CopyOnWriteArrayList<>();\n" +
+                    "    @Batched(bulkMethod = \"findAllByIds\", maxBatchSize = 3, windowMillis = 200)\n" +
+                    "    public CompletableFuture<String> findById(long id) { throw new UnsupportedOperationException(); }\n" +
+                    "    @Batched(bulkMethod = \"namesOf\")\n" +
+                    "    public CompletionStage<String> findName(Long id) { throw new UnsupportedOperationException(); }\n" +
+                    "    public Map<Long, String> findAllByIds(List<Long> ids) {\n" +
+                    "        calls.add(ids);\n" +
+                    "        Map<Long, String> users = new HashMap<>();\n" +
+                    "        for (Long id : ids) { users.put(id, \"user-\" + id); }\n" +
+                    "        return users;\n" +
+                    "    }\n" +
+                    "    protected List<String> namesOf(Collection<Long> ids) {\n" +
+                    "        List<String> names = new ArrayList<>();\n" +
+                    "        for (Long id : ids) { names.add(\"name-\" + id); }\n" +
+                    "        return names;\n" +
+                    "    }\n" +
+                    "}\n";
+            Path classes = Files.createDirectories(generatedDir.resolve("classes"));
+            Path sources = Files.createDirectories(generatedDir.resolve("sources"));
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-d", classes.toString(), "-s", sources.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.UserRepository", repository)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+
+            String generated = Files.readString(sources.resolve("test/UserRepository$$Aop.java"));
+            assertTrue(generated.contains("BatchLoader.<Long, String>builder(keys -> findAllByIds(keys)).maxBatchSize(3)"
+                    + ".window(Duration.ofMillis(200L))"), generated);
+            assertTrue(generated.contains("BatchLoader.zip(keys, namesOf(keys))"), generated);
+            assertTrue(generated.contains("return findByIdBatchLoader.load(id);"), generated);
+
+            try (java.net.URLClassLoader loader = new java.net.URLClassLoader(
+                    new java.net.URL[]{classes.toUri().toURL()}, getClass().getClassLoader())) {
+                Class<?> wrapperType = loader.loadClass("test.UserRepository$$Aop");
+                Object wrapper = wrapperType.getDeclaredConstructor().newInstance();
+                java.lang.reflect.Method findById = wrapperType.getMethod("findById", long.class);
+                List<CompletableFuture<?>> users = new ArrayList<>();
+                for (long id = 1; id <= 4; id++) {
+                    users.add((CompletableFuture<?>) findById.invoke(wrapper, id));
+                }
+                for (int i = 0; i < users.size(); i++) {
+                    assertEquals("user-" + (i + 1), users.get(i).get(5, java.util.concurrent.TimeUnit.SECONDS));
+                }
+                // The first three fill a batch at once; the fourth waits for the window
+                @SuppressWarnings("unchecked")
+                List<List<Long>> calls = (List<List<Long>>) wrapperType.getField("calls").get(wrapper);
+                assertEquals(List.of(List.of(1L, 2L, 3L), List.of(4L)), calls);
+
+                java.util.concurrent.CompletionStage<?> name = (java.util.concurrent.CompletionStage<?>)
+                        wrapperType.getMethod("findName", Long.class).invoke(wrapper, 7L);
+                assertEquals("name-7", name.toCompletableFuture().get(5, java.util.concurrent.TimeUnit.SECONDS));
+            } finally {
+                io.github.yasmramos.veld.runtime.async.AsyncExecutor.reset();
+            }
+        }
+
+        @Test
+        @DisplayName("should reject @Batched methods without a usable bulk method")
+        void shouldRejectInvalidBatchedMethod() {
+            String broken = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Batched;\n" +
+                    "import java.util.*;\n" +
+                    "import java.util.concurrent.CompletableFuture;\n" +
+                    "public class BrokenRepository {\n" +
+                    "    @Batched(bulkMethod = \"missing\") public CompletableFuture<String> a(Long id) { return null; }\n" +
+                    "    @Batched(bulkMethod = \"load\") public String b(Long id) { return null; }\n" +
+                    "    @Batched(bulkMethod = \"count\") public CompletableFuture<String> c(Long id) { return null; }\n" +
+                    "    public int count(List<Long> ids) { return ids.size(); }\n" +
+                    "    public Map<Long, String> load(List<Long> ids) { return Map.of(); }\n" +
+                    "}\n";
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-proc:only", "-s", generatedDir.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.BrokenRepository", broken)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            task.call();
+
+            List<String> errors = new ArrayList<>();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                    errors.add(diagnostic.getMessage(null));
+                }
+            }
+            assertEquals(3, errors.size(), errors.toString());
+            assertTrue(errors.get(0).contains("refers to bulk method 'missing'"), errors.get(0));
+            assertTrue(errors.get(1).contains("BrokenRepository.b must return CompletableFuture<V>"), errors.get(1));
+            assertTrue(errors.get(2).contains("BrokenRepository.count must return a Map"), errors.get(2));
+        }
+
+        @Test
+        @DisplayName("should compile @Scheduled methods and reject invalid cron expressions")
+        void shouldCompileScheduledMethods() throws Exception {
+            String reports = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Scheduled;\n" +
+                    "public class NightlyReports {\n" +
+                    "    @Scheduled(cron = \"0 0 2 ? * MON-FRI\", zone = \"Europe/Madrid\") public void weekdays() { }\n" +
+                    "    @Scheduled(cron = \"0 0 3 L * ?\") public void monthEnd() { }\n" +
+                    "    @Scheduled(fixedRate = 60000, initialDelay = 5000) public void refresh() { }\n" +
+                    "}\n";
+            Path classes = Files.createDirectories(generatedDir.resolve("classes"));
+            Path sources = Files.createDirectories(generatedDir.resolve("sources"));
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                    List.of("-d", classes.toString(), "-s", sources.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.NightlyReports", reports)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+
+            String generated = Files.readString(sources.resolve("test/NightlyReports$$Aop.java"));
+            assertTrue(generated.contains("\"0 0 2 ? * MON-FRI\", ZoneId.of(\"Europe/Madrid\"))"), generated);
+            assertTrue(generated.contains("\"0 0 3 L * ?\", null)"), generated);
+            assertTrue(generated.contains("scheduleAtFixedRate(task_refresh, 5000L, 60000L, TimeUnit.MILLISECONDS)"),
+                    generated);
+
+            String broken = "package test;\n" +
+                    "import io.github.yasmramos.veld.annotation.Scheduled;\n" +
+                    "public class BrokenReports {\n" +
+                    "    @Scheduled(cron = \"0 0 25 * * *\") public void never() { }\n" +
+                    "}\n";
+            diagnostics = new DiagnosticCollector<>();
+            task = compiler.getTask(null, null, diagnostics,
+                    List.of("-proc:only", "-s", sources.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, List.of(source("test.BrokenReports", broken)));
+            task.setProcessors(List.of(new AopTestProcessor()));
+            assertFalse(task.call());
+            assertTrue(diagnostics.getDiagnostics().toString().contains("BrokenReports.never: Invalid cron expression"),
+                    diagnostics.getDiagnostics().toString());
+        }
+
+        private JavaFileObject source(String className, String code) {
+            return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                    JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return code;
+                }
+            };
+        }
+    }
+
+    // Runs the generator over every class of the compilation, as the Veld processor does for components
+    @SupportedAnnotationTypes("*")
+    private static class AopTestProcessor extends AbstractProcessor {
+        private boolean done;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (done) {
+                return false;
+            }
+            done = true;
+            List<AopComponentNode> components = new ArrayList<>();
+            for (Element element : roundEnv.getRootElements()) {
+                TypeElement type = (TypeElement) element;
+                components.add(new TestComponentNode(type.getQualifiedName().toString(), "test",
+                        type.getSimpleName().toString(), type.getQualifiedName().toString().replace('.', '/'),
+                        type.asType(), List.of(), false));
+            }
+            new AopClassGenerator(AopGenerationContext.create(processingEnv.getMessager(),
+                    processingEnv.getElementUtils(), processingEnv.getTypeUtils(), processingEnv.getFiler()))
+                    .generateAopClasses(components);
+            return false;
+        }
+    }
+
     @Nested
     @DisplayName("Interceptor Annotations Set Tests")
     class InterceptorAnnotationsSetTests {
@@ -2,11 +2,15 @@ package io.github.yasmramos.veld.benchmark.features.async;
 
 import io.github.yasmramos.veld.Veld;
 import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import io.github.yasmramos.veld.runtime.async.ExecutorDefinition;
+import io.github.yasmramos.veld.runtime.async.MonitoredExecutor;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -93,4 +97,117 @@ public class AsyncBenchmark {
         bh.consume(elapsed);
         return elapsed;
     }
+
+    /**
+     * Default executor configured per execution mode for the blocking workload.
+     * {@code VIRTUAL_THREAD_CAPPED} limits it to 64 concurrent tasks.
+     */
+    @State(Scope.Benchmark)
+    public static class BlockingState {
+
+        static final int TASKS = 256;
+
+        @Param({"THREAD_POOL", "VIRTUAL_THREAD", "VIRTUAL_THREAD_CAPPED"})
+        String mode;
+
+        AsyncExecutor executor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            AsyncExecutor.reset();
+            if ("VIRTUAL_THREAD_CAPPED".equals(mode)) {
+                AsyncExecutor.configure(AsyncExecutor.ExecutionMode.VIRTUAL_THREAD, 64);
+            } else {
+                AsyncExecutor.configure(AsyncExecutor.ExecutionMode.valueOf(mode), 0);
+            }
+            executor = AsyncExecutor.getInstance();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            AsyncExecutor.reset();
+        }
+    }
+
+    /**
+     * Fans out 256 tasks that each block for 1 ms, as an I/O call would, and waits
+     * for all of them. The thread pool runs at most {@code cores * 2} at a time and
+     * pushes overflow onto the caller; virtual threads block all of them at once.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BlockingState.TASKS)
+    public void measureBlockingFanOut(BlockingState state) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[BlockingState.TASKS];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = state.executor.submit(() -> LockSupport.parkNanos(1_000_000L));
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    /**
+     * Nested async calls on a pool that grows instead of queueing, so the peak
+     * thread count shows how many threads each composition style ties up.
+     * {@code JOIN} is the former generated wrapper, {@code supplyAsync(() -> inner().join())};
+     * {@code COMPOSE} is {@link AsyncExecutor#composeAsync}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class NestedState {
+
+        static final int FAN_OUT = 16;
+        static final int DEPTH = 3;
+
+        @Param({"JOIN", "COMPOSE"})
+        String style;
+
+        MonitoredExecutor pool;
+
+        /** Largest number of pool threads used during the iteration; JMH sums it over iterations. */
+        public long poolThreads;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            pool = new MonitoredExecutor(ExecutorDefinition.builder("nested")
+                    .coreSize(0)
+                    .maxSize(1024)
+                    .queue(ExecutorDefinition.QueueType.SYNCHRONOUS, 1)
+                    .keepAlive(Duration.ofSeconds(1))
+                    .build());
+            poolThreads = 0;
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            pool.shutdownNow();
+        }
+
+        CompletableFuture<Integer> call(int depth) {
+            if (depth == 0) {
+                // The leaf blocks for 100 us, as an I/O call would
+                return CompletableFuture.supplyAsync(() -> {
+                    LockSupport.parkNanos(100_000L);
+                    return 1;
+                }, pool);
+            }
+            if ("JOIN".equals(style)) {
+                return CompletableFuture.supplyAsync(() -> call(depth - 1).join() + 1, pool);
+            }
+            return AsyncExecutor.composeAsync(() -> call(depth - 1).thenApply(value -> value + 1), pool);
+        }
+    }
+
+    /**
+     * Starts 16 chains of 3 nested async calls over a blocking leaf and waits for
+     * all of them; {@code poolThreads} reports the peak pool size.
+     */
+    @Benchmark
+    @OperationsPerInvocation(NestedState.FAN_OUT)
+    public void measureNestedFanOut(NestedState state) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[NestedState.FAN_OUT];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = state.call(NestedState.DEPTH);
+        }
+        CompletableFuture.allOf(futures).join();
+        state.poolThreads = Math.max(state.poolThreads, state.pool.getLargestPoolSize());
+    }
 }
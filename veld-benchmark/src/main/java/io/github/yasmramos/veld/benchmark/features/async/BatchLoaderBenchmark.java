@@ -0,0 +1,106 @@
+package io.github.yasmramos.veld.benchmark.features.async;
+
+import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import io.github.yasmramos.veld.runtime.batch.BatchLoader;
+import io.github.yasmramos.veld.runtime.batch.BatchScope;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@value #CALLS} single-key lookups against a repository whose calls
+ * pay a fixed round trip, made one by one versus through a {@link BatchLoader}
+ * as generated for {@code @Batched} methods.
+ *
+ * <p>The lookups draw from {@value #DISTINCT_KEYS} ids, so about half of them
+ * repeat a key; {@code batchedLoadsInScope} also caches keys across batches.
+ * The round trip is simulated with {@link Blackhole#consumeCPU(long)} so the
+ * numbers do not depend on timer resolution.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, warmups = 0)
+public class BatchLoaderBenchmark {
+
+    private static final int CALLS = 256;
+    private static final int DISTINCT_KEYS = 128;
+    private static final long PER_KEY_TOKENS = 10;
+
+    @Param({"0", "2000"})
+    private long roundTripTokens;
+
+    private BatchLoader<Long, String> loader;
+    private Long[] ids;
+
+    @Setup
+    public void setup() {
+        loader = BatchLoader.builder(this::findAllByIds)
+                .maxBatchSize(64)
+                .executor(AsyncExecutor.getInstance().getDefaultExecutor())
+                .build();
+        Random random = new Random(42);
+        ids = new Long[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            ids[i] = (long) random.nextInt(DISTINCT_KEYS);
+        }
+    }
+
+    /**
+     * Baseline: one round trip per lookup.
+     */
+    @Benchmark
+    public void individualCalls(Blackhole blackhole) {
+        for (Long id : ids) {
+            blackhole.consume(findById(id));
+        }
+    }
+
+    /**
+     * Lookups collected into batches of up to 64 distinct keys.
+     */
+    @Benchmark
+    public void batchedLoads() {
+        CompletableFuture<?>[] results = new CompletableFuture<?>[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            results[i] = loader.load(ids[i]);
+        }
+        CompletableFuture.allOf(results).join();
+    }
+
+    /**
+     * Batched lookups inside a {@link BatchScope}, which loads each key once.
+     */
+    @Benchmark
+    public void batchedLoadsInScope() {
+        try (BatchScope scope = BatchScope.open()) {
+            CompletableFuture<?>[] results = new CompletableFuture<?>[CALLS];
+            for (int i = 0; i < CALLS; i++) {
+                results[i] = loader.load(ids[i]);
+            }
+            CompletableFuture.allOf(results).join();
+        }
+    }
+
+    private String findById(Long id) {
+        Blackhole.consumeCPU(roundTripTokens + PER_KEY_TOKENS);
+        return "user-" + id;
+    }
+
+    private Map<Long, String> findAllByIds(List<Long> keys) {
+        Blackhole.consumeCPU(roundTripTokens + PER_KEY_TOKENS * keys.size());
+        Map<Long, String> users = new HashMap<>();
+        for (Long id : keys) {
+            users.put(id, "user-" + id);
+        }
+        return users;
+    }
+}
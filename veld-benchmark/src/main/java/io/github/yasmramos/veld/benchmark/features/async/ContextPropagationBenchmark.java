@@ -0,0 +1,93 @@
+package io.github.yasmramos.veld.benchmark.features.async;
+
+import io.github.yasmramos.veld.runtime.context.ContextHolder;
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+import io.github.yasmramos.veld.runtime.context.ContextSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of carrying thread-bound context into async tasks.
+ *
+ * <p>{@code holders} is the number of registered holders, each with a value
+ * on the submitting thread; 0 is the default for applications that register
+ * none. {@link #captureAndRestore} is what every submission pays on top of
+ * {@link #rawRun}: capture on the submitting side, then install and restore
+ * around the task on the executing side (both on one thread here, so the
+ * numbers exclude the executor hand-off).</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, warmups = 0)
+public class ContextPropagationBenchmark {
+
+    @Param({"0", "1", "4"})
+    private int holders;
+
+    private ThreadLocal<Object>[] threadLocals;
+    private ContextHolder<?>[] registered;
+    private Runnable task;
+    private int counter;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setup() {
+        threadLocals = new ThreadLocal[holders];
+        registered = new ContextHolder<?>[holders];
+        for (int i = 0; i < holders; i++) {
+            threadLocals[i] = new ThreadLocal<>();
+            threadLocals[i].set("value-" + i);
+            registered[i] = ContextHolder.ofThreadLocal(threadLocals[i]);
+            ContextPropagation.register(registered[i]);
+        }
+        task = () -> counter++;
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = 0; i < holders; i++) {
+            ContextPropagation.unregister(registered[i]);
+            threadLocals[i].remove();
+        }
+    }
+
+    /**
+     * Baseline: the task without propagation.
+     */
+    @Benchmark
+    public int rawRun() {
+        task.run();
+        return counter;
+    }
+
+    /**
+     * Submitting side only: read every holder into a snapshot.
+     */
+    @Benchmark
+    public ContextSnapshot capture() {
+        return ContextPropagation.capture();
+    }
+
+    /**
+     * Capture, then run the task with the snapshot installed and the
+     * previous context restored.
+     */
+    @Benchmark
+    public int captureAndRestore() {
+        ContextPropagation.wrap(task).run();
+        return counter;
+    }
+
+    /**
+     * Reads a propagated value inside the task, as a listener would.
+     */
+    @Benchmark
+    public void readInsideTask(Blackhole bh) {
+        ContextPropagation.wrap(() -> bh.consume(ContextPropagation.current())).run();
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.yasmramos.veld.benchmark.features.async;
+
+import io.github.yasmramos.veld.runtime.async.SchedulerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of computing the next fire time of a cron schedule, as done by the
+ * scheduler after every run.
+ *
+ * <p>Start times are spread over a year in a zone with daylight saving time,
+ * so sparse schedules have to cross month and year boundaries.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, warmups = 0)
+public class CronExpressionBenchmark {
+
+    private static final int STARTS = 1024;
+
+    @Param({
+            "*/10 * * * * *",
+            "0 0 12 * * *",
+            "0 0 9 * * 1",
+            "0 0 0 1 1 *",
+            "0 0 18 LW * ?",
+            "0 0 10 ? * FRI#3"
+    })
+    private String expression;
+
+    private SchedulerService.CronExpression cron;
+    private ZonedDateTime[] starts;
+    private int index;
+
+    @Setup
+    public void setup() {
+        cron = SchedulerService.CronExpression.parse(expression);
+        ZoneId zone = ZoneId.of("America/New_York");
+        ZonedDateTime base = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, zone);
+        Random random = new Random(42);
+        starts = new ZonedDateTime[STARTS];
+        for (int i = 0; i < STARTS; i++) {
+            starts[i] = base.plusSeconds(random.nextInt(365 * 24 * 3600));
+        }
+    }
+
+    @Benchmark
+    public ZonedDateTime next() {
+        return cron.next(starts[index++ & (STARTS - 1)]);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.yasmramos.veld.benchmark.features.async;
+
+import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import io.github.yasmramos.veld.runtime.async.StripedLaneExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of keyed (ordered) async submission under different key skews.
+ *
+ * <p>One operation submits {@value #BATCH} tasks and waits for all of them, so
+ * the score is the cost of a batch including the hand-off. {@code UNIFORM}
+ * spreads tasks over 1024 keys, {@code SKEWED} draws them from a Zipf-like
+ * distribution (key 0 gets about 13% of the tasks) and {@code HOT} sends every
+ * task to one key, which serializes the batch on a single lane.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, warmups = 0)
+public class OrderedAsyncBenchmark {
+
+    private static final int BATCH = 1024;
+    private static final int KEYS = 1024;
+
+    public enum KeyDistribution { UNIFORM, SKEWED, HOT }
+
+    @Param({"UNIFORM", "SKEWED", "HOT"})
+    private KeyDistribution distribution;
+
+    private AsyncExecutor asyncExecutor;
+    private ExecutorService pool;
+    private StripedLaneExecutor lanes;
+    private Integer[] keys;
+
+    @Setup
+    public void setup() {
+        asyncExecutor = AsyncExecutor.getInstance();
+        pool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        lanes = new StripedLaneExecutor(pool);
+        double[] cumulative = new double[KEYS];
+        double total = 0;
+        for (int k = 0; k < KEYS; k++) {
+            total += 1.0 / (k + 1);
+            cumulative[k] = total;
+        }
+        Random random = new Random(42);
+        keys = new Integer[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            switch (distribution) {
+                case UNIFORM:
+                    keys[i] = random.nextInt(KEYS);
+                    break;
+                case SKEWED:
+                    int found = java.util.Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                    keys[i] = Math.min(found >= 0 ? found : -found - 1, KEYS - 1);
+                    break;
+                default:
+                    keys[i] = 0;
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Baseline: the same batch without ordering.
+     */
+    @Benchmark
+    public void unorderedSubmit() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            asyncExecutor.submit(done::countDown);
+        }
+        done.await();
+    }
+
+    /**
+     * {@code AsyncExecutor.submitOrdered}, as used by {@code @Async(orderingKey)}.
+     */
+    @Benchmark
+    public void orderedSubmit() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            asyncExecutor.submitOrdered(keys[i], done::countDown);
+        }
+        done.await();
+    }
+
+    /**
+     * The lanes alone on a plain pool, without futures.
+     */
+    @Benchmark
+    public void lanesDirect() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            lanes.execute(keys[i], done::countDown);
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.yasmramos.veld.benchmark.features.async;
+
+import io.github.yasmramos.veld.runtime.async.TimingWheel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rearming one timer while {@code pending} others are outstanding, the
+ * pattern of idle and request timeouts: the timer is cancelled and scheduled
+ * again with a new delay.
+ *
+ * <p>Compares the {@link TimingWheel} with a {@link ScheduledThreadPoolExecutor}
+ * whose cancelled tasks are removed from its queue. Delays are spread over an
+ * hour so no timer fires during the measurement.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, warmups = 0)
+public class TimingWheelBenchmark {
+
+    private static final Runnable NOOP = () -> { };
+    private static final int DELAYS = 4096;
+
+    @Param({"10000", "100000", "1000000"})
+    private int pending;
+
+    private TimingWheel wheel;
+    private ScheduledThreadPoolExecutor executor;
+    private TimingWheel.Timeout[] timeouts;
+    private ScheduledFuture<?>[] futures;
+    private long[] delays;
+    private int next;
+
+    @Setup
+    public void setup() {
+        wheel = TimingWheel.builder().tick(Duration.ofMillis(1)).build();
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        Random random = new Random(42);
+        delays = new long[DELAYS];
+        for (int i = 0; i < DELAYS; i++) {
+            delays[i] = 60_000 + random.nextInt(3_540_000);
+        }
+        timeouts = new TimingWheel.Timeout[pending];
+        futures = new ScheduledFuture<?>[pending];
+        for (int i = 0; i < pending; i++) {
+            long delay = delays[i & (DELAYS - 1)];
+            timeouts[i] = wheel.schedule(NOOP, delay, TimeUnit.MILLISECONDS);
+            futures[i] = executor.schedule(NOOP, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        wheel.stop();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Timing wheel: O(1) cancel and schedule.
+     */
+    @Benchmark
+    public TimingWheel.Timeout rearmWheel() {
+        int i = nextIndex();
+        timeouts[i].cancel();
+        return timeouts[i] = wheel.schedule(NOOP, delays[i & (DELAYS - 1)], TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Scheduled executor: O(log n) removal and insertion in its delay queue.
+     */
+    @Benchmark
+    public ScheduledFuture<?> rearmScheduledExecutor() {
+        int i = nextIndex();
+        futures[i].cancel(false);
+        return futures[i] = executor.schedule(NOOP, delays[i & (DELAYS - 1)], TimeUnit.MILLISECONDS);
+    }
+
+    private int nextIndex() {
+        int i = next;
+        next = i + 1 == pending ? 0 : i + 1;
+        return i;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventChannelOptions;
+import io.github.yasmramos.veld.runtime.event.ObjectLessEventBus;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark comparing async listener dispatch modes of {@code StandardEventChannel}.
+ *
+ * <p>Each invocation publishes {@value #BATCH} events to channels whose listeners
+ * are all async, then waits until every delivery has run. The result is the
+ * end-to-end cost per event, including hand-off and consumption, so the
+ * executor path cannot hide work in an unbounded queue.</p>
+ *
+ * <p><b>Dispatch modes:</b></p>
+ * <ul>
+ *   <li>{@code EXECUTOR} - one task per delivery on a cached thread pool (current default)</li>
+ *   <li>{@code BUSY_SPIN}, {@code YIELD}, {@code PARK} - ring buffer with the given wait strategy</li>
+ *   <li>{@code VIRTUAL_THREAD} - one virtual thread per delivery (platform threads before JDK 21)</li>
+ *   <li>{@code PARTITIONED} - serial lanes keyed by payload, 64 keys over 64 lanes</li>
+ *   <li>{@code BOUNDED} - executor delivery through a 1024-slot queue with the {@code BLOCK} policy</li>
+ * </ul>
+ *
+ * <p>Run with {@code -prof gc} to compare allocation rates.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+public class AsyncDispatchBenchmark {
+
+    private static final int BATCH = 1_000;
+    private static final int EVENT_ID = 1;
+
+    private static final int KEYS = 64;
+
+    @Param({"EXECUTOR", "BUSY_SPIN", "YIELD", "PARK", "VIRTUAL_THREAD", "PARTITIONED", "BOUNDED"})
+    private String dispatch;
+
+    @Param({"1", "4"})
+    private int listenerCount;
+
+    private ExecutorService executor;
+    private StandardEventChannel channel;
+    private final AtomicLong delivered = new AtomicLong();
+    private long expected;
+    private Object[] payloads;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "benchmark-async");
+            t.setDaemon(true);
+            return t;
+        });
+
+        EventChannelOptions options;
+        switch (dispatch) {
+            case "EXECUTOR":
+                options = EventChannelOptions.defaults();
+                break;
+            case "VIRTUAL_THREAD":
+                options = EventChannelOptions.builder().virtualThreads().build();
+                break;
+            case "PARTITIONED":
+                options = EventChannelOptions.builder().partitioned(KEYS, payload -> payload).build();
+                break;
+            case "BOUNDED":
+                options = EventChannelOptions.builder()
+                        .bounded(1024, EventChannelOptions.OverflowPolicy.BLOCK)
+                        .overflowTimeout(Duration.ofMinutes(1))
+                        .build();
+                break;
+            default:
+                options = EventChannelOptions.builder()
+                        .ringBuffer(4096, EventChannelOptions.WaitStrategy.valueOf(dispatch))
+                        .build();
+                break;
+        }
+        channel = new StandardEventChannel("benchmark-" + dispatch, executor, options);
+
+        for (int i = 0; i < listenerCount; i++) {
+            channel.register(EVENT_ID, new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    delivered.incrementAndGet();
+                }
+
+                @Override
+                public boolean isAsync() {
+                    return true;
+                }
+            });
+        }
+        payloads = new Object[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            payloads[i] = "payload-" + i;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.shutdown();
+        channel.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Publishes a batch of events and waits until all async deliveries finished.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long publishAndDrain() {
+        for (int i = 0; i < BATCH; i++) {
+            channel.publish(EVENT_ID, payloads[i & (KEYS - 1)]);
+        }
+        expected += (long) BATCH * listenerCount;
+        while (delivered.get() < expected) {
+            Thread.onSpinWait();
+        }
+        return expected;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventChannel;
+import io.github.yasmramos.veld.runtime.event.ObjectLessEventBus;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for batch publishing of object-less events.
+ *
+ * <p>Compares a loop of single {@code publish(int, Object)} calls against
+ * {@code publishBatch} for the same payloads, with one event ID and with
+ * interleaved event IDs. Scores are per invocation of {@code batchSize} events.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class BatchPublishBenchmark {
+
+    private static final int EVENT_ID = 1001;
+    private static final int OTHER_EVENT_ID = 1002;
+
+    @Param({"16", "256"})
+    private int batchSize;
+
+    @Param({"1", "4"})
+    private int listenerCount;
+
+    private ExecutorService executor;
+    private EventChannel channel;
+    private Object[] payloads;
+    private int[] eventIds;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        executor = Executors.newSingleThreadExecutor();
+        channel = new StandardEventChannel("batch", executor);
+        for (int i = 0; i < listenerCount; i++) {
+            ObjectLessEventBus.ObjectLessListener listener = bh::consume;
+            channel.register(EVENT_ID, listener);
+            channel.register(OTHER_EVENT_ID, listener);
+        }
+
+        payloads = new Object[batchSize];
+        eventIds = new int[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            payloads[i] = "payload-" + i;
+            eventIds[i] = (i & 1) == 0 ? EVENT_ID : OTHER_EVENT_ID;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Baseline: one publish call per payload.
+     */
+    @Benchmark
+    public int publishLoop() {
+        int delivered = 0;
+        for (int i = 0; i < batchSize; i++) {
+            delivered += channel.publish(EVENT_ID, payloads[i]);
+        }
+        return delivered;
+    }
+
+    /**
+     * Single-ID batch publish.
+     */
+    @Benchmark
+    public int publishBatch() {
+        return channel.publishBatch(EVENT_ID, payloads, 0, batchSize);
+    }
+
+    /**
+     * Baseline: one publish call per payload with alternating IDs.
+     */
+    @Benchmark
+    public int publishLoopMixedIds() {
+        int delivered = 0;
+        for (int i = 0; i < batchSize; i++) {
+            delivered += channel.publish(eventIds[i], payloads[i]);
+        }
+        return delivered;
+    }
+
+    /**
+     * Multi-ID batch publish with alternating IDs.
+     */
+    @Benchmark
+    public int publishBatchMixedIds() {
+        return channel.publishBatch(eventIds, payloads, 0, batchSize);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.CoalescingEventChannel;
+import io.github.yasmramos.veld.runtime.event.EventChannelOptions;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Benchmark of bursty "state changed" events with and without coalescing.
+ *
+ * <p>Each invocation publishes {@value #BURST} updates spread over {@code keys}
+ * entities and waits until the listener has seen the final update of every
+ * entity. The listener burns {@code work} CPU tokens per delivery to model a
+ * cache refresh.</p>
+ *
+ * <p><b>Channels:</b></p>
+ * <ul>
+ *   <li>{@code STANDARD} - every update is delivered synchronously</li>
+ *   <li>{@code COALESCING} - zero-window {@code CoalescingEventChannel}; updates collapse
+ *       while the listener is busy</li>
+ * </ul>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+public class CoalescingChannelBenchmark {
+
+    private static final int BURST = 10_000;
+    private static final int EVENT_ID = 1;
+
+    @Param({"STANDARD", "COALESCING"})
+    private String channelType;
+
+    @Param({"16"})
+    private int keys;
+
+    @Param({"200", "2000"})
+    private int work;
+
+    private ExecutorService executor;
+    private StandardEventChannel channel;
+    private AtomicLongArray latest;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "benchmark-coalescing");
+            t.setDaemon(true);
+            return t;
+        });
+        latest = new AtomicLongArray(keys);
+        if ("COALESCING".equals(channelType)) {
+            channel = new CoalescingEventChannel("benchmark-coalescing", executor, EventChannelOptions.builder()
+                    .coalescing(Duration.ZERO, payload -> (int) (((long[]) payload)[0]))
+                    .build());
+        } else {
+            channel = new StandardEventChannel("benchmark-standard", executor);
+        }
+        channel.register(EVENT_ID, payload -> {
+            long[] update = (long[]) payload;
+            Blackhole.consumeCPU(work);
+            latest.set((int) update[0], update[1]);
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channel.shutdown();
+        channel.clear();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Publishes a burst of updates and waits until the last update of every key was delivered.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public long publishBurst() {
+        long first = sequence;
+        for (int i = 0; i < BURST; i++) {
+            channel.publish(EVENT_ID, new long[]{i % keys, ++sequence});
+        }
+        for (int k = 0; k < keys; k++) {
+            long last = first + BURST - keys + k + 1;
+            while (latest.get(k) < last) {
+                Thread.onSpinWait();
+            }
+        }
+        return sequence;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import io.github.yasmramos.veld.runtime.event.bridge.BridgeTransport;
+import io.github.yasmramos.veld.runtime.event.bridge.EventBridge;
+import io.github.yasmramos.veld.runtime.event.bridge.SharedMemoryTransport;
+import io.github.yasmramos.veld.runtime.event.bridge.UnixSocketTransport;
+import io.github.yasmramos.veld.runtime.event.journal.PayloadCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for forwarding events between two {@code EventBridge}s.
+ *
+ * <p>Both bridges run in the benchmark JVM but share nothing except the
+ * transport, so the numbers include framing, the sender and receiver threads and
+ * the transport itself, as between two processes.</p>
+ *
+ * <ul>
+ *   <li>{@code roundTrip} publishes a 64 byte ping that the peer answers and
+ *       waits until the pong has come back.</li>
+ *   <li>{@code throughput} publishes 1000 pings and waits until the peer has
+ *       received all of them; the score is the time per event.</li>
+ * </ul>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class EventBridgeBenchmark {
+
+    private static final int PING = 1;
+    private static final int PONG = 2;
+    private static final int BATCH = 1000;
+
+    @Param({"UNIX_SOCKET", "SHARED_MEMORY"})
+    private String transport;
+
+    private Path dir;
+    private StandardEventChannel left;
+    private EventBridge leftBridge;
+    private EventBridge rightBridge;
+    private final byte[] payload = new byte[64];
+    private final byte[] echoPayload = new byte[64];
+    private volatile long pings;
+    private volatile long pongs;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("veld-bridge");
+        BridgeTransport leftTransport;
+        BridgeTransport rightTransport;
+        if ("UNIX_SOCKET".equals(transport)) {
+            leftTransport = UnixSocketTransport.server(dir.resolve("bridge.sock"));
+            rightTransport = UnixSocketTransport.client(dir.resolve("bridge.sock"));
+        } else {
+            leftTransport = SharedMemoryTransport.primary(dir.resolve("bridge.shm"), 1 << 20);
+            rightTransport = SharedMemoryTransport.secondary(dir.resolve("bridge.shm"));
+        }
+        left = new StandardEventChannel("left", null);
+        StandardEventChannel right = new StandardEventChannel("right", null);
+        left.register(PONG, p -> pongs++);
+        echoPayload[0] = 1;
+        right.register(PING, p -> {
+            pings++;
+            if (((byte[]) p)[0] == 1) {
+                right.publish(PONG, p);
+            }
+        });
+        leftBridge = EventBridge.builder(left, leftTransport).codec(PayloadCodec.bytes()).forward(PING).start();
+        rightBridge = EventBridge.builder(right, rightTransport).codec(PayloadCodec.bytes()).forward(PONG).start();
+        while (!leftBridge.isConnected() || !rightBridge.isConnected()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        rightBridge.close();
+        leftBridge.close();
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public long roundTrip() {
+        long target = pongs + 1;
+        left.publish(PING, echoPayload);
+        while (pongs < target) {
+            Thread.yield();
+        }
+        return target;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public long throughput() {
+        long target = pings + BATCH;
+        for (int i = 0; i < BATCH; i++) {
+            left.publish(PING, payload);
+        }
+        while (pings < target) {
+            Thread.yield();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.Event;
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import io.github.yasmramos.veld.runtime.event.EventErrorHandler;
+import io.github.yasmramos.veld.runtime.event.EventSubscriber;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for publishing to a subscriber that always throws.
+ *
+ * <ul>
+ *   <li>{@code CONSOLE} reproduces the former behavior: a message is built by
+ *       concatenation and printed to a synchronized {@code PrintStream} (backed
+ *       by a null stream, so real console I/O would only be slower).</li>
+ *   <li>{@code RATE_LIMITED} is the default handler, logging once per second.</li>
+ *   <li>{@code COUNT_ONLY} installs a no-op handler; only the per-subscriber
+ *       failure counter is updated.</li>
+ * </ul>
+ *
+ * <p>Runs with four threads to show the contention of the console path.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Threads(4)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class EventErrorStormBenchmark {
+
+    public static class FailingEvent extends Event { }
+
+    private static final RuntimeException FAILURE = new RuntimeException("storm");
+
+    /**
+     * Subscriber failing on every event, with a preallocated exception so the
+     * measurement covers error handling rather than stack trace capture.
+     */
+    public static class FailingSubscriber {
+        public void onEvent(FailingEvent event) {
+            throw FAILURE;
+        }
+    }
+
+    private static final MethodHandle ON_EVENT;
+
+    static {
+        try {
+            ON_EVENT = MethodHandles.publicLookup().findVirtual(FailingSubscriber.class, "onEvent",
+                    MethodType.methodType(void.class, FailingEvent.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"CONSOLE", "RATE_LIMITED", "COUNT_ONLY"})
+    private String handler;
+
+    private EventBus eventBus;
+    private final FailingEvent event = new FailingEvent();
+
+    @Setup
+    public void setup() {
+        eventBus = EventBus.getInstance();
+        eventBus.clear();
+        switch (handler) {
+            case "CONSOLE":
+                PrintStream console = new PrintStream(OutputStream.nullOutputStream());
+                eventBus.setErrorHandler((subscriber, failed, cause) -> console.println(
+                        "[EventBus] Exception in subscriber " + subscriber + " while handling "
+                                + failed.getClass().getName() + ": " + cause.getMessage()));
+                break;
+            case "RATE_LIMITED":
+                eventBus.setErrorHandler(EventErrorHandler.logging(EventBus.DEFAULT_ERROR_LOG_INTERVAL));
+                break;
+            default:
+                eventBus.setErrorHandler((subscriber, failed, cause) -> { });
+                break;
+        }
+        FailingSubscriber target = new FailingSubscriber();
+        eventBus.register(new EventSubscriber(target, "onEvent", ON_EVENT.bindTo(target), FailingEvent.class,
+                false, 0, "", true));
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.clear();
+        eventBus.setErrorHandler(EventErrorHandler.logging(EventBus.DEFAULT_ERROR_LOG_INTERVAL));
+    }
+
+    @Benchmark
+    public int publishFailing() {
+        return eventBus.publish(event);
+    }
+}
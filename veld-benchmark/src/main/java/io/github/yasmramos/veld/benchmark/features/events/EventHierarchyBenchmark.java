@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.Event;
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for publishing object events through class hierarchies.
+ *
+ * <p>The published event is the leaf of a 1-, 3- or 6-level hierarchy. Listeners
+ * are registered either on the root event type only, or on every level. With
+ * flattened dispatch tables the cost of a publish should depend on the number of
+ * listeners, not on the hierarchy depth.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@SuppressWarnings("deprecation")
+public class EventHierarchyBenchmark {
+
+    public static class Level1Event extends Event { }
+    public static class Level2Event extends Level1Event { }
+    public static class Level3Event extends Level2Event { }
+    public static class Level4Event extends Level3Event { }
+    public static class Level5Event extends Level4Event { }
+    public static class Level6Event extends Level5Event { }
+
+    private static final Class<?>[] LEVELS = {
+            Level1Event.class, Level2Event.class, Level3Event.class,
+            Level4Event.class, Level5Event.class, Level6Event.class
+    };
+
+    @Param({"1", "3", "6"})
+    private int depth;
+
+    @Param({"ROOT", "EVERY_LEVEL"})
+    private String listeners;
+
+    private EventBus eventBus;
+    private Event event;
+
+    @Setup
+    public void setup(Blackhole bh) throws Exception {
+        eventBus = EventBus.getInstance();
+        eventBus.clear();
+
+        EventBus.EventListener listener = bh::consume;
+        if ("ROOT".equals(listeners)) {
+            eventBus.register(listener, Level1Event.class);
+        } else {
+            for (int i = 0; i < depth; i++) {
+                eventBus.register(listener, LEVELS[i]);
+            }
+        }
+        event = (Event) LEVELS[depth - 1].getDeclaredConstructor().newInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.clear();
+    }
+
+    @Benchmark
+    public int publishLeafEvent() {
+        return eventBus.publish(event);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.journal.EventJournal;
+import io.github.yasmramos.veld.runtime.event.journal.JournalOptions;
+import io.github.yasmramos.veld.runtime.event.journal.PayloadCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark of the memory-mapped {@code EventJournal} on local disk.
+ *
+ * <ul>
+ *   <li>{@code append} - latency distribution of a single 64-byte append per fsync
+ *       policy; run in sample mode, so JMH reports p50/p90/p99/p99.9</li>
+ *   <li>{@code replay} - time per record when replaying {@value #REPLAY_RECORDS}
+ *       records from offset 0</li>
+ * </ul>
+ *
+ * <p>Journals are created in the default temporary directory; point
+ * {@code java.io.tmpdir} at the disk under test.</p>
+ *
+ * @author Veld Framework Team
+ */
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+public class EventJournalBenchmark {
+
+    private static final int REPLAY_RECORDS = 100_000;
+    private static final byte[] PAYLOAD = new byte[64];
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"NONE", "GROUP_COMMIT", "EVERY_WRITE"})
+        private String fsync;
+
+        private Path dir;
+        private EventJournal journal;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            dir = Files.createTempDirectory("veld-journal-append");
+            journal = EventJournal.open(JournalOptions.builder(dir)
+                    .codec(PayloadCodec.bytes())
+                    .fsync(JournalOptions.FsyncPolicy.valueOf(fsync), Duration.ofMillis(5))
+                    .retainSegments(2)
+                    .build());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(dir);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ReplayState {
+
+        private Path dir;
+        private EventJournal journal;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            dir = Files.createTempDirectory("veld-journal-replay");
+            journal = EventJournal.open(JournalOptions.builder(dir)
+                    .codec(PayloadCodec.bytes())
+                    .fsync(JournalOptions.FsyncPolicy.NONE)
+                    .segmentSize(4 * 1024 * 1024)
+                    .build());
+            for (int i = 0; i < REPLAY_RECORDS; i++) {
+                journal.append(i & 15, PAYLOAD);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            journal.close();
+            delete(dir);
+        }
+    }
+
+    /**
+     * Appends one record.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long append(AppendState state) {
+        return state.journal.append(1, PAYLOAD);
+    }
+
+    /**
+     * Replays the whole journal.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(REPLAY_RECORDS)
+    public long replay(ReplayState state, Blackhole blackhole) {
+        return state.journal.replay(0, (offset, eventId, timestamp, payload) -> blackhole.consume(payload));
+    }
+
+    private static void delete(Path dir) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+}
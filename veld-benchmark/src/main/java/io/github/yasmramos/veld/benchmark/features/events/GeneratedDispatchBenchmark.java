@@ -0,0 +1,174 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.Event;
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import io.github.yasmramos.veld.runtime.event.GeneratedEventDispatcher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark comparing generated-registry delivery paths for {@code @Subscribe} methods.
+ *
+ * <p>Modes:</p>
+ * <ul>
+ *   <li>{@code CHANNEL} - handlers registered through {@code EventBus.registerEventHandler},
+ *       one lambda per subscriber with a type check and cast (the previous generated path)</li>
+ *   <li>{@code GENERATED} - {@code EventBus.publish(int, Object)} through a
+ *       {@code GeneratedEventDispatcher} equivalent to the processor's
+ *       {@code VeldEventDispatcher}</li>
+ *   <li>{@code DIRECT} - the generated per-event method called without the bus</li>
+ * </ul>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class GeneratedDispatchBenchmark {
+
+    private static final int EVENT_ID = 77;
+
+    public static class OrderEvent extends Event {
+        final long amount;
+
+        OrderEvent(long amount) {
+            this.amount = amount;
+        }
+    }
+
+    public static class OrderSubscriber {
+        long total;
+
+        public void onOrder(OrderEvent event) {
+            total += event.amount;
+        }
+    }
+
+    /**
+     * Hand-written equivalent of the generated dispatcher for four subscriber components.
+     */
+    static final class OrderDispatcher implements GeneratedEventDispatcher {
+        private volatile OrderSubscriber subscriber0;
+        private volatile OrderSubscriber subscriber1;
+        private volatile OrderSubscriber subscriber2;
+        private volatile OrderSubscriber subscriber3;
+
+        synchronized void bind(int slot, OrderSubscriber subscriber) {
+            switch (slot) {
+                case 0: subscriber0 = subscriber; break;
+                case 1: subscriber1 = subscriber; break;
+                case 2: subscriber2 = subscriber; break;
+                default: subscriber3 = subscriber; break;
+            }
+        }
+
+        @Override
+        public int dispatch(int eventId, Object payload) {
+            switch (eventId) {
+                case EVENT_ID:
+                    return payload instanceof OrderEvent ? onOrderEvent((OrderEvent) payload) : 0;
+                default:
+                    return 0;
+            }
+        }
+
+        int onOrderEvent(OrderEvent event) {
+            int delivered = 0;
+            OrderSubscriber c0 = this.subscriber0;
+            OrderSubscriber c1 = this.subscriber1;
+            OrderSubscriber c2 = this.subscriber2;
+            OrderSubscriber c3 = this.subscriber3;
+            if (c0 != null) {
+                c0.onOrder(event);
+                delivered++;
+            }
+            if (c1 != null) {
+                c1.onOrder(event);
+                delivered++;
+            }
+            if (c2 != null) {
+                c2.onOrder(event);
+                delivered++;
+            }
+            if (c3 != null) {
+                c3.onOrder(event);
+                delivered++;
+            }
+            return delivered;
+        }
+
+        @Override
+        public synchronized void unbind(Object component) {
+            // not used by the benchmark
+        }
+
+        @Override
+        public synchronized void clear() {
+            subscriber0 = null;
+            subscriber1 = null;
+            subscriber2 = null;
+            subscriber3 = null;
+        }
+    }
+
+    @Param({"CHANNEL", "GENERATED", "DIRECT"})
+    private String mode;
+
+    @Param({"1", "4"})
+    private int subscriberCount;
+
+    private EventBus eventBus;
+    private OrderDispatcher dispatcher;
+    private OrderEvent event;
+    private boolean direct;
+
+    @Setup
+    public void setup() {
+        eventBus = EventBus.getInstance();
+        eventBus.clear();
+        dispatcher = new OrderDispatcher();
+
+        for (int i = 0; i < subscriberCount; i++) {
+            OrderSubscriber subscriber = new OrderSubscriber();
+            if (!"CHANNEL".equals(mode)) {
+                dispatcher.bind(i, subscriber);
+            } else {
+                eventBus.registerEventHandler(EVENT_ID, OrderEvent.class, (OrderEvent e) -> subscriber.onOrder(e));
+            }
+        }
+        if ("GENERATED".equals(mode)) {
+            eventBus.setGeneratedDispatcher(dispatcher);
+        }
+        direct = "DIRECT".equals(mode);
+        event = new OrderEvent(42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.clear();
+    }
+
+    @Benchmark
+    public int deliver() {
+        return direct ? dispatcher.onOrderEvent(event) : eventBus.publish(EVENT_ID, event);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventChannelOptions;
+import io.github.yasmramos.veld.runtime.event.ObjectLessEventBus;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for synchronous publishing to 5, 20 and 100 parallel-safe listeners,
+ * delivered serially on the publishing thread or split across the common
+ * {@code ForkJoinPool} by the channel's parallel fan-out.
+ *
+ * <p>Listener cost varies: listener {@code i} burns {@code cost << (i % 4)} CPU
+ * tokens, so every set mixes cheap and up to eight times more expensive
+ * listeners. With a small {@code cost} the fork/join overhead dominates and
+ * serial delivery wins; the split pays off once listeners do real work and
+ * enough cores are available.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class ParallelFanOutBenchmark {
+
+    private static final int EVENT_ID = 1;
+
+    @Param({"5", "20", "100"})
+    private int listeners;
+
+    @Param({"10", "1000"})
+    private int cost;
+
+    @Param({"SERIAL", "PARALLEL"})
+    private String mode;
+
+    private ExecutorService executor;
+    private StandardEventChannel channel;
+    private final Object payload = new Object();
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        EventChannelOptions.Builder options = EventChannelOptions.builder();
+        if ("PARALLEL".equals(mode)) {
+            options.parallelFanOut(2);
+        }
+        channel = new StandardEventChannel("fan-out", executor, options.build());
+        for (int i = 0; i < listeners; i++) {
+            channel.register(EVENT_ID, new CostlyListener(cost << (i % 4)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int publish() {
+        return channel.publish(EVENT_ID, payload);
+    }
+
+    private static final class CostlyListener implements ObjectLessEventBus.ObjectLessListener {
+        private final long tokens;
+
+        CostlyListener(long tokens) {
+            this.tokens = tokens;
+        }
+
+        @Override
+        public void onEvent(Object payload) {
+            Blackhole.consumeCPU(tokens);
+        }
+
+        @Override
+        public boolean isParallelSafe() {
+            return true;
+        }
+    }
+}
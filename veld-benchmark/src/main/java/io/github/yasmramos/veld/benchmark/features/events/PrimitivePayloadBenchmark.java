@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventChannelOptions;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for numeric telemetry events: boxed object-less payloads versus the
+ * primitive {@code publishLong}, {@code publishDouble} and two-{@code long}
+ * {@code publish} paths.
+ *
+ * <p>The published values change on every call so the boxed variants cannot hit
+ * the {@code Long.valueOf} cache, and the listeners keep the last payload, as
+ * most real listeners do, so escape analysis cannot remove the box. Run with
+ * {@code -prof gc}; the primitive variants should report zero bytes allocated
+ * per operation.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class PrimitivePayloadBenchmark {
+
+    private static final int LONG_ID = 1;
+    private static final int DOUBLE_ID = 2;
+    private static final int PAIR_ID = 3;
+
+    private ExecutorService executor;
+    private StandardEventChannel channel;
+    private long value = 1_000_000L;
+    private Object lastPayload;
+    private long lastLong;
+    private double lastDouble;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        channel = new StandardEventChannel("primitive", executor, EventChannelOptions.defaults());
+        channel.register(LONG_ID, payload -> lastPayload = payload);
+        channel.register(DOUBLE_ID, payload -> lastPayload = payload);
+        channel.register(PAIR_ID, payload -> lastPayload = payload);
+        channel.registerLong(LONG_ID, v -> lastLong = v);
+        channel.registerDouble(DOUBLE_ID, v -> lastDouble = v);
+        channel.registerLongPair(PAIR_ID, (first, second) -> lastLong = first ^ second);
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int boxedLong() {
+        return channel.publish(LONG_ID, (Object) value++);
+    }
+
+    @Benchmark
+    public int primitiveLong() {
+        return channel.publishLong(LONG_ID, value++);
+    }
+
+    @Benchmark
+    public int boxedDouble() {
+        return channel.publish(DOUBLE_ID, (Object) (double) value++);
+    }
+
+    @Benchmark
+    public int primitiveDouble() {
+        return channel.publishDouble(DOUBLE_ID, value++);
+    }
+
+    @Benchmark
+    public int arrayPair() {
+        return channel.publish(PAIR_ID, new long[]{value++, value >>> 3});
+    }
+
+    @Benchmark
+    public int primitivePair() {
+        return channel.publish(PAIR_ID, value++, value >>> 3);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventChannelOptions;
+import io.github.yasmramos.veld.runtime.event.ObjectLessEventBus;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for statistics overhead under concurrent publishing.
+ *
+ * <p>All threads publish the same event ID to one channel, so every publish
+ * updates the same counters. Compares statistics off, striped counters and
+ * counters plus latency histogram at 1, 8 and 32 publishing threads.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class StatisticsContentionBenchmark {
+
+    private static final int EVENT_ID = 1001;
+
+    @Param({"OFF", "COUNTERS", "LATENCY"})
+    private EventChannelOptions.StatisticsMode mode;
+
+    private ExecutorService executor;
+    private StandardEventChannel channel;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        executor = Executors.newSingleThreadExecutor();
+        channel = new StandardEventChannel("stats", executor,
+                EventChannelOptions.builder().statistics(mode).build());
+        ObjectLessEventBus.ObjectLessListener listener = bh::consume;
+        channel.register(EVENT_ID, listener);
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.clear();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int publish1Thread() {
+        return channel.publish(EVENT_ID, EVENT_ID);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public int publish8Threads() {
+        return channel.publish(EVENT_ID, EVENT_ID);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public int publish32Threads() {
+        return channel.publish(EVENT_ID, EVENT_ID);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.Event;
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import io.github.yasmramos.veld.runtime.event.EventSubscriber;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for subscriber register/unregister churn on the object event bus.
+ *
+ * <p>A fixed set of background subscribers is spread over several event types.
+ * Session-scoped subscribers are registered and unregistered repeatedly, alone
+ * and while other threads keep publishing.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class SubscriberChurnBenchmark {
+
+    public static class ChurnEvent extends Event { }
+    public static class AuditEvent extends Event { }
+    public static class MetricsEvent extends Event { }
+    public static class SessionEvent extends Event { }
+    public static class OrderEvent extends Event { }
+    public static class PaymentEvent extends Event { }
+    public static class ShippingEvent extends Event { }
+    public static class InventoryEvent extends Event { }
+
+    private static final Class<?>[] BACKGROUND_TYPES = {
+            AuditEvent.class, MetricsEvent.class, SessionEvent.class, OrderEvent.class,
+            PaymentEvent.class, ShippingEvent.class, InventoryEvent.class, ChurnEvent.class
+    };
+
+    /**
+     * Session-scoped subscriber; one instance per register/unregister cycle.
+     */
+    public static class SessionSubscriber {
+        public void onEvent(Event event) {
+        }
+    }
+
+    private static final MethodHandle ON_EVENT;
+
+    static {
+        try {
+            ON_EVENT = MethodHandles.publicLookup().findVirtual(SessionSubscriber.class, "onEvent",
+                    MethodType.methodType(void.class, Event.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"100", "1000"})
+    private int backgroundSubscribers;
+
+    private EventBus eventBus;
+    private final ChurnEvent event = new ChurnEvent();
+
+    @Setup
+    public void setup() {
+        eventBus = EventBus.getInstance();
+        eventBus.clear();
+        for (int i = 0; i < backgroundSubscribers; i++) {
+            eventBus.register(subscriber(new SessionSubscriber(), BACKGROUND_TYPES[i % BACKGROUND_TYPES.length]));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        eventBus.clear();
+    }
+
+    private static EventSubscriber subscriber(SessionSubscriber target, Class<?> eventType) {
+        return new EventSubscriber(target, "onEvent", ON_EVENT.bindTo(target), eventType,
+                false, 0, "", true);
+    }
+
+    private void registerAndUnregister() {
+        SessionSubscriber target = new SessionSubscriber();
+        eventBus.register(subscriber(target, ChurnEvent.class));
+        eventBus.unregister(target);
+    }
+
+    /**
+     * One register/unregister cycle without concurrent publishers.
+     */
+    @Benchmark
+    public void churn() {
+        registerAndUnregister();
+    }
+
+    /**
+     * Register/unregister cycles racing with publishers on the churned event type.
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void contendedChurn() {
+        registerAndUnregister();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public void contendedPublish(Blackhole bh) {
+        bh.consume(eventBus.publish(event));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import io.github.yasmramos.veld.runtime.event.EventChannel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark for publishing to hierarchical topics with wildcard subscribers.
+ *
+ * <p>4096 concrete topics of the form {@code r<i>.s<j>.e<k>} each have a
+ * channel with one listener, and {@code wildcards} patterns such as
+ * {@code r3.*.e7}, {@code *.s2.e9}, {@code r1.s4.*} and {@code r5.>} each
+ * have a channel with one listener.</p>
+ *
+ * <ul>
+ *   <li>{@code topicPublish} uses {@code EventBus.publish(topic, ...)}. Its route
+ *       is resolved through the trie once and then served from the per-topic cache.</li>
+ *   <li>{@code regexFanOut} is the manual alternative: every pattern is checked
+ *       against the topic on each publish.</li>
+ *   <li>{@code concreteOnly} publishes to the concrete channel alone, as the
+ *       lower bound.</li>
+ * </ul>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class TopicRoutingBenchmark {
+
+    private static final int EVENT_ID = 1;
+    private static final int FANOUT = 16;
+    private static final int TOPIC_MASK = FANOUT * FANOUT * FANOUT - 1;
+
+    @Param({"16", "256"})
+    private int wildcards;
+
+    private EventBus bus;
+    private String[] topics;
+    private final List<String> patterns = new ArrayList<>();
+    private Pattern[] regexes;
+    private EventChannel[] patternChannels;
+    private int next;
+    private final Object payload = new Object();
+    private long sink;
+
+    @Setup
+    public void setup() {
+        bus = EventBus.getInstance();
+        bus.clear();
+        topics = new String[TOPIC_MASK + 1];
+        for (int i = 0; i <= TOPIC_MASK; i++) {
+            topics[i] = "r" + (i / (FANOUT * FANOUT)) + ".s" + (i / FANOUT % FANOUT) + ".e" + (i % FANOUT);
+            bus.getChannel(topics[i]).register(EVENT_ID, payload -> sink++);
+        }
+
+        Map<String, Pattern> unique = new LinkedHashMap<>();
+        for (int i = 0; i < wildcards; i++) {
+            int x = (i / 4) % FANOUT;
+            int y = (i / (4 * FANOUT)) % FANOUT;
+            String pattern;
+            switch (i % 4) {
+                case 0:
+                    pattern = "r" + x + ".*.e" + y;
+                    break;
+                case 1:
+                    pattern = "*.s" + x + ".e" + y;
+                    break;
+                case 2:
+                    pattern = "r" + x + ".s" + y + ".*";
+                    break;
+                default:
+                    pattern = "r" + x + ".>";
+                    break;
+            }
+            unique.computeIfAbsent(pattern, TopicRoutingBenchmark::toRegex);
+        }
+        patterns.addAll(unique.keySet());
+        regexes = unique.values().toArray(new Pattern[0]);
+        patternChannels = new EventChannel[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            patternChannels[i] = bus.getTopicChannel(patterns.get(i));
+            patternChannels[i].register(EVENT_ID, payload -> sink++);
+        }
+    }
+
+    private static Pattern toRegex(String pattern) {
+        String regex = pattern.replace(".", "\\.").replace("*", "[^.]+").replace(">", ".+");
+        return Pattern.compile(regex);
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (String pattern : patterns) {
+            bus.removeTopicChannel(pattern);
+        }
+        bus.clear();
+    }
+
+    @Benchmark
+    public int topicPublish() {
+        return bus.publish(topics[next++ & TOPIC_MASK], EVENT_ID, payload);
+    }
+
+    @Benchmark
+    public int regexFanOut() {
+        String topic = topics[next++ & TOPIC_MASK];
+        int delivered = bus.getChannel(topic).publish(EVENT_ID, payload);
+        for (int i = 0; i < regexes.length; i++) {
+            if (regexes[i].matcher(topic).matches()) {
+                delivered += patternChannels[i].publish(EVENT_ID, payload);
+            }
+        }
+        return delivered;
+    }
+
+    @Benchmark
+    public int concreteOnly() {
+        return bus.getChannel(topics[next++ & TOPIC_MASK]).publish(EVENT_ID, payload);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.benchmark.features.events;
+
+import io.github.yasmramos.veld.runtime.event.EventChannelOptions;
+import io.github.yasmramos.veld.runtime.event.ObjectLessEventBus;
+import io.github.yasmramos.veld.runtime.event.PublishResult;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code publishTracked} against plain {@code publish}.
+ *
+ * <p>{@code SYNC} channels have four synchronous listeners, so tracking costs one
+ * tracker and one completed future per publish regardless of listener count.
+ * {@code MIXED} channels add one async listener, and {@code publishTracked}
+ * waits for it, which measures the full round trip, while plain {@code publish}
+ * only pays for the hand-off. Run with
+ * {@code -prof gc} to compare allocation per operation.</p>
+ *
+ * @author Veld Framework Team
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, warmups = 1)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+public class TrackedPublishBenchmark {
+
+    private static final int EVENT_ID = 1;
+
+    @Param({"SYNC", "MIXED"})
+    private String listeners;
+
+    private ExecutorService executor;
+    private StandardEventChannel channel;
+    private final Object payload = new Object();
+
+    @Setup
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+        channel = new StandardEventChannel("tracked", executor, EventChannelOptions.defaults());
+        for (int i = 0; i < 4; i++) {
+            channel.register(EVENT_ID, p -> Blackhole.consumeCPU(10));
+        }
+        if ("MIXED".equals(listeners)) {
+            channel.register(EVENT_ID, new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    Blackhole.consumeCPU(10);
+                }
+
+                @Override
+                public boolean isAsync() {
+                    return true;
+                }
+            });
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        channel.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int publish() {
+        return channel.publish(EVENT_ID, payload);
+    }
+
+    @Benchmark
+    public PublishResult publishTracked() {
+        return channel.publishTracked(EVENT_ID, payload).join();
+    }
+}
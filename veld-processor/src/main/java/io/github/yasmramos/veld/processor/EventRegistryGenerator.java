@@ -2,15 +2,27 @@ package io.github.yasmramos.veld.processor;
 
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import io.github.yasmramos.veld.annotation.EventRegistrationSPI;
+import io.github.yasmramos.veld.annotation.Subscribe;
 
+import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -24,17 +36,32 @@ import java.util.stream.Collectors;
  * public class VeldEventRegistryImpl implements EventRegistrationSPI {
  *     private static final int HANDLER_COUNT = N;
  *
+ *     // One constant per @Subscribe(filter = "event.amount > 1000"), compiled by FilterExpressionCompiler
+ *     private static final Predicate<OrderEvent> FILTER_0 = (OrderEvent event) -> event.getAmount() > 1000;
+ *
+ *     // One constant per @Subscribe(async = true, orderingKey = "event.customerId")
+ *     private static final Function<OrderEvent, Object> KEY_0 = (OrderEvent event) -> event.getCustomerId();
+ *
  *     @Override
  *     public void registerEvents(Object bus, Object component) {
  *         if (component == null) return;
  *         if (component instanceof ComponentA) {
  *             ComponentA a = (ComponentA) component;
- *             ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_A, a::handlerMethodA);
- *             ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_B, a::handlerMethodB);
+ *             // The first instance is bound to the bus's VeldEventDispatcher; further ones use the channel
+ *             if (!VeldEventDispatcher.forBus((io.github.yasmramos.veld.runtime.event.EventBus) bus).bind(a)) {
+ *                 ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_A, a::handlerMethodA);
+ *                 ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_B, a::handlerMethodB);
+ *             }
  *         }
  *         if (component instanceof ComponentB) {
  *             ComponentB b = (ComponentB) component;
- *             ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_C, b::handlerMethodC);
+ *             ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerAsyncEventHandler(EVENT_ID_D, OrderEvent.class,
+ *                     (OrderEvent event) -> b.onOrder(event), 0, null, Subscribe.AsyncMode.VIRTUAL_THREAD, KEY_0);
+ *             if (!VeldEventDispatcher.forBus((io.github.yasmramos.veld.runtime.event.EventBus) bus).bind(b)) {
+ *                 ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_C, b::handlerMethodC);
+ *                 ((io.github.yasmramos.veld.runtime.event.EventBus) bus).registerEventHandler(EVENT_ID_D, OrderEvent.class,
+ *                         (OrderEvent event) -> b.onLargeOrder(event), 0, FILTER_0);
+ *             }
  *         }
  *     }
  *
@@ -45,16 +72,59 @@ import java.util.stream.Collectors;
  * }
  * }</pre>
  *
+ * <h2>Generated Dispatcher</h2>
+ * <p>When there are synchronous subscribers, {@link #generateDispatcher()} also emits
+ * {@code VeldEventDispatcher}, a {@code GeneratedEventDispatcher} with one
+ * method per event type that calls the subscriber methods directly in priority order:</p>
+ * <pre>{@code
+ * public final class VeldEventDispatcher implements GeneratedEventDispatcher {
+ *     private volatile ComponentB componentB;
+ *
+ *     public static synchronized VeldEventDispatcher forBus(EventBus bus) { ... }
+ *
+ *     public synchronized boolean bind(ComponentB component) { ... }
+ *
+ *     @Override
+ *     public int dispatch(int eventId, Object payload) {
+ *         switch (eventId) {
+ *             case EVENT_ID_D:
+ *                 return payload instanceof OrderEvent ? onOrderEvent((OrderEvent) payload) : 0;
+ *             default:
+ *                 return 0;
+ *         }
+ *     }
+ *
+ *     public int onOrderEvent(OrderEvent event) {
+ *         int delivered = 0;
+ *         ComponentB c0 = this.componentB;
+ *         if (c0 != null && (event.getAmount() > 1000)) {
+ *             c0.onLargeOrder(event);
+ *             delivered++;
+ *         }
+ *         return delivered;
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>Each event bus gets its own dispatcher instance. The registry binds the first
+ * instance of each component class to the dispatcher of its bus and falls back to
+ * channel registration for any further instance. A second overload of
+ * {@code dispatch} and of each {@code on<Event>} method takes a priority range, so
+ * the standard channel can interleave the subscribers with its own listeners.</p>
+ *
  * @author Veld Framework Team
  * @since 1.0.0
  */
 public class EventRegistryGenerator {
 
     private static final String EVENT_BUS_FULL_NAME = "io.github.yasmramos.veld.runtime.event.EventBus";
+    private static final ClassName GENERATED_DISPATCHER =
+            ClassName.get("io.github.yasmramos.veld.runtime.event", "GeneratedEventDispatcher");
 
     private final List<SubscriptionInfo> subscriptions;
     private final String packageName;
     private final String className;
+    private final String dispatcherClassName;
 
     /**
      * Information about a single @Subscribe method.
@@ -67,10 +137,36 @@ public class EventRegistryGenerator {
         public final int eventId;
         public final boolean async;
         public final int priority;
+        /** The original {@code @Subscribe(filter)} expression, or {@code null} if none. */
+        public final String filterExpression;
+        /** The compiled filter over the {@code event} variable, or {@code null} if none. */
+        public final CodeBlock filter;
+        /** Where the subscriber runs when {@link #async} is set. */
+        public final Subscribe.AsyncMode asyncMode;
+        /** The original {@code @Subscribe(orderingKey)} path, or {@code null} if none. */
+        public final String orderingKeyExpression;
+        /** The compiled ordering key over the {@code event} variable, or {@code null} if none. */
+        public final CodeBlock orderingKey;
 
         public SubscriptionInfo(String componentClassName, String componentSimpleName,
                                  String methodName, String eventTypeName, int eventId,
                                  boolean async, int priority) {
+            this(componentClassName, componentSimpleName, methodName, eventTypeName, eventId,
+                    async, priority, null, null);
+        }
+
+        public SubscriptionInfo(String componentClassName, String componentSimpleName,
+                                 String methodName, String eventTypeName, int eventId,
+                                 boolean async, int priority, String filterExpression, CodeBlock filter) {
+            this(componentClassName, componentSimpleName, methodName, eventTypeName, eventId,
+                    async, priority, filterExpression, filter, Subscribe.AsyncMode.EXECUTOR, null, null);
+        }
+
+        public SubscriptionInfo(String componentClassName, String componentSimpleName,
+                                 String methodName, String eventTypeName, int eventId,
+                                 boolean async, int priority, String filterExpression, CodeBlock filter,
+                                 Subscribe.AsyncMode asyncMode, String orderingKeyExpression,
+                                 CodeBlock orderingKey) {
             this.componentClassName = componentClassName;
             this.componentSimpleName = componentSimpleName;
             this.methodName = methodName;
@@ -78,6 +174,11 @@ public class EventRegistryGenerator {
             this.eventId = eventId;
             this.async = async;
             this.priority = priority;
+            this.filterExpression = filterExpression;
+            this.filter = filter;
+            this.asyncMode = asyncMode;
+            this.orderingKeyExpression = orderingKeyExpression;
+            this.orderingKey = orderingKey;
         }
     }
 
@@ -85,6 +186,7 @@ public class EventRegistryGenerator {
         this.subscriptions = subscriptions;
         this.packageName = "io.github.yasmramos.veld";
         this.className = "VeldEventRegistryImpl";
+        this.dispatcherClassName = "VeldEventDispatcher";
     }
 
     /**
@@ -113,6 +215,45 @@ public class EventRegistryGenerator {
                 .build();
         classBuilder.addField(handlerCountField);
 
+        // Compiled @Subscribe(filter) predicates, one non-capturing constant per filtered subscriber
+        int filterCount = 0;
+        Map<SubscriptionInfo, String> filterFields = new IdentityHashMap<>();
+        for (SubscriptionInfo sub : subscriptions) {
+            if (sub.filter == null) {
+                continue;
+            }
+            String fieldName = "FILTER_" + filterCount++;
+            ClassName eventType = ClassName.bestGuess(sub.eventTypeName);
+            classBuilder.addField(FieldSpec.builder(
+                            ParameterizedTypeName.get(ClassName.get(Predicate.class), eventType), fieldName)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .addJavadoc("$L.$L: {@code $L}\n", sub.componentSimpleName, sub.methodName,
+                            sub.filterExpression.replace("*/", "*&#47;"))
+                    .initializer("($T $N) -> $L", eventType, FilterExpressionCompiler.EVENT_VARIABLE, sub.filter)
+                    .build());
+            filterFields.put(sub, fieldName);
+        }
+
+        // Compiled @Subscribe(orderingKey) extractors for async subscribers
+        int keyCount = 0;
+        Map<SubscriptionInfo, String> keyFields = new IdentityHashMap<>();
+        for (SubscriptionInfo sub : subscriptions) {
+            if (!sub.async || sub.orderingKey == null) {
+                continue;
+            }
+            String fieldName = "KEY_" + keyCount++;
+            ClassName eventType = ClassName.bestGuess(sub.eventTypeName);
+            classBuilder.addField(FieldSpec.builder(
+                            ParameterizedTypeName.get(ClassName.get(Function.class), eventType,
+                                    ClassName.get(Object.class)), fieldName)
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .addJavadoc("$L.$L: ordering key {@code $L}\n", sub.componentSimpleName, sub.methodName,
+                            sub.orderingKeyExpression.replace("*/", "*&#47;"))
+                    .initializer("($T $N) -> $L", eventType, FilterExpressionCompiler.EVENT_VARIABLE, sub.orderingKey)
+                    .build());
+            keyFields.put(sub, fieldName);
+        }
+
         // registerEvents method
         MethodSpec.Builder registerEventsMethod = MethodSpec.methodBuilder("registerEvents")
                 .addAnnotation(Override.class)
@@ -127,6 +268,7 @@ public class EventRegistryGenerator {
         // Group subscriptions by component class
         Map<String, List<SubscriptionInfo>> byComponent = subscriptions.stream()
                 .collect(Collectors.groupingBy(si -> si.componentClassName));
+        ClassName dispatcher = ClassName.get(packageName, dispatcherClassName);
 
         // Generate registration for each component
         for (Map.Entry<String, List<SubscriptionInfo>> entry : byComponent.entrySet()) {
@@ -139,24 +281,48 @@ public class EventRegistryGenerator {
                     .addStatement("$T typed = ($T) component", ClassName.bestGuess(componentClass), ClassName.bestGuess(componentClass));
 
             for (SubscriptionInfo sub : componentSubs) {
+                if (!sub.async) {
+                    continue;
+                }
                 // Generate registration with typed event handler - using fully qualified EventBus name
-                StringBuilder registration = new StringBuilder();
-                registration.append("(($T) bus).registerEventHandler(")
-                        .append(sub.eventId).append(", ")
-                        .append(sub.eventTypeName).append(".class, ")
-                        .append("($T event) -> typed.").append(sub.methodName).append("(event)");
-
-                if (sub.async || sub.priority != 0) {
-                    if (sub.priority != 0) {
-                        registration.append(", ").append(sub.priority);
-                    }
-                    registration.append(")");
-                } else {
-                    registration.append(")");
+                ClassName eventType = ClassName.bestGuess(sub.eventTypeName);
+                String filterField = filterFields.get(sub);
+                String keyField = keyFields.get(sub);
+                registerEventsMethod.addStatement(
+                        "(($T) bus).registerAsyncEventHandler($L, $T.class, ($T event) -> typed.$N(event), "
+                                + "$L, $L, $T.$L, $L)",
+                        ClassName.bestGuess(EVENT_BUS_FULL_NAME), sub.eventId, eventType, eventType,
+                        sub.methodName, sub.priority, filterField != null ? filterField : "null",
+                        ClassName.get(Subscribe.AsyncMode.class), sub.asyncMode.name(),
+                        keyField != null ? keyField : "null");
+            }
+
+            // Synchronous subscribers of the first instance go through the generated dispatcher
+            if (componentSubs.stream().allMatch(sub -> sub.async)) {
+                registerEventsMethod.endControlFlow().addCode("\n");
+                continue;
+            }
+            registerEventsMethod.beginControlFlow("if (!$T.forBus(($T) bus).bind(typed))",
+                    dispatcher, ClassName.bestGuess(EVENT_BUS_FULL_NAME));
+            for (SubscriptionInfo sub : componentSubs) {
+                if (sub.async) {
+                    continue;
                 }
-                registerEventsMethod.addStatement(registration.toString(),
-                        ClassName.bestGuess(EVENT_BUS_FULL_NAME), ClassName.bestGuess(sub.eventTypeName));
+                ClassName eventType = ClassName.bestGuess(sub.eventTypeName);
+                String filterField = filterFields.get(sub);
+                CodeBlock.Builder registration = CodeBlock.builder()
+                        .add("(($T) bus).registerEventHandler($L, $T.class, ($T event) -> typed.$N(event)",
+                                ClassName.bestGuess(EVENT_BUS_FULL_NAME), sub.eventId, eventType, eventType,
+                                sub.methodName);
+
+                if (filterField != null) {
+                    registration.add(", $L, $N", sub.priority, filterField);
+                } else if (sub.priority != 0) {
+                    registration.add(", $L", sub.priority);
+                }
+                registerEventsMethod.addStatement(registration.add(")").build());
             }
+            registerEventsMethod.endControlFlow();
 
             registerEventsMethod.endControlFlow().addCode("\n");
         }
@@ -176,6 +342,261 @@ public class EventRegistryGenerator {
         return JavaFile.builder(packageName, classBuilder.build()).build();
     }
 
+    /**
+     * Returns whether any subscriber is delivered synchronously, and therefore
+     * whether {@link #generateDispatcher()} has to be written.
+     *
+     * @return {@code true} if a dispatcher is needed
+     */
+    public boolean hasDirectSubscriptions() {
+        return subscriptions.stream().anyMatch(sub -> !sub.async);
+    }
+
+    /**
+     * Generates the direct dispatcher for synchronous subscribers.
+     *
+     * <p>One dispatcher instance is created per event bus. It holds one slot per
+     * component class and one method per event type. Each method reads the slots
+     * once and calls the subscriber methods directly in descending priority, with
+     * compiled filters inlined, so the hot path has no listener array, no interface
+     * call and no type check. The only type check is in {@code dispatch(int, Object)},
+     * once per event type, which {@code EventBus.publish(int, Object)} uses to reach
+     * these methods. The ranged overloads serve event IDs that also have channel
+     * listeners.</p>
+     *
+     * @return the generated Java source code
+     */
+    public JavaFile generateDispatcher() {
+        ClassName dispatcher = ClassName.get(packageName, dispatcherClassName);
+        ClassName eventBus = ClassName.bestGuess(EVENT_BUS_FULL_NAME);
+        TypeSpec.Builder classBuilder = TypeSpec.classBuilder(dispatcherClassName)
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(GENERATED_DISPATCHER)
+                .addJavadoc(
+                        "Generated direct dispatcher for synchronous @Subscribe methods.\n" +
+                        "\n" +
+                        "<p>This class is generated by VeldProcessor at compile time.\n" +
+                        "Each {@code on<Event>} method calls the bound subscribers directly in priority order.</p>\n" +
+                        "\n" +
+                        "@author Veld Framework (generated)\n")
+                .addAnnotation(createGeneratedAnnotation());
+
+        List<SubscriptionInfo> direct = subscriptions.stream()
+                .filter(sub -> !sub.async)
+                .collect(Collectors.toList());
+
+        // One slot per component class, named after the class
+        Map<String, String> slots = new LinkedHashMap<>();
+        Set<String> usedNames = new HashSet<>();
+        for (SubscriptionInfo sub : direct) {
+            if (!slots.containsKey(sub.componentClassName)) {
+                String simpleName = sub.componentSimpleName;
+                slots.put(sub.componentClassName, uniqueName(
+                        Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1), usedNames));
+            }
+        }
+        for (Map.Entry<String, String> slot : slots.entrySet()) {
+            classBuilder.addField(FieldSpec.builder(ClassName.bestGuess(slot.getKey()), slot.getValue())
+                    .addModifiers(Modifier.PRIVATE, Modifier.VOLATILE)
+                    .build());
+        }
+
+        classBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        // One dispatcher per bus, so components bound on one bus are never called for another
+        classBuilder.addMethod(MethodSpec.methodBuilder("forBus")
+                .addJavadoc("Returns the dispatcher installed on a bus, installing a new one if needed.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC, Modifier.SYNCHRONIZED)
+                .returns(dispatcher)
+                .addParameter(eventBus, "bus")
+                .addStatement("$T installed = bus.getGeneratedDispatcher()", GENERATED_DISPATCHER)
+                .beginControlFlow("if (installed instanceof $T)", dispatcher)
+                .addStatement("return ($T) installed", dispatcher)
+                .endControlFlow()
+                .addStatement("$T dispatcher = new $T()", dispatcher, dispatcher)
+                .addStatement("bus.setGeneratedDispatcher(dispatcher)")
+                .addStatement("return dispatcher")
+                .build());
+
+        // bind overloads, one per component class
+        for (Map.Entry<String, String> slot : slots.entrySet()) {
+            classBuilder.addMethod(MethodSpec.methodBuilder("bind")
+                    .addJavadoc("Binds the {@code $T} instance whose subscribers this dispatcher calls.\n"
+                            + "\n@return {@code false} if another instance is already bound\n",
+                            ClassName.bestGuess(slot.getKey()))
+                    .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                    .returns(boolean.class)
+                    .addParameter(ClassName.bestGuess(slot.getKey()), "component")
+                    .beginControlFlow("if (this.$N != null && this.$N != component)", slot.getValue(), slot.getValue())
+                    .addStatement("return false")
+                    .endControlFlow()
+                    .addStatement("this.$N = component", slot.getValue())
+                    .addStatement("return true")
+                    .build());
+        }
+
+        MethodSpec.Builder unbind = MethodSpec.methodBuilder("unbind")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .addParameter(Object.class, "component");
+        MethodSpec.Builder clear = MethodSpec.methodBuilder("clear")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED);
+        for (String slot : slots.values()) {
+            unbind.beginControlFlow("if (this.$N == component)", slot)
+                    .addStatement("this.$N = null", slot)
+                    .endControlFlow();
+            clear.addStatement("this.$N = null", slot);
+        }
+        classBuilder.addMethod(unbind.build());
+        classBuilder.addMethod(clear.build());
+
+        // One method per event type, grouped by event ID for the switch
+        Map<String, List<SubscriptionInfo>> byEvent = new LinkedHashMap<>();
+        for (SubscriptionInfo sub : direct) {
+            byEvent.computeIfAbsent(sub.eventTypeName, k -> new ArrayList<>()).add(sub);
+        }
+        Map<Integer, List<String>> eventsById = new LinkedHashMap<>();
+        Map<String, String> methodNames = new LinkedHashMap<>();
+        Set<String> usedMethods = new HashSet<>();
+        List<MethodSpec> eventMethods = new ArrayList<>();
+        for (Map.Entry<String, List<SubscriptionInfo>> entry : byEvent.entrySet()) {
+            ClassName eventType = ClassName.bestGuess(entry.getKey());
+            String methodName = uniqueName("on" + eventType.simpleName(), usedMethods);
+            methodNames.put(entry.getKey(), methodName);
+            eventsById.computeIfAbsent(entry.getValue().get(0).eventId, k -> new ArrayList<>()).add(entry.getKey());
+            eventMethods.add(generateEventMethod(methodName, eventType, entry.getValue(), slots, false));
+            eventMethods.add(generateEventMethod(methodName, eventType, entry.getValue(), slots, true));
+        }
+
+        classBuilder.addMethod(generateDispatch(eventsById, methodNames, false));
+        classBuilder.addMethod(generateDispatch(eventsById, methodNames, true));
+        eventMethods.forEach(classBuilder::addMethod);
+
+        return JavaFile.builder(packageName, classBuilder.build()).build();
+    }
+
+    /**
+     * Generates {@code dispatch(int, Object)}, or with {@code ranged} its overload
+     * taking a priority range, which switches on the event ID to the event methods.
+     */
+    private MethodSpec generateDispatch(Map<Integer, List<String>> eventsById, Map<String, String> methodNames,
+                                        boolean ranged) {
+        MethodSpec.Builder dispatch = MethodSpec.methodBuilder("dispatch")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(int.class)
+                .addParameter(int.class, "eventId")
+                .addParameter(Object.class, "payload");
+        if (ranged) {
+            dispatch.addParameter(int.class, "minPriority").addParameter(int.class, "maxPriority");
+        }
+        CodeBlock range = ranged ? CodeBlock.of(", minPriority, maxPriority") : CodeBlock.of("");
+        dispatch.beginControlFlow("switch (eventId)");
+        for (Map.Entry<Integer, List<String>> entry : eventsById.entrySet()) {
+            dispatch.addCode("case $L:\n", entry.getKey()).addCode("$>");
+            List<String> eventTypes = entry.getValue();
+            if (eventTypes.size() == 1) {
+                ClassName eventType = ClassName.bestGuess(eventTypes.get(0));
+                dispatch.addStatement("return payload instanceof $T ? $N(($T) payload$L) : 0",
+                        eventType, methodNames.get(eventTypes.get(0)), eventType, range);
+            } else {
+                // Distinct event types whose names share a hash code
+                dispatch.addCode("{\n$>");
+                dispatch.addStatement("int delivered = 0");
+                for (String name : eventTypes) {
+                    ClassName eventType = ClassName.bestGuess(name);
+                    dispatch.beginControlFlow("if (payload instanceof $T)", eventType)
+                            .addStatement("delivered += $N(($T) payload$L)", methodNames.get(name), eventType, range)
+                            .endControlFlow();
+                }
+                dispatch.addStatement("return delivered");
+                dispatch.addCode("$<}\n");
+            }
+            dispatch.addCode("$<");
+        }
+        return dispatch.addCode("default:\n$>")
+                .addStatement("return 0")
+                .addCode("$<")
+                .endControlFlow()
+                .build();
+    }
+
+    private MethodSpec generateEventMethod(String methodName, ClassName eventType,
+                                           List<SubscriptionInfo> eventSubs, Map<String, String> slots,
+                                           boolean ranged) {
+        List<SubscriptionInfo> ordered = new ArrayList<>(eventSubs);
+        ordered.sort(Comparator.comparingInt((SubscriptionInfo sub) -> sub.priority).reversed());
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder(methodName)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(int.class)
+                .addParameter(eventType, FilterExpressionCompiler.EVENT_VARIABLE);
+        if (ranged) {
+            method.addJavadoc("Delivers {@code $T} to the bound subscribers whose priority is within\n"
+                            + "{@code [minPriority, maxPriority]}, in priority order.\n"
+                            + "\n@return the number of subscribers that received the event\n", eventType)
+                    .addParameter(int.class, "minPriority")
+                    .addParameter(int.class, "maxPriority");
+        } else {
+            method.addJavadoc("Delivers {@code $T} to the bound subscribers in priority order.\n"
+                    + "\n@return the number of subscribers that received the event\n", eventType);
+        }
+        method.addStatement("int delivered = 0");
+
+        // Read each slot once so a concurrent unbind cannot split one delivery
+        Map<String, String> locals = new LinkedHashMap<>();
+        for (SubscriptionInfo sub : ordered) {
+            if (!locals.containsKey(sub.componentClassName)) {
+                String local = "c" + locals.size();
+                locals.put(sub.componentClassName, local);
+                method.addStatement("$T $N = this.$N", ClassName.bestGuess(sub.componentClassName), local,
+                        slots.get(sub.componentClassName));
+            }
+        }
+        for (int i = 0; i < ordered.size(); i++) {
+            SubscriptionInfo sub = ordered.get(i);
+            // The ranged variant checks each priority once, around all subscribers that share it
+            boolean firstOfPriority = i == 0 || ordered.get(i - 1).priority != sub.priority;
+            boolean lastOfPriority = i == ordered.size() - 1 || ordered.get(i + 1).priority != sub.priority;
+            if (ranged && firstOfPriority) {
+                method.beginControlFlow("if (minPriority <= $L && $L <= maxPriority)", sub.priority, sub.priority);
+            }
+            String local = locals.get(sub.componentClassName);
+            if (sub.filter != null) {
+                method.beginControlFlow("if ($N != null && ($L))", local, sub.filter);
+            } else {
+                method.beginControlFlow("if ($N != null)", local);
+            }
+            method.addStatement("$N.$N($N)", local, sub.methodName, FilterExpressionCompiler.EVENT_VARIABLE)
+                    .addStatement("delivered++")
+                    .endControlFlow();
+            if (ranged && lastOfPriority) {
+                method.endControlFlow();
+            }
+        }
+        return method.addStatement("return delivered").build();
+    }
+
+    private static String uniqueName(String base, Set<String> used) {
+        String name = base;
+        for (int i = 1; SourceVersion.isKeyword(name) || !used.add(name); i++) {
+            name = base + i;
+        }
+        return name;
+    }
+
+    /**
+     * Returns the fully qualified class name of the generated dispatcher.
+     *
+     * @return the class name with package
+     */
+    public String getDispatcherClassName() {
+        return packageName + "." + dispatcherClassName;
+    }
+
     /**
      * Returns the fully qualified class name of the generated registry.
      *
@@ -0,0 +1,772 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.processor;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles {@code @Subscribe(filter = "...")} expressions into plain Java boolean
+ * expressions at annotation-processing time.
+ *
+ * <p>The generated expression reads properties through direct getter calls on a
+ * variable named {@code event}, so the registry can emit it as the body of a
+ * non-capturing {@code Predicate}. No regex matching, value parsing, boxing of
+ * primitive properties or reflective lookup happens when events are published.</p>
+ *
+ * <h2>Grammar</h2>
+ * <pre>
+ * expression := or
+ * or         := and ( '||' and )*
+ * and        := unary ( '&amp;&amp;' unary )*
+ * unary      := '!' unary | primary
+ * primary    := '(' expression ')' | operand [ op operand ]
+ * operand    := path | 'string' | "string" | number | true | false | null
+ * path       := [ 'event' '.' ] identifier ( '.' identifier )*
+ * op         := '==' | '!=' | '&gt;' | '&gt;=' | '&lt;' | '&lt;='
+ * </pre>
+ *
+ * <p>Each path segment resolves to a public no-argument {@code getX()},
+ * {@code isX()} or record-style {@code x()} accessor. A property whose value (or
+ * any intermediate value of a nested path) is {@code null} never matches, except
+ * in explicit {@code == null} comparisons. Enum properties are compared against
+ * constant names, which are checked at compile time.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * "event.amount > 1000 && (event.customer.tier == 'GOLD' || !event.internal)"
+ * // compiles to
+ * ((event.getAmount() > 1000 && (event.getCustomer() != null
+ *         && event.getCustomer().getTier() == Tier.GOLD || !event.isInternal())))
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class FilterExpressionCompiler {
+
+    /** Name of the variable the generated expression reads from. */
+    public static final String EVENT_VARIABLE = "event";
+
+    /** Getter chain such as {@code event.getCustomer().isActive()}. */
+    private static final Pattern SIMPLE_OPERAND = Pattern.compile("[\\w$]+(\\.[\\w$]+(\\(\\))?)*");
+
+    private final Elements elementUtils;
+    private final Types typeUtils;
+
+    /**
+     * Thrown when a filter expression is syntactically invalid or does not
+     * type-check against the subscribed event type.
+     */
+    public static final class FilterCompilationException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final int position;
+
+        FilterCompilationException(String message, int position) {
+            super(position >= 0 ? message + " at position " + position : message);
+            this.position = position;
+        }
+
+        /**
+         * Returns the zero-based position in the expression where the error was
+         * detected, or {@code -1} if it applies to the whole expression.
+         *
+         * @return the error position
+         */
+        public int getPosition() {
+            return position;
+        }
+    }
+
+    public FilterExpressionCompiler(Elements elementUtils, Types typeUtils) {
+        this.elementUtils = elementUtils;
+        this.typeUtils = typeUtils;
+    }
+
+    /**
+     * Compiles a filter expression for the given event type.
+     *
+     * @param expression the filter expression from {@code @Subscribe(filter)}
+     * @param eventType the declared type of the subscriber parameter
+     * @return a boolean Java expression over the {@value #EVENT_VARIABLE} variable
+     * @throws FilterCompilationException if the expression is invalid
+     */
+    public CodeBlock compile(String expression, DeclaredType eventType) throws FilterCompilationException {
+        if (expression == null || expression.trim().isEmpty()) {
+            throw new FilterCompilationException("Filter expression is empty", -1);
+        }
+        Parser parser = new Parser(tokenize(expression), eventType);
+        CodeBlock code = parser.parseExpression();
+        parser.expect(TokenType.EOF);
+        return code;
+    }
+
+    /**
+     * Compiles a property path into a value expression, as used by
+     * {@code @Subscribe(orderingKey)}.
+     *
+     * <p>Nested paths are null-guarded: the expression yields {@code null} when
+     * an intermediate value is {@code null}. Primitive values are boxed by the
+     * caller's context.</p>
+     *
+     * @param path the property path, e.g. {@code "event.order.id"}
+     * @param eventType the declared type of the subscriber parameter
+     * @return a Java expression over the {@value #EVENT_VARIABLE} variable
+     * @throws FilterCompilationException if the path is invalid
+     */
+    public CodeBlock compilePath(String path, DeclaredType eventType) throws FilterCompilationException {
+        if (path == null || path.trim().isEmpty()) {
+            throw new FilterCompilationException("Property path is empty", -1);
+        }
+        Parser parser = new Parser(tokenize(path), eventType);
+        Operand operand = parser.parsePath(parser.expect(TokenType.IDENTIFIER));
+        parser.expect(TokenType.EOF);
+        if (operand.guards.isEmpty()) {
+            return operand.code;
+        }
+        return CodeBlock.of("$L ? $L : null", parser.conjunction(operand.guards), operand.code);
+    }
+
+    // ==================== Tokenizer ====================
+
+    enum TokenType {
+        IDENTIFIER, STRING, NUMBER, DOT, LPAREN, RPAREN, AND, OR, NOT, OPERATOR, EOF
+    }
+
+    static final class Token {
+        final TokenType type;
+        final String text;
+        final int position;
+
+        Token(TokenType type, String text, int position) {
+            this.type = type;
+            this.text = text;
+            this.position = position;
+        }
+
+        @Override
+        public String toString() {
+            return type == TokenType.EOF ? "end of expression" : "'" + text + "'";
+        }
+    }
+
+    static List<Token> tokenize(String expression) throws FilterCompilationException {
+        List<Token> tokens = new ArrayList<>();
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            if (Character.isJavaIdentifierStart(c)) {
+                while (i < length && Character.isJavaIdentifierPart(expression.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.IDENTIFIER, expression.substring(start, i), start));
+            } else if (Character.isDigit(c)
+                    || (c == '-' && i + 1 < length && Character.isDigit(expression.charAt(i + 1)))) {
+                i++;
+                boolean decimal = false;
+                while (i < length) {
+                    char d = expression.charAt(i);
+                    if (d == '.' && !decimal && i + 1 < length && Character.isDigit(expression.charAt(i + 1))) {
+                        decimal = true;
+                    } else if (!Character.isDigit(d)) {
+                        break;
+                    }
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, expression.substring(start, i), start));
+            } else if (c == '\'' || c == '"') {
+                int end = expression.indexOf(c, i + 1);
+                if (end < 0) {
+                    throw new FilterCompilationException("Unterminated string literal", start);
+                }
+                tokens.add(new Token(TokenType.STRING, expression.substring(i + 1, end), start));
+                i = end + 1;
+            } else if (c == '.') {
+                tokens.add(new Token(TokenType.DOT, ".", start));
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LPAREN, "(", start));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RPAREN, ")", start));
+                i++;
+            } else if (expression.startsWith("&&", i)) {
+                tokens.add(new Token(TokenType.AND, "&&", start));
+                i += 2;
+            } else if (expression.startsWith("||", i)) {
+                tokens.add(new Token(TokenType.OR, "||", start));
+                i += 2;
+            } else if (expression.startsWith("==", i) || expression.startsWith("!=", i)
+                    || expression.startsWith(">=", i) || expression.startsWith("<=", i)) {
+                tokens.add(new Token(TokenType.OPERATOR, expression.substring(i, i + 2), start));
+                i += 2;
+            } else if (c == '>' || c == '<') {
+                tokens.add(new Token(TokenType.OPERATOR, String.valueOf(c), start));
+                i++;
+            } else if (c == '!') {
+                tokens.add(new Token(TokenType.NOT, "!", start));
+                i++;
+            } else {
+                throw new FilterCompilationException("Unexpected character '" + c + "'", start);
+            }
+        }
+        tokens.add(new Token(TokenType.EOF, "", length));
+        return tokens;
+    }
+
+    // ==================== Operands ====================
+
+    /**
+     * Type category of an operand, as far as comparisons are concerned.
+     */
+    private enum Kind {
+        BOOLEAN, BOXED_BOOLEAN, NUMBER, BOXED_NUMBER, STRING, ENUM, OBJECT,
+        STRING_LITERAL, NUMBER_LITERAL, BOOLEAN_LITERAL, NULL_LITERAL;
+
+        boolean isLiteral() {
+            return ordinal() >= STRING_LITERAL.ordinal();
+        }
+
+        boolean isNullable() {
+            return this == BOXED_BOOLEAN || this == BOXED_NUMBER || this == STRING
+                    || this == ENUM || this == OBJECT;
+        }
+
+        boolean isNumeric() {
+            return this == NUMBER || this == BOXED_NUMBER || this == NUMBER_LITERAL;
+        }
+
+        boolean isBoolean() {
+            return this == BOOLEAN || this == BOXED_BOOLEAN || this == BOOLEAN_LITERAL;
+        }
+    }
+
+    private static final class Operand {
+        final Kind kind;
+        final CodeBlock code;
+        /** Non-null checks required before {@link #code} may be evaluated. */
+        final List<CodeBlock> guards;
+        final TypeMirror type;
+        final String text;
+        final int position;
+
+        Operand(Kind kind, CodeBlock code, List<CodeBlock> guards, TypeMirror type, String text, int position) {
+            this.kind = kind;
+            this.code = code;
+            this.guards = guards;
+            this.type = type;
+            this.text = text;
+            this.position = position;
+        }
+
+        static Operand literal(Kind kind, CodeBlock code, String text, int position) {
+            return new Operand(kind, code, List.of(), null, text, position);
+        }
+    }
+
+    // ==================== Parser / code generator ====================
+
+    private final class Parser {
+        private final List<Token> tokens;
+        private final DeclaredType eventType;
+        private int index;
+
+        Parser(List<Token> tokens, DeclaredType eventType) {
+            this.tokens = tokens;
+            this.eventType = eventType;
+        }
+
+        CodeBlock parseExpression() throws FilterCompilationException {
+            CodeBlock left = parseAnd();
+            while (peek().type == TokenType.OR) {
+                index++;
+                CodeBlock right = parseAnd();
+                left = CodeBlock.of("($L || $L)", left, right);
+            }
+            return left;
+        }
+
+        private CodeBlock parseAnd() throws FilterCompilationException {
+            CodeBlock left = parseUnary();
+            while (peek().type == TokenType.AND) {
+                index++;
+                CodeBlock right = parseUnary();
+                left = CodeBlock.of("($L && $L)", left, right);
+            }
+            return left;
+        }
+
+        private CodeBlock parseUnary() throws FilterCompilationException {
+            if (peek().type == TokenType.NOT) {
+                index++;
+                CodeBlock operand = parseUnary();
+                // A bare comparison binds looser than '!', so it must be negated as a whole
+                return isAtomic(operand.toString())
+                        ? CodeBlock.of("!$L", operand)
+                        : CodeBlock.of("!($L)", operand);
+            }
+            return parsePrimary();
+        }
+
+        /**
+         * Returns whether the generated code is a getter chain or a parenthesized
+         * group, both of which can be negated without extra parentheses.
+         */
+        private boolean isAtomic(String code) {
+            if (SIMPLE_OPERAND.matcher(code).matches()) {
+                return true;
+            }
+            if (code.isEmpty() || code.charAt(0) != '(') {
+                return false;
+            }
+            int depth = 0;
+            boolean inString = false;
+            for (int i = 0; i < code.length(); i++) {
+                char c = code.charAt(i);
+                if (inString) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')' && --depth == 0 && i < code.length() - 1) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private CodeBlock parsePrimary() throws FilterCompilationException {
+            if (peek().type == TokenType.LPAREN) {
+                index++;
+                CodeBlock inner = parseExpression();
+                expect(TokenType.RPAREN);
+                return inner;
+            }
+            Operand left = parseOperand();
+            if (peek().type == TokenType.OPERATOR) {
+                Token operator = next();
+                Operand right = parseOperand();
+                return compare(left, operator, right);
+            }
+            return truthy(left);
+        }
+
+        private Operand parseOperand() throws FilterCompilationException {
+            Token token = next();
+            switch (token.type) {
+                case STRING:
+                    return Operand.literal(Kind.STRING_LITERAL, CodeBlock.of("$S", token.text),
+                            token.text, token.position);
+                case NUMBER:
+                    return Operand.literal(Kind.NUMBER_LITERAL, numberLiteral(token),
+                            token.text, token.position);
+                case IDENTIFIER:
+                    if ("true".equals(token.text) || "false".equals(token.text)) {
+                        return Operand.literal(Kind.BOOLEAN_LITERAL, CodeBlock.of("$L", token.text),
+                                token.text, token.position);
+                    }
+                    if ("null".equals(token.text)) {
+                        return Operand.literal(Kind.NULL_LITERAL, CodeBlock.of("null"),
+                                token.text, token.position);
+                    }
+                    return parsePath(token);
+                default:
+                    throw new FilterCompilationException("Unexpected " + token, token.position);
+            }
+        }
+
+        private CodeBlock numberLiteral(Token token) throws FilterCompilationException {
+            String text = token.text;
+            if (text.indexOf('.') >= 0) {
+                return CodeBlock.of("$L", text);
+            }
+            try {
+                long value = Long.parseLong(text);
+                return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE
+                        ? CodeBlock.of("$L", text)
+                        : CodeBlock.of("$LL", text);
+            } catch (NumberFormatException e) {
+                throw new FilterCompilationException("Numeric literal out of range: " + text, token.position);
+            }
+        }
+
+        private Operand parsePath(Token first) throws FilterCompilationException {
+            Token segment = first;
+            if (EVENT_VARIABLE.equals(first.text)) {
+                expect(TokenType.DOT);
+                segment = expect(TokenType.IDENTIFIER);
+            }
+
+            CodeBlock code = CodeBlock.of("$N", EVENT_VARIABLE);
+            TypeMirror type = eventType;
+            StringBuilder text = new StringBuilder(EVENT_VARIABLE);
+            List<CodeBlock> guards = new ArrayList<>();
+            while (true) {
+                if (type.getKind() != TypeKind.DECLARED) {
+                    throw new FilterCompilationException("Cannot access property '" + segment.text +
+                            "' of " + text + " (type " + type + ")", segment.position);
+                }
+                if (text.length() > EVENT_VARIABLE.length()) {
+                    guards.add(CodeBlock.of("$L != null", code));
+                }
+                DeclaredType owner = (DeclaredType) type;
+                ExecutableElement accessor = findAccessor(owner, segment.text);
+                if (accessor == null) {
+                    throw new FilterCompilationException("No public accessor for property '" + segment.text +
+                            "' on " + owner.asElement().getSimpleName(), segment.position);
+                }
+                code = CodeBlock.of("$L.$N()", code, accessor.getSimpleName().toString());
+                type = resolve(((ExecutableType) typeUtils.asMemberOf(owner, accessor)).getReturnType());
+                text.append('.').append(segment.text);
+
+                if (peek().type != TokenType.DOT) {
+                    break;
+                }
+                index++;
+                segment = expect(TokenType.IDENTIFIER);
+            }
+            return new Operand(classify(type), code, guards, type, text.toString(), first.position);
+        }
+
+        private TypeMirror resolve(TypeMirror type) {
+            if (type.getKind() == TypeKind.TYPEVAR) {
+                return resolve(((TypeVariable) type).getUpperBound());
+            }
+            return type;
+        }
+
+        private ExecutableElement findAccessor(DeclaredType owner, String property) {
+            String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+            ExecutableElement getter = null;
+            ExecutableElement isGetter = null;
+            ExecutableElement plain = null;
+            for (Element member : elementUtils.getAllMembers((TypeElement) owner.asElement())) {
+                if (member.getKind() != ElementKind.METHOD
+                        || !member.getModifiers().contains(Modifier.PUBLIC)
+                        || member.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                ExecutableElement method = (ExecutableElement) member;
+                if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                    continue;
+                }
+                String name = method.getSimpleName().toString();
+                if (name.equals("get" + suffix)) {
+                    getter = method;
+                } else if (name.equals("is" + suffix) && classify(method.getReturnType()).isBoolean()) {
+                    isGetter = method;
+                } else if (name.equals(property)) {
+                    plain = method;
+                }
+            }
+            return getter != null ? getter : isGetter != null ? isGetter : plain;
+        }
+
+        private Kind classify(TypeMirror type) {
+            switch (type.getKind()) {
+                case BOOLEAN:
+                    return Kind.BOOLEAN;
+                case BYTE:
+                case SHORT:
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                case CHAR:
+                    return Kind.NUMBER;
+                case DECLARED:
+                    break;
+                default:
+                    return Kind.OBJECT;
+            }
+            TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+            if (element.getKind() == ElementKind.ENUM) {
+                return Kind.ENUM;
+            }
+            String name = element.getQualifiedName().toString();
+            if (name.equals("java.lang.String")) {
+                return Kind.STRING;
+            }
+            if (name.equals("java.lang.Boolean")) {
+                return Kind.BOXED_BOOLEAN;
+            }
+            try {
+                typeUtils.unboxedType(type);
+                return Kind.BOXED_NUMBER;
+            } catch (IllegalArgumentException notBoxed) {
+                return Kind.OBJECT;
+            }
+        }
+
+        private CodeBlock truthy(Operand operand) throws FilterCompilationException {
+            switch (operand.kind) {
+                case BOOLEAN_LITERAL:
+                    return operand.code;
+                case BOOLEAN:
+                    return guarded(operand.guards, operand.code);
+                case BOXED_BOOLEAN:
+                    return guarded(withNonNull(operand), operand.code);
+                default:
+                    throw new FilterCompilationException("'" + operand.text +
+                            "' is not a boolean; expected a comparison", operand.position);
+            }
+        }
+
+        private CodeBlock compare(Operand left, Token operator, Operand right) throws FilterCompilationException {
+            String op = operator.text;
+            if (left.kind.isLiteral() && !right.kind.isLiteral()) {
+                Operand swap = left;
+                left = right;
+                right = swap;
+                op = mirror(op);
+            }
+            if (left.kind.isLiteral()) {
+                throw new FilterCompilationException("Comparison between two literals", left.position);
+            }
+            boolean equality = op.equals("==") || op.equals("!=");
+
+            if (right.kind == Kind.NULL_LITERAL) {
+                requireEquality(equality, left, operator);
+                if (!left.kind.isNullable()) {
+                    throw new FilterCompilationException("'" + left.text + "' of primitive type " +
+                            left.type + " cannot be null", right.position);
+                }
+                if (op.equals("==")) {
+                    if (left.guards.isEmpty()) {
+                        return CodeBlock.of("$L == null", left.code);
+                    }
+                    return CodeBlock.of("(!$L || $L == null)", conjunction(left.guards), left.code);
+                }
+                return guarded(withNonNull(left), null);
+            }
+
+            switch (left.kind) {
+                case BOOLEAN:
+                case BOXED_BOOLEAN:
+                    if (!right.kind.isBoolean()) {
+                        throw typeMismatch(left, right);
+                    }
+                    requireEquality(equality, left, operator);
+                    return relation(left, op, right);
+                case NUMBER:
+                case BOXED_NUMBER:
+                    if (!right.kind.isNumeric()) {
+                        throw typeMismatch(left, right);
+                    }
+                    return relation(left, op, right);
+                case STRING:
+                    if (right.kind != Kind.STRING_LITERAL && right.kind != Kind.STRING) {
+                        throw typeMismatch(left, right);
+                    }
+                    return compareStrings(left, op, right);
+                case ENUM:
+                    requireEquality(equality, left, operator);
+                    return compareEnum(left, op, right);
+                default:
+                    throw new FilterCompilationException("'" + left.text + "' of type " + left.type +
+                            " only supports comparisons with null", left.position);
+            }
+        }
+
+        private CodeBlock relation(Operand left, String op, Operand right) {
+            List<CodeBlock> guards = withNonNull(left);
+            if (!right.kind.isLiteral()) {
+                guards.addAll(withNonNull(right));
+            }
+            CodeBlock leftCode = left.code;
+            if (isBoxed(left.kind) && isBoxed(right.kind)) {
+                // Unbox one side so == compares values rather than references, also across box types
+                leftCode = CodeBlock.of("$L.$LValue()", left.code, typeUtils.unboxedType(left.type));
+            }
+            return guarded(guards, CodeBlock.of("$L $L $L", leftCode, op, right.code));
+        }
+
+        private boolean isBoxed(Kind kind) {
+            return kind == Kind.BOXED_NUMBER || kind == Kind.BOXED_BOOLEAN;
+        }
+
+        private CodeBlock compareStrings(Operand left, String op, Operand right) {
+            List<CodeBlock> guards = withNonNull(left);
+            if (right.kind == Kind.STRING) {
+                guards.addAll(withNonNull(right));
+            }
+            CodeBlock test;
+            switch (op) {
+                case "==":
+                    test = CodeBlock.of("$L.equals($L)", left.code, right.code);
+                    break;
+                case "!=":
+                    test = CodeBlock.of("!$L.equals($L)", left.code, right.code);
+                    break;
+                default:
+                    test = CodeBlock.of("$L.compareTo($L) $L 0", left.code, right.code, op);
+                    break;
+            }
+            return guarded(guards, test);
+        }
+
+        private CodeBlock compareEnum(Operand left, String op, Operand right) throws FilterCompilationException {
+            CodeBlock constant;
+            if (right.kind == Kind.STRING_LITERAL) {
+                TypeElement enumType = (TypeElement) ((DeclaredType) left.type).asElement();
+                boolean found = false;
+                for (Element member : enumType.getEnclosedElements()) {
+                    if (member.getKind() == ElementKind.ENUM_CONSTANT
+                            && member.getSimpleName().contentEquals(right.text)) {
+                        found = true;
+                        break;
+                    }
+                }
+                if (!found) {
+                    throw new FilterCompilationException("'" + right.text + "' is not a constant of " +
+                            enumType.getQualifiedName(), right.position);
+                }
+                constant = CodeBlock.of("$T.$N", ClassName.get(enumType), right.text);
+            } else if (right.kind == Kind.ENUM && typeUtils.isSameType(
+                    typeUtils.erasure(left.type), typeUtils.erasure(right.type))) {
+                constant = right.code;
+            } else {
+                throw typeMismatch(left, right);
+            }
+            if (op.equals("==")) {
+                List<CodeBlock> guards = new ArrayList<>(left.guards);
+                if (right.kind == Kind.ENUM) {
+                    guards.addAll(withNonNull(right));
+                }
+                return guarded(guards, CodeBlock.of("$L == $L", left.code, constant));
+            }
+            List<CodeBlock> guards = withNonNull(left);
+            if (right.kind == Kind.ENUM) {
+                guards.addAll(withNonNull(right));
+            }
+            return guarded(guards, CodeBlock.of("$L != $L", left.code, constant));
+        }
+
+        private List<CodeBlock> withNonNull(Operand operand) {
+            List<CodeBlock> guards = new ArrayList<>(operand.guards);
+            if (operand.kind.isNullable()) {
+                guards.add(CodeBlock.of("$L != null", operand.code));
+            }
+            return guards;
+        }
+
+        private CodeBlock guarded(List<CodeBlock> guards, CodeBlock test) {
+            List<CodeBlock> parts = new ArrayList<>(guards);
+            if (test != null) {
+                parts.add(test);
+            }
+            return parts.size() == 1 ? parts.get(0) : CodeBlock.of("($L)", CodeBlock.join(parts, " && "));
+        }
+
+        private CodeBlock conjunction(List<CodeBlock> parts) {
+            return CodeBlock.of("($L)", CodeBlock.join(parts, " && "));
+        }
+
+        private void requireEquality(boolean equality, Operand left, Token operator) throws FilterCompilationException {
+            if (!equality) {
+                throw new FilterCompilationException("Operator '" + operator.text + "' is not applicable to '" +
+                        left.text + "'", operator.position);
+            }
+        }
+
+        private FilterCompilationException typeMismatch(Operand left, Operand right) {
+            String rightDescription = right.kind.isLiteral()
+                    ? "literal " + right.text
+                    : "'" + right.text + "' (type " + right.type + ")";
+            return new FilterCompilationException("Cannot compare '" + left.text + "' (type " + left.type +
+                    ") with " + rightDescription, right.position);
+        }
+
+        private String mirror(String op) {
+            switch (op) {
+                case ">":
+                    return "<";
+                case "<":
+                    return ">";
+                case ">=":
+                    return "<=";
+                case "<=":
+                    return ">=";
+                default:
+                    return op;
+            }
+        }
+
+        private Token peek() {
+            return tokens.get(index);
+        }
+
+        private Token next() {
+            Token token = tokens.get(index);
+            if (token.type != TokenType.EOF) {
+                index++;
+            }
+            return token;
+        }
+
+        Token expect(TokenType type) throws FilterCompilationException {
+            Token token = peek();
+            if (token.type != type) {
+                throw new FilterCompilationException("Expected " + describe(type) + " but found " + token,
+                        token.position);
+            }
+            return next();
+        }
+
+        private String describe(TokenType type) {
+            switch (type) {
+                case IDENTIFIER:
+                    return "a property name";
+                case DOT:
+                    return "'.'";
+                case RPAREN:
+                    return "')'";
+                case EOF:
+                    return "end of expression";
+                default:
+                    return type.name().toLowerCase();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package io.github.yasmramos.veld.processor;
 
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.JavaFile;
 import io.github.yasmramos.veld.annotation.*;
 import io.github.yasmramos.veld.processor.AnnotationHelper.InjectSource;
@@ -108,6 +109,7 @@ public class VeldProcessor extends AbstractProcessor {
     private Filer filer;
     private Elements elementUtils;
     private Types typeUtils;
+    private FilterExpressionCompiler filterCompiler;
     
     private final List<ComponentInfo> discoveredComponents = new ArrayList<>();
     private final DependencyGraph dependencyGraph = new DependencyGraph();
@@ -154,6 +156,7 @@ public class VeldProcessor extends AbstractProcessor {
         this.filer = processingEnv.getFiler();
         this.elementUtils = processingEnv.getElementUtils();
         this.typeUtils = processingEnv.getTypeUtils();
+        this.filterCompiler = new FilterExpressionCompiler(elementUtils, typeUtils);
         
         // Initialize options manager
         this.options = VeldOptions.create(processingEnv);
@@ -2114,6 +2117,10 @@ public class VeldProcessor extends AbstractProcessor {
             JavaFile javaFile = generator.generate();
             writeJavaSource(javaFile);
             note("Generated EventRegistry with " + eventSubscriptions.size() + " event handlers");
+            if (generator.hasDirectSubscriptions()) {
+                writeJavaSource(generator.generateDispatcher());
+                note("Generated EventDispatcher " + generator.getDispatcherClassName());
+            }
         } catch (IOException e) {
             error(null, "Failed to generate EventRegistry: " + e.getMessage());
         }
@@ -2329,6 +2336,46 @@ public class VeldProcessor extends AbstractProcessor {
                     boolean async = subAnn != null && subAnn.async();
                     int priority = subAnn != null ? subAnn.priority() : 0;
 
+                    // Compile the filter expression into a direct getter-based predicate
+                    String filterExpression = subAnn != null ? subAnn.filter().trim() : "";
+                    CodeBlock filter = null;
+                    if (!filterExpression.isEmpty()) {
+                        if (param.asType().getKind() != TypeKind.DECLARED) {
+                            error(method, "@Subscribe filter requires a class event parameter, found " +
+                                    param.asType());
+                            continue;
+                        }
+                        try {
+                            filter = filterCompiler.compile(filterExpression, (DeclaredType) param.asType());
+                        } catch (FilterExpressionCompiler.FilterCompilationException e) {
+                            error(method, "Invalid @Subscribe filter \"" + filterExpression + "\": " + e.getMessage());
+                            continue;
+                        }
+                    }
+
+                    // Async delivery settings; the ordering key compiles to a direct getter chain
+                    io.github.yasmramos.veld.annotation.Subscribe.AsyncMode asyncMode = subAnn != null
+                        ? subAnn.asyncMode() : io.github.yasmramos.veld.annotation.Subscribe.AsyncMode.EXECUTOR;
+                    String orderingKeyExpression = subAnn != null ? subAnn.orderingKey().trim() : "";
+                    CodeBlock orderingKey = null;
+                    if (!async && (asyncMode != io.github.yasmramos.veld.annotation.Subscribe.AsyncMode.EXECUTOR
+                            || !orderingKeyExpression.isEmpty())) {
+                        warning(method, "@Subscribe asyncMode and orderingKey have no effect unless async = true");
+                    } else if (!orderingKeyExpression.isEmpty()) {
+                        if (param.asType().getKind() != TypeKind.DECLARED) {
+                            error(method, "@Subscribe orderingKey requires a class event parameter, found " +
+                                    param.asType());
+                            continue;
+                        }
+                        try {
+                            orderingKey = filterCompiler.compilePath(orderingKeyExpression, (DeclaredType) param.asType());
+                        } catch (FilterExpressionCompiler.FilterCompilationException e) {
+                            error(method, "Invalid @Subscribe orderingKey \"" + orderingKeyExpression + "\": " +
+                                    e.getMessage());
+                            continue;
+                        }
+                    }
+
                     // Collect subscription info for code generation
                     EventRegistryGenerator.SubscriptionInfo subscription =
                         new EventRegistryGenerator.SubscriptionInfo(
@@ -2338,7 +2385,12 @@ public class VeldProcessor extends AbstractProcessor {
                             eventTypeName,
                             eventId,
                             async,
-                            priority
+                            priority,
+                            filter != null ? filterExpression : null,
+                            filter,
+                            asyncMode,
+                            orderingKey != null ? orderingKeyExpression : null,
+                            orderingKey
                         );
                     eventSubscriptions.add(subscription);
 
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.processor;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import io.github.yasmramos.veld.annotation.EventRegistrationSPI;
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link EventRegistryGenerator}.
+ * The generated registry and dispatcher are compiled and run against the real {@code EventBus}.
+ */
+@DisplayName("EventRegistryGenerator Tests")
+class EventRegistryGeneratorTest {
+
+    private static final String ORDER_EVENT = "package test;\n" +
+            "public class OrderEvent extends io.github.yasmramos.veld.runtime.event.Event {\n" +
+            "    private final int amount;\n" +
+            "    public OrderEvent(int amount) { this.amount = amount; }\n" +
+            "    public int getAmount() { return amount; }\n" +
+            "}\n";
+
+    private static final String AUDITOR = "package test;\n" +
+            "public class Auditor {\n" +
+            "    public final java.util.List<String> calls;\n" +
+            "    public Auditor(java.util.List<String> calls) { this.calls = calls; }\n" +
+            "    public void onOrder(OrderEvent event) { calls.add(\"audit:\" + event.getAmount()); }\n" +
+            "    public void onLarge(OrderEvent event) { calls.add(\"large:\" + event.getAmount()); }\n" +
+            "    public void onAsync(OrderEvent event) { }\n" +
+            "}\n";
+
+    private static final String BILLING = "package test;\n" +
+            "public class Billing {\n" +
+            "    public final java.util.List<String> calls;\n" +
+            "    public Billing(java.util.List<String> calls) { this.calls = calls; }\n" +
+            "    public void onOrder(OrderEvent event) { calls.add(\"billing:\" + event.getAmount()); }\n" +
+            "}\n";
+
+    private static final int ORDER_ID = EventRegistryGenerator.computeEventId("test.OrderEvent");
+
+    @TempDir
+    Path outputDir;
+
+    @AfterEach
+    void tearDown() {
+        EventBus.getInstance().clear();
+    }
+
+    @Test
+    @DisplayName("Should generate one method per event type in priority order")
+    void shouldGenerateDirectMethods() {
+        String code = newGenerator(true).generateDispatcher().toString();
+
+        assertTrue(code.contains("public int onOrderEvent(OrderEvent event)"), code);
+        assertTrue(code.contains("public int onOrderEvent(OrderEvent event, int minPriority, int maxPriority)"), code);
+        assertTrue(code.contains("if (minPriority <= 10 && 10 <= maxPriority)"), code);
+        assertFalse(code.contains("static volatile"), code);
+        assertTrue(code.contains("case " + ORDER_ID + ":"), code);
+        assertTrue(code.indexOf("c0.onLarge(event)") < code.indexOf("c1.onOrder(event)"), code);
+        assertTrue(code.indexOf("c1.onOrder(event)") < code.indexOf("c0.onOrder(event)"), code);
+        assertTrue(code.contains("if (c0 != null && (event.getAmount() > 100))"), code);
+        assertFalse(code.contains("onAsync"), code);
+    }
+
+    @Test
+    @DisplayName("Should skip the dispatcher when every subscriber is async")
+    void shouldSkipDispatcherForAsyncOnly() {
+        EventRegistryGenerator generator = new EventRegistryGenerator(List.of(
+                subscription("Auditor", "onAsync", true, 0, null)));
+
+        assertFalse(generator.hasDirectSubscriptions());
+        assertFalse(generator.generate().toString().contains("VeldEventDispatcher"));
+    }
+
+    @Test
+    @DisplayName("Should deliver through the generated dispatcher and fall back for extra instances")
+    void shouldDispatchDirectly() throws Exception {
+        // Channel registration needs a non-negative ID, so the async subscriber is left out here
+        EventRegistryGenerator generator = newGenerator(false);
+        ClassLoader loader = compile(generator.generate(), generator.generateDispatcher());
+        EventRegistrationSPI registry = (EventRegistrationSPI) loader
+                .loadClass(generator.getClassName()).getDeclaredConstructor().newInstance();
+        Class<?> eventType = loader.loadClass("test.OrderEvent");
+
+        List<String> calls = new ArrayList<>();
+        Object auditor = loader.loadClass("test.Auditor").getConstructor(List.class).newInstance(calls);
+        Object billing = loader.loadClass("test.Billing").getConstructor(List.class).newInstance(calls);
+        EventBus bus = EventBus.getInstance();
+        registry.registerEvents(bus, auditor);
+        registry.registerEvents(bus, billing);
+
+        assertNotNull(bus.getGeneratedDispatcher());
+        assertEquals(generator.getDispatcherClassName(), bus.getGeneratedDispatcher().getClass().getName());
+        assertEquals(3, bus.publish(ORDER_ID, eventType.getConstructor(int.class).newInstance(500)));
+        assertEquals(2, bus.publish(ORDER_ID, eventType.getConstructor(int.class).newInstance(50)));
+        assertEquals(0, bus.publish(ORDER_ID, "not an order"));
+        assertEquals(List.of("large:500", "billing:500", "audit:500", "billing:50", "audit:50"), calls);
+
+        calls.clear();
+        bus.unregister(billing);
+        assertEquals(1, bus.publish(ORDER_ID, eventType.getConstructor(int.class).newInstance(50)));
+        assertEquals(List.of("audit:50"), calls);
+
+        // A second Auditor cannot take the bound slot, so the registry falls back to the channel for it
+        Class<?> dispatcherType = loader.loadClass(generator.getDispatcherClassName());
+        Class<?> auditorType = loader.loadClass("test.Auditor");
+        Object second = auditorType.getConstructor(List.class).newInstance(calls);
+        Object dispatcher = dispatcherType.getMethod("forBus", EventBus.class).invoke(null, bus);
+        assertSame(bus.getGeneratedDispatcher(), dispatcher);
+        Method bind = dispatcherType.getMethod("bind", auditorType);
+        assertEquals(false, bind.invoke(dispatcher, second));
+        assertEquals(true, bind.invoke(dispatcher, auditor));
+    }
+
+    @Test
+    @DisplayName("Should bind components to a fresh dispatcher once the bus is cleared")
+    void shouldBindPerBus() throws Exception {
+        EventRegistryGenerator generator = newGenerator(false);
+        ClassLoader loader = compile(generator.generate(), generator.generateDispatcher());
+        EventRegistrationSPI registry = (EventRegistrationSPI) loader
+                .loadClass(generator.getClassName()).getDeclaredConstructor().newInstance();
+        Class<?> eventType = loader.loadClass("test.OrderEvent");
+        List<String> calls = new ArrayList<>();
+        Class<?> auditorType = loader.loadClass("test.Auditor");
+        EventBus bus = EventBus.getInstance();
+
+        registry.registerEvents(bus, auditorType.getConstructor(List.class).newInstance(calls));
+        Object first = bus.getGeneratedDispatcher();
+        bus.clear();
+        assertNull(bus.getGeneratedDispatcher());
+
+        // The replacement instance is bound to a new dispatcher, not refused by the old one's slot
+        Object replacement = auditorType.getConstructor(List.class).newInstance(calls);
+        registry.registerEvents(bus, replacement);
+        assertNotNull(bus.getGeneratedDispatcher());
+        assertNotSame(first, bus.getGeneratedDispatcher());
+        assertEquals(1, bus.publish(ORDER_ID, eventType.getConstructor(int.class).newInstance(50)));
+        assertEquals(List.of("audit:50"), calls);
+    }
+
+    private EventRegistryGenerator newGenerator(boolean withAsync) {
+        CodeBlock large = CodeBlock.of("event.getAmount() > 100");
+        List<EventRegistryGenerator.SubscriptionInfo> subscriptions = new ArrayList<>(List.of(
+                subscription("Auditor", "onOrder", false, 0, null),
+                subscription("Auditor", "onLarge", false, 10, large),
+                subscription("Billing", "onOrder", false, 5, null)));
+        if (withAsync) {
+            subscriptions.add(subscription("Auditor", "onAsync", true, 0, null));
+        }
+        return new EventRegistryGenerator(subscriptions);
+    }
+
+    private static EventRegistryGenerator.SubscriptionInfo subscription(String component, String method,
+                                                                        boolean async, int priority,
+                                                                        CodeBlock filter) {
+        return new EventRegistryGenerator.SubscriptionInfo("test." + component, component, method,
+                "test.OrderEvent", ORDER_ID, async, priority,
+                filter != null ? filter.toString() : null, filter);
+    }
+
+    private ClassLoader compile(JavaFile... generated) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = new ArrayList<>();
+        sources.add(source("test.OrderEvent", ORDER_EVENT));
+        sources.add(source("test.Auditor", AUDITOR));
+        sources.add(source("test.Billing", BILLING));
+        for (JavaFile file : generated) {
+            sources.add(file.toJavaFileObject());
+        }
+
+        boolean success = compiler.getTask(null, null, diagnostics,
+                List.of("-d", outputDir.toString(), "-classpath", System.getProperty("java.class.path")),
+                null, sources).call();
+
+        StringBuilder errors = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.append(diagnostic.getMessage(null)).append('\n');
+            }
+        }
+        assertTrue(success, "Compilation failed:\n" + errors);
+        return new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.processor;
+
+import com.squareup.javapoet.CodeBlock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link FilterExpressionCompiler}.
+ * Expressions are compiled against event types declared in a real javac run.
+ */
+@DisplayName("FilterExpressionCompiler Tests")
+class FilterExpressionCompilerTest {
+
+    private static final String TIER = "package test;\n" +
+            "public enum Tier { BASIC, GOLD }\n";
+
+    private static final String CUSTOMER = "package test;\n" +
+            "public class Customer {\n" +
+            "    private final String name; private final Tier tier;\n" +
+            "    public Customer(String name, Tier tier) { this.name = name; this.tier = tier; }\n" +
+            "    public String getName() { return name; }\n" +
+            "    public Tier getTier() { return tier; }\n" +
+            "}\n";
+
+    private static final String ORDER_EVENT = "package test;\n" +
+            "public class OrderEvent {\n" +
+            "    private final double amount; private final int quantity; private final String type;\n" +
+            "    private final boolean internal; private final Customer customer; private final Integer discount;\n" +
+            "    public OrderEvent(double amount, int quantity, String type, boolean internal,\n" +
+            "                      Customer customer, Integer discount) {\n" +
+            "        this.amount = amount; this.quantity = quantity; this.type = type;\n" +
+            "        this.internal = internal; this.customer = customer; this.discount = discount;\n" +
+            "    }\n" +
+            "    public double getAmount() { return amount; }\n" +
+            "    public int getQuantity() { return quantity; }\n" +
+            "    public String getType() { return type; }\n" +
+            "    public boolean isInternal() { return internal; }\n" +
+            "    public Customer getCustomer() { return customer; }\n" +
+            "    public Integer getDiscount() { return discount; }\n" +
+            "    public long total() { return quantity * 10L; }\n" +
+            "    public Integer getLimit() { return discount == null ? null : Integer.valueOf(discount.intValue()); }\n" +
+            "    public Long getCredit() { return discount == null ? null : discount.longValue(); }\n" +
+            "}\n";
+
+    @TempDir
+    Path outputDir;
+
+    @Nested
+    @DisplayName("Code Generation Tests")
+    class CodeGenerationTests {
+
+        @Test
+        @DisplayName("should call getters directly for numeric comparisons")
+        void shouldCallGettersForNumericComparison() throws Exception {
+            assertEquals("event.getAmount() > 1000", compile("event.amount > 1000"));
+            assertEquals("event.getQuantity() <= 5", compile("quantity <= 5"));
+        }
+
+        @Test
+        @DisplayName("should mirror operator when literal is on the left")
+        void shouldMirrorOperatorForLeftLiteral() throws Exception {
+            assertEquals("event.getAmount() < 10.5", compile("10.5 > event.amount"));
+        }
+
+        @Test
+        @DisplayName("should emit long literal for values outside int range")
+        void shouldEmitLongLiteral() throws Exception {
+            assertEquals("event.total() >= 3000000000L", compile("event.total >= 3000000000"));
+        }
+
+        @Test
+        @DisplayName("should compare strings without toString")
+        void shouldCompareStringsWithEquals() throws Exception {
+            assertEquals("(event.getType() != null && event.getType().equals(\"PREMIUM\"))",
+                    compile("event.type == 'PREMIUM'"));
+        }
+
+        @Test
+        @DisplayName("should use boolean getter as predicate")
+        void shouldUseBooleanGetter() throws Exception {
+            assertEquals("!event.isInternal()", compile("!event.internal"));
+        }
+
+        @Test
+        @DisplayName("should guard nested properties and resolve enum constants")
+        void shouldGuardNestedEnumProperty() throws Exception {
+            assertEquals("(event.getCustomer() != null && event.getCustomer().getTier() == test.Tier.GOLD)",
+                    compile("event.customer.tier == 'GOLD'"));
+        }
+
+        @Test
+        @DisplayName("should combine operators with precedence and parentheses")
+        void shouldCombineOperators() throws Exception {
+            assertEquals("((event.getAmount() > 1 && event.getQuantity() > 2) || !event.isInternal())",
+                    compile("event.amount > 1 && event.quantity > 2 || !event.internal"));
+            assertEquals("(event.getAmount() > 1 && (event.getQuantity() > 2 || !event.isInternal()))",
+                    compile("event.amount > 1 && (event.quantity > 2 || !event.internal)"));
+        }
+
+        @Test
+        @DisplayName("should negate comparisons as a whole")
+        void shouldNegateComparisons() throws Exception {
+            assertEquals("!(event.getAmount() > 5)", compile("!event.amount > 5"));
+            assertEquals("!(event.getCustomer() != null && event.getCustomer().getTier() == test.Tier.GOLD)",
+                    compile("!event.customer.tier == 'GOLD'"));
+            assertEquals("!(event.getDiscount() == null)", compile("!event.discount == null"));
+            assertEquals("!(!event.isInternal())", compile("!!event.internal"));
+        }
+
+        @Test
+        @DisplayName("should unbox one side when comparing two boxed properties")
+        void shouldUnboxBoxedPropertyComparison() throws Exception {
+            assertEquals("(event.getDiscount() != null && event.getLimit() != null"
+                            + " && event.getDiscount().intValue() == event.getLimit())",
+                    compile("event.discount == event.limit"));
+        }
+
+        @Test
+        @DisplayName("should null-check boxed numbers")
+        void shouldNullCheckBoxedNumbers() throws Exception {
+            assertEquals("(event.getDiscount() != null && event.getDiscount() > 0)",
+                    compile("event.discount > 0"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Error Tests")
+    class ErrorTests {
+
+        @Test
+        @DisplayName("should report unknown property")
+        void shouldReportUnknownProperty() {
+            assertTrue(compileError("event.missing > 1").contains("No public accessor for property 'missing'"));
+        }
+
+        @Test
+        @DisplayName("should report syntax errors with position")
+        void shouldReportSyntaxErrors() {
+            assertTrue(compileError("event.amount > ").contains("Unexpected end of expression at position 15"));
+            assertTrue(compileError("(event.amount > 1").contains("Expected ')'"));
+            assertTrue(compileError("event.amount > 1 1").contains("Expected end of expression"));
+            assertTrue(compileError("event.type == 'x").contains("Unterminated string literal"));
+            assertTrue(compileError("event.amount # 1").contains("Unexpected character '#'"));
+        }
+
+        @Test
+        @DisplayName("should report type mismatches")
+        void shouldReportTypeMismatches() {
+            assertTrue(compileError("event.amount == 'big'").contains("Cannot compare 'event.amount'"));
+            assertTrue(compileError("event.type > 5").contains("Cannot compare 'event.type'"));
+            assertTrue(compileError("event.internal > true").contains("Operator '>' is not applicable"));
+            assertTrue(compileError("event.amount").contains("is not a boolean"));
+            assertTrue(compileError("event.quantity == null").contains("cannot be null"));
+        }
+
+        @Test
+        @DisplayName("should report unknown enum constants")
+        void shouldReportUnknownEnumConstant() {
+            assertTrue(compileError("event.customer.tier == 'PLATINUM'")
+                    .contains("'PLATINUM' is not a constant of test.Tier"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Generated Predicate Tests")
+    class GeneratedPredicateTests {
+
+        @Test
+        @DisplayName("should evaluate compiled predicate against events")
+        void shouldEvaluateCompiledPredicate() throws Exception {
+            String expression = "event.amount > 100 && (event.customer.tier == 'GOLD' || event.type == 'VIP')"
+                    + " && !event.internal";
+            ClassLoader loader = compileAndLoad(expression);
+            Predicate<Object> predicate = loadPredicate(loader);
+
+            assertTrue(predicate.test(order(loader, 150, "STD", false, "GOLD")));
+            assertTrue(predicate.test(order(loader, 150, "VIP", false, "BASIC")));
+            assertFalse(predicate.test(order(loader, 150, "STD", false, "BASIC")));
+            assertFalse(predicate.test(order(loader, 50, "VIP", false, "GOLD")));
+            assertFalse(predicate.test(order(loader, 150, "VIP", true, "GOLD")));
+        }
+
+        @Test
+        @DisplayName("should not match when nested or string property is null")
+        void shouldNotMatchNullProperties() throws Exception {
+            ClassLoader loader = compileAndLoad("event.customer.tier == 'GOLD' || event.type != 'STD'");
+            Predicate<Object> predicate = loadPredicate(loader);
+
+            assertFalse(predicate.test(order(loader, 1, null, false, null)));
+            assertTrue(predicate.test(order(loader, 1, "VIP", false, null)));
+        }
+
+        @Test
+        @DisplayName("should match explicit null comparison through nested path")
+        void shouldMatchExplicitNullComparison() throws Exception {
+            ClassLoader loader = compileAndLoad("event.customer.name == null");
+            Predicate<Object> predicate = loadPredicate(loader);
+
+            assertTrue(predicate.test(order(loader, 1, "STD", false, null)));
+            assertFalse(predicate.test(order(loader, 1, "STD", false, "GOLD")));
+        }
+
+        @Test
+        @DisplayName("should evaluate negated comparisons")
+        void shouldEvaluateNegatedComparisons() throws Exception {
+            ClassLoader loader = compileAndLoad("!event.amount > 100 && !event.customer.tier == 'GOLD'"
+                    + " && !event.type == null");
+            Predicate<Object> predicate = loadPredicate(loader);
+
+            assertTrue(predicate.test(order(loader, 50, "STD", false, "BASIC")));
+            assertTrue(predicate.test(order(loader, 50, "STD", false, null)));
+            assertFalse(predicate.test(order(loader, 150, "STD", false, "BASIC")));
+            assertFalse(predicate.test(order(loader, 50, "STD", false, "GOLD")));
+            assertFalse(predicate.test(order(loader, 50, null, false, "BASIC")));
+        }
+
+        @Test
+        @DisplayName("should compare boxed properties by value, also across box types")
+        void shouldCompareBoxedPropertiesByValue() throws Exception {
+            ClassLoader loader = compileAndLoad("event.discount == event.limit && event.discount == event.credit");
+            Predicate<Object> predicate = loadPredicate(loader);
+
+            assertTrue(predicate.test(order(loader, 1, "STD", false, null, 1000)));
+            assertTrue(predicate.test(order(loader, 1, "STD", false, null, 5)));
+            assertFalse(predicate.test(order(loader, 1, "STD", false, null, null)));
+        }
+
+        @SuppressWarnings("unchecked")
+        private Predicate<Object> loadPredicate(ClassLoader loader) throws Exception {
+            return (Predicate<Object>) loader.loadClass("test.Filters").getField("FILTER").get(null);
+        }
+
+        private Object order(ClassLoader loader, double amount, String type, boolean internal, String tier)
+                throws Exception {
+            return order(loader, amount, type, internal, tier, null);
+        }
+
+        private Object order(ClassLoader loader, double amount, String type, boolean internal, String tier,
+                             Integer discount) throws Exception {
+            Object customer = null;
+            if (tier != null) {
+                Class<?> tierClass = loader.loadClass("test.Tier");
+                Method valueOf = tierClass.getMethod("valueOf", String.class);
+                customer = loader.loadClass("test.Customer").getConstructor(String.class, tierClass)
+                        .newInstance("c", valueOf.invoke(null, tier));
+            }
+            Class<?> customerClass = loader.loadClass("test.Customer");
+            Constructor<?> constructor = loader.loadClass("test.OrderEvent").getConstructor(
+                    double.class, int.class, String.class, boolean.class, customerClass, Integer.class);
+            return constructor.newInstance(amount, 1, type, internal, customer, discount);
+        }
+    }
+
+    @Nested
+    @DisplayName("Property Path Tests")
+    class PropertyPathTests {
+
+        @Test
+        @DisplayName("should compile a top-level property to a getter call")
+        void shouldCompileTopLevelProperty() throws Exception {
+            assertEquals("event.getType()", compilePath("event.type"));
+            assertEquals("event.getQuantity()", compilePath("quantity"));
+        }
+
+        @Test
+        @DisplayName("should yield null when an intermediate value is null")
+        void shouldGuardNestedPath() throws Exception {
+            assertEquals("(event.getCustomer() != null) ? event.getCustomer().getName() : null",
+                    compilePath("event.customer.name"));
+        }
+
+        @Test
+        @DisplayName("should reject expressions that are not a single path")
+        void shouldRejectNonPathExpressions() {
+            assertTrue(pathError("event.missing").contains("No public accessor for property 'missing'"));
+            assertTrue(pathError("event.amount > 1").contains("Expected end of expression"));
+            assertTrue(pathError("'literal'").contains("Expected a property name"));
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private String compilePath(String path) {
+        FilterProcessor processor = run(path, false, true);
+        if (processor.error != null) {
+            fail("Unexpected path error: " + processor.error);
+        }
+        return processor.code.toString();
+    }
+
+    private String pathError(String path) {
+        FilterProcessor processor = run(path, false, true);
+        assertNotNull(processor.error, "Expected path error for: " + path);
+        return processor.error;
+    }
+
+    private String compile(String expression) throws Exception {
+        FilterProcessor processor = run(expression, false);
+        if (processor.error != null) {
+            fail("Unexpected filter error: " + processor.error);
+        }
+        return processor.code.toString();
+    }
+
+    private String compileError(String expression) {
+        FilterProcessor processor = run(expression, false);
+        assertNotNull(processor.error, "Expected filter error for: " + expression);
+        return processor.error;
+    }
+
+    private ClassLoader compileAndLoad(String expression) throws Exception {
+        FilterProcessor processor = run(expression, true);
+        assertNull(processor.error, processor.error);
+        return new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private FilterProcessor run(String expression, boolean generate) {
+        return run(expression, generate, false);
+    }
+
+    private FilterProcessor run(String expression, boolean generate, boolean path) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<JavaFileObject> sources = new ArrayList<>();
+        sources.add(source("test.Tier", TIER));
+        sources.add(source("test.Customer", CUSTOMER));
+        sources.add(source("test.OrderEvent", ORDER_EVENT));
+
+        FilterProcessor processor = new FilterProcessor(expression, generate, path);
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                List.of("-d", outputDir.toString()),
+                null, sources);
+        task.setProcessors(List.of(processor));
+        boolean success = task.call();
+
+        StringBuilder errors = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.append(diagnostic.getMessage(null)).append('\n');
+            }
+        }
+        assertTrue(success, "Compilation failed:\n" + errors);
+        return processor;
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+    /**
+     * Compiles the expression (or property path) against {@code test.OrderEvent}
+     * during a real processing round, optionally emitting it as a {@code Predicate}
+     * constant.
+     */
+    @SupportedAnnotationTypes("*")
+    static final class FilterProcessor extends AbstractProcessor {
+        private final String expression;
+        private final boolean generate;
+        private final boolean path;
+        private boolean done;
+        CodeBlock code;
+        String error;
+
+        FilterProcessor(String expression, boolean generate, boolean path) {
+            this.expression = expression;
+            this.generate = generate;
+            this.path = path;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (done) {
+                return false;
+            }
+            done = true;
+            TypeElement eventType = processingEnv.getElementUtils().getTypeElement("test.OrderEvent");
+            FilterExpressionCompiler compiler = new FilterExpressionCompiler(
+                    processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+            try {
+                code = path
+                        ? compiler.compilePath(expression, (DeclaredType) eventType.asType())
+                        : compiler.compile(expression, (DeclaredType) eventType.asType());
+            } catch (FilterExpressionCompiler.FilterCompilationException e) {
+                error = e.getMessage();
+                return false;
+            }
+            if (generate) {
+                try (Writer writer = processingEnv.getFiler().createSourceFile("test.Filters").openWriter()) {
+                    writer.write("package test;\n" +
+                            "public final class Filters {\n" +
+                            "    public static final java.util.function.Predicate<OrderEvent> FILTER =\n" +
+                            "            (OrderEvent event) -> " + code + ";\n" +
+                            "}\n");
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return false;
+        }
+    }
+}
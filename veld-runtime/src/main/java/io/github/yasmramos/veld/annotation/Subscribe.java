@@ -53,6 +53,17 @@ import java.lang.annotation.Target;
  * }
  * }</pre>
  *
+ * <p>Async subscription on virtual threads, ordered per order ID:
+ * <pre>{@code
+ * @Component
+ * public class OrderProjection {
+ *     @Subscribe(async = true, asyncMode = Subscribe.AsyncMode.VIRTUAL_THREAD, orderingKey = "event.orderId")
+ *     public void onOrderChanged(OrderChangedEvent event) {
+ *         // Changes of one order are applied in publish order; different orders run in parallel
+ *     }
+ * }
+ * }</pre>
+ *
  * <p>Filtered subscription:
  * <pre>{@code
  * @Component
@@ -74,6 +85,19 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 public @interface Subscribe {
 
+    /**
+     * Where an async subscriber runs.
+     */
+    enum AsyncMode {
+        /** On the shared EventBus executor (default). */
+        EXECUTOR,
+        /**
+         * On a new virtual thread per event (JDK 21+); falls back to daemon
+         * platform threads on older runtimes.
+         */
+        VIRTUAL_THREAD
+    }
+
     /**
      * Whether this subscriber should be invoked asynchronously.
      *
@@ -87,6 +111,32 @@ public @interface Subscribe {
      */
     boolean async() default false;
 
+    /**
+     * Where this subscriber runs when {@link #async()} is {@code true}.
+     *
+     * <p>Default is {@link AsyncMode#EXECUTOR}.
+     *
+     * @return the async mode
+     */
+    AsyncMode asyncMode() default AsyncMode.EXECUTOR;
+
+    /**
+     * A property path on the event whose value orders async deliveries.
+     *
+     * <p>When set, events with equal key values are delivered to this
+     * subscriber one at a time in publish order, while events with different
+     * keys run in parallel. The path uses the same syntax as property paths in
+     * {@link #filter()}, e.g. {@code "event.orderId"} or
+     * {@code "event.customer.id"}; an intermediate {@code null} yields a
+     * {@code null} key, which is delivered unordered. Only applies when
+     * {@link #async()} is {@code true}.
+     *
+     * <p>Default is empty string (no ordering).
+     *
+     * @return the ordering key path
+     */
+    String orderingKey() default "";
+
     /**
      * The priority of this subscriber. Higher values indicate higher priority.
      *
@@ -100,7 +150,7 @@ public @interface Subscribe {
     int priority() default 0;
 
     /**
-     * A SpEL-like filter expression to conditionally invoke this subscriber.
+     * A filter expression to conditionally invoke this subscriber.
      *
      * <p>The expression has access to the {@code event} variable representing
      * the published event. Only when the expression evaluates to {@code true}
@@ -111,8 +161,14 @@ public @interface Subscribe {
      *   <li>{@code "event.amount > 100"} - filter by event property</li>
      *   <li>{@code "event.type == 'PREMIUM'"} - filter by string equality</li>
      *   <li>{@code "event.priority >= 5"} - filter by numeric comparison</li>
+     *   <li>{@code "event.amount > 100 && !(event.customer.tier == 'BASIC')"} -
+     *       boolean operators, parentheses and nested properties</li>
      * </ul>
      *
+     * <p>The expression is compiled by the annotation processor into a predicate
+     * that calls the event's getters directly; syntax errors, unknown properties
+     * and type mismatches are reported as compile errors.
+     *
      * <p>Default is empty string (no filter, always invoke).
      *
      * @return the filter expression
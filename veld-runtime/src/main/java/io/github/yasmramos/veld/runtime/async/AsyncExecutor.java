@@ -15,9 +15,11 @@
  */
 package io.github.yasmramos.veld.runtime.async;
 
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 /**
  * Manages thread pools for @Async method execution.
@@ -25,6 +27,22 @@ import java.util.concurrent.atomic.AtomicInteger;
  * <p>Provides a default executor and support for named executors
  * for different async workloads.
  *
+ * <p>The default executor is either a bounded platform thread pool
+ * ({@link ExecutionMode#THREAD_POOL}) or a thread per task on virtual threads
+ * ({@link ExecutionMode#VIRTUAL_THREAD}), selected with {@link #configure} or the
+ * {@value #MODE_PROPERTY} and {@value #MAX_CONCURRENCY_PROPERTY} system
+ * properties. Independently of that, the reserved executor name {@value #VIRTUAL}
+ * always runs tasks on virtual threads, and {@link #registerVirtualExecutor}
+ * declares further virtual-thread executors with their own concurrency caps.
+ *
+ * <p>Named pools are declared with an {@link ExecutorDefinition}, either through
+ * {@code @ExecutorConfig} on a component (the generated AOP wrappers call
+ * {@link #declareExecutor}) or by listing their names in the
+ * {@value #EXECUTORS_PROPERTY} system property; in both cases the
+ * {@code veld.async.executor.<name>.*} properties override the declared values.
+ * Such pools, and the default pool, are {@link MonitoredExecutor}s whose queue
+ * depth, wait times and rejections are available from {@link #getMetrics(String)}.</p>
+ *
  * <p>Optimizations implemented in Phase 1.1:
  * <ul>
  *   <li>Lazy ThreadLocal initialization to avoid overhead when not used</li>
@@ -37,27 +55,118 @@ import java.util.concurrent.atomic.AtomicInteger;
  */
 public final class AsyncExecutor {
 
+    /**
+     * How the default executor runs tasks.
+     */
+    public enum ExecutionMode {
+        /**
+         * Platform thread pool of {@code cores..cores*2} threads with a queue of
+         * 1000 tasks; when both are full the caller runs the task itself.
+         */
+        THREAD_POOL,
+        /**
+         * A new virtual thread per task, optionally capped by a semaphore.
+         */
+        VIRTUAL_THREAD
+    }
+
+    /** Reserved executor name for the shared unlimited virtual-thread executor. */
+    public static final String VIRTUAL = "virtual";
+
+    /** System property selecting the default {@link ExecutionMode} ({@code thread_pool} or {@code virtual_thread}). */
+    public static final String MODE_PROPERTY = "veld.async.mode";
+
+    /** System property with the concurrency cap of a virtual-thread default executor. */
+    public static final String MAX_CONCURRENCY_PROPERTY = "veld.async.maxConcurrency";
+
+    /** System property with a comma-separated list of executor names to declare from configuration. */
+    public static final String EXECUTORS_PROPERTY = "veld.async.executors";
+
     private static volatile AsyncExecutor instance;
 
+    // Set by configure(); overrides the system properties
+    private static ExecutionMode configuredMode;
+    private static int configuredMaxConcurrency;
+
+    private final ExecutionMode mode;
     private final ExecutorService defaultExecutor;
     private final Map<String, ExecutorService> namedExecutors;
+    // Stable executors handed out by getExecutor(name); they resolve the registration on every task
+    private final Map<String, Executor> executorsByName = new ConcurrentHashMap<>();
+    // Keyed lanes per executor name, created on the first ordered submission
+    private final Map<String, StripedLaneExecutor> orderedExecutors = new ConcurrentHashMap<>();
+    private volatile ExecutorService virtualExecutor;
     private volatile boolean shutdown = false;
 
     // Lazy ThreadLocal - only initialized when actually needed
     private static final ThreadLocal<ExecutorService> EXECUTOR_CACHE =
             ThreadLocal.withInitial(() -> null);
 
-    private AsyncExecutor() {
-        int cores = Runtime.getRuntime().availableProcessors();
-        this.defaultExecutor = new ThreadPoolExecutor(
-            cores,
-            cores * 2,
-            60L, TimeUnit.SECONDS,
-            new LinkedBlockingQueue<>(1000),
-            new VeldThreadFactory("veld-async"),
-            new ThreadPoolExecutor.CallerRunsPolicy()
-        );
+    private AsyncExecutor(ExecutionMode mode, int maxConcurrency) {
+        this.mode = mode;
+        if (mode == ExecutionMode.VIRTUAL_THREAD) {
+            VirtualThreadExecutor virtual = new VirtualThreadExecutor("veld-async", maxConcurrency);
+            this.defaultExecutor = virtual;
+            this.virtualExecutor = maxConcurrency == 0 ? virtual : null;
+        } else {
+            int cores = Runtime.getRuntime().availableProcessors();
+            this.defaultExecutor = new MonitoredExecutor(ExecutorDefinition.builder("default")
+                    .coreSize(cores)
+                    .maxSize(cores * 2)
+                    .queue(ExecutorDefinition.QueueType.LINKED, 1000)
+                    .rejection(ExecutorDefinition.RejectionPolicy.CALLER_RUNS)
+                    .build(), "veld-async", MonitoredExecutor.DEFAULT_POOL_SAMPLE_RATE);
+        }
         this.namedExecutors = new ConcurrentHashMap<>();
+        String declared = System.getProperty(EXECUTORS_PROPERTY, "");
+        for (String name : declared.split(",")) {
+            if (!name.isBlank()) {
+                declareExecutor(ExecutorDefinition.builder(name.trim()).build());
+            }
+        }
+    }
+
+    /**
+     * Selects how the default executor runs tasks. Must be called before the
+     * instance is first used; takes precedence over the system properties.
+     *
+     * @param mode the execution mode
+     * @param maxConcurrency for {@link ExecutionMode#VIRTUAL_THREAD}, the maximum
+     *        number of tasks running at once, or {@code 0} for no limit
+     * @throws IllegalStateException if the instance already exists
+     */
+    public static void configure(ExecutionMode mode, int maxConcurrency) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Execution mode cannot be null");
+        }
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Max concurrency must not be negative: " + maxConcurrency);
+        }
+        synchronized (AsyncExecutor.class) {
+            if (instance != null) {
+                throw new IllegalStateException("AsyncExecutor is already in use; configure it before the first task");
+            }
+            configuredMode = mode;
+            configuredMaxConcurrency = maxConcurrency;
+        }
+    }
+
+    private static AsyncExecutor create() {
+        if (configuredMode != null) {
+            return new AsyncExecutor(configuredMode, configuredMaxConcurrency);
+        }
+        String mode = System.getProperty(MODE_PROPERTY, ExecutionMode.THREAD_POOL.name());
+        ExecutionMode parsed;
+        try {
+            parsed = ExecutionMode.valueOf(mode.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + MODE_PROPERTY + ": " + mode, e);
+        }
+        int maxConcurrency = Integer.getInteger(MAX_CONCURRENCY_PROPERTY, 0);
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Invalid " + MAX_CONCURRENCY_PROPERTY + ": " + maxConcurrency);
+        }
+        return new AsyncExecutor(parsed, maxConcurrency);
     }
 
     /**
@@ -69,7 +178,7 @@ public final class AsyncExecutor {
             synchronized (AsyncExecutor.class) {
                 result = instance;
                 if (result == null) {
-                    instance = result = new AsyncExecutor();
+                    instance = result = create();
                 }
             }
         }
@@ -111,11 +220,7 @@ public final class AsyncExecutor {
         }
 
         // Slow path: need to look up named executor
-        ExecutorService executor = namedExecutors.get(executorName);
-        if (executor == null) {
-            executor = defaultExecutor;
-        }
-        return CompletableFuture.runAsync(task, executor);
+        return CompletableFuture.runAsync(task, resolve(executorName));
     }
 
     /**
@@ -146,10 +251,7 @@ public final class AsyncExecutor {
         }
 
         // Slow path: need to look up named executor
-        ExecutorService executor = namedExecutors.get(executorName);
-        if (executor == null) {
-            executor = defaultExecutor;
-        }
+        Executor executor = resolve(executorName);
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return callable.call();
@@ -159,13 +261,316 @@ public final class AsyncExecutor {
         }, executor);
     }
 
+    /**
+     * Submits a task that runs after all earlier tasks submitted with an equal key.
+     *
+     * @param key the ordering key; {@code null} runs the task unordered
+     * @param task the task
+     * @return a future completed when the task has run
+     * @see #getOrderedExecutor(String)
+     */
+    public CompletableFuture<Void> submitOrdered(Object key, Runnable task) {
+        return submitOrdered(key, task, "");
+    }
+
+    /**
+     * Submits a task that runs on a named executor after all earlier tasks
+     * submitted to it with an equal key.
+     *
+     * @param key the ordering key; {@code null} runs the task unordered
+     * @param task the task
+     * @param executorName the executor name, or empty for the default executor
+     * @return a future completed when the task has run
+     */
+    public CompletableFuture<Void> submitOrdered(Object key, Runnable task, String executorName) {
+        if (shutdown) {
+            throw new RejectedExecutionException("AsyncExecutor has been shut down");
+        }
+        return CompletableFuture.runAsync(task, getOrderedExecutor(executorName).withKey(key));
+    }
+
+    /**
+     * Submits a callable that runs after all earlier tasks submitted with an equal key.
+     *
+     * @param key the ordering key; {@code null} runs the callable unordered
+     * @param callable the callable
+     * @param <T> the result type
+     * @return a future completed with the result of the callable
+     */
+    public <T> CompletableFuture<T> submitOrdered(Object key, Callable<T> callable) {
+        return submitOrdered(key, callable, "");
+    }
+
+    /**
+     * Submits a callable that runs on a named executor after all earlier tasks
+     * submitted to it with an equal key.
+     *
+     * @param key the ordering key; {@code null} runs the callable unordered
+     * @param callable the callable
+     * @param executorName the executor name, or empty for the default executor
+     * @param <T> the result type
+     * @return a future completed with the result of the callable
+     */
+    public <T> CompletableFuture<T> submitOrdered(Object key, Callable<T> callable, String executorName) {
+        if (shutdown) {
+            throw new RejectedExecutionException("AsyncExecutor has been shut down");
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, getOrderedExecutor(executorName).withKey(key));
+    }
+
+    /**
+     * Returns the keyed lanes of an executor, shared by {@link #submitOrdered}
+     * and {@code @Async(orderingKey)} methods.
+     *
+     * <p>Tasks with equal keys run one at a time in submission order; different
+     * keys run in parallel on the executor. No thread is dedicated to a key:
+     * keys are striped over {@value StripedLaneExecutor#DEFAULT_LANES} lanes
+     * that exist only while they have work.</p>
+     *
+     * @param name the executor name, or empty for the default executor
+     * @return the ordered executor
+     */
+    public StripedLaneExecutor getOrderedExecutor(String name) {
+        String key = name == null ? "" : name;
+        return orderedExecutors.computeIfAbsent(key, n -> new StripedLaneExecutor(getExecutor(n)));
+    }
+
+    /**
+     * Submits a task that itself returns a future, with a named executor.
+     *
+     * <p>Only the synchronous part of the task, up to the point where it returns
+     * its future, runs on the executor; the returned future then completes when
+     * the task's future does, without holding a pool thread (see
+     * {@link #composeAsync}).</p>
+     *
+     * @param task the task returning a completion stage, or {@code null} for a {@code null} result
+     * @param executorName the executor name, or empty for the default executor
+     * @param <T> the result type
+     * @return a future completed with the outcome of the task's future
+     */
+    public <T> CompletableFuture<T> submitComposed(Callable<? extends CompletionStage<T>> task,
+                                                   String executorName) {
+        if (shutdown) {
+            throw new RejectedExecutionException("AsyncExecutor has been shut down");
+        }
+        Executor executor = executorName == null || executorName.isEmpty()
+                ? getCachedExecutor() : resolve(executorName);
+        return composeAsync(task, executor);
+    }
+
+    /**
+     * Runs a task returning a completion stage on an executor and flattens the
+     * result, for {@code @Async} methods that return a future.
+     *
+     * <p>Unlike {@code supplyAsync(() -> task.call().join(), executor)}, the pool
+     * thread is released as soon as the task returns its stage: the result is
+     * completed by whichever thread completes that stage. Nested {@code @Async}
+     * calls therefore cannot exhaust a bounded pool by waiting on each other.</p>
+     *
+     * @param task the task returning a completion stage, or {@code null} for a {@code null} result
+     * @param executor the executor running the task
+     * @param <T> the result type
+     * @return a future completed with the outcome of the task's stage
+     */
+    public static <T> CompletableFuture<T> composeAsync(Callable<? extends CompletionStage<T>> task,
+                                                        Executor executor) {
+        ComposedTask<T> composed = new ComposedTask<>(task);
+        executor.execute(composed);
+        return composed.result;
+    }
+
+    /**
+     * Adapts a future returned by an {@code @Async} method to a completion stage.
+     *
+     * <p>Completion stages, such as {@link CompletableFuture}, are returned as is.
+     * Any other future is waited for on the current thread, which is why
+     * {@code @Async} methods should prefer returning a {@code CompletableFuture}.</p>
+     *
+     * @param future the future, may be {@code null}
+     * @param <T> the result type
+     * @return the completion stage, or {@code null} if {@code future} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> CompletionStage<T> asCompletionStage(Future<T> future) {
+        if (future == null || future instanceof CompletionStage) {
+            return (CompletionStage<T>) future;
+        }
+        try {
+            return CompletableFuture.completedFuture(future.get());
+        } catch (ExecutionException e) {
+            return CompletableFuture.failedFuture(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Executor resolve(String executorName) {
+        if (VIRTUAL.equals(executorName)) {
+            return getVirtualExecutor();
+        }
+        ExecutorService executor = namedExecutors.get(executorName);
+        if (executor != null) {
+            return executor;
+        }
+        // A typo must not silently move the task into the shared default pool
+        throw new RejectedExecutionException("No executor named '" + executorName + "' is registered");
+    }
+
     /**
      * Registers a named executor.
      */
     public void registerExecutor(String name, ExecutorService executor) {
+        if (VIRTUAL.equals(name)) {
+            throw new IllegalArgumentException("Executor name '" + VIRTUAL + "' is reserved");
+        }
         namedExecutors.put(name, executor);
     }
 
+    /**
+     * Creates and registers a monitored pool for a definition, replacing any
+     * executor registered under the same name.
+     *
+     * <p>The {@code veld.async.executor.<name>.*} system properties override the
+     * values of the definition.</p>
+     *
+     * @param definition the executor definition
+     * @return the registered pool
+     */
+    public MonitoredExecutor registerExecutor(ExecutorDefinition definition) {
+        MonitoredExecutor executor = new MonitoredExecutor(definition.withOverrides(System.getProperties()));
+        registerExecutor(definition.getName(), executor);
+        return executor;
+    }
+
+    /**
+     * Declares a named executor unless one is already registered under its name,
+     * and returns the executor for that name.
+     *
+     * <p>Generated AOP wrappers call this for every {@code @ExecutorConfig} used by
+     * their {@code @Async} methods, so repeated declarations are cheap and the
+     * first registration wins; an executor registered programmatically before the
+     * component is loaded takes precedence over the annotation.</p>
+     *
+     * @param definition the executor definition
+     * @return the executor, as returned by {@link #getExecutor(String)}
+     */
+    public Executor declareExecutor(ExecutorDefinition definition) {
+        String name = definition.getName();
+        if (!namedExecutors.containsKey(name)) {
+            ExecutorDefinition effective = definition.withOverrides(System.getProperties());
+            namedExecutors.computeIfAbsent(name, key -> new MonitoredExecutor(effective));
+        }
+        return getExecutor(name);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of an executor.
+     *
+     * @param name the executor name, or empty for the default executor
+     * @return the metrics, or {@code null} if the executor is not a {@link MonitoredExecutor}
+     */
+    public ExecutorMetrics getMetrics(String name) {
+        Executor executor = name == null || name.isEmpty() ? defaultExecutor : namedExecutors.get(name);
+        return executor instanceof MonitoredExecutor ? ((MonitoredExecutor) executor).getMetrics() : null;
+    }
+
+    /**
+     * Returns snapshots of the metrics of all monitored executors, keyed by
+     * executor name; the default executor is keyed by the empty string.
+     *
+     * @return the metrics by executor name
+     */
+    public Map<String, ExecutorMetrics> getMetrics() {
+        Map<String, ExecutorMetrics> metrics = new LinkedHashMap<>();
+        if (defaultExecutor instanceof MonitoredExecutor) {
+            metrics.put("", ((MonitoredExecutor) defaultExecutor).getMetrics());
+        }
+        namedExecutors.forEach((name, executor) -> {
+            if (executor instanceof MonitoredExecutor) {
+                metrics.put(name, ((MonitoredExecutor) executor).getMetrics());
+            }
+        });
+        return metrics;
+    }
+
+    /**
+     * Registers a named executor that runs each task on its own virtual thread.
+     *
+     * <p>Blocking {@code @Async("name")} methods scale with the number of waiting
+     * tasks instead of a pool size; {@code maxConcurrency} protects the resource
+     * they block on, without ever running tasks on the caller.</p>
+     *
+     * @param name the executor name
+     * @param maxConcurrency the maximum number of tasks running at once, or {@code 0} for no limit
+     * @return the registered executor
+     */
+    public VirtualThreadExecutor registerVirtualExecutor(String name, int maxConcurrency) {
+        VirtualThreadExecutor executor = new VirtualThreadExecutor("veld-async-" + name, maxConcurrency);
+        registerExecutor(name, executor);
+        return executor;
+    }
+
+    /**
+     * Returns the executor for an {@code @Async} executor name, for direct use in
+     * generated code.
+     *
+     * <p>The default and {@value #VIRTUAL} executors are returned as is. For other
+     * names the result is a stable view that looks up the registration on every
+     * task, so it may be obtained before the executor is registered; a task for a
+     * name that is still unregistered when it is submitted is rejected with a
+     * {@link RejectedExecutionException}.</p>
+     *
+     * @param name the executor name, or empty for the default executor
+     * @return the executor
+     */
+    public Executor getExecutor(String name) {
+        if (name == null || name.isEmpty()) {
+            return defaultExecutor;
+        }
+        if (VIRTUAL.equals(name)) {
+            return getVirtualExecutor();
+        }
+        return executorsByName.computeIfAbsent(name, key -> task -> resolve(key).execute(task));
+    }
+
+    /**
+     * Returns the shared virtual-thread executor without a concurrency limit,
+     * used for the executor name {@value #VIRTUAL}.
+     *
+     * @return the virtual-thread executor
+     */
+    public ExecutorService getVirtualExecutor() {
+        ExecutorService executor = virtualExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = virtualExecutor;
+                if (executor == null) {
+                    virtualExecutor = executor = new VirtualThreadExecutor("veld-async-virtual", 0);
+                    if (shutdown) {
+                        executor.shutdown();
+                    }
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Returns how the default executor runs tasks.
+     *
+     * @return the execution mode
+     */
+    public ExecutionMode getMode() {
+        return mode;
+    }
+
     /**
      * Gets the default executor for direct use in generated code.
      * This allows compile-time constant folding for @Async methods.
@@ -178,14 +583,24 @@ public final class AsyncExecutor {
      * Shuts down all executors gracefully.
      */
     public void shutdown() {
-        shutdown = true;
+        ExecutorService virtual;
+        synchronized (this) {
+            shutdown = true;
+            virtual = virtualExecutor != defaultExecutor ? virtualExecutor : null;
+        }
         defaultExecutor.shutdown();
+        if (virtual != null) {
+            virtual.shutdown();
+        }
         namedExecutors.values().forEach(ExecutorService::shutdown);
 
         try {
             if (!defaultExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
                 defaultExecutor.shutdownNow();
             }
+            if (virtual != null && !virtual.awaitTermination(30, TimeUnit.SECONDS)) {
+                virtual.shutdownNow();
+            }
             for (ExecutorService executor : namedExecutors.values()) {
                 if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
                     executor.shutdownNow();
@@ -193,38 +608,64 @@ public final class AsyncExecutor {
             }
         } catch (InterruptedException e) {
             defaultExecutor.shutdownNow();
+            if (virtual != null) {
+                virtual.shutdownNow();
+            }
             namedExecutors.values().forEach(ExecutorService::shutdownNow);
             Thread.currentThread().interrupt();
         }
     }
 
     /**
-     * Resets the singleton (for testing).
+     * Runs the synchronous part of a composed task and hands the outcome of its
+     * stage to the result without blocking.
      */
-    public static void reset() {
-        if (instance != null) {
-            instance.shutdown();
-            instance = null;
-            EXECUTOR_CACHE.remove();
+    private static final class ComposedTask<T> implements Runnable, BiConsumer<T, Throwable> {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Callable<? extends CompletionStage<T>> task;
+
+        ComposedTask(Callable<? extends CompletionStage<T>> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            CompletionStage<T> stage;
+            try {
+                stage = task.call();
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            if (stage == null) {
+                result.complete(null);
+            } else {
+                stage.whenComplete(this);
+            }
+        }
+
+        @Override
+        public void accept(T value, Throwable error) {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(value);
+            }
         }
     }
 
     /**
-     * Thread factory that creates named daemon threads.
+     * Resets the singleton and the {@link #configure} selection (for testing).
      */
-    private static class VeldThreadFactory implements ThreadFactory {
-        private final AtomicInteger counter = new AtomicInteger(0);
-        private final String prefix;
-
-        VeldThreadFactory(String prefix) {
-            this.prefix = prefix;
+    public static void reset() {
+        synchronized (AsyncExecutor.class) {
+            configuredMode = null;
+            configuredMaxConcurrency = 0;
         }
-
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(r, prefix + "-" + counter.incrementAndGet());
-            t.setDaemon(true);
-            return t;
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+            EXECUTOR_CACHE.remove();
         }
     }
 }
@@ -0,0 +1,439 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Immutable declaration of a named {@code @Async} executor: pool sizes, work
+ * queue, rejection policy and thread priority.
+ *
+ * <p>Definitions come from {@code @ExecutorConfig} annotations (the AOP processor
+ * embeds them in the generated wrappers) or from configuration, and are turned
+ * into a {@link MonitoredExecutor} by {@link AsyncExecutor#declareExecutor}.
+ * Every attribute can be overridden through system properties of the form
+ * {@code veld.async.executor.<name>.<key>}, where the key is one of
+ * {@code core-size}, {@code max-size}, {@code queue}, {@code queue-capacity},
+ * {@code rejection}, {@code priority} or {@code keep-alive-seconds}.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * AsyncExecutor.getInstance().declareExecutor(ExecutorDefinition.builder("reports")
+ *         .coreSize(2)
+ *         .maxSize(8)
+ *         .queue(ExecutorDefinition.QueueType.ARRAY, 500)
+ *         .rejection(ExecutorDefinition.RejectionPolicy.ABORT)
+ *         .build());
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class ExecutorDefinition {
+
+    /**
+     * The work queue placed in front of the pool threads.
+     */
+    public enum QueueType {
+        /** Optionally bounded linked queue; threads beyond the core size start only once it is full. */
+        LINKED,
+        /** Bounded array queue with a fixed footprint. */
+        ARRAY,
+        /** No queue; each task is handed directly to an idle or new thread. */
+        SYNCHRONOUS
+    }
+
+    /**
+     * What happens to a task when the pool and its queue are both full.
+     */
+    public enum RejectionPolicy {
+        /** Throw {@link java.util.concurrent.RejectedExecutionException} to the submitter. */
+        ABORT,
+        /** Run the task on the submitting thread. */
+        CALLER_RUNS,
+        /** Drop the task. */
+        DISCARD,
+        /** Drop the oldest queued task and retry the submission. */
+        DISCARD_OLDEST
+    }
+
+    /** Prefix of the system properties overriding a definition. */
+    public static final String PROPERTY_PREFIX = "veld.async.executor.";
+
+    /** Default queue capacity. */
+    public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+    /** Default time an idle thread above the core size is kept. */
+    public static final Duration DEFAULT_KEEP_ALIVE = Duration.ofSeconds(60);
+
+    private final String name;
+    private final int coreSize;
+    private final int maxSize;
+    private final QueueType queueType;
+    private final int queueCapacity;
+    private final RejectionPolicy rejectionPolicy;
+    private final int threadPriority;
+    private final Duration keepAlive;
+
+    private ExecutorDefinition(Builder builder) {
+        this.name = builder.name;
+        this.coreSize = builder.coreSize;
+        this.maxSize = builder.maxSize > 0 ? builder.maxSize : Math.max(1, builder.coreSize);
+        this.queueType = builder.queueType;
+        this.queueCapacity = builder.queueCapacity;
+        this.rejectionPolicy = builder.rejectionPolicy;
+        this.threadPriority = builder.threadPriority;
+        this.keepAlive = builder.keepAlive;
+    }
+
+    /**
+     * Creates a builder for an executor with one thread, a linked queue of
+     * {@value #DEFAULT_QUEUE_CAPACITY} tasks and the caller-runs policy.
+     *
+     * @param name the executor name referenced by {@code @Async}
+     * @return a new builder
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * Returns the executor name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of threads kept even when idle.
+     *
+     * @return the core pool size
+     */
+    public int getCoreSize() {
+        return coreSize;
+    }
+
+    /**
+     * Returns the maximum number of threads.
+     *
+     * @return the maximum pool size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the work queue type.
+     *
+     * @return the queue type
+     */
+    public QueueType getQueueType() {
+        return queueType;
+    }
+
+    /**
+     * Returns the queue capacity; not used by {@link QueueType#SYNCHRONOUS}.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the rejection policy.
+     *
+     * @return the rejection policy
+     */
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    /**
+     * Returns the priority of the pool threads.
+     *
+     * @return a priority between {@link Thread#MIN_PRIORITY} and {@link Thread#MAX_PRIORITY}
+     */
+    public int getThreadPriority() {
+        return threadPriority;
+    }
+
+    /**
+     * Returns how long an idle thread above the core size is kept.
+     *
+     * @return the keep-alive time
+     */
+    public Duration getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Returns a copy of this definition with the attributes present in
+     * {@code properties} under {@code veld.async.executor.<name>.} replaced.
+     *
+     * @param properties the configuration, typically {@link System#getProperties()}
+     * @return the overridden definition, or this one if no property applies
+     * @throws IllegalArgumentException if a property has an invalid value
+     */
+    public ExecutorDefinition withOverrides(Properties properties) {
+        String prefix = PROPERTY_PREFIX + name + ".";
+        Builder builder = toBuilder();
+        boolean changed = false;
+        for (String key : properties.stringPropertyNames()) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            String value = properties.getProperty(key).trim();
+            try {
+                switch (key.substring(prefix.length())) {
+                    case "core-size":
+                        builder.coreSize(Integer.parseInt(value));
+                        break;
+                    case "max-size":
+                        builder.maxSize(Integer.parseInt(value));
+                        break;
+                    case "queue":
+                        builder.queueType = QueueType.valueOf(constantName(value));
+                        break;
+                    case "queue-capacity":
+                        builder.queue(builder.queueType, Integer.parseInt(value));
+                        break;
+                    case "rejection":
+                        builder.rejection(RejectionPolicy.valueOf(constantName(value)));
+                        break;
+                    case "priority":
+                        builder.threadPriority(Integer.parseInt(value));
+                        break;
+                    case "keep-alive-seconds":
+                        builder.keepAlive(Duration.ofSeconds(Long.parseLong(value)));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown executor property: " + key);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid " + key + ": " + value, e);
+            }
+            changed = true;
+        }
+        return changed ? builder.build() : this;
+    }
+
+    private static String constantName(String value) {
+        return value.toUpperCase(Locale.ROOT).replace('-', '_');
+    }
+
+    private Builder toBuilder() {
+        Builder builder = new Builder(name);
+        builder.coreSize = coreSize;
+        // A max size equal to the core size is the default and follows an overridden core size
+        builder.maxSize = maxSize == Math.max(1, coreSize) ? 0 : maxSize;
+        builder.queueType = queueType;
+        builder.queueCapacity = queueCapacity;
+        builder.rejectionPolicy = rejectionPolicy;
+        builder.threadPriority = threadPriority;
+        builder.keepAlive = keepAlive;
+        return builder;
+    }
+
+    BlockingQueue<Runnable> newQueue() {
+        switch (queueType) {
+            case ARRAY:
+                return new ArrayBlockingQueue<>(queueCapacity);
+            case SYNCHRONOUS:
+                return new SynchronousQueue<>();
+            default:
+                return new LinkedBlockingQueue<>(queueCapacity);
+        }
+    }
+
+    RejectedExecutionHandler newRejectionHandler() {
+        switch (rejectionPolicy) {
+            case ABORT:
+                return new ThreadPoolExecutor.AbortPolicy();
+            case DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            default:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExecutorDefinition)) {
+            return false;
+        }
+        ExecutorDefinition other = (ExecutorDefinition) o;
+        return name.equals(other.name) && coreSize == other.coreSize && maxSize == other.maxSize
+                && queueType == other.queueType && queueCapacity == other.queueCapacity
+                && rejectionPolicy == other.rejectionPolicy && threadPriority == other.threadPriority
+                && keepAlive.equals(other.keepAlive);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, coreSize, maxSize, queueType, queueCapacity, rejectionPolicy, threadPriority,
+                keepAlive);
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorDefinition[" + name + ", core=" + coreSize + ", max=" + maxSize
+                + ", queue=" + queueType + "(" + queueCapacity + "), rejection=" + rejectionPolicy
+                + ", priority=" + threadPriority + ", keepAlive=" + keepAlive + "]";
+    }
+
+    /**
+     * Builder for {@link ExecutorDefinition}.
+     */
+    public static final class Builder {
+        private final String name;
+        private int coreSize = 1;
+        private int maxSize;
+        private QueueType queueType = QueueType.LINKED;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+        private int threadPriority = Thread.NORM_PRIORITY;
+        private Duration keepAlive = DEFAULT_KEEP_ALIVE;
+
+        private Builder(String name) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Executor name cannot be empty");
+            }
+            if (AsyncExecutor.VIRTUAL.equals(name)) {
+                throw new IllegalArgumentException("Executor name '" + AsyncExecutor.VIRTUAL + "' is reserved");
+            }
+            this.name = name;
+        }
+
+        /**
+         * Sets the number of threads kept even when idle.
+         *
+         * @param coreSize the core pool size, zero or more
+         * @return this builder
+         */
+        public Builder coreSize(int coreSize) {
+            if (coreSize < 0) {
+                throw new IllegalArgumentException("Core size must not be negative: " + coreSize);
+            }
+            this.coreSize = coreSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of threads; defaults to the core size.
+         *
+         * @param maxSize the maximum pool size, at least one
+         * @return this builder
+         */
+        public Builder maxSize(int maxSize) {
+            if (maxSize <= 0) {
+                throw new IllegalArgumentException("Max size must be positive: " + maxSize);
+            }
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets the work queue.
+         *
+         * @param queueType the queue type
+         * @param capacity the queue capacity; ignored for {@link QueueType#SYNCHRONOUS}
+         * @return this builder
+         */
+        public Builder queue(QueueType queueType, int capacity) {
+            if (queueType == null) {
+                throw new IllegalArgumentException("Queue type cannot be null");
+            }
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+            }
+            this.queueType = queueType;
+            this.queueCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets what happens to a task when the pool and its queue are full.
+         *
+         * @param rejectionPolicy the rejection policy
+         * @return this builder
+         */
+        public Builder rejection(RejectionPolicy rejectionPolicy) {
+            if (rejectionPolicy == null) {
+                throw new IllegalArgumentException("Rejection policy cannot be null");
+            }
+            this.rejectionPolicy = rejectionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets the priority of the pool threads.
+         *
+         * @param threadPriority a priority between {@link Thread#MIN_PRIORITY} and {@link Thread#MAX_PRIORITY}
+         * @return this builder
+         */
+        public Builder threadPriority(int threadPriority) {
+            if (threadPriority < Thread.MIN_PRIORITY || threadPriority > Thread.MAX_PRIORITY) {
+                throw new IllegalArgumentException("Invalid thread priority: " + threadPriority);
+            }
+            this.threadPriority = threadPriority;
+            return this;
+        }
+
+        /**
+         * Sets how long an idle thread above the core size is kept.
+         *
+         * @param keepAlive the keep-alive time
+         * @return this builder
+         */
+        public Builder keepAlive(Duration keepAlive) {
+            if (keepAlive == null || keepAlive.isNegative()) {
+                throw new IllegalArgumentException("Keep-alive must not be negative: " + keepAlive);
+            }
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Builds the definition.
+         *
+         * @return the definition
+         * @throws IllegalArgumentException if the max size is below the core size
+         */
+        public ExecutorDefinition build() {
+            if (maxSize > 0 && maxSize < coreSize) {
+                throw new IllegalArgumentException("Max size " + maxSize + " is below core size " + coreSize);
+            }
+            return new ExecutorDefinition(this);
+        }
+    }
+}
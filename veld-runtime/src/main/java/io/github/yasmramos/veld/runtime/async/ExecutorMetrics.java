@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+/**
+ * Immutable snapshot of the metrics of a {@link MonitoredExecutor}.
+ *
+ * <p>The values are read one after another without locking, so a snapshot taken
+ * under load may be slightly inconsistent (for example a task counted as
+ * submitted but not yet queued).</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class ExecutorMetrics {
+
+    private final String name;
+    private final int activeCount;
+    private final int poolSize;
+    private final int largestPoolSize;
+    private final int queueDepth;
+    private final int queueRemainingCapacity;
+    private final long submitted;
+    private final long completed;
+    private final long rejected;
+    private final long waitSamples;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    ExecutorMetrics(String name, int activeCount, int poolSize, int largestPoolSize, int queueDepth,
+                    int queueRemainingCapacity, long submitted, long completed, long rejected,
+                    long waitSamples, long totalWaitNanos, long maxWaitNanos) {
+        this.name = name;
+        this.activeCount = activeCount;
+        this.poolSize = poolSize;
+        this.largestPoolSize = largestPoolSize;
+        this.queueDepth = queueDepth;
+        this.queueRemainingCapacity = queueRemainingCapacity;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.rejected = rejected;
+        this.waitSamples = waitSamples;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * Returns the executor name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of threads currently running tasks.
+     *
+     * @return the active count
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Returns the current number of pool threads.
+     *
+     * @return the pool size
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Returns the largest number of threads the pool ever had.
+     *
+     * @return the largest pool size
+     */
+    public int getLargestPoolSize() {
+        return largestPoolSize;
+    }
+
+    /**
+     * Returns the number of tasks waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /**
+     * Returns how many more tasks the queue accepts before the pool grows or rejects.
+     *
+     * @return the remaining queue capacity
+     */
+    public int getQueueRemainingCapacity() {
+        return queueRemainingCapacity;
+    }
+
+    /**
+     * Returns the number of submitted tasks, including rejected ones.
+     *
+     * @return the submitted count
+     */
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    /**
+     * Returns the number of tasks completed by pool threads.
+     *
+     * @return the completed count
+     */
+    public long getCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns how many times the pool and its queue were full.
+     *
+     * @return the rejected count
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Returns the number of started tasks whose wait time was recorded; every
+     * task for declared executors, a sample for the default pool.
+     *
+     * @return the number of wait time samples
+     */
+    public long getWaitSamples() {
+        return waitSamples;
+    }
+
+    /**
+     * Returns the summed time the sampled tasks waited between submission and start.
+     *
+     * @return the total wait time in nanoseconds
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    /**
+     * Returns the longest time a sampled task waited between submission and start.
+     *
+     * @return the maximum wait time in nanoseconds
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * Returns the mean time the sampled tasks waited between submission and start.
+     *
+     * @return the average wait time in nanoseconds, or {@code 0} if no task was sampled
+     */
+    public long getAverageWaitNanos() {
+        return waitSamples == 0 ? 0 : totalWaitNanos / waitSamples;
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorMetrics[" + name + ", active=" + activeCount + ", pool=" + poolSize
+                + ", queued=" + queueDepth + ", submitted=" + submitted + ", completed=" + completed
+                + ", rejected=" + rejected + ", avgWait=" + getAverageWaitNanos() + "ns, maxWait="
+                + maxWaitNanos + "ns]";
+    }
+}
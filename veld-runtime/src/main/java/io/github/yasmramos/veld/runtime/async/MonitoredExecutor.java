@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread pool built from an {@link ExecutorDefinition} that records saturation
+ * metrics: queue depth, how long tasks waited before starting and how often the
+ * pool was full.
+ *
+ * <p>Timed tasks are wrapped with their enqueue time and the wait is recorded
+ * when they start, including tasks run by the caller under
+ * {@link ExecutorDefinition.RejectionPolicy#CALLER_RUNS}. Pools created from a
+ * definition time every task; the default {@code @Async} pool times one task in
+ * {@value #DEFAULT_POOL_SAMPLE_RATE}, because two clock reads and a wrapper per
+ * task would noticeably slow down submission floods of tiny tasks. A task counts
+ * as rejected whenever the rejection policy is invoked, whatever the policy then
+ * does with it. Counters are {@link LongAdder}s, so recording adds no shared
+ * contention to the submit path beyond the pool's own queue.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class MonitoredExecutor extends ThreadPoolExecutor implements ContextPropagation.PropagatingExecutor {
+
+    /** Fraction of tasks (one in this many) whose wait time the default pool records. */
+    static final int DEFAULT_POOL_SAMPLE_RATE = 16;
+
+    private final ExecutorDefinition definition;
+    // Power of two minus one; zero times every task
+    private final int sampleMask;
+    private final LongAdder waitSamples = new LongAdder();
+    private final LongAdder rejected;
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /**
+     * Creates a pool from a definition, with threads named
+     * {@code veld-async-<name>-<n>}.
+     *
+     * @param definition the executor definition
+     */
+    public MonitoredExecutor(ExecutorDefinition definition) {
+        this(definition, "veld-async-" + definition.getName(), 1);
+    }
+
+    MonitoredExecutor(ExecutorDefinition definition, String threadPrefix, int sampleRate) {
+        this(definition, threadPrefix, sampleRate, new LongAdder());
+    }
+
+    private MonitoredExecutor(ExecutorDefinition definition, String threadPrefix, int sampleRate,
+                              LongAdder rejected) {
+        super(definition.getCoreSize(), definition.getMaxSize(),
+                definition.getKeepAlive().toNanos(), TimeUnit.NANOSECONDS,
+                definition.newQueue(),
+                new PriorityThreadFactory(threadPrefix, definition.getThreadPriority()),
+                new CountingRejectionHandler(definition.newRejectionHandler(), rejected));
+        this.definition = definition;
+        this.sampleMask = sampleRate - 1;
+        this.rejected = rejected;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        if (task instanceof TimedTask) {
+            // Resubmitted by DISCARD_OLDEST after making room
+            super.execute(task);
+            return;
+        }
+        task = ContextPropagation.wrap(task);
+        if (sampleMask == 0 || (ThreadLocalRandom.current().nextInt() & sampleMask) == 0) {
+            super.execute(new TimedTask(task, System.nanoTime()));
+        } else {
+            super.execute(task);
+        }
+    }
+
+    /**
+     * Returns the definition this pool was built from.
+     *
+     * @return the definition
+     */
+    public ExecutorDefinition getDefinition() {
+        return definition;
+    }
+
+    /**
+     * Returns the number of tasks waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return getQueue().size();
+    }
+
+    /**
+     * Returns how many times the rejection policy was invoked because the pool
+     * and its queue were full.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Returns a snapshot of the pool metrics.
+     *
+     * @return the metrics
+     */
+    public ExecutorMetrics getMetrics() {
+        return new ExecutorMetrics(definition.getName(), getActiveCount(), getPoolSize(), getLargestPoolSize(),
+                getQueue().size(), getQueue().remainingCapacity(), getTaskCount() + rejected.sum(),
+                getCompletedTaskCount(), rejected.sum(), waitSamples.sum(), totalWaitNanos.sum(),
+                maxWaitNanos.get());
+    }
+
+    private void recordWait(long waitNanos) {
+        waitSamples.increment();
+        totalWaitNanos.add(waitNanos);
+        long max = maxWaitNanos.get();
+        while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+            max = maxWaitNanos.get();
+        }
+    }
+
+    private final class TimedTask implements Runnable {
+        private final Runnable task;
+        private final long enqueuedNanos;
+
+        TimedTask(Runnable task, long enqueuedNanos) {
+            this.task = task;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        @Override
+        public void run() {
+            recordWait(System.nanoTime() - enqueuedNanos);
+            task.run();
+        }
+
+        @Override
+        public String toString() {
+            return task.toString();
+        }
+    }
+
+    private static final class CountingRejectionHandler implements RejectedExecutionHandler {
+        private final RejectedExecutionHandler delegate;
+        private final LongAdder rejected;
+
+        CountingRejectionHandler(RejectedExecutionHandler delegate, LongAdder rejected) {
+            this.delegate = delegate;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+            rejected.increment();
+            delegate.rejectedExecution(task, executor);
+        }
+    }
+
+    private static final class PriorityThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+        private final String prefix;
+        private final int priority;
+
+        PriorityThreadFactory(String prefix, int priority) {
+            this.prefix = prefix;
+            this.priority = priority;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(priority);
+            return t;
+        }
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.github.yasmramos.veld.runtime.async;
 
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
 import java.time.*;
 import java.util.*;
 import java.util.concurrent.*;
@@ -116,9 +118,10 @@ public final class SchedulerService {
      * Wraps a task to handle exceptions gracefully.
      */
     private Runnable wrapTask(Runnable task) {
+        Runnable propagated = ContextPropagation.wrap(task);
         return () -> {
             try {
-                task.run();
+                propagated.run();
             } catch (Exception e) {
                 System.err.println("[Veld] Scheduled task failed: " + e.getMessage());
                 e.printStackTrace();
@@ -176,7 +179,8 @@ public final class SchedulerService {
         private final ZoneId zone;
         
         CronScheduler(Runnable task, String expression, ZoneId zone) {
-            this.task = task;
+            // Captured once, so every run sees the context of the scheduling thread
+            this.task = ContextPropagation.wrap(task);
             this.cron = CronExpression.parse(expression);
             this.zone = zone;
         }
@@ -202,103 +206,341 @@ public final class SchedulerService {
     }
     
     /**
-     * Simple cron expression parser.
-     * Supports: second minute hour day-of-month month day-of-week
+     * Cron expression with six fields: second, minute, hour, day-of-month, month
+     * and day-of-week.
+     *
+     * <p>Every field accepts {@code *}, {@code ?}, values, ranges {@code a-b},
+     * steps <code>*&#47;n</code>, {@code a/n} and {@code a-b/n}, and
+     * comma-separated lists of these. Months may be given as {@code JAN}-{@code DEC} and days of
+     * the week as {@code SUN}-{@code SAT}, where both 0 and 7 are Sunday.
+     * Day-of-month also accepts {@code L} (last day), {@code L-n} (n days before
+     * the last), {@code nW} (weekday nearest to day n, within the month) and
+     * {@code LW} (last weekday); day-of-week accepts {@code nL} (last such day
+     * of the month) and {@code n#k} (k-th such day). A day must match both day
+     * fields.</p>
+     *
+     * <p>Each field is held as a bit set, so {@link #next(ZonedDateTime)} jumps
+     * straight to the next matching value of every field instead of stepping
+     * through time. Matching runs on local time: a time skipped by a daylight
+     * saving gap fires when the gap ends, shifted by the gap length, and a time
+     * repeated by an overlap fires once, in the offset of the previous fire
+     * time.</p>
      */
-    static class CronExpression {
-        private final int[] seconds;
-        private final int[] minutes;
-        private final int[] hours;
-        private final int[] daysOfMonth;
-        private final int[] months;
-        private final int[] daysOfWeek;
-        
-        private CronExpression(int[] seconds, int[] minutes, int[] hours,
-                               int[] daysOfMonth, int[] months, int[] daysOfWeek) {
+    public static final class CronExpression {
+
+        // Gregorian calendar cycle; any schedule that can match repeats within it
+        private static final int MAX_YEARS = 400;
+
+        private static final String[] MONTH_NAMES = {
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+        };
+        private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+        // Day specials, packed as kind << 16 | argument << 8 | count
+        private static final int LAST_DAY = 1;
+        private static final int NEAREST_WEEKDAY = 2;
+        private static final int LAST_WEEKDAY = 3;
+        private static final int LAST_OF_WEEK_DAY = 4;
+        private static final int NTH_OF_WEEK_DAY = 5;
+
+        private final String expression;
+        private final long seconds;
+        private final long minutes;
+        private final long hours;
+        private final long daysOfMonth;
+        private final long months;
+        private final long daysOfWeek;
+        private final int[] daySpecials;
+
+        private CronExpression(String expression, long seconds, long minutes, long hours,
+                               long daysOfMonth, long months, long daysOfWeek, int[] daySpecials) {
+            this.expression = expression;
             this.seconds = seconds;
             this.minutes = minutes;
             this.hours = hours;
             this.daysOfMonth = daysOfMonth;
             this.months = months;
             this.daysOfWeek = daysOfWeek;
+            this.daySpecials = daySpecials;
         }
-        
-        static CronExpression parse(String expression) {
+
+        /**
+         * Parses a cron expression.
+         *
+         * @param expression the expression
+         * @return the parsed expression
+         * @throws IllegalArgumentException if the expression is invalid
+         */
+        public static CronExpression parse(String expression) {
+            if (expression == null) {
+                throw new IllegalArgumentException("Cron expression cannot be null");
+            }
             String[] parts = expression.trim().split("\\s+");
             if (parts.length != 6) {
                 throw new IllegalArgumentException(
                     "Cron expression must have 6 fields: second minute hour day-of-month month day-of-week");
             }
-            return new CronExpression(
-                parseField(parts[0], 0, 59),
-                parseField(parts[1], 0, 59),
-                parseField(parts[2], 0, 23),
-                parseField(parts[3], 1, 31),
-                parseField(parts[4], 1, 12),
-                parseField(parts[5], 0, 6)
-            );
+            List<Integer> specials = new ArrayList<>();
+            long daysOfMonth = 0;
+            long daysOfWeek = 0;
+            for (String item : items(expression, parts[3])) {
+                if (item.equals("L") || item.startsWith("L-")) {
+                    int offset = item.length() == 1 ? 0 : value(expression, item.substring(2), 0, 30, null);
+                    specials.add(LAST_DAY << 16 | offset << 8);
+                } else if (item.equals("LW")) {
+                    specials.add(LAST_WEEKDAY << 16);
+                } else if (item.length() > 1 && item.endsWith("W")) {
+                    specials.add(NEAREST_WEEKDAY << 16
+                            | value(expression, item.substring(0, item.length() - 1), 1, 31, null) << 8);
+                } else {
+                    daysOfMonth |= bits(expression, item, 1, 31, null);
+                }
+            }
+            for (String item : items(expression, parts[5])) {
+                int hash = item.indexOf('#');
+                if (hash > 0) {
+                    int day = value(expression, item.substring(0, hash), 0, 7, DAY_NAMES) % 7;
+                    int count = value(expression, item.substring(hash + 1), 1, 5, null);
+                    specials.add(NTH_OF_WEEK_DAY << 16 | day << 8 | count);
+                } else if (item.length() > 1 && item.endsWith("L")) {
+                    int day = value(expression, item.substring(0, item.length() - 1), 0, 7, DAY_NAMES) % 7;
+                    specials.add(LAST_OF_WEEK_DAY << 16 | day << 8);
+                } else if (item.equals("L")) {
+                    daysOfWeek |= 1L << 6;
+                } else {
+                    long days = bits(expression, item, 0, 7, DAY_NAMES);
+                    daysOfWeek |= (days | days >>> 7) & 0x7F;
+                }
+            }
+            return new CronExpression(expression,
+                field(expression, parts[0], 0, 59, null),
+                field(expression, parts[1], 0, 59, null),
+                field(expression, parts[2], 0, 23, null),
+                daysOfMonth,
+                field(expression, parts[4], 1, 12, MONTH_NAMES),
+                daysOfWeek,
+                specials.stream().mapToInt(Integer::intValue).toArray());
         }
-        
-        private static int[] parseField(String field, int min, int max) {
-            if ("*".equals(field) || "?".equals(field)) {
-                return range(min, max);
+
+        /**
+         * Returns the first time strictly after {@code from} that matches this
+         * expression, in the zone of {@code from}.
+         *
+         * @param from the time to start from
+         * @return the next matching time, or {@code null} if there is none
+         */
+        public ZonedDateTime next(ZonedDateTime from) {
+            LocalDateTime start = from.toLocalDateTime().withNano(0).plusSeconds(1);
+            int year = start.getYear();
+            int month = start.getMonthValue();
+            int day = start.getDayOfMonth();
+            int hour = start.getHour();
+            int minute = start.getMinute();
+            int second = start.getSecond();
+            int lastYear = year + MAX_YEARS;
+
+            // Each pass either finds a time or carries into a larger field
+            while (year <= lastYear) {
+                int nextMonth = nextBit(months, month);
+                if (nextMonth < 0) {
+                    year++;
+                    month = 1;
+                    day = 1;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                if (nextMonth != month) {
+                    month = nextMonth;
+                    day = 1;
+                    hour = minute = second = 0;
+                }
+                int nextDay = nextBit(days(year, month), day);
+                if (nextDay < 0) {
+                    month++;
+                    day = 1;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                if (nextDay != day) {
+                    day = nextDay;
+                    hour = minute = second = 0;
+                }
+                int nextHour = nextBit(hours, hour);
+                if (nextHour < 0) {
+                    day++;
+                    hour = minute = second = 0;
+                    continue;
+                }
+                if (nextHour != hour) {
+                    hour = nextHour;
+                    minute = second = 0;
+                }
+                int nextMinute = nextBit(minutes, minute);
+                if (nextMinute < 0) {
+                    hour++;
+                    minute = second = 0;
+                    continue;
+                }
+                if (nextMinute != minute) {
+                    minute = nextMinute;
+                    second = 0;
+                }
+                int nextSecond = nextBit(seconds, second);
+                if (nextSecond < 0) {
+                    minute++;
+                    second = 0;
+                    continue;
+                }
+                second = nextSecond;
+                ZonedDateTime candidate = ZonedDateTime.ofLocal(
+                        LocalDateTime.of(year, month, day, hour, minute, second), from.getZone(), from.getOffset());
+                if (candidate.isAfter(from)) {
+                    return candidate;
+                }
+                second++;
             }
-            if (field.contains("/")) {
-                String[] parts = field.split("/");
-                int step = Integer.parseInt(parts[1]);
-                int start = "*".equals(parts[0]) ? min : Integer.parseInt(parts[0]);
-                return range(start, max, step);
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+
+        /**
+         * Returns the days of a month that match both day fields, as bits 1 to 31.
+         */
+        private long days(int year, int month) {
+            int length = Month.of(month).length(Year.isLeap(year));
+            // Day of the week of the 1st, with Sunday as 0
+            int first = LocalDate.of(year, month, 1).getDayOfWeek().getValue() % 7;
+            long byMonth = daysOfMonth;
+            long byWeek = weekDays(daysOfWeek, first);
+            for (int special : daySpecials) {
+                int argument = special >>> 8 & 0xFF;
+                switch (special >>> 16) {
+                    case LAST_DAY:
+                        byMonth |= length - argument >= 1 ? 1L << (length - argument) : 0;
+                        break;
+                    case NEAREST_WEEKDAY:
+                        byMonth |= argument <= length ? 1L << nearestWeekday(argument, first, length) : 0;
+                        break;
+                    case LAST_WEEKDAY:
+                        byMonth |= 1L << nearestWeekday(length, first, length);
+                        break;
+                    case LAST_OF_WEEK_DAY: {
+                        int firstOfWeekDay = firstOf(argument, first);
+                        byWeek |= 1L << (firstOfWeekDay + (length - firstOfWeekDay) / 7 * 7);
+                        break;
+                    }
+                    default: {
+                        int nth = firstOf(argument, first) + (special & 0xFF) * 7 - 7;
+                        byWeek |= nth <= length ? 1L << nth : 0;
+                    }
+                }
             }
-            if (field.contains("-")) {
-                String[] parts = field.split("-");
-                return range(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+            return byMonth & byWeek & ((1L << (length + 1)) - 2);
+        }
+
+        // Day of the month of the first given day of the week
+        private static int firstOf(int dayOfWeek, int first) {
+            return 1 + (dayOfWeek - first + 7) % 7;
+        }
+
+        // Days of the month falling on the given days of the week, as bits 1 to 31
+        private static long weekDays(long dayOfWeekBits, int first) {
+            long week = ((dayOfWeekBits >>> first) | (dayOfWeekBits << (7 - first))) & 0x7F;
+            return (week | week << 7 | week << 14 | week << 21 | week << 28) << 1;
+        }
+
+        private static int nearestWeekday(int day, int first, int length) {
+            int dayOfWeek = (first + day - 1) % 7;
+            if (dayOfWeek == 6) {
+                return day == 1 ? day + 2 : day - 1;
             }
-            if (field.contains(",")) {
-                return Arrays.stream(field.split(","))
-                    .mapToInt(Integer::parseInt)
-                    .toArray();
+            if (dayOfWeek == 0) {
+                return day == length ? day - 2 : day + 1;
             }
-            return new int[]{Integer.parseInt(field)};
+            return day;
         }
-        
-        private static int[] range(int start, int end) {
-            return range(start, end, 1);
+
+        private static int nextBit(long bits, int from) {
+            if (from >= Long.SIZE) {
+                return -1;
+            }
+            long remaining = bits & (-1L << from);
+            return remaining == 0 ? -1 : Long.numberOfTrailingZeros(remaining);
         }
-        
-        private static int[] range(int start, int end, int step) {
-            List<Integer> values = new ArrayList<>();
-            for (int i = start; i <= end; i += step) {
-                values.add(i);
+
+        private static long field(String expression, String field, int min, int max, String[] names) {
+            long bits = 0;
+            for (String item : items(expression, field)) {
+                bits |= bits(expression, item, min, max, names);
             }
-            return values.stream().mapToInt(Integer::intValue).toArray();
+            return bits;
         }
-        
-        ZonedDateTime next(ZonedDateTime from) {
-            ZonedDateTime candidate = from.plusSeconds(1).withNano(0);
-            
-            for (int i = 0; i < 366 * 24 * 60; i++) { // Max 1 year search
-                if (matches(candidate)) {
-                    return candidate;
+
+        private static String[] items(String expression, String field) {
+            String[] items = field.toUpperCase(Locale.ROOT).split(",", -1);
+            for (String item : items) {
+                if (item.isEmpty()) {
+                    throw invalid(expression, field, "empty list item");
                 }
-                candidate = candidate.plusMinutes(1).withSecond(seconds[0]);
             }
-            return null;
+            return items;
         }
-        
-        private boolean matches(ZonedDateTime dt) {
-            return contains(seconds, dt.getSecond())
-                && contains(minutes, dt.getMinute())
-                && contains(hours, dt.getHour())
-                && contains(daysOfMonth, dt.getDayOfMonth())
-                && contains(months, dt.getMonthValue())
-                && contains(daysOfWeek, dt.getDayOfWeek().getValue() % 7);
+
+        private static long bits(String expression, String item, int min, int max, String[] names) {
+            String range = item;
+            int step = 1;
+            int slash = item.indexOf('/');
+            if (slash >= 0) {
+                range = item.substring(0, slash);
+                step = value(expression, item.substring(slash + 1), 1, max, null);
+            }
+            int low;
+            int high;
+            if (range.equals("*") || range.equals("?")) {
+                low = min;
+                high = max;
+            } else {
+                int dash = range.indexOf('-', 1);
+                low = value(expression, dash < 0 ? range : range.substring(0, dash), min, max, names);
+                high = dash < 0 ? (slash >= 0 ? max : low) : value(expression, range.substring(dash + 1), min, max, names);
+                if (high < low) {
+                    throw invalid(expression, item, "range end is before its start");
+                }
+            }
+            long bits = 0;
+            for (int value = low; value <= high; value += step) {
+                bits |= 1L << value;
+            }
+            return bits;
         }
-        
-        private boolean contains(int[] arr, int value) {
-            for (int v : arr) {
-                if (v == value) return true;
+
+        private static int value(String expression, String text, int min, int max, String[] names) {
+            if (names != null) {
+                for (int i = 0; i < names.length; i++) {
+                    if (names[i].equals(text)) {
+                        return i + min;
+                    }
+                }
+            }
+            int value;
+            try {
+                value = Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                throw invalid(expression, text, "not a number");
+            }
+            if (value < min || value > max) {
+                throw invalid(expression, text, "must be between " + min + " and " + max);
             }
-            return false;
+            return value;
+        }
+
+        private static IllegalArgumentException invalid(String expression, String part, String reason) {
+            return new IllegalArgumentException(
+                "Invalid cron expression '" + expression + "': '" + part + "' " + reason);
         }
     }
 }
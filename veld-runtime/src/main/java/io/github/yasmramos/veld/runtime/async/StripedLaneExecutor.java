@@ -0,0 +1,290 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor that runs tasks with the same key in submission order while tasks
+ * with different keys run in parallel.
+ *
+ * <p>Keys are hashed onto a fixed number of lanes. Each lane is a lock-free
+ * queue drained by at most one task of the backing executor at a time, so
+ * tasks of one lane never overlap and always run in FIFO order. Different
+ * keys that hash to the same lane are serialized too; use more lanes than the
+ * expected parallelism to keep such collisions rare. No thread is dedicated
+ * to a lane, and lanes are allocated on first use and released as soon as
+ * their last task completes, so idle slots cost one array element.</p>
+ *
+ * <p>Each task runs in the context of the thread that submitted it (see
+ * {@link ContextPropagation}), independently of the other tasks of its lane.</p>
+ *
+ * <p>A lane drains a bounded number of tasks per turn and then resubmits
+ * itself, so one busy key cannot starve other work on the backing executor.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class StripedLaneExecutor implements ContextPropagation.PropagatingExecutor {
+
+    private static final Logger LOGGER = Logger.getLogger(StripedLaneExecutor.class.getName());
+
+    /** Default number of lanes. */
+    public static final int DEFAULT_LANES = 64;
+
+    // Tasks a lane runs before yielding its backing thread
+    private static final int DRAIN_BATCH = 256;
+
+    private final Executor backing;
+    // A slot is null while its lane is idle
+    private final AtomicReferenceArray<Lane> lanes;
+    private final int mask;
+
+    /**
+     * Creates an executor with {@link #DEFAULT_LANES} lanes.
+     *
+     * @param backing the executor that runs the lane drains
+     */
+    public StripedLaneExecutor(Executor backing) {
+        this(backing, DEFAULT_LANES);
+    }
+
+    /**
+     * Creates an executor with the given number of lanes.
+     *
+     * @param backing the executor that runs the lane drains
+     * @param lanes the number of lanes; rounded up to a power of two
+     */
+    public StripedLaneExecutor(Executor backing, int lanes) {
+        if (backing == null) {
+            throw new IllegalArgumentException("Backing executor cannot be null");
+        }
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive: " + lanes);
+        }
+        int size = Integer.highestOneBit(lanes);
+        if (size < lanes) {
+            size <<= 1;
+        }
+        this.backing = backing;
+        this.lanes = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Runs the task after all earlier tasks submitted with an equal key.
+     *
+     * @param key the ordering key; {@code null} runs the task unordered
+     * @param task the task
+     */
+    public void execute(Object key, Runnable task) {
+        if (key == null) {
+            execute(task);
+        } else {
+            execute(key.hashCode(), task);
+        }
+    }
+
+    /**
+     * Returns an executor that runs every task with the given ordering key, for
+     * handing to APIs that take a plain {@link Executor}.
+     *
+     * @param key the ordering key; {@code null} runs tasks unordered
+     * @return the keyed view
+     */
+    public Executor withKey(Object key) {
+        return task -> execute(key, task);
+    }
+
+    /**
+     * Runs the task after all earlier tasks submitted with the same hash.
+     *
+     * @param hash the ordering hash
+     * @param task the task
+     */
+    public void execute(int hash, Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        task = ContextPropagation.wrap(task);
+        int index = spread(hash) & mask;
+        while (true) {
+            Lane lane = lanes.get(index);
+            if (lane == null) {
+                lane = new Lane(index);
+                if (!lanes.compareAndSet(index, null, lane)) {
+                    continue;
+                }
+            }
+            if (lane.submit(task)) {
+                return;
+            }
+            // Retired by its last drain; help clear the slot and retry
+            lanes.compareAndSet(index, lane, null);
+        }
+    }
+
+    /**
+     * Runs the task on the backing executor without ordering, in the
+     * submitter's context.
+     *
+     * @param task the task
+     */
+    @Override
+    public void execute(Runnable task) {
+        backing.execute(ContextPropagation.wrapFor(backing, task));
+    }
+
+    /**
+     * Returns the number of lanes.
+     *
+     * @return the lane count (a power of two)
+     */
+    public int getLaneCount() {
+        return lanes.length();
+    }
+
+    /**
+     * Returns the number of lanes that currently hold queued or running tasks.
+     *
+     * @return the allocated lane count
+     */
+    public int getActiveLaneCount() {
+        int active = 0;
+        for (int i = 0; i < lanes.length(); i++) {
+            if (lanes.get(i) != null) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Returns the number of tasks waiting in all lanes.
+     *
+     * @return the queued task count
+     */
+    public int getQueuedTaskCount() {
+        int total = 0;
+        for (int i = 0; i < lanes.length(); i++) {
+            Lane lane = lanes.get(i);
+            if (lane != null) {
+                total += lane.queue.size();
+            }
+        }
+        return total;
+    }
+
+    private static int spread(int hash) {
+        // Mix high bits into the low bits used for lane selection
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private final class Lane implements ContextPropagation.PropagatingTask {
+        static final int IDLE = 0;
+        static final int SCHEDULED = 1;
+        // Terminal: the lane is out of its slot and never drains again
+        static final int RETIRED = 2;
+
+        final int index;
+        final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger state = new AtomicInteger(IDLE);
+
+        Lane(int index) {
+            this.index = index;
+        }
+
+        /**
+         * Queues the task and makes sure a drain will see it.
+         *
+         * @return {@code false} if the lane retired with the task still queued; the task
+         *         has been taken back and must go to a fresh lane
+         */
+        boolean submit(Runnable task) {
+            queue.offer(task);
+            // Offer first, then read the state: a drain that ends after this read sees the task
+            int current = state.get();
+            if (current == SCHEDULED) {
+                return true;
+            }
+            try {
+                if (current == IDLE && schedule()) {
+                    return true;
+                }
+            } catch (RejectedExecutionException e) {
+                // The caller sees the rejection, so the task must not run with a later drain.
+                // If a drain scheduled by another submission already took it, it was accepted after all
+                if (queue.remove(task)) {
+                    throw e;
+                }
+                return true;
+            }
+            // Lost the race to schedule: a drain that ran meanwhile may already have taken
+            // the task before the lane retired. Only a task still queued must move on
+            return state.get() != RETIRED || !queue.remove(task);
+        }
+
+        private boolean schedule() {
+            if (!state.compareAndSet(IDLE, SCHEDULED)) {
+                return false;
+            }
+            try {
+                backing.execute(this);
+            } catch (RejectedExecutionException e) {
+                state.set(IDLE);
+                throw e;
+            }
+            return true;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Runnable task;
+                for (int i = 0; i < DRAIN_BATCH && (task = queue.poll()) != null; i++) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.WARNING, "Task failed in ordered lane", e);
+                    }
+                }
+            } finally {
+                state.set(IDLE);
+            }
+            if (!queue.isEmpty()) {
+                try {
+                    schedule();
+                } catch (RejectedExecutionException e) {
+                    LOGGER.log(Level.FINE, "Backing executor rejected lane drain; queued tasks wait for the next submission", e);
+                }
+            } else if (state.compareAndSet(IDLE, RETIRED)) {
+                // A submission racing with this sees RETIRED and moves its task to a fresh
+                // lane, which cannot overtake anything here because this lane is empty
+                lanes.compareAndSet(index, this, null);
+            }
+        }
+    }
+}
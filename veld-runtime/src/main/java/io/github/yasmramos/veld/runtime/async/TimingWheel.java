@@ -0,0 +1,539 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Hierarchical hashed timing wheel for large numbers of one-shot timers.
+ *
+ * <p>Time is divided into ticks of a fixed resolution. Timers due within 64
+ * ticks sit in the 64 slots of the first level; each further level has 64
+ * slots of 64 times the span of the level below, for six levels in total.
+ * When the wheel reaches the start of a higher-level slot, that slot's timers
+ * move down to the level matching their remaining time, so each timer is
+ * touched at most once per level. Timers beyond the top level are parked in
+ * its last slot and placed again when it comes due.</p>
+ *
+ * <p>{@link #schedule(Runnable, long, TimeUnit)} and {@link Timeout#cancel()}
+ * are O(1) and lock-free: they push the timer onto a stack that the single
+ * ticker thread drains on its next tick, and the returned {@link Timeout} is
+ * the only object allocated per timer. The ticker expires all timers of a tick
+ * as one batch and runs them on itself, or hands them to an executor when one
+ * is configured. Timers never fire early and fire at most one tick late, plus
+ * the time the ticker is busy. An empty wheel parks its ticker until the next
+ * timer is scheduled.</p>
+ *
+ * <p>Tasks run on the ticker thread must be short; hand longer work to an
+ * executor.</p>
+ *
+ * <pre>{@code
+ * TimingWheel.Timeout timeout = TimingWheel.getInstance()
+ *         .schedule(() -> request.fail(TIMEOUT), 30, TimeUnit.SECONDS);
+ * // on completion
+ * timeout.cancel();
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class TimingWheel {
+
+    private static final Logger LOGGER = Logger.getLogger(TimingWheel.class.getName());
+
+    /** Tick resolution of the shared wheel. */
+    public static final Duration DEFAULT_TICK = Duration.ofMillis(1);
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    // Farthest tick a timer can be placed at, relative to the current tick
+    private static final long MAX_SPAN = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private static volatile TimingWheel instance;
+
+    private final long tickNanos;
+    private final Executor executor;
+    private final String threadName;
+    private final long startNanos = System.nanoTime();
+
+    // Lock-free stacks linked through Timeout.nextIncoming and Timeout.nextCancelled
+    private final AtomicReference<Timeout> incoming = new AtomicReference<>();
+    private final AtomicReference<Timeout> cancelled = new AtomicReference<>();
+    private final AtomicLong pending = new AtomicLong();
+
+    // Owned by the ticker thread
+    private final Timeout[][] slots = new Timeout[LEVELS][SLOTS];
+    private long currentTick;
+    private long inWheel;
+    private Timeout expiredHead;
+    private Timeout expiredTail;
+
+    private volatile Thread ticker;
+    private volatile boolean idle;
+    private volatile boolean stopped;
+
+    private TimingWheel(Builder builder) {
+        this.tickNanos = builder.tick.toNanos();
+        this.executor = builder.executor;
+        this.threadName = builder.threadName;
+    }
+
+    /**
+     * Creates a builder for a timing wheel.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the shared wheel, with a tick of {@link #DEFAULT_TICK} and expired
+     * tasks run on its ticker thread.
+     *
+     * @return the shared wheel
+     */
+    public static TimingWheel getInstance() {
+        TimingWheel wheel = instance;
+        if (wheel == null) {
+            synchronized (TimingWheel.class) {
+                wheel = instance;
+                if (wheel == null) {
+                    wheel = builder().threadName("veld-timing-wheel").build();
+                    instance = wheel;
+                }
+            }
+        }
+        return wheel;
+    }
+
+    /**
+     * Schedules a one-shot task.
+     *
+     * @param task the task to run
+     * @param delay the delay from now; zero or negative runs on the next tick
+     * @param unit the unit of the delay
+     * @return the handle to cancel the task
+     * @throws RejectedExecutionException if the wheel has been stopped
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        if (unit == null) {
+            throw new IllegalArgumentException("Time unit cannot be null");
+        }
+        if (stopped) {
+            throw new RejectedExecutionException("Timing wheel has been stopped");
+        }
+        long now = System.nanoTime() - startNanos;
+        long delayNanos = Math.max(0L, unit.toNanos(delay));
+        long deadline = delayNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos;
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        push(incoming, timeout, false);
+        if (ticker == null) {
+            startTicker();
+        } else if (idle) {
+            LockSupport.unpark(ticker);
+        }
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timers that have neither fired nor been cancelled.
+     *
+     * @return the pending timer count
+     */
+    public long getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Returns the tick resolution.
+     *
+     * @return the tick duration
+     */
+    public Duration getTick() {
+        return Duration.ofNanos(tickNanos);
+    }
+
+    /**
+     * Stops the ticker thread. Pending timers are discarded and later calls to
+     * {@link #schedule(Runnable, long, TimeUnit)} are rejected.
+     */
+    public void stop() {
+        stopped = true;
+        Thread thread = ticker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Stops the shared wheel so the next {@link #getInstance()} creates a new one (for testing).
+     */
+    public static void reset() {
+        synchronized (TimingWheel.class) {
+            if (instance != null) {
+                instance.stop();
+                instance = null;
+            }
+        }
+    }
+
+    private synchronized void startTicker() {
+        if (ticker == null && !stopped) {
+            Thread thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            ticker = thread;
+            thread.start();
+        }
+    }
+
+    private static void push(AtomicReference<Timeout> stack, Timeout timeout, boolean cancel) {
+        Timeout head;
+        do {
+            head = stack.get();
+            if (cancel) {
+                timeout.nextCancelled = head;
+            } else {
+                timeout.nextIncoming = head;
+            }
+        } while (!stack.compareAndSet(head, timeout));
+    }
+
+    private void run() {
+        while (!stopped) {
+            long now = System.nanoTime() - startNanos;
+            long targetTick = now / tickNanos;
+            if (inWheel == 0) {
+                // Nothing can be due in between, so skip the idle ticks
+                currentTick = Math.max(currentTick, targetTick);
+            }
+            if (inWheel == 0 && incoming.get() == null) {
+                drainCancelled();
+                idle = true;
+                if (incoming.get() == null && !stopped) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                continue;
+            }
+            drainIncoming();
+            drainCancelled();
+            while (currentTick < targetTick) {
+                tick(currentTick + 1);
+                runExpired();
+            }
+            runExpired();
+            long nextTickNanos = (currentTick + 1) * tickNanos;
+            long wait = nextTickNanos - (System.nanoTime() - startNanos);
+            if (wait > 0 && incoming.get() == null) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    private void drainIncoming() {
+        Timeout timeout = incoming.getAndSet(null);
+        while (timeout != null) {
+            Timeout next = timeout.nextIncoming;
+            timeout.nextIncoming = null;
+            if (timeout.state == Timeout.PENDING) {
+                long deadline = timeout.deadline;
+                timeout.deadlineTick = deadline > Long.MAX_VALUE - tickNanos
+                        ? Long.MAX_VALUE / tickNanos
+                        : (deadline + tickNanos - 1) / tickNanos;
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void drainCancelled() {
+        Timeout timeout = cancelled.getAndSet(null);
+        while (timeout != null) {
+            Timeout next = timeout.nextCancelled;
+            timeout.nextCancelled = null;
+            if (timeout.level >= 0) {
+                unlink(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    // Moves the wheel to the given tick: cascades the higher levels that start a slot, then expires level 0
+    private void tick(long tick) {
+        currentTick = tick;
+        int top = 0;
+        while (top + 1 < LEVELS && (tick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            int slot = (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+            Timeout timeout = slots[level][slot];
+            slots[level][slot] = null;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = timeout.next = null;
+                timeout.level = -1;
+                inWheel--;
+                if (timeout.state == Timeout.PENDING) {
+                    place(timeout);
+                }
+                timeout = next;
+            }
+        }
+        int slot = (int) tick & SLOT_MASK;
+        Timeout timeout = slots[0][slot];
+        slots[0][slot] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = timeout.next = null;
+            timeout.level = -1;
+            inWheel--;
+            expire(timeout);
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            expire(timeout);
+            return;
+        }
+        long slotTick = timeout.deadlineTick;
+        int level;
+        if (delta > MAX_SPAN) {
+            level = LEVELS - 1;
+            slotTick = currentTick + MAX_SPAN;
+        } else {
+            level = (63 - Long.numberOfLeadingZeros(delta)) / SLOT_BITS;
+        }
+        int slot = (int) (slotTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+        Timeout head = slots[level][slot];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[level][slot] = timeout;
+        timeout.level = level;
+        timeout.slot = slot;
+        inWheel++;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = timeout.next = null;
+        timeout.level = -1;
+        inWheel--;
+    }
+
+    private void expire(Timeout timeout) {
+        if (!Timeout.STATE.compareAndSet(timeout, Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        pending.decrementAndGet();
+        if (expiredTail == null) {
+            expiredHead = timeout;
+        } else {
+            expiredTail.next = timeout;
+        }
+        expiredTail = timeout;
+    }
+
+    private void runExpired() {
+        Timeout timeout = expiredHead;
+        expiredHead = expiredTail = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.next = null;
+            Runnable task = timeout.task;
+            timeout.task = null;
+            try {
+                if (executor != null) {
+                    executor.execute(task);
+                } else {
+                    task.run();
+                }
+            } catch (RuntimeException | Error e) {
+                LOGGER.log(Level.WARNING, "Timer task failed on " + threadName, e);
+            }
+            timeout = next;
+        }
+    }
+
+    /**
+     * Handle of a scheduled task.
+     */
+    public static final class Timeout {
+
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final TimingWheel wheel;
+        private final long deadline;
+        private volatile Runnable task;
+        private volatile int state;
+
+        // Written by producers before the timer is published
+        private Timeout nextIncoming;
+        private Timeout nextCancelled;
+
+        // Owned by the ticker thread
+        private long deadlineTick;
+        private Timeout prev;
+        private Timeout next;
+        private int level = -1;
+        private int slot;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadline) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return {@code true} if this call cancelled the task
+         */
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            task = null;
+            wheel.pending.decrementAndGet();
+            push(wheel.cancelled, this, true);
+            return true;
+        }
+
+        /**
+         * Returns whether the task was cancelled before it ran.
+         *
+         * @return {@code true} if cancelled
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        /**
+         * Returns whether the task has been handed over to run.
+         *
+         * @return {@code true} if expired
+         */
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        /**
+         * Returns the time left until the task is due.
+         *
+         * @param unit the unit of the result
+         * @return the remaining delay, zero or negative once due
+         */
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - (System.nanoTime() - wheel.startNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Builder for {@link TimingWheel}.
+     */
+    public static final class Builder {
+
+        private Duration tick = DEFAULT_TICK;
+        private Executor executor;
+        private String threadName = "veld-timing-wheel";
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the tick resolution; timers fire at most one tick late.
+         *
+         * @param tick the tick duration, at least one microsecond
+         * @return this builder
+         */
+        public Builder tick(Duration tick) {
+            if (tick == null || tick.toNanos() < 1_000L) {
+                throw new IllegalArgumentException("Tick must be at least 1 microsecond: " + tick);
+            }
+            this.tick = tick;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs expired tasks; by default they run on the ticker thread.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the name of the ticker thread.
+         *
+         * @param threadName the thread name
+         * @return this builder
+         */
+        public Builder threadName(String threadName) {
+            if (threadName == null || threadName.isEmpty()) {
+                throw new IllegalArgumentException("Thread name cannot be empty");
+            }
+            this.threadName = threadName;
+            return this;
+        }
+
+        /**
+         * Builds the wheel; its ticker thread starts with the first timer.
+         *
+         * @return the wheel
+         */
+        public TimingWheel build() {
+            return new TimingWheel(this);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor that runs every task on its own virtual thread, optionally limiting
+ * how many tasks run at once.
+ *
+ * <p>The limit is a {@link Semaphore} acquired by the task's own thread, so
+ * {@link #execute(Runnable)} never blocks the submitter and never runs the task
+ * on the submitting thread; excess tasks simply wait parked until a permit is
+ * released. On runtimes without virtual threads the tasks use daemon platform
+ * threads (see {@link VirtualThreads}).</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class VirtualThreadExecutor extends AbstractExecutorService
+        implements ContextPropagation.PropagatingExecutor {
+
+    private final ExecutorService threads;
+    private final Semaphore permits;
+    private final int maxConcurrency;
+
+    /**
+     * Creates an executor.
+     *
+     * @param name the thread name prefix
+     * @param maxConcurrency the maximum number of tasks running at once, or {@code 0} for no limit
+     */
+    public VirtualThreadExecutor(String name, int maxConcurrency) {
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("Max concurrency must not be negative: " + maxConcurrency);
+        }
+        this.threads = VirtualThreads.newThreadPerTaskExecutor(name);
+        this.maxConcurrency = maxConcurrency;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("task");
+        }
+        Runnable propagated = ContextPropagation.wrap(task);
+        Semaphore limit = permits;
+        if (limit == null) {
+            threads.execute(propagated);
+            return;
+        }
+        threads.execute(() -> {
+            try {
+                limit.acquire();
+            } catch (InterruptedException e) {
+                // Interrupted by shutdownNow() before it could start
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                propagated.run();
+            } finally {
+                limit.release();
+            }
+        });
+    }
+
+    /**
+     * Returns the concurrency limit.
+     *
+     * @return the maximum number of tasks running at once, or {@code 0} if unlimited
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns how many tasks are running while holding a permit.
+     *
+     * @return the number of running tasks, or {@code 0} if unlimited
+     */
+    public int getRunningCount() {
+        return permits != null ? maxConcurrency - permits.availablePermits() : 0;
+    }
+
+    /**
+     * Returns an estimate of the tasks waiting for a permit.
+     *
+     * @return the number of waiting tasks
+     */
+    public int getWaitingCount() {
+        return permits != null ? permits.getQueueLength() : 0;
+    }
+
+    @Override
+    public void shutdown() {
+        threads.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return threads.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return threads.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return threads.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return threads.awaitTermination(timeout, unit);
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualThreadExecutor{maxConcurrency=" + (maxConcurrency > 0 ? maxConcurrency : "unlimited")
+                + ", virtual=" + VirtualThreads.isSupported() + '}';
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Access to virtual threads on JDK 21+ while compiling against Java 17.
+ *
+ * <p>The {@code Thread.ofVirtual()} API is resolved once through method
+ * handles. On older runtimes, or when virtual threads are unavailable, every
+ * factory method falls back to daemon platform threads with the same name
+ * prefix, so callers never need to branch on the JDK version.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class VirtualThreads {
+
+    // (String prefix, long start) -> ThreadFactory, or null when unsupported
+    private static final MethodHandle VIRTUAL_FACTORY = resolveVirtualFactory();
+
+    private VirtualThreads() {
+    }
+
+    private static MethodHandle resolveVirtualFactory() {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            MethodHandle ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(ofVirtualType));
+            MethodHandle name = lookup.findVirtual(ofVirtualType, "name",
+                    MethodType.methodType(ofVirtualType, String.class, long.class));
+            MethodHandle factory = lookup.findVirtual(builderType, "factory",
+                    MethodType.methodType(ThreadFactory.class));
+            // Probe once: JDK 19/20 expose the API but reject it without --enable-preview
+            Object builder = ofVirtual.invoke();
+            Object named = name.invoke(builder, "veld-probe-", 0L);
+            ThreadFactory probe = (ThreadFactory) factory.invoke(named);
+            probe.newThread(() -> { });
+            return MethodHandles.filterReturnValue(
+                    MethodHandles.collectArguments(name, 0, ofVirtual),
+                    factory.asType(MethodType.methodType(ThreadFactory.class, ofVirtualType)));
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether this runtime supports virtual threads.
+     *
+     * @return {@code true} on JDK 21+ (or a preview-enabled JDK 19/20)
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_FACTORY != null;
+    }
+
+    /**
+     * Creates a thread factory producing threads named {@code prefix-1},
+     * {@code prefix-2}, ...
+     *
+     * <p>Threads are virtual when supported, daemon platform threads otherwise.</p>
+     *
+     * @param prefix the thread name prefix
+     * @return the thread factory
+     */
+    public static ThreadFactory newThreadFactory(String prefix) {
+        if (VIRTUAL_FACTORY != null) {
+            try {
+                return (ThreadFactory) VIRTUAL_FACTORY.invoke(prefix + "-", 1L);
+            } catch (Throwable e) {
+                // fall through to platform threads
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Creates an executor that starts a new thread for each task.
+     *
+     * <p>With virtual threads this is the usual thread-per-task executor; on
+     * older runtimes it is an unbounded cached pool of daemon platform threads.</p>
+     *
+     * @param prefix the thread name prefix
+     * @return the executor; the caller owns it and must shut it down
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        ThreadFactory factory = newThreadFactory(prefix);
+        if (VIRTUAL_FACTORY != null) {
+            try {
+                MethodHandle perTask = MethodHandles.publicLookup().findStatic(Executors.class,
+                        "newThreadPerTaskExecutor",
+                        MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+                return (ExecutorService) perTask.invoke(factory);
+            } catch (Throwable e) {
+                // fall through to a cached pool
+            }
+        }
+        return Executors.newCachedThreadPool(factory);
+    }
+}
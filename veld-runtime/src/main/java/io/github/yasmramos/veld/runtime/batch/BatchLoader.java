@@ -0,0 +1,396 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.batch;
+
+import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import io.github.yasmramos.veld.runtime.async.TimingWheel;
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects single-key loads into batches dispatched to one bulk call, in the
+ * style of a DataLoader.
+ *
+ * <p>The first key of a batch schedules a flush on the executor, after the
+ * configured window if there is one; keys requested before the flush runs
+ * join the batch, and a batch that reaches the maximum size is dispatched at
+ * once. Each key appears once per batch, and each caller gets its own future,
+ * completed from the bulk result. Keys missing from the result complete with
+ * {@code null}; a failing bulk call fails every future of its batch.</p>
+ *
+ * <p>Inside an open {@link BatchScope}, results are also cached per key for the
+ * rest of the scope.</p>
+ *
+ * <p>The bulk call runs on the executor in the context of the call that opened
+ * its batch (see {@link ContextPropagation}).</p>
+ *
+ * <pre>{@code
+ * BatchLoader<Long, User> users = BatchLoader.builder(repository::findAllByIds)
+ *         .maxBatchSize(200)
+ *         .window(Duration.ofMillis(2))
+ *         .build();
+ * CompletableFuture<User> user = users.load(42L);
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class BatchLoader<K, V> {
+
+    /** Default maximum number of keys per batch. */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /**
+     * Loads the values of a batch of keys.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface BulkFunction<K, V> {
+
+        /**
+         * Loads the values of the given keys.
+         *
+         * @param keys the distinct keys of the batch, in request order
+         * @return the values by key; missing keys load as {@code null}
+         * @throws Exception if the batch cannot be loaded
+         */
+        Map<K, V> load(List<K> keys) throws Exception;
+    }
+
+    private final BulkFunction<K, V> bulkFunction;
+    private final int maxBatchSize;
+    private final Executor executor;
+    private final long windowNanos;
+
+    private final Object lock = new Object();
+    // Guarded by lock; null until a key opens the next batch
+    private LinkedHashMap<K, CompletableFuture<V>> pending;
+
+    private final LongAdder dispatchedBatches = new LongAdder();
+    private final LongAdder dispatchedKeys = new LongAdder();
+
+    private BatchLoader(Builder<K, V> builder) {
+        this.bulkFunction = builder.bulkFunction;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.executor = builder.executor != null
+                ? builder.executor
+                : AsyncExecutor.getInstance().getDefaultExecutor();
+        this.windowNanos = builder.window.toNanos();
+    }
+
+    /**
+     * Creates a builder for a loader backed by a bulk function.
+     *
+     * @param bulkFunction loads a batch of keys
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new builder
+     */
+    public static <K, V> Builder<K, V> builder(BulkFunction<K, V> bulkFunction) {
+        if (bulkFunction == null) {
+            throw new IllegalArgumentException("Bulk function cannot be null");
+        }
+        return new Builder<>(bulkFunction);
+    }
+
+    /**
+     * Maps keys to the values of a bulk call that returns a list, by position.
+     *
+     * @param keys the keys passed to the bulk call
+     * @param values the values in key order
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the values by key
+     * @throws IllegalStateException if the sizes differ
+     */
+    public static <K, V> Map<K, V> zip(List<K> keys, List<? extends V> values) {
+        if (values == null || values.size() != keys.size()) {
+            throw new IllegalStateException("Bulk call returned " + (values == null ? "null" : values.size()
+                    + " values") + " for " + keys.size() + " keys");
+        }
+        Map<K, V> result = new HashMap<>((int) (keys.size() / 0.75f) + 1);
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), values.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Requests the value of a key.
+     *
+     * @param key the key
+     * @return a future completed when the batch holding the key is loaded
+     * @throws IllegalArgumentException if the key is null
+     */
+    public CompletableFuture<V> load(K key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        BatchScope scope = BatchScope.current();
+        if (scope == null) {
+            return enqueue(key).copy();
+        }
+        ConcurrentMap<K, CompletableFuture<V>> cache = scope.cacheFor(this);
+        CompletableFuture<V> cached = cache.get(key);
+        if (cached == null) {
+            CompletableFuture<V> loading = new CompletableFuture<>();
+            cached = cache.putIfAbsent(key, loading);
+            if (cached == null) {
+                cached = loading;
+                loading.whenComplete((value, error) -> {
+                    if (error != null) {
+                        cache.remove(key, loading);
+                    }
+                });
+                enqueue(key).whenComplete((value, error) -> {
+                    if (error != null) {
+                        loading.completeExceptionally(error);
+                    } else {
+                        loading.complete(value);
+                    }
+                });
+            }
+        }
+        return cached.copy();
+    }
+
+    /**
+     * Dispatches the pending batch now instead of waiting for its flush.
+     */
+    public void dispatch() {
+        LinkedHashMap<K, CompletableFuture<V>> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = null;
+        }
+        if (batch != null) {
+            submit(batch);
+        }
+    }
+
+    /**
+     * Returns the number of bulk calls made so far.
+     *
+     * @return the dispatched batch count
+     */
+    public long getDispatchedBatches() {
+        return dispatchedBatches.sum();
+    }
+
+    /**
+     * Returns the number of keys passed to bulk calls so far.
+     *
+     * @return the dispatched key count
+     */
+    public long getDispatchedKeys() {
+        return dispatchedKeys.sum();
+    }
+
+    /**
+     * Returns the maximum number of keys per batch.
+     *
+     * @return the maximum batch size
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    private CompletableFuture<V> enqueue(K key) {
+        LinkedHashMap<K, CompletableFuture<V>> opened = null;
+        LinkedHashMap<K, CompletableFuture<V>> full = null;
+        CompletableFuture<V> future;
+        synchronized (lock) {
+            if (pending == null) {
+                pending = new LinkedHashMap<>();
+                opened = pending;
+            }
+            future = pending.get(key);
+            if (future == null) {
+                future = new CompletableFuture<>();
+                pending.put(key, future);
+                if (pending.size() >= maxBatchSize) {
+                    full = pending;
+                    pending = null;
+                }
+            }
+        }
+        if (full != null) {
+            submit(full);
+        } else if (opened != null) {
+            LinkedHashMap<K, CompletableFuture<V>> batch = opened;
+            // Captured here, as the timer thread submits it; executors that propagate context leave it as is
+            Runnable task = ContextPropagation.wrap(() -> flush(batch));
+            try {
+                if (windowNanos > 0L) {
+                    TimingWheel.getInstance().schedule(() -> startFlush(batch, task), windowNanos, TimeUnit.NANOSECONDS);
+                } else {
+                    startFlush(batch, task);
+                }
+            } catch (RuntimeException e) {
+                flush(batch, e);
+            }
+        }
+        return future;
+    }
+
+    private void startFlush(LinkedHashMap<K, CompletableFuture<V>> batch, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RuntimeException e) {
+            flush(batch, e);
+        }
+    }
+
+    // Runs the scheduled flush unless the batch already filled up and left
+    private void flush(LinkedHashMap<K, CompletableFuture<V>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        loadBatch(batch);
+    }
+
+    private void flush(LinkedHashMap<K, CompletableFuture<V>> batch, Throwable error) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        fail(batch, error);
+    }
+
+    private void submit(LinkedHashMap<K, CompletableFuture<V>> batch) {
+        try {
+            executor.execute(ContextPropagation.wrapFor(executor, () -> loadBatch(batch)));
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+
+    private void loadBatch(LinkedHashMap<K, CompletableFuture<V>> batch) {
+        dispatchedBatches.increment();
+        dispatchedKeys.add(batch.size());
+        Map<K, V> values;
+        try {
+            values = bulkFunction.load(new ArrayList<>(batch.keySet()));
+            if (values == null) {
+                throw new IllegalStateException("Bulk call returned null for " + batch.size() + " keys");
+            }
+        } catch (Throwable e) {
+            fail(batch, e);
+            return;
+        }
+        for (Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet()) {
+            entry.getValue().complete(values.get(entry.getKey()));
+        }
+    }
+
+    private static <K, V> void fail(Map<K, CompletableFuture<V>> batch, Throwable error) {
+        for (CompletableFuture<V> future : batch.values()) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Builder for {@link BatchLoader}.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    public static final class Builder<K, V> {
+
+        private final BulkFunction<K, V> bulkFunction;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private Duration window = Duration.ZERO;
+        private Executor executor;
+
+        private Builder(BulkFunction<K, V> bulkFunction) {
+            this.bulkFunction = bulkFunction;
+        }
+
+        /**
+         * Sets the maximum number of keys per batch; a full batch is dispatched at once.
+         *
+         * @param maxBatchSize the maximum batch size, at least 1
+         * @return this builder
+         */
+        public Builder<K, V> maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1) {
+                throw new IllegalArgumentException("Max batch size must be positive: " + maxBatchSize);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Sets how long a batch collects keys before it is dispatched. With a zero
+         * window, the default, the flush is submitted right away and the batch
+         * holds the keys requested until the executor runs it.
+         *
+         * @param window the collection window
+         * @return this builder
+         */
+        public Builder<K, V> window(Duration window) {
+            if (window == null || window.isNegative()) {
+                throw new IllegalArgumentException("Window must not be null or negative: " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the bulk calls; defaults to the
+         * {@link AsyncExecutor} default executor.
+         *
+         * @param executor the executor
+         * @return this builder
+         */
+        public Builder<K, V> executor(Executor executor) {
+            if (executor == null) {
+                throw new IllegalArgumentException("Executor cannot be null");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Builds the loader.
+         *
+         * @return the loader
+         */
+        public BatchLoader<K, V> build() {
+            return new BatchLoader<>(this);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.batch;
+
+import io.github.yasmramos.veld.runtime.context.ContextHolder;
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of {@link BatchLoader} results for the duration of one unit of work,
+ * typically a request.
+ *
+ * <p>While a scope is open, every key a loader sees is loaded at most once:
+ * repeated calls get a future completed from the first load, even after the
+ * batch that loaded it was dispatched. Failed loads are evicted, so a later
+ * call retries them.</p>
+ *
+ * <p>The scope is bound to the opening thread and follows tasks submitted from
+ * it through {@link ContextPropagation}, so async work of the same request
+ * shares the cache. Scopes nest; closing one restores the enclosing scope.</p>
+ *
+ * <pre>{@code
+ * try (BatchScope scope = BatchScope.open()) {
+ *     handle(request);
+ * }
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class BatchScope implements AutoCloseable {
+
+    private static final ThreadLocal<BatchScope> CURRENT = new ThreadLocal<>();
+
+    static {
+        ContextPropagation.register(ContextHolder.ofThreadLocal(CURRENT));
+    }
+
+    private final BatchScope previous;
+    private final Map<BatchLoader<?, ?>, ConcurrentMap<Object, CompletableFuture<?>>> caches =
+            new ConcurrentHashMap<>();
+
+    private BatchScope(BatchScope previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a scope and makes it current on this thread.
+     *
+     * @return the new scope, to be closed by the same thread
+     */
+    public static BatchScope open() {
+        BatchScope scope = new BatchScope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Returns the scope current on this thread.
+     *
+     * @return the current scope, or {@code null} if none is open
+     */
+    public static BatchScope current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Discards the cached results of every loader.
+     */
+    public void clear() {
+        caches.clear();
+    }
+
+    /**
+     * Discards the cached results of one loader.
+     *
+     * @param loader the loader
+     */
+    public void clear(BatchLoader<?, ?> loader) {
+        caches.remove(loader);
+    }
+
+    /**
+     * Closes this scope, discarding its cache and restoring the enclosing scope
+     * if this one is current.
+     */
+    @Override
+    public void close() {
+        caches.clear();
+        if (CURRENT.get() == this) {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    <K, V> ConcurrentMap<K, CompletableFuture<V>> cacheFor(BatchLoader<K, V> loader) {
+        return (ConcurrentMap) caches.computeIfAbsent(loader, key -> new ConcurrentHashMap<>());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.context;
+
+/**
+ * A piece of thread-bound context, such as the security principal or a tracing
+ * id, that {@link ContextPropagation} carries from a submitting thread to the
+ * thread running the task.
+ *
+ * <p>{@link #capture()} runs on the submitting thread and must only read;
+ * {@link #swap(Object)} runs on the executing thread, once with the captured
+ * value before the task and once with the returned previous value after it.</p>
+ *
+ * @param <T> the type of the context value
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public interface ContextHolder<T> {
+
+    /**
+     * Returns the value to propagate from the current thread.
+     *
+     * @return the current value, or {@code null} if there is nothing to propagate
+     */
+    T capture();
+
+    /**
+     * Makes {@code value} current on this thread.
+     *
+     * @param value the value to install; {@code null} clears the context
+     * @return the value that was current before, to be swapped back afterwards
+     */
+    T swap(T value);
+
+    /**
+     * Returns a holder for a {@link ThreadLocal}.
+     *
+     * @param threadLocal the thread local holding the context
+     * @param <T> the type of the context value
+     * @return the holder
+     */
+    static <T> ContextHolder<T> ofThreadLocal(ThreadLocal<T> threadLocal) {
+        if (threadLocal == null) {
+            throw new IllegalArgumentException("Thread local cannot be null");
+        }
+        return new ContextHolder<T>() {
+            @Override
+            public T capture() {
+                return threadLocal.get();
+            }
+
+            @Override
+            public T swap(T value) {
+                T previous = threadLocal.get();
+                if (value == null) {
+                    threadLocal.remove();
+                } else {
+                    threadLocal.set(value);
+                }
+                return previous;
+            }
+        };
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.context;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Carries thread-bound context from the thread that submits a task to the
+ * thread that runs it.
+ *
+ * <p>Modules register a {@link ContextHolder} for each piece of context they
+ * keep in a thread local (the security principal, a transaction, tracing ids,
+ * a logging MDC). {@code @Async} methods, async
+ * event deliveries and scheduled tasks call {@link #capture()} once at
+ * submission and run the task inside the resulting {@link ContextSnapshot}.</p>
+ *
+ * <p>The common case costs almost nothing: with no holders registered, or none
+ * holding a value, capture returns the shared {@link ContextSnapshot#EMPTY}
+ * without allocating and the task is submitted unwrapped.</p>
+ *
+ * <p>While a propagated task runs, {@link #current()} returns its snapshot. On
+ * runtimes with {@code ScopedValue} the snapshot is bound to a scoped value,
+ * resolved through method handles like {@code VirtualThreads}; on JDK 17 it is
+ * kept in a thread local.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class ContextPropagation {
+
+    private static final ContextHolder<?>[] NO_HOLDERS = new ContextHolder<?>[0];
+
+    // Copy-on-write: registration is rare, capture happens on every submit
+    private static volatile ContextHolder<?>[] holders = NO_HOLDERS;
+
+    private static final ScopedBinding SCOPED = ScopedBinding.resolve();
+    private static final ThreadLocal<ContextSnapshot> CURRENT = new ThreadLocal<>();
+
+    private ContextPropagation() {
+    }
+
+    /**
+     * Registers a holder whose value is captured by every later submission.
+     *
+     * @param holder the holder
+     * @return {@code true} if it was added, {@code false} if it was already registered
+     */
+    public static synchronized boolean register(ContextHolder<?> holder) {
+        if (holder == null) {
+            throw new IllegalArgumentException("Context holder cannot be null");
+        }
+        ContextHolder<?>[] current = holders;
+        for (ContextHolder<?> registered : current) {
+            if (registered == holder) {
+                return false;
+            }
+        }
+        ContextHolder<?>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = holder;
+        holders = updated;
+        return true;
+    }
+
+    /**
+     * Removes a registered holder. Snapshots already captured keep its value.
+     *
+     * @param holder the holder
+     * @return {@code true} if it was registered
+     */
+    public static synchronized boolean unregister(ContextHolder<?> holder) {
+        ContextHolder<?>[] current = holders;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == holder) {
+                ContextHolder<?>[] updated = new ContextHolder<?>[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                holders = updated.length == 0 ? NO_HOLDERS : updated;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether any holder is registered.
+     *
+     * @return {@code true} if at least one holder is registered
+     */
+    public static boolean hasHolders() {
+        return holders.length != 0;
+    }
+
+    /**
+     * Captures the current thread's context.
+     *
+     * @return the snapshot; {@link ContextSnapshot#EMPTY} if no holder has a value
+     */
+    public static ContextSnapshot capture() {
+        ContextHolder<?>[] registered = holders;
+        ContextHolder<?>[] captured = null;
+        Object[] values = null;
+        int count = 0;
+        for (int i = 0; i < registered.length; i++) {
+            Object value = registered[i].capture();
+            if (value == null) {
+                continue;
+            }
+            if (captured == null) {
+                captured = new ContextHolder<?>[registered.length - i];
+                values = new Object[registered.length - i];
+            }
+            captured[count] = registered[i];
+            values[count++] = value;
+        }
+        if (count == 0) {
+            return ContextSnapshot.EMPTY;
+        }
+        if (count < captured.length) {
+            captured = Arrays.copyOf(captured, count);
+            values = Arrays.copyOf(values, count);
+        }
+        return new ContextSnapshot(captured, values);
+    }
+
+    /**
+     * Returns the snapshot the running task was propagated with.
+     *
+     * @return the snapshot, or {@link ContextSnapshot#EMPTY} outside a propagated task
+     */
+    public static ContextSnapshot current() {
+        ContextSnapshot snapshot = SCOPED != null ? SCOPED.get() : CURRENT.get();
+        return snapshot != null ? snapshot : ContextSnapshot.EMPTY;
+    }
+
+    /**
+     * Returns a task that runs {@code task} in the current thread's context.
+     *
+     * @param task the task
+     * @return the wrapped task, or {@code task} itself if there is no context
+     *         or the task is a {@link PropagatingTask}
+     */
+    public static Runnable wrap(Runnable task) {
+        return holders.length == 0 || task instanceof PropagatingTask ? task : capture().wrap(task);
+    }
+
+    /**
+     * Returns the task to submit to {@code executor}: wrapped in the current
+     * thread's context, or unchanged if the executor is a
+     * {@link PropagatingExecutor} that captures the context itself. Each
+     * submission is thus wrapped exactly once, at the executor boundary.
+     *
+     * @param executor the executor the task is submitted to
+     * @param task the task
+     * @return the task to submit
+     */
+    public static Runnable wrapFor(Executor executor, Runnable task) {
+        return executor instanceof PropagatingExecutor ? task : wrap(task);
+    }
+
+    /**
+     * Returns a callable that calls {@code task} in the current thread's context.
+     *
+     * @param task the callable
+     * @param <V> the result type
+     * @return the wrapped callable, or {@code task} itself if there is no context
+     */
+    public static <V> Callable<V> wrap(Callable<V> task) {
+        return holders.length == 0 ? task : capture().wrap(task);
+    }
+
+    /**
+     * Returns an executor that propagates the submitter's context to every task.
+     *
+     * @param executor the executor to delegate to
+     * @return the propagating executor
+     */
+    public static Executor wrap(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        if (executor instanceof PropagatingExecutor) {
+            return executor;
+        }
+        return (Executor & PropagatingExecutor) task -> executor.execute(wrap(task));
+    }
+
+    /**
+     * An executor that runs every task in the context of the thread that
+     * submitted it. Callers hand it tasks unwrapped; see {@link #wrapFor}.
+     */
+    public interface PropagatingExecutor extends Executor {
+    }
+
+    /**
+     * A task that already carries the context it runs in: a task wrapped by a
+     * {@link ContextSnapshot}, or work captured from several submitters, each
+     * part with its own snapshot, such as the drain of an ordered lane.
+     * {@link #wrap(Runnable)} returns it unchanged, so it is never wrapped twice
+     * and does not inherit the context of whichever thread happened to submit it.
+     */
+    public interface PropagatingTask extends Runnable {
+    }
+
+    static void runWith(ContextSnapshot snapshot, Runnable task) {
+        if (SCOPED != null) {
+            SCOPED.run(snapshot, task);
+            return;
+        }
+        ContextSnapshot previous = CURRENT.get();
+        CURRENT.set(snapshot);
+        try {
+            task.run();
+        } finally {
+            // Restore rather than remove(): a snapshot run inside another propagated task must hand its context back
+            CURRENT.set(previous);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> V callWith(ContextSnapshot snapshot, Callable<V> task) throws Exception {
+        // Carrier.call changed signature between JDK releases, so calls go through run()
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+        runWith(snapshot, () -> {
+            try {
+                result[0] = task.call();
+            } catch (Exception e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return (V) result[0];
+    }
+
+    /**
+     * {@code ScopedValue<ContextSnapshot>} accessed through method handles.
+     */
+    private static final class ScopedBinding {
+        private final Object key;
+        private final MethodHandle where;
+        private final MethodHandle run;
+        private final MethodHandle isBound;
+        private final MethodHandle get;
+
+        private ScopedBinding(Object key, MethodHandle where, MethodHandle run,
+                              MethodHandle isBound, MethodHandle get) {
+            this.key = key;
+            this.where = where;
+            this.run = run;
+            this.isBound = isBound;
+            this.get = get;
+        }
+
+        static ScopedBinding resolve() {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                Class<?> scopedType = Class.forName("java.lang.ScopedValue");
+                Class<?> carrierType = Class.forName("java.lang.ScopedValue$Carrier");
+                Object key = lookup.findStatic(scopedType, "newInstance",
+                        MethodType.methodType(scopedType)).invoke();
+                MethodHandle where = lookup.findStatic(scopedType, "where",
+                        MethodType.methodType(carrierType, scopedType, Object.class));
+                MethodHandle run = lookup.findVirtual(carrierType, "run",
+                        MethodType.methodType(void.class, Runnable.class));
+                MethodHandle isBound = lookup.findVirtual(scopedType, "isBound",
+                        MethodType.methodType(boolean.class));
+                MethodHandle get = lookup.findVirtual(scopedType, "get",
+                        MethodType.methodType(Object.class));
+                ScopedBinding binding = new ScopedBinding(key, where, run, isBound, get);
+                // Probe once: JDK 21-24 expose the API but reject it without --enable-preview
+                binding.run(ContextSnapshot.EMPTY, () -> { });
+                return binding;
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+
+        ContextSnapshot get() {
+            try {
+                return (boolean) isBound.invoke(key) ? (ContextSnapshot) get.invoke(key) : null;
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        void run(ContextSnapshot snapshot, Runnable task) {
+            try {
+                run.invoke(where.invoke(key, snapshot), task);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
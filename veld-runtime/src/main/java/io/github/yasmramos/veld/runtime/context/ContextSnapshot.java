@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.context;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Immutable set of context values captured by {@link ContextPropagation#capture()}.
+ *
+ * <p>Only holders with a value are kept, in two parallel arrays, so a snapshot
+ * of an empty context is the shared {@link #EMPTY} instance and wrapping a task
+ * with it returns the task unchanged. While a wrapped task runs, the snapshot is
+ * also available from {@link ContextPropagation#current()}.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class ContextSnapshot {
+
+    /** The snapshot of a thread without any context. */
+    public static final ContextSnapshot EMPTY = new ContextSnapshot(new ContextHolder<?>[0], new Object[0]);
+
+    private final ContextHolder<?>[] holders;
+    private final Object[] values;
+
+    ContextSnapshot(ContextHolder<?>[] holders, Object[] values) {
+        this.holders = holders;
+        this.values = values;
+    }
+
+    /**
+     * Returns whether no context value was captured.
+     *
+     * @return {@code true} for an empty snapshot
+     */
+    public boolean isEmpty() {
+        return holders.length == 0;
+    }
+
+    /**
+     * Returns the value captured for a holder.
+     *
+     * @param holder the holder
+     * @param <T> the type of the context value
+     * @return the captured value, or {@code null} if the holder had none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(ContextHolder<T> holder) {
+        for (int i = 0; i < holders.length; i++) {
+            if (holders[i] == holder) {
+                return (T) values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a task that runs {@code task} with this context installed.
+     *
+     * @param task the task
+     * @return the wrapped task, or {@code task} itself if this snapshot is empty
+     */
+    public Runnable wrap(Runnable task) {
+        return isEmpty() ? task : new PropagatedTask(this, task);
+    }
+
+    /**
+     * Returns a callable that calls {@code task} with this context installed.
+     *
+     * @param task the callable
+     * @param <V> the result type
+     * @return the wrapped callable, or {@code task} itself if this snapshot is empty
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        return isEmpty() ? task : () -> call(task);
+    }
+
+    /**
+     * Runs a task on the current thread with this context installed, and
+     * restores the thread's own context afterwards.
+     *
+     * @param task the task
+     */
+    public void run(Runnable task) {
+        Object[] previous = install();
+        try {
+            ContextPropagation.runWith(this, task);
+        } finally {
+            uninstall(previous);
+        }
+    }
+
+    /**
+     * Calls a task on the current thread with this context installed, and
+     * restores the thread's own context afterwards.
+     *
+     * @param task the callable
+     * @param <V> the result type
+     * @return the result of the callable
+     * @throws Exception if the callable throws
+     */
+    public <V> V call(Callable<V> task) throws Exception {
+        Object[] previous = install();
+        try {
+            return ContextPropagation.callWith(this, task);
+        } finally {
+            uninstall(previous);
+        }
+    }
+
+    // Marked so executors that propagate context themselves do not wrap it again
+    private static final class PropagatedTask implements ContextPropagation.PropagatingTask {
+
+        private final ContextSnapshot snapshot;
+        private final Runnable task;
+
+        PropagatedTask(ContextSnapshot snapshot, Runnable task) {
+            this.snapshot = snapshot;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            snapshot.run(task);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] install() {
+        Object[] previous = new Object[holders.length];
+        for (int i = 0; i < holders.length; i++) {
+            previous[i] = ((ContextHolder<Object>) holders[i]).swap(values[i]);
+        }
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void uninstall(Object[] previous) {
+        // Reverse order, so holders that depend on each other unwind like a stack
+        for (int i = holders.length - 1; i >= 0; i--) {
+            ((ContextHolder<Object>) holders[i]).swap(previous[i]);
+        }
+    }
+}
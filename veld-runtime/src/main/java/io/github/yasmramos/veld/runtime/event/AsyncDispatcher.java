@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+/**
+ * Strategy used by {@link StandardEventChannel} to run async listeners.
+ *
+ * <p>Implementations decide where and when an async delivery executes. The
+ * publisher thread only hands over the listener and payload; it never waits
+ * for the listener to run.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see EventChannelOptions.AsyncMode
+ */
+interface AsyncDispatcher {
+
+    /**
+     * Schedules an async delivery of the payload to the listener.
+     *
+     * @param listener the async listener
+     * @param payload the event payload
+     */
+    void dispatch(ObjectLessEventBus.ObjectLessListener listener, Object payload);
+
+    /**
+     * Schedules async delivery of a range of payloads to one listener, in order.
+     *
+     * <p>The caller may reuse the payload array after this method returns.</p>
+     *
+     * @param listener the async listener
+     * @param payloads the payload array
+     * @param from the first index (inclusive)
+     * @param to the last index (exclusive)
+     */
+    default void dispatchBatch(ObjectLessEventBus.ObjectLessListener listener, Object[] payloads, int from, int to) {
+        for (int i = from; i < to; i++) {
+            dispatch(listener, payloads[i]);
+        }
+    }
+
+    /**
+     * Schedules async delivery of paired listeners and payloads, in order.
+     *
+     * <p>{@code listeners[i]} receives {@code payloads[i]}. Ownership of both
+     * arrays passes to the dispatcher.</p>
+     *
+     * @param listeners the async listeners
+     * @param payloads the payloads
+     * @param count the number of pairs
+     */
+    default void dispatchAll(ObjectLessEventBus.ObjectLessListener[] listeners, Object[] payloads, int count) {
+        for (int i = 0; i < count; i++) {
+            dispatch(listeners[i], payloads[i]);
+        }
+    }
+
+    /**
+     * Stops accepting deliveries and releases dispatcher resources.
+     *
+     * <p>Deliveries that were already accepted are completed before the
+     * dispatcher's own threads exit.</p>
+     */
+    void shutdown();
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Async dispatcher with a bounded queue and an explicit overflow policy.
+ *
+ * <p>Deliveries wait in a queue of fixed capacity and are drained by at most
+ * {@code concurrency} tasks on the backing executor, so a slow listener can no
+ * longer grow the heap without limit. When the queue is full the channel's
+ * {@link EventChannelOptions.OverflowPolicy} decides what happens to the new
+ * delivery. Queue depth, drops, coalesced deliveries, caller-run deliveries and
+ * publisher wait time are reported through {@link #statistics()}.</p>
+ *
+ * <p>With {@link EventChannelOptions.OverflowPolicy#COALESCE} a delivery whose
+ * key matches a queued delivery to the same listener replaces that delivery's
+ * payload in place, keeping its queue position. {@code publishAsync} tasks are
+ * never coalesced.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see EventChannelOptions.Builder#bounded(int, EventChannelOptions.OverflowPolicy)
+ */
+final class BoundedAsyncDispatcher implements AsyncDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(BoundedAsyncDispatcher.class.getName());
+
+    private final String name;
+    private final Executor executor;
+    private final boolean ownsExecutor;
+    private final int capacity;
+    private final int concurrency;
+    private final EventChannelOptions.OverflowPolicy policy;
+    private final long timeoutNanos;
+    private final Function<Object, ?> coalesceKey;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<Delivery> queue;
+    private final Map<CoalesceKey, Delivery> pendingByKey;
+    private int drainers;
+    private volatile int depth;
+    private volatile boolean running = true;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    /**
+     * A queued delivery; the payload is replaced when a newer delivery is coalesced into it.
+     */
+    private static final class Delivery {
+        final ObjectLessEventBus.ObjectLessListener listener;
+        final CoalesceKey key;
+        Object payload;
+
+        Delivery(ObjectLessEventBus.ObjectLessListener listener, Object payload, CoalesceKey key) {
+            this.listener = listener;
+            this.payload = payload;
+            this.key = key;
+        }
+
+        void run() {
+            listener.onEvent(payload);
+        }
+
+        void discard() {
+            if (listener instanceof PublishTask) {
+                ((PublishTask) listener).future.complete(0);
+            } else {
+                DeliveryTracker.discard(listener);
+            }
+        }
+    }
+
+    /**
+     * Coalescing key scoped to one listener instance.
+     */
+    private static final class CoalesceKey {
+        final ObjectLessEventBus.ObjectLessListener listener;
+        final Object key;
+
+        CoalesceKey(ObjectLessEventBus.ObjectLessListener listener, Object key) {
+            this.listener = listener;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof CoalesceKey)) {
+                return false;
+            }
+            CoalesceKey other = (CoalesceKey) o;
+            return listener == other.listener && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(listener) + key.hashCode();
+        }
+    }
+
+    /**
+     * Adapts a queued {@code publishAsync} call; discarded calls complete with 0 deliveries.
+     */
+    private static final class PublishTask implements ObjectLessEventBus.ObjectLessListener {
+        final ToIntFunction<Object> publish;
+        final CompletableFuture<Integer> future = new CompletableFuture<>();
+
+        PublishTask(ToIntFunction<Object> publish) {
+            this.publish = publish;
+        }
+
+        @Override
+        public void onEvent(Object payload) {
+            try {
+                future.complete(publish.applyAsInt(payload));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    BoundedAsyncDispatcher(String name, Executor executor, boolean ownsExecutor, EventChannelOptions options) {
+        this.name = name;
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.ownsExecutor = ownsExecutor;
+        this.capacity = options.getQueueCapacity();
+        this.concurrency = options.getQueueConcurrency();
+        this.policy = options.getOverflowPolicy();
+        this.timeoutNanos = options.getOverflowTimeout().toNanos();
+        this.coalesceKey = policy == EventChannelOptions.OverflowPolicy.COALESCE ? options.getCoalesceKey() : null;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 1024));
+        this.pendingByKey = coalesceKey != null ? new HashMap<>() : null;
+    }
+
+    @Override
+    public void dispatch(ObjectLessEventBus.ObjectLessListener listener, Object payload) {
+        CoalesceKey key = null;
+        if (coalesceKey != null) {
+            Object value = coalesceKey.apply(payload);
+            if (value != null) {
+                key = new CoalesceKey(DeliveryTracker.unwrap(listener), value);
+            }
+        }
+        enqueue(new Delivery(listener, payload, key));
+    }
+
+    /**
+     * Queues a {@code publishAsync} call.
+     *
+     * @param payload the payload to publish
+     * @param publish the synchronous publish to run on a drainer thread
+     * @return the delivery count, or 0 if the call was dropped
+     */
+    CompletableFuture<Integer> submit(Object payload, ToIntFunction<Object> publish) {
+        PublishTask task = new PublishTask(publish);
+        enqueue(new Delivery(task, payload, null));
+        return task.future;
+    }
+
+    private void enqueue(Delivery delivery) {
+        if (!running) {
+            delivery.discard();
+            return;
+        }
+        boolean startDrainer = false;
+        boolean runOnCaller = false;
+        // Completing a discarded delivery runs its futures' callbacks, so it happens after unlock
+        Delivery discarded = null;
+        lock.lock();
+        try {
+            Delivery pending = delivery.key != null ? pendingByKey.get(delivery.key) : null;
+            if (pending != null) {
+                pending.payload = delivery.payload;
+                coalesced.increment();
+                // The pending delivery carries the payload now; a tracked publish counts this one as dropped
+                discarded = delivery;
+            } else {
+                if (queue.size() >= capacity) {
+                    if (policy == EventChannelOptions.OverflowPolicy.CALLER_RUNS) {
+                        runOnCaller = true;
+                    } else {
+                        discarded = makeRoom(delivery);
+                    }
+                }
+                if (!runOnCaller && discarded != delivery) {
+                    queue.addLast(delivery);
+                    depth = queue.size();
+                    if (delivery.key != null) {
+                        pendingByKey.put(delivery.key, delivery);
+                    }
+                    if (drainers < concurrency) {
+                        drainers++;
+                        startDrainer = true;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (discarded != null) {
+            discarded.discard();
+        }
+        if (runOnCaller) {
+            callerRuns.increment();
+            delivery.run();
+        } else if (startDrainer) {
+            startDrainer(delivery);
+        }
+    }
+
+    /**
+     * Applies a dropping or waiting overflow policy to a full queue while
+     * holding the lock; block and coalesce wait on it.
+     *
+     * @return the delivery to discard once the lock is released: {@code delivery}
+     *         itself if it must not be queued, the evicted oldest one, or {@code null}
+     */
+    private Delivery makeRoom(Delivery delivery) {
+        switch (policy) {
+            case DROP_NEWEST:
+                dropped.increment();
+                return delivery;
+            case DROP_OLDEST:
+                Delivery oldest = queue.pollFirst();
+                if (oldest.key != null) {
+                    pendingByKey.remove(oldest.key);
+                }
+                dropped.increment();
+                return oldest;
+            case BLOCK:
+            case COALESCE:
+            default:
+                return awaitRoom(delivery);
+        }
+    }
+
+    private Delivery awaitRoom(Delivery delivery) {
+        long start = System.nanoTime();
+        long remaining = timeoutNanos;
+        try {
+            while (queue.size() >= capacity && running && remaining > 0L) {
+                remaining = notFull.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waits.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+        if (queue.size() < capacity && running) {
+            return null;
+        }
+        dropped.increment();
+        return delivery;
+    }
+
+    private void startDrainer(Delivery delivery) {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            boolean removed = false;
+            ArrayDeque<Delivery> orphaned = null;
+            lock.lock();
+            try {
+                drainers--;
+                if (drainers == 0) {
+                    // No drainer is left to pick the delivery up, so it must not stay queued
+                    removed = queue.removeLastOccurrence(delivery);
+                    if (removed && delivery.key != null) {
+                        pendingByKey.remove(delivery.key);
+                    }
+                    if (!running && !queue.isEmpty()) {
+                        orphaned = new ArrayDeque<>(queue);
+                        queue.clear();
+                        if (pendingByKey != null) {
+                            pendingByKey.clear();
+                        }
+                    }
+                    depth = queue.size();
+                    notFull.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (orphaned != null) {
+                dropped.add(orphaned.size());
+                orphaned.forEach(Delivery::discard);
+            }
+            if (removed) {
+                if (!ownsExecutor) {
+                    // The caller reports the rejection for this delivery
+                    throw e;
+                }
+                dropped.increment();
+                delivery.discard();
+            }
+        }
+    }
+
+    private void drain() {
+        boolean idle = false;
+        try {
+            while (true) {
+                Delivery delivery;
+                lock.lock();
+                try {
+                    delivery = queue.pollFirst();
+                    if (delivery == null) {
+                        drainers--;
+                        idle = true;
+                        return;
+                    }
+                    depth = queue.size();
+                    if (delivery.key != null) {
+                        pendingByKey.remove(delivery.key);
+                    }
+                    notFull.signal();
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    delivery.run();
+                } catch (RuntimeException e) {
+                    // A failing listener only ends its own delivery, as with the executor dispatcher
+                    LOGGER.log(Level.WARNING, "Async listener failed on channel " + name, e);
+                }
+            }
+        } finally {
+            if (!idle) {
+                // An Error ends this drainer; free its slot so the next enqueue starts another
+                lock.lock();
+                try {
+                    drainers--;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the queue statistics.
+     *
+     * @return the queue statistics
+     */
+    EventStatistics.QueueStatistics statistics() {
+        return new EventStatistics.QueueStatistics(policy, capacity, depth, dropped.sum(),
+                coalesced.sum(), callerRuns.sum(), waits.sum(), waitNanos.sum());
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        lock.lock();
+        try {
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (ownsExecutor && executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdown();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import io.github.yasmramos.veld.runtime.async.TimingWheel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Event channel that collapses payloads by key before delivering them.
+ *
+ * <p>Intended for high-frequency "state changed" events where only the latest
+ * value per entity matters. Each published payload is parked under its event ID
+ * and coalescing key; a newer payload for the same pair replaces (or is merged
+ * into, or appended to) the pending one. Pending payloads are delivered to the
+ * channel's listeners once per window, or with a zero window as soon as the
+ * previous flush has finished, so a burst of N updates to one key costs the
+ * listeners one delivery.</p>
+ *
+ * <p>Flushes run one at a time, so payloads of the same key are delivered in
+ * publish order; the order across keys is unspecified. Delivery of the flushed
+ * payloads follows the channel's other options, e.g. async listeners still go
+ * through the configured async mode. Windowed flushes are timed by the shared
+ * {@link TimingWheel} and run on the channel's executor.</p>
+ *
+ * <p>Create instances through {@link EventBus#getChannel(String, EventChannelOptions)}
+ * with {@link EventChannelOptions.Builder#coalescing(Duration, Function)}.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class CoalescingEventChannel extends StandardEventChannel {
+
+    private static final Logger LOGGER = Logger.getLogger(CoalescingEventChannel.class.getName());
+
+    private final Function<Object, ?> keyExtractor;
+    private final EventChannelOptions.CoalesceDelivery delivery;
+    private final BinaryOperator<Object> merger;
+    private final long windowNanos;
+    private volatile TimingWheel.Timeout flushTimeout;
+    private volatile ExecutorService flushExecutor;
+
+    private final ConcurrentHashMap<PendingKey, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // Held while delivering pending payloads, so a drain on shutdown cannot overtake a running flush
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final LongAdder coalesced = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Event ID and coalescing key of a pending payload.
+     */
+    private static final class PendingKey {
+        final int eventId;
+        final Object key;
+
+        PendingKey(int eventId, Object key) {
+            this.eventId = eventId;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof PendingKey)) {
+                return false;
+            }
+            PendingKey other = (PendingKey) o;
+            return eventId == other.eventId && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventId + key.hashCode();
+        }
+    }
+
+    /**
+     * Payload state of one key; only mutated inside {@link ConcurrentHashMap#compute}.
+     */
+    private static final class Pending {
+        Object value;
+        List<Object> batch;
+    }
+
+    /**
+     * Creates a coalescing channel.
+     *
+     * @param channelName the name for debugging purposes
+     * @param asyncExecutor the executor for async listeners and zero-window flushes
+     * @param options the channel options; must be {@link EventChannelOptions#isCoalescing() coalescing}
+     * @throws IllegalArgumentException if the options do not configure coalescing
+     */
+    public CoalescingEventChannel(String channelName, ExecutorService asyncExecutor, EventChannelOptions options) {
+        super(channelName, asyncExecutor, options);
+        if (options == null || !options.isCoalescing()) {
+            throw new IllegalArgumentException("Options do not configure coalescing: " + options);
+        }
+        this.keyExtractor = options.getCoalesceKey();
+        this.delivery = options.getCoalesceDelivery();
+        this.merger = options.getCoalesceMerger();
+        this.windowNanos = options.getCoalesceWindow().toNanos();
+        this.flushExecutor = asyncExecutor;
+    }
+
+    /**
+     * Parks the payload until the next flush.
+     *
+     * @return 0 for a parked payload, since it is delivered later; otherwise the
+     *         number of synchronous deliveries of an immediately published payload
+     */
+    @Override
+    public int publish(int eventId, Object payload) {
+        return park(eventId, payload) ? 0 : super.publish(eventId, payload);
+    }
+
+    /**
+     * Parks the payload like {@link #publish(int, Object)}. A parked payload is not
+     * tracked: the flush that delivers it may carry the payloads of other publishes,
+     * so the future completes at once with no deliveries.
+     */
+    @Override
+    void publishTracked(int eventId, Object payload, DeliveryTracker tracker) {
+        if (!park(eventId, payload)) {
+            super.publishTracked(eventId, payload, tracker);
+        }
+    }
+
+    /**
+     * Parks the payload under its key and schedules a flush.
+     *
+     * @return {@code false} if the payload has no key or the channel is closed,
+     *         so it must be published immediately
+     */
+    private boolean park(int eventId, Object payload) {
+        Object key = keyExtractor.apply(payload);
+        if (key == null || closed || eventId < 0) {
+            return false;
+        }
+        pending.compute(new PendingKey(eventId, key), (k, current) -> merge(current, payload));
+        scheduleFlush();
+        return true;
+    }
+
+    private Pending merge(Pending current, Object payload) {
+        if (current == null) {
+            Pending created = new Pending();
+            if (delivery == EventChannelOptions.CoalesceDelivery.BATCH) {
+                created.batch = new ArrayList<>(4);
+                created.batch.add(payload);
+            } else {
+                created.value = payload;
+            }
+            return created;
+        }
+        coalesced.increment();
+        switch (delivery) {
+            case BATCH:
+                current.batch.add(payload);
+                break;
+            case MERGED:
+                current.value = merger.apply(current.value, payload);
+                break;
+            case LATEST:
+            default:
+                current.value = payload;
+                break;
+        }
+        return current;
+    }
+
+    @Override
+    public int publishBatch(int eventId, Object[] payloads, int from, int to) {
+        Objects.checkFromToIndex(from, to, payloads.length);
+        int delivered = 0;
+        for (int i = from; i < to; i++) {
+            delivered += publish(eventId, payloads[i]);
+        }
+        return delivered;
+    }
+
+    @Override
+    public int publishBatch(int[] eventIds, Object[] payloads, int from, int to) {
+        Objects.checkFromToIndex(from, to, eventIds.length);
+        Objects.checkFromToIndex(from, to, payloads.length);
+        int delivered = 0;
+        for (int i = from; i < to; i++) {
+            delivered += publish(eventIds[i], payloads[i]);
+        }
+        return delivered;
+    }
+
+    /**
+     * Parks the payload like {@link #publish(int, Object)}; publishing never blocks.
+     */
+    @Override
+    public CompletableFuture<Integer> publishAsync(int eventId, Object payload) {
+        return CompletableFuture.completedFuture(publish(eventId, payload));
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.get() || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (windowNanos > 0L) {
+                flushTimeout = TimingWheel.getInstance().schedule(this::startFlush, windowNanos, TimeUnit.NANOSECONDS);
+            } else {
+                flushExecutor.execute(this::flush);
+            }
+        } catch (RejectedExecutionException e) {
+            // Executor is gone: deliver on the publishing thread rather than lose the payloads
+            flush();
+        }
+    }
+
+    // Runs on the wheel's ticker thread, which must not deliver to listeners itself
+    private void startFlush() {
+        try {
+            flushExecutor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            drainPending();
+            flushScheduled.set(false);
+            if (pending.isEmpty() || !flushScheduled.compareAndSet(false, true)) {
+                return;
+            }
+            if (windowNanos > 0L && !closed) {
+                try {
+                    flushTimeout = TimingWheel.getInstance().schedule(this::startFlush, windowNanos, TimeUnit.NANOSECONDS);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // Wheel stopped: drain the rest on this thread
+                }
+            }
+        }
+    }
+
+    private void drainPending() {
+        drainLock.lock();
+        try {
+            for (PendingKey key : pending.keySet()) {
+                Pending entry = pending.remove(key);
+                if (entry == null) {
+                    continue;
+                }
+                Object payload = entry.batch != null ? Collections.unmodifiableList(entry.batch) : entry.value;
+                try {
+                    super.publish(key.eventId, payload);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Listener failed on coalescing channel " + getChannelName(), e);
+                }
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of keys with a payload waiting for the next flush.
+     *
+     * @return the pending key count
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of payloads that were collapsed into a pending payload.
+     *
+     * @return the coalesced count
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    @Override
+    void updateExecutor(ExecutorService newExecutor) {
+        super.updateExecutor(newExecutor);
+        this.flushExecutor = newExecutor;
+    }
+
+    /**
+     * Discards pending payloads and removes all listeners.
+     */
+    @Override
+    public void clear() {
+        pending.clear();
+        super.clear();
+        closed = false;
+    }
+
+    /**
+     * Delivers pending payloads on the calling thread after any running flush,
+     * stops the flush timer and the async dispatcher. Later payloads are published without coalescing.
+     */
+    @Override
+    public void shutdown() {
+        closed = true;
+        TimingWheel.Timeout timeout = flushTimeout;
+        if (timeout != null && timeout.cancel()) {
+            flushScheduled.set(false);
+        }
+        drainPending();
+        super.shutdown();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+/**
+ * Event published by {@link EventErrorHandler#deadLetter(EventChannel, int)} for
+ * every delivery that failed.
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class DeadLetter {
+
+    private final Object subscriber;
+    private final Object event;
+    private final Throwable cause;
+
+    DeadLetter(Object subscriber, Object event, Throwable cause) {
+        this.subscriber = subscriber;
+        this.event = event;
+        this.cause = cause;
+    }
+
+    /**
+     * Returns the subscriber that failed.
+     *
+     * @return the subscriber
+     */
+    public Object getSubscriber() {
+        return subscriber;
+    }
+
+    /**
+     * Returns the event or payload that could not be handled.
+     *
+     * @return the event
+     */
+    public Object getEvent() {
+        return event;
+    }
+
+    /**
+     * Returns the exception thrown by the subscriber.
+     *
+     * @return the cause
+     */
+    public Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return "DeadLetter{" + EventErrorHandler.describe(subscriber, event, cause) + '}';
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+
+/**
+ * Completion tracking for one tracked publish.
+ *
+ * <p>The publisher holds one pending slot until it calls {@link #complete()};
+ * every async hand-off takes another and releases it when the wrapped delivery
+ * runs, fails or is discarded. The single result future completes when the last
+ * slot is released, so a publish that only reaches synchronous listeners costs
+ * this object and one already-completed future, never a future per listener.</p>
+ *
+ * <p>While a tracked publish runs its listeners, the tracker is also exposed to
+ * the publishing thread through {@link #current()}, so async hand-offs made by
+ * those listeners, such as the wrappers installed by
+ * {@link EventBus#registerAsyncEventHandler}, join the same result.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class DeliveryTracker {
+
+    private static final ThreadLocal<DeliveryTracker> CURRENT = new ThreadLocal<>();
+
+    private static final AtomicIntegerFieldUpdater<DeliveryTracker> PENDING =
+            AtomicIntegerFieldUpdater.newUpdater(DeliveryTracker.class, "pending");
+    private static final AtomicIntegerFieldUpdater<DeliveryTracker> DELIVERED =
+            AtomicIntegerFieldUpdater.newUpdater(DeliveryTracker.class, "delivered");
+    private static final AtomicIntegerFieldUpdater<DeliveryTracker> DROPPED =
+            AtomicIntegerFieldUpdater.newUpdater(DeliveryTracker.class, "dropped");
+
+    private final CompletableFuture<PublishResult> result = new CompletableFuture<>();
+    private volatile int pending = 1;
+    private volatile int delivered;
+    private volatile int dropped;
+    private List<PublishResult.ListenerFailure> failures;
+
+    /**
+     * Returns the tracker of the tracked publish running on this thread, if any.
+     *
+     * @return the current tracker, or {@code null}
+     */
+    static DeliveryTracker current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes this tracker current on the calling thread.
+     *
+     * @return the previously current tracker, to pass to {@link #exit(DeliveryTracker)}
+     */
+    DeliveryTracker enter() {
+        DeliveryTracker previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Restores the tracker that was current before {@link #enter()}.
+     *
+     * @param previous the tracker returned by {@code enter}
+     */
+    static void exit(DeliveryTracker previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Delivers the payload to a synchronous listener, recording a failure instead of throwing.
+     *
+     * @return {@code true} if the listener completed normally
+     */
+    <L, P> boolean deliver(L listener, P payload, BiConsumer<? super L, ? super P> delivery) {
+        try {
+            delivery.accept(listener, payload);
+            DELIVERED.incrementAndGet(this);
+            return true;
+        } catch (Throwable t) {
+            fail(listener, t);
+            return false;
+        }
+    }
+
+    /**
+     * Hands the payload to an async dispatcher, wrapped so its completion is tracked.
+     */
+    void dispatch(AsyncDispatcher dispatcher, ObjectLessEventBus.ObjectLessListener listener, Object payload) {
+        Delivery delivery = new Delivery(listener, listener, null);
+        try {
+            dispatcher.dispatch(delivery, payload);
+        } catch (RuntimeException e) {
+            delivery.finish(e);
+        }
+    }
+
+    /**
+     * Wraps an async task so its completion is tracked. If the task cannot be
+     * scheduled, the caller must pass it to {@link #discard(Object)}.
+     *
+     * @param owner the listener the task delivers to, reported on failure
+     * @param task the task to run
+     * @return the tracked task
+     */
+    Runnable track(Object owner, Runnable task) {
+        return new Delivery(owner, null, task);
+    }
+
+    /**
+     * Adds deliveries made outside the tracker, e.g. by the generated dispatcher.
+     */
+    void recordDelivered(int count) {
+        DELIVERED.addAndGet(this, count);
+    }
+
+    /**
+     * Records a listener failure.
+     */
+    void fail(Object listener, Throwable cause) {
+        synchronized (this) {
+            if (failures == null) {
+                failures = new ArrayList<>(2);
+            }
+            failures.add(new PublishResult.ListenerFailure(listener, cause));
+        }
+    }
+
+    /**
+     * Releases the publisher's slot.
+     *
+     * @return the future that completes once every tracked delivery has finished
+     */
+    CompletableFuture<PublishResult> complete() {
+        arrive();
+        return result;
+    }
+
+    private void arrive() {
+        if (PENDING.decrementAndGet(this) == 0) {
+            List<PublishResult.ListenerFailure> recorded;
+            synchronized (this) {
+                recorded = failures == null ? Collections.emptyList() : Collections.unmodifiableList(failures);
+            }
+            result.complete(new PublishResult(delivered, dropped, recorded));
+        }
+    }
+
+    /**
+     * Releases the slot of a tracked delivery that will never run. Untracked
+     * listeners and tasks are ignored.
+     *
+     * @param delivery a listener or task that was handed to an async executor
+     */
+    static void discard(Object delivery) {
+        if (delivery instanceof Delivery) {
+            ((Delivery) delivery).discard();
+        }
+    }
+
+    /**
+     * Returns the listener a tracked delivery wraps, so dispatchers can key
+     * lanes and coalescing on the real listener.
+     *
+     * @param listener a listener handed to an async dispatcher
+     * @return the wrapped listener, or {@code listener} itself if untracked
+     */
+    static ObjectLessEventBus.ObjectLessListener unwrap(ObjectLessEventBus.ObjectLessListener listener) {
+        return listener instanceof Delivery ? ((Delivery) listener).listener : listener;
+    }
+
+    /**
+     * One tracked async delivery; settles its tracker slot exactly once.
+     */
+    private final class Delivery implements ObjectLessEventBus.ObjectLessListener, Runnable {
+
+        private final Object owner;
+        private final ObjectLessEventBus.ObjectLessListener listener;
+        private final Runnable task;
+        private volatile boolean settled;
+
+        Delivery(Object owner, ObjectLessEventBus.ObjectLessListener listener, Runnable task) {
+            this.owner = owner;
+            this.listener = listener;
+            this.task = task;
+            PENDING.incrementAndGet(DeliveryTracker.this);
+        }
+
+        @Override
+        public void onEvent(Object payload) {
+            try {
+                listener.onEvent(payload);
+            } catch (Throwable t) {
+                finish(t);
+                throw t;
+            }
+            finish(null);
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                finish(t);
+                throw t;
+            }
+            finish(null);
+        }
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+
+        @Override
+        public Object getOrderingKey(Object payload) {
+            return listener.getOrderingKey(payload);
+        }
+
+        void finish(Throwable failure) {
+            if (settle()) {
+                if (failure == null) {
+                    DELIVERED.incrementAndGet(DeliveryTracker.this);
+                } else {
+                    fail(owner, failure);
+                }
+                arrive();
+            }
+        }
+
+        void discard() {
+            if (settle()) {
+                DROPPED.incrementAndGet(DeliveryTracker.this);
+                arrive();
+            }
+        }
+
+        private boolean settle() {
+            if (settled) {
+                return false;
+            }
+            synchronized (this) {
+                if (settled) {
+                    return false;
+                }
+                settled = true;
+                return true;
+            }
+        }
+    }
+}
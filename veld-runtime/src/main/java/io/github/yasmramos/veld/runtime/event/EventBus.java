@@ -16,12 +16,21 @@
 package io.github.yasmramos.veld.runtime.event;
 
 import io.github.yasmramos.veld.annotation.Subscribe;
+import io.github.yasmramos.veld.runtime.async.StripedLaneExecutor;
+import io.github.yasmramos.veld.runtime.async.VirtualThreads;
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Central event bus for publishing and subscribing to events.
@@ -41,6 +50,11 @@ import java.util.function.Consumer;
  *   <li>Fast-path for common cases (0, 1, 2-4 listeners)</li>
  *   <li>Array-based storage for small listener sets</li>
  *   <li>StandardEventChannel for zero-allocation object-less events</li>
+ *   <li>Async subscribers on the bus executor or on virtual threads, optionally
+ *       ordered per key on serial lanes (see {@link Subscribe#asyncMode()} and
+ *       {@link Subscribe#orderingKey()})</li>
+ *   <li>Striped per-event-class and per-channel statistics that can be switched off
+ *       (see {@link #setStatisticsMode})</li>
  * </ul>
  *
  * <p><b>Usage Recommendations:</b></p>
@@ -60,6 +74,11 @@ import java.util.function.Consumer;
  */
 public class EventBus implements ObjectEventBus, ObjectLessEventBus {
 
+    private static final Logger LOGGER = Logger.getLogger(EventBus.class.getName());
+
+    /** Minimum time between two failures logged by the default error handler. */
+    public static final Duration DEFAULT_ERROR_LOG_INTERVAL = Duration.ofSeconds(1);
+
     private static final EventBus INSTANCE = new EventBus();
 
     // Optimized subscriber storage for object-based events
@@ -71,9 +90,21 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
     // Specialized channels
     private final Map<String, EventChannel> specializedChannels;
 
+    // Wildcard topic patterns and cached per-topic routes over specialized and pattern channels
+    private final TopicRouter topicRouter;
+
     private ExecutorService asyncExecutor;
-    private final AtomicLong publishedCount;
-    private final AtomicLong deliveredCount;
+    // Created on first use by a VIRTUAL_THREAD subscriber
+    private volatile ExecutorService virtualThreadExecutor;
+    // Key-ordered lanes for async subscribers; they read the executor fields on every drain
+    private final StripedLaneExecutor executorLanes =
+            new StripedLaneExecutor(task -> asyncExecutor.execute(task));
+    private final StripedLaneExecutor virtualThreadLanes =
+            new StripedLaneExecutor(task -> virtualThreadExecutor().execute(task));
+    private volatile EventChannelOptions.StatisticsMode statisticsMode;
+    private volatile int parallelFanOutThreshold;
+    private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+    private volatile EventErrorHandler errorHandler = EventErrorHandler.logging(DEFAULT_ERROR_LOG_INTERVAL);
     private volatile boolean shuttingDown;
 
     /**
@@ -86,6 +117,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         void onEvent(Event event);
         default boolean isAsync() { return false; }
         default int getPriority() { return 0; }
+        default boolean isParallelSafe() { return false; }
     }
 
     /**
@@ -98,11 +130,89 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
      *   <li>2-4 listeners: Small fixed-size arrays</li>
      *   <li>5+ listeners: CopyOnWriteArrayList</li>
      * </ul>
+     *
+     * <p>Publishing uses a per-concrete-event-class dispatch table that flattens the
+     * listeners of the class and all its superclasses and interfaces into one array
+     * in priority order. This includes {@link Event}, {@code Object} and the
+     * interfaces of {@code Event}, so a listener registered for one of those receives
+     * every event. Tables are built lazily on first publish and stamped with a
+     * global version that every registration change bumps. A stale table is only
+     * rebuilt if the listeners of one of its supertypes changed; otherwise it is
+     * restamped. A publish thus costs a single {@link ClassValue} lookup regardless
+     * of hierarchy depth, and nothing but the {@code ClassValue} and weakly keyed
+     * statistics refers to published event classes, so they can be unloaded.</p>
      */
     private class SubscriberIndex {
         // Fast path: direct listeners storage with cardinality optimization
         private final Map<Class<?>, ListenerEntry> listenersByType = new ConcurrentHashMap<>();
 
+        // Bumped after every listener change; a table stamped with an older version is revalidated
+        private final AtomicInteger version = new AtomicInteger();
+
+        // Statistics per published event class; shared with the dispatch slots. Weak keys, so
+        // publishing does not pin classes of unloaded plugins. Guarded by its own monitor.
+        private final Map<Class<?>, EventCounters> countersByType = new WeakHashMap<>();
+
+        private final ClassValue<DispatchSlot> dispatchSlots = new ClassValue<DispatchSlot>() {
+            @Override
+            protected DispatchSlot computeValue(Class<?> type) {
+                EventCounters counters;
+                synchronized (countersByType) {
+                    counters = countersByType.computeIfAbsent(type, t -> new EventCounters());
+                }
+                return new DispatchSlot(supertypesOf(type).toArray(new Class<?>[0]), counters);
+            }
+        };
+
+        /**
+         * Holds the current flattened dispatch table and the statistics of one
+         * concrete event class.
+         */
+        private static final class DispatchSlot {
+            final Class<?>[] supertypes;
+            volatile DispatchTable table;
+            final EventCounters counters;
+
+            DispatchSlot(Class<?>[] supertypes, EventCounters counters) {
+                this.supertypes = supertypes;
+                this.counters = counters;
+            }
+        }
+
+        /**
+         * Listeners of an event class and all of its supertypes, in priority order.
+         */
+        private static final class DispatchTable {
+            final EventListener[] listeners;
+            final int version;
+            // The entry of each supertype the table was built from, to tell whether a newer version affects it
+            final ListenerEntry[] sources;
+            // Split for parallel fan-out: parallel-safe sync listeners, and all others in priority order
+            final EventListener[] parallelListeners;
+            final EventListener[] serialListeners;
+
+            DispatchTable(DispatchTable current, int version) {
+                this.listeners = current.listeners;
+                this.version = version;
+                this.sources = current.sources;
+                this.parallelListeners = current.parallelListeners;
+                this.serialListeners = current.serialListeners;
+            }
+
+            DispatchTable(EventListener[] listeners, int version, ListenerEntry[] sources) {
+                this.listeners = listeners;
+                this.version = version;
+                this.sources = sources;
+                List<EventListener> parallel = new ArrayList<>();
+                List<EventListener> serial = new ArrayList<>();
+                for (EventListener listener : listeners) {
+                    (!listener.isAsync() && listener.isParallelSafe() ? parallel : serial).add(listener);
+                }
+                this.parallelListeners = parallel.toArray(new EventListener[0]);
+                this.serialListeners = parallel.isEmpty() ? listeners : serial.toArray(new EventListener[0]);
+            }
+        }
+
         /**
          * Entry holding listener information with cardinality metadata.
          */
@@ -116,8 +226,61 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
         }
 
+        /**
+         * Key comparing subscriber instances by identity, so subscribers with
+         * overridden {@code equals}/{@code hashCode} are tracked per instance.
+         */
+        private static final class IdentityKey {
+            final Object target;
+            final int hash;
+
+            IdentityKey(Object target) {
+                this.target = target;
+                this.hash = System.identityHashCode(target);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof IdentityKey && ((IdentityKey) o).target == target;
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
+
+        /**
+         * A listener owned by a subscriber instance, together with the event type it is registered for.
+         */
+        private static final class Registration {
+            final Class<?> eventType;
+            final EventListener listener;
+
+            Registration(Class<?> eventType, EventListener listener) {
+                this.eventType = eventType;
+                this.listener = listener;
+            }
+        }
+
+        // Reverse index: subscriber instance -> the listeners it owns, for O(owned) unregister
+        private final Map<IdentityKey, Registration[]> registrationsByTarget = new ConcurrentHashMap<>();
+
         void register(EventSubscriber subscriber) {
-            registerListener(subscriber.getEventType(), new SubscriberEventListener(subscriber));
+            Class<?> eventType = subscriber.getEventType();
+            EventListener listener = new SubscriberEventListener(subscriber);
+            // Updating both indexes inside the reverse-index compute serializes
+            // register/unregister of the same instance, so neither can be lost
+            registrationsByTarget.compute(new IdentityKey(subscriber.getTarget()), (key, owned) -> {
+                registerListener(eventType, listener);
+                Registration registration = new Registration(eventType, listener);
+                if (owned == null) {
+                    return new Registration[]{registration};
+                }
+                Registration[] updated = Arrays.copyOf(owned, owned.length + 1);
+                updated[owned.length] = registration;
+                return updated;
+            });
         }
 
         void registerListener(Class<?> eventType, EventListener listener) {
@@ -149,25 +312,164 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
 
                 return new ListenerEntry(newListeners);
             });
+            invalidate();
+        }
+
+        /**
+         * Marks every table as stale. Runs after the listener change, so a table
+         * rebuilt concurrently is either current or stamped with an older version.
+         */
+        private void invalidate() {
+            version.incrementAndGet();
+        }
+
+        private DispatchTable tableOf(DispatchSlot slot) {
+            // Read the version before the listeners, so a change racing with the rebuild forces another one
+            int current = version.get();
+            DispatchTable table = slot.table;
+            if (table != null && table.version == current) {
+                return table;
+            }
+            Class<?>[] supertypes = slot.supertypes;
+            ListenerEntry[] sources = new ListenerEntry[supertypes.length];
+            for (int i = 0; i < supertypes.length; i++) {
+                sources[i] = listenersByType.get(supertypes[i]);
+            }
+            table = table != null && Arrays.equals(table.sources, sources)
+                    ? new DispatchTable(table, current)
+                    : flatten(sources, current);
+            slot.table = table;
+            return table;
         }
 
-        @SuppressWarnings("unchecked")
         int publish(Event event) {
-            Class<?> eventClass = event.getClass();
-
-            // Check for listeners registered for this event class or any parent class
-            // This supports event inheritance - child events are delivered to parent subscribers
-            Class<?> current = eventClass;
-            while (current != null && current != Event.class) {
-                ListenerEntry entry = listenersByType.get(current);
-                if (entry != null && entry.count > 0) {
-                    return dispatchOptimized(event, entry.listeners, entry.count);
+            DispatchSlot slot = dispatchSlots.get(event.getClass());
+            DispatchTable table = tableOf(slot);
+
+            EventListener[] listeners = table.listeners;
+            EventChannelOptions.StatisticsMode mode = statisticsMode;
+            if (mode == EventChannelOptions.StatisticsMode.OFF) {
+                return listeners.length == 0 ? 0 : dispatch(event, table);
+            }
+            int delivered;
+            if (listeners.length == 0) {
+                delivered = 0;
+            } else if (mode == EventChannelOptions.StatisticsMode.LATENCY) {
+                long start = System.nanoTime();
+                delivered = dispatch(event, table);
+                dispatchLatency.record(System.nanoTime() - start);
+            } else {
+                delivered = dispatch(event, table);
+            }
+            slot.counters.record(delivered);
+            return delivered;
+        }
+
+        /**
+         * Publishes to every listener in priority order through the tracker, which
+         * isolates failures and counts async completions.
+         */
+        void publishTracked(Event event, DeliveryTracker tracker) {
+            DispatchSlot slot = dispatchSlots.get(event.getClass());
+            DispatchTable table = tableOf(slot);
+
+            EventListener[] listeners = table.listeners;
+            EventChannelOptions.StatisticsMode mode = statisticsMode;
+            long start = mode == EventChannelOptions.StatisticsMode.LATENCY ? System.nanoTime() : 0L;
+            int delivered = 0;
+            DeliveryTracker previous = tracker.enter();
+            try {
+                for (int i = 0; i < listeners.length; i++) {
+                    if (i > 0 && event.isCancelled()) {
+                        break;
+                    }
+                    EventListener listener = listeners[i];
+                    if (!listener.isAsync()) {
+                        if (tracker.deliver(listener, event, EventListener::onEvent)) {
+                            delivered++;
+                        }
+                        continue;
+                    }
+                    try {
+                        dispatchAsync(listener, event);
+                        delivered++;
+                    } catch (RuntimeException e) {
+                        tracker.fail(listener, e);
+                    }
+                }
+            } finally {
+                DeliveryTracker.exit(previous);
+            }
+            if (mode != EventChannelOptions.StatisticsMode.OFF) {
+                if (mode == EventChannelOptions.StatisticsMode.LATENCY) {
+                    dispatchLatency.record(System.nanoTime() - start);
                 }
-                current = current.getSuperclass();
+                slot.counters.record(delivered);
             }
+        }
 
-            // No listeners found for this event or any parent class
-            return 0;
+        /**
+         * Collects the listeners registered for the event class and every superclass
+         * and interface. Sorting is stable, so listeners of equal priority keep the
+         * most specific type first and then registration order.
+         */
+        private DispatchTable flatten(ListenerEntry[] sources, int tableVersion) {
+            List<EventListener> collected = new ArrayList<>();
+            for (ListenerEntry entry : sources) {
+                if (entry != null) {
+                    Collections.addAll(collected, entry.listeners);
+                }
+            }
+            EventListener[] listeners = collected.toArray(new EventListener[0]);
+            Arrays.sort(listeners, (a, b) -> Integer.compare(b.getPriority(), a.getPriority()));
+            return new DispatchTable(listeners, tableVersion, sources);
+        }
+
+        /**
+         * Returns the class itself, its superclass chain, then all interfaces
+         * (breadth-first), without duplicates.
+         */
+        private Set<Class<?>> supertypesOf(Class<?> eventClass) {
+            Set<Class<?>> types = new LinkedHashSet<>();
+            for (Class<?> c = eventClass; c != null; c = c.getSuperclass()) {
+                types.add(c);
+            }
+            Deque<Class<?>> pending = new ArrayDeque<>(types);
+            while (!pending.isEmpty()) {
+                for (Class<?> iface : pending.poll().getInterfaces()) {
+                    if (types.add(iface)) {
+                        pending.add(iface);
+                    }
+                }
+            }
+            return types;
+        }
+
+        private int dispatch(Event event, DispatchTable table) {
+            int threshold = parallelFanOutThreshold;
+            if (threshold > 0 && table.parallelListeners.length >= threshold) {
+                return dispatchParallel(event, table);
+            }
+            return dispatchOptimized(event, table.listeners, table.listeners.length);
+        }
+
+        /**
+         * Forks the parallel-safe listeners, runs the others on the publishing thread
+         * in priority order, and waits for both.
+         */
+        private int dispatchParallel(Event event, DispatchTable table) {
+            ParallelFanOut<EventListener, Event> fanOut = ParallelFanOut.start(ForkJoinPool.commonPool(),
+                    table.parallelListeners, event, EventListener::onEvent);
+            int delivered = 0;
+            Throwable failure = null;
+            try {
+                EventListener[] serial = table.serialListeners;
+                delivered = serial.length == 0 ? 0 : dispatchOptimized(event, serial, serial.length);
+            } catch (Throwable t) {
+                failure = t;
+            }
+            fanOut.await(failure);
+            return delivered + table.parallelListeners.length;
         }
 
         /**
@@ -214,7 +516,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
 
         private int dispatchSingle(Event event, EventListener listener) {
             if (listener.isAsync()) {
-                asyncExecutor.submit(() -> listener.onEvent(event));
+                dispatchAsync(listener, event);
                 return 1;
             }
             listener.onEvent(event);
@@ -225,7 +527,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             int count = 0;
 
             if (l1.isAsync()) {
-                asyncExecutor.submit(() -> l1.onEvent(event));
+                dispatchAsync(l1, event);
                 count++;
             } else {
                 l1.onEvent(event);
@@ -238,7 +540,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
 
             if (l2.isAsync()) {
-                asyncExecutor.submit(() -> l2.onEvent(event));
+                dispatchAsync(l2, event);
                 count++;
             } else {
                 l2.onEvent(event);
@@ -252,7 +554,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             int count = 0;
 
             if (l1.isAsync()) {
-                asyncExecutor.submit(() -> l1.onEvent(event));
+                dispatchAsync(l1, event);
                 count++;
             } else {
                 l1.onEvent(event);
@@ -265,7 +567,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
 
             if (l2.isAsync()) {
-                asyncExecutor.submit(() -> l2.onEvent(event));
+                dispatchAsync(l2, event);
                 count++;
             } else {
                 l2.onEvent(event);
@@ -278,7 +580,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
 
             if (l3.isAsync()) {
-                asyncExecutor.submit(() -> l3.onEvent(event));
+                dispatchAsync(l3, event);
                 count++;
             } else {
                 l3.onEvent(event);
@@ -293,7 +595,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             int count = 0;
 
             if (l1.isAsync()) {
-                asyncExecutor.submit(() -> l1.onEvent(event));
+                dispatchAsync(l1, event);
                 count++;
             } else {
                 l1.onEvent(event);
@@ -306,7 +608,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
 
             if (l2.isAsync()) {
-                asyncExecutor.submit(() -> l2.onEvent(event));
+                dispatchAsync(l2, event);
                 count++;
             } else {
                 l2.onEvent(event);
@@ -319,7 +621,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
 
             if (l3.isAsync()) {
-                asyncExecutor.submit(() -> l3.onEvent(event));
+                dispatchAsync(l3, event);
                 count++;
             } else {
                 l3.onEvent(event);
@@ -332,7 +634,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             }
 
             if (l4.isAsync()) {
-                asyncExecutor.submit(() -> l4.onEvent(event));
+                dispatchAsync(l4, event);
                 count++;
             } else {
                 l4.onEvent(event);
@@ -352,7 +654,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
 
                 EventListener listener = listeners[i];
                 if (listener.isAsync()) {
-                    asyncExecutor.submit(() -> listener.onEvent(event));
+                    dispatchAsync(listener, event);
                     deliveryCount++;
                 } else {
                     listener.onEvent(event);
@@ -362,28 +664,57 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             return deliveryCount;
         }
 
+        private void dispatchAsync(EventListener listener, Event event) {
+            if (listener instanceof SubscriberEventListener) {
+                EventSubscriber subscriber = ((SubscriberEventListener) listener).subscriber;
+                Function<? super Event, ?> orderingKey = subscriber.getOrderingKey();
+                executeAsync(subscriber.getAsyncMode(),
+                        orderingKey != null ? orderingKey.apply(event) : null,
+                        listener, () -> listener.onEvent(event));
+            } else {
+                executeAsync(Subscribe.AsyncMode.EXECUTOR, null, listener, () -> listener.onEvent(event));
+            }
+        }
+
         void unregister(Object subscriber) {
-            listenersByType.forEach((type, entry) -> {
-                List<EventListener> toRemove = new ArrayList<>();
-                for (EventListener listener : entry.listeners) {
-                    if (listener instanceof SubscriberEventListener) {
-                        Object target = ((SubscriberEventListener) listener).getTarget();
-                        if (target == subscriber) {
-                            toRemove.add(listener);
-                        }
-                    }
-                }
-                if (!toRemove.isEmpty()) {
-                    EventListener[] newListeners = Arrays.stream(entry.listeners)
-                            .filter(l -> !toRemove.contains(l))
-                            .toArray(EventListener[]::new);
-                    listenersByType.put(type, new ListenerEntry(newListeners));
+            registrationsByTarget.computeIfPresent(new IdentityKey(subscriber), (key, owned) -> {
+                for (Registration registration : owned) {
+                    listenersByType.computeIfPresent(registration.eventType,
+                            (type, entry) -> without(entry, registration.listener));
                 }
+                invalidate();
+                return null;
             });
         }
 
+        /**
+         * Returns a copy of the entry without the given listener, or {@code null}
+         * to drop the event type when no listeners remain.
+         */
+        private ListenerEntry without(ListenerEntry entry, EventListener listener) {
+            for (int i = 0; i < entry.count; i++) {
+                if (entry.listeners[i] == listener) {
+                    if (entry.count == 1) {
+                        return null;
+                    }
+                    EventListener[] remaining = new EventListener[entry.count - 1];
+                    System.arraycopy(entry.listeners, 0, remaining, 0, i);
+                    System.arraycopy(entry.listeners, i + 1, remaining, i, entry.count - i - 1);
+                    return new ListenerEntry(remaining);
+                }
+            }
+            return entry;
+        }
+
         void clear() {
+            registrationsByTarget.clear();
             listenersByType.clear();
+            invalidate();
+            synchronized (countersByType) {
+                for (EventCounters counters : countersByType.values()) {
+                    counters.reset();
+                }
+            }
         }
 
         int getSubscriberCount() {
@@ -393,26 +724,36 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
 
     /**
      * Wrapper to use EventSubscriber as EventListener with MethodHandle invocation.
+     * Failures are counted here and passed to the bus error handler without
+     * building a message.
      */
-    private static class SubscriberEventListener implements EventListener {
+    private class SubscriberEventListener implements EventListener {
         private final EventSubscriber subscriber;
+        private final String filter;
+        private final LongAdder failures = new LongAdder();
 
         SubscriberEventListener(EventSubscriber subscriber) {
             this.subscriber = subscriber;
+            this.filter = subscriber.hasFilter() && EventFilter.isRuntimeEvaluationEnabled()
+                    ? subscriber.getFilter() : null;
         }
 
         @Override
         public void onEvent(Event event) {
+            if (filter != null && !EventFilter.evaluate(filter, event)) {
+                return;
+            }
             try {
                 subscriber.invoke(event);
             } catch (Throwable e) {
-                String message = "[EventBus] Exception in subscriber " + subscriber +
-                    " while handling " + event.getClass().getName() + ": " + e.getMessage();
-                if (subscriber.isCatchExceptions()) {
-                    // Log the exception but don't propagate
-                    System.err.println(message);
-                } else {
-                    throw new RuntimeException(message, e);
+                failures.increment();
+                if (!subscriber.isCatchExceptions()) {
+                    throw new SubscriberException(subscriber, event, e);
+                }
+                try {
+                    errorHandler.onError(subscriber, event, e);
+                } catch (RuntimeException handlerFailure) {
+                    LOGGER.log(Level.WARNING, "Event error handler failed", handlerFailure);
                 }
             }
         }
@@ -427,19 +768,45 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             return subscriber.getPriority();
         }
 
+        @Override
+        public boolean isParallelSafe() {
+            return subscriber.isParallelSafe();
+        }
+
         Object getTarget() {
             return subscriber.getTarget();
         }
     }
 
+    /**
+     * Rethrown failure of a subscriber that does not catch its exceptions; the
+     * message is only built when requested.
+     */
+    private static final class SubscriberException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Object subscriber;
+        private final transient Object event;
+
+        SubscriberException(Object subscriber, Object event, Throwable cause) {
+            super(null, cause, true, false);
+            this.subscriber = subscriber;
+            this.event = event;
+        }
+
+        @Override
+        public String getMessage() {
+            return "[EventBus] " + EventErrorHandler.describe(subscriber, event, getCause());
+        }
+    }
+
     /**
      * Private constructor for singleton pattern.
      */
     private EventBus() {
         this.subscriberIndex = new SubscriberIndex();
         this.asyncExecutor = createAsyncExecutor();
-        this.publishedCount = new AtomicLong(0);
-        this.deliveredCount = new AtomicLong(0);
+        this.statisticsMode = EventChannelOptions.StatisticsMode.COUNTERS;
         this.shuttingDown = false;
 
         // Initialize standard channel for object-less events
@@ -447,6 +814,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
 
         // Initialize specialized channels map
         this.specializedChannels = new ConcurrentHashMap<>();
+        this.topicRouter = new TopicRouter(specializedChannels::get);
     }
 
     private ExecutorService createAsyncExecutor() {
@@ -506,6 +874,104 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         return standardChannel.publishAsync(eventId, payload);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Subscribers bound to the generated dispatcher run in priority order with
+     * the channel listeners; each run of them between two listeners counts as one
+     * listener for failure reporting. Handlers registered with
+     * {@link #registerAsyncEventHandler} are tracked until their async task has run.</p>
+     */
+    @Override
+    public CompletableFuture<PublishResult> publishTracked(int eventId, Object payload) {
+        if (shuttingDown) {
+            return CompletableFuture.completedFuture(PublishResult.EMPTY);
+        }
+        DeliveryTracker tracker = new DeliveryTracker();
+        standardChannel.publishTracked(eventId, payload, tracker);
+        return tracker.complete();
+    }
+
+    /**
+     * Publishes a batch of object-less events with the same ID to the standard channel.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param payloads the payload array
+     * @param from the first index to publish (inclusive)
+     * @param to the last index to publish (exclusive)
+     * @return the total number of synchronous deliveries
+     */
+    @Override
+    public int publishBatch(int eventId, Object[] payloads, int from, int to) {
+        if (shuttingDown) {
+            return 0;
+        }
+        return standardChannel.publishBatch(eventId, payloads, from, to);
+    }
+
+    /**
+     * Publishes a batch of object-less events with individual IDs to the standard channel.
+     *
+     * @param eventIds the event ID array
+     * @param payloads the payload array
+     * @param from the first index to publish (inclusive)
+     * @param to the last index to publish (exclusive)
+     * @return the total number of synchronous deliveries
+     */
+    @Override
+    public int publishBatch(int[] eventIds, Object[] payloads, int from, int to) {
+        if (shuttingDown) {
+            return 0;
+        }
+        return standardChannel.publishBatch(eventIds, payloads, from, to);
+    }
+
+    /**
+     * Publishes a {@code long} event to the standard channel without boxing.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param value the value to publish
+     * @return the number of listeners that received the event
+     */
+    @Override
+    public int publishLong(int eventId, long value) {
+        if (shuttingDown) {
+            return 0;
+        }
+        return standardChannel.publishLong(eventId, value);
+    }
+
+    /**
+     * Publishes a {@code double} event to the standard channel without boxing.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param value the value to publish
+     * @return the number of listeners that received the event
+     */
+    @Override
+    public int publishDouble(int eventId, double value) {
+        if (shuttingDown) {
+            return 0;
+        }
+        return standardChannel.publishDouble(eventId, value);
+    }
+
+    /**
+     * Publishes a two-{@code long} event to the standard channel without boxing.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param first the first value to publish
+     * @param second the second value to publish
+     * @return the number of listeners that received the event
+     */
+    @Override
+    public int publish(int eventId, long first, long second) {
+        if (shuttingDown) {
+            return 0;
+        }
+        return standardChannel.publish(eventId, first, second);
+    }
+
     /**
      * Registers a listener for object-less events.
      *
@@ -540,6 +1006,36 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         standardChannel.unregister(eventId, listener);
     }
 
+    @Override
+    public void registerLong(int eventId, LongListener listener, int priority) {
+        standardChannel.registerLong(eventId, listener, priority);
+    }
+
+    @Override
+    public void registerDouble(int eventId, DoubleListener listener, int priority) {
+        standardChannel.registerDouble(eventId, listener, priority);
+    }
+
+    @Override
+    public void registerLongPair(int eventId, LongPairListener listener, int priority) {
+        standardChannel.registerLongPair(eventId, listener, priority);
+    }
+
+    @Override
+    public void unregisterLong(int eventId, LongListener listener) {
+        standardChannel.unregisterLong(eventId, listener);
+    }
+
+    @Override
+    public void unregisterDouble(int eventId, DoubleListener listener) {
+        standardChannel.unregisterDouble(eventId, listener);
+    }
+
+    @Override
+    public void unregisterLongPair(int eventId, LongPairListener listener) {
+        standardChannel.unregisterLongPair(eventId, listener);
+    }
+
     /**
      * Returns the total number of registered listeners.
      *
@@ -551,6 +1047,9 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         for (EventChannel channel : specializedChannels.values()) {
             count += channel.getListenerCount();
         }
+        for (EventChannel channel : topicRouter.subscriptions().values()) {
+            count += channel.getListenerCount();
+        }
         return count;
     }
 
@@ -568,8 +1067,118 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
      */
     @Override
     public EventChannel getChannel(String channelName) {
-        return specializedChannels.computeIfAbsent(channelName,
-                name -> new StandardEventChannel(name, asyncExecutor));
+        return getChannel(channelName, EventChannelOptions.defaults());
+    }
+
+    /**
+     * Gets or creates a specialized channel with the given options.
+     *
+     * <p>Options such as {@link EventChannelOptions.AsyncMode#RING_BUFFER ring-buffer}
+     * async delivery only take effect when the channel is created. Coalescing options
+     * create a {@link CoalescingEventChannel}.</p>
+     *
+     * @param channelName the name of the specialized channel
+     * @param options the options used to create the channel
+     * @return the specialized EventChannel
+     */
+    @Override
+    public EventChannel getChannel(String channelName, EventChannelOptions options) {
+        EventChannel existing = specializedChannels.get(channelName);
+        if (existing != null) {
+            return existing;
+        }
+        EventChannel channel = specializedChannels.computeIfAbsent(channelName,
+                name -> options != null && options.isCoalescing()
+                        ? new CoalescingEventChannel(name, asyncExecutor, options)
+                        : new StandardEventChannel(name, asyncExecutor, options));
+        // The topic of the same name now has a channel of its own
+        topicRouter.invalidate(channelName);
+        return channel;
+    }
+
+    // ==================== Topic Channels ====================
+
+    /**
+     * Gets or creates the channel for a dotted topic or wildcard pattern.
+     *
+     * <p>A concrete topic such as {@code orders.eu.created} maps to the specialized
+     * channel of that name, as returned by {@link #getChannel(String)}. A pattern
+     * gets a channel of its own: {@code *} matches exactly one token, and a
+     * trailing {@code >} matches one or more remaining tokens, so listeners
+     * registered on {@code orders.*.created} or {@code orders.>} receive events
+     * published with {@link #publish(String, int, Object)} to
+     * {@code orders.eu.created}.</p>
+     *
+     * @param topicPattern the dotted topic or pattern
+     * @return the channel to register listeners on
+     * @throws IllegalArgumentException if the pattern is empty, has empty tokens,
+     *         or has {@code >} before its last token
+     */
+    public EventChannel getTopicChannel(String topicPattern) {
+        return getTopicChannel(topicPattern, EventChannelOptions.defaults());
+    }
+
+    /**
+     * Gets or creates the channel for a dotted topic or wildcard pattern with the given options.
+     *
+     * <p>Options only take effect when the channel is created. Coalescing is not
+     * supported for wildcard patterns.</p>
+     *
+     * @param topicPattern the dotted topic or pattern
+     * @param options the options used to create the channel
+     * @return the channel to register listeners on
+     * @see #getTopicChannel(String)
+     */
+    public EventChannel getTopicChannel(String topicPattern, EventChannelOptions options) {
+        if (!TopicRouter.isPattern(topicPattern)) {
+            return getChannel(topicPattern, options);
+        }
+        if (options != null && options.isCoalescing()) {
+            throw new IllegalArgumentException("Wildcard topic channels cannot coalesce: " + topicPattern);
+        }
+        return topicRouter.subscription(topicPattern,
+                pattern -> new StandardEventChannel(pattern, asyncExecutor, options));
+    }
+
+    /**
+     * Removes a wildcard pattern and shuts its channel down.
+     *
+     * @param topicPattern the wildcard pattern
+     * @return {@code true} if the pattern had a channel
+     */
+    public boolean removeTopicChannel(String topicPattern) {
+        StandardEventChannel removed = topicRouter.remove(topicPattern);
+        if (removed == null) {
+            return false;
+        }
+        removed.shutdown();
+        return true;
+    }
+
+    /**
+     * Publishes an event to a concrete dotted topic.
+     *
+     * <p>The event is delivered to the specialized channel named like the topic,
+     * if it exists, and then to every wildcard channel whose pattern matches, from
+     * the most to the least specific pattern. Listener priorities apply within
+     * each channel. The matching channels are resolved once per topic and cached
+     * until a pattern is added or removed.</p>
+     *
+     * @param topic the concrete topic, without wildcards
+     * @param eventId the unique identifier for this event type
+     * @param payload the data to publish with the event
+     * @return the number of synchronous deliveries across all matching channels
+     * @throws IllegalArgumentException if the topic is empty, has empty tokens or wildcards
+     */
+    public int publish(String topic, int eventId, Object payload) {
+        if (shuttingDown) {
+            return 0;
+        }
+        int delivered = 0;
+        for (EventChannel channel : topicRouter.route(topic)) {
+            delivered += channel.publish(eventId, payload);
+        }
+        return delivered;
     }
 
     /**
@@ -644,6 +1253,122 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         }, priority);
     }
 
+    /**
+     * Registers a typed event handler with priority and a compiled filter.
+     *
+     * <p>Generated registries pass the predicate compiled from
+     * {@code @Subscribe(filter = "...")}; the handler is only invoked for events
+     * the predicate accepts.</p>
+     *
+     * @param <T> the event type
+     * @param eventId the event type ID
+     * @param eventClass the event class for type-safe casting
+     * @param handler the typed event handler
+     * @param priority the priority (higher = called first)
+     * @param filter the predicate events must satisfy
+     */
+    public <T extends Event> void registerEventHandler(int eventId, Class<T> eventClass,
+                                                        TypedEventHandler<T> handler, int priority,
+                                                        Predicate<? super T> filter) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        standardChannel.register(eventId, (payload) -> {
+            if (eventClass.isInstance(payload)) {
+                T event = eventClass.cast(payload);
+                if (filter.test(event)) {
+                    handler.handle(event);
+                }
+            }
+        }, priority);
+    }
+
+    /**
+     * Registers a typed event handler that runs asynchronously.
+     *
+     * <p>Generated registries use this for {@code @Subscribe(async = true)}. The
+     * filter is evaluated on the publishing thread; only accepted events are
+     * handed off. With an ordering key, events with equal keys are handled one
+     * at a time in publish order, while different keys run in parallel.</p>
+     *
+     * @param <T> the event type
+     * @param eventId the event type ID
+     * @param eventClass the event class for type-safe casting
+     * @param handler the typed event handler
+     * @param priority the priority (higher = handed off first)
+     * @param filter the predicate events must satisfy, or {@code null} for none
+     * @param asyncMode where the handler runs
+     * @param orderingKey extracts the ordering key, or {@code null} for unordered delivery
+     */
+    public <T extends Event> void registerAsyncEventHandler(int eventId, Class<T> eventClass,
+                                                             TypedEventHandler<T> handler, int priority,
+                                                             Predicate<? super T> filter,
+                                                             Subscribe.AsyncMode asyncMode,
+                                                             Function<? super T, ?> orderingKey) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        if (asyncMode == null) {
+            throw new IllegalArgumentException("Async mode cannot be null");
+        }
+        standardChannel.register(eventId, (payload) -> {
+            if (eventClass.isInstance(payload)) {
+                T event = eventClass.cast(payload);
+                if (filter == null || filter.test(event)) {
+                    executeAsync(asyncMode, orderingKey != null ? orderingKey.apply(event) : null,
+                            handler, () -> handler.handle(event));
+                }
+            }
+        }, priority);
+    }
+
+    /**
+     * Runs an async delivery according to the subscriber's mode and ordering key.
+     *
+     * The task runs in the publisher's context, captured once where it enters
+     * an executor; the ordered lanes and Veld's own pools capture it themselves. Inside a tracked publish the task is also wrapped so the
+     * publish waits for it.
+     *
+     * @param owner the subscriber, so equal keys of different subscribers use independent lanes
+     */
+    private void executeAsync(Subscribe.AsyncMode asyncMode, Object key, Object owner, Runnable task) {
+        DeliveryTracker tracker = DeliveryTracker.current();
+        if (tracker != null) {
+            task = tracker.track(owner, task);
+        }
+        boolean virtual = asyncMode == Subscribe.AsyncMode.VIRTUAL_THREAD;
+        try {
+            if (key != null) {
+                (virtual ? virtualThreadLanes : executorLanes)
+                        .execute(31 * key.hashCode() + System.identityHashCode(owner), task);
+            } else if (virtual) {
+                ExecutorService executor = virtualThreadExecutor();
+                executor.submit(ContextPropagation.wrapFor(executor, task));
+            } else {
+                asyncExecutor.submit(ContextPropagation.wrapFor(asyncExecutor, task));
+            }
+        } catch (RejectedExecutionException e) {
+            DeliveryTracker.discard(task);
+            throw e;
+        }
+    }
+
+    private ExecutorService virtualThreadExecutor() {
+        ExecutorService executor = virtualThreadExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = virtualThreadExecutor;
+                if (executor == null) {
+                    virtualThreadExecutor = executor = VirtualThreads.newThreadPerTaskExecutor("EventBus-Virtual");
+                }
+            }
+        }
+        return executor;
+    }
+
     /**
      * Registers an event handler using a lambda/Consumer for zero-reflection operation.
      *
@@ -729,11 +1454,10 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         }
         String signatureWarning = subscriber.getSignatureWarning();
         if (signatureWarning != null) {
-            System.err.println("[EventBus] Warning: " + signatureWarning);
+            LOGGER.warning(signatureWarning);
         }
         subscriberIndex.register(subscriber);
-        System.out.println("[EventBus] Registered EventSubscriber: " +
-                subscriber.getEventType().getSimpleName());
+        LOGGER.log(Level.FINE, "Registered EventSubscriber: {0}", subscriber);
     }
 
     /**
@@ -756,7 +1480,11 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             return;
         }
         subscriberIndex.unregister(subscriber);
-        System.out.println("[EventBus] Unregistered: " + subscriber.getClass().getSimpleName());
+        GeneratedEventDispatcher generated = standardChannel.getGeneratedDispatcher();
+        if (generated != null) {
+            generated.unbind(subscriber);
+        }
+        LOGGER.log(Level.FINE, "Unregistered: {0}", subscriber);
     }
 
     /**
@@ -771,10 +1499,7 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             return 0;
         }
 
-        publishedCount.incrementAndGet();
-        int delivered = subscriberIndex.publish(event);
-        deliveredCount.addAndGet(delivered);
-        return delivered;
+        return subscriberIndex.publish(event);
     }
 
     /**
@@ -792,20 +1517,226 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         return CompletableFuture.supplyAsync(() -> publish(event), asyncExecutor);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Parallel fan-out is not used. Async subscribers count as delivered once
+     * their task has completed normally.</p>
+     */
+    @Override
+    public CompletableFuture<PublishResult> publishTracked(Event event) {
+        if (event == null || shuttingDown) {
+            return CompletableFuture.completedFuture(PublishResult.EMPTY);
+        }
+        DeliveryTracker tracker = new DeliveryTracker();
+        subscriberIndex.publishTracked(event, tracker);
+        return tracker.complete();
+    }
+
     // ==================== Statistics and Management ====================
 
     /**
      * Returns the total number of events published.
      */
     public long getPublishedCount() {
-        return publishedCount.get();
+        long total = 0;
+        synchronized (subscriberIndex.countersByType) {
+            for (EventCounters counters : subscriberIndex.countersByType.values()) {
+                total += counters.getPublished();
+            }
+        }
+        return total;
     }
 
     /**
      * Returns the total number of event deliveries.
      */
     public long getDeliveredCount() {
-        return deliveredCount.get();
+        long total = 0;
+        synchronized (subscriberIndex.countersByType) {
+            for (EventCounters counters : subscriberIndex.countersByType.values()) {
+                total += counters.getDelivered();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sets which statistics are recorded from now on.
+     *
+     * <p>Applies to object-based publishing, the standard channel and every
+     * specialized channel that currently exists. Channels created later use the
+     * mode from their {@link EventChannelOptions}. With
+     * {@link EventChannelOptions.StatisticsMode#OFF} the publish paths perform no
+     * shared writes at all.</p>
+     *
+     * @param mode the statistics mode
+     */
+    public void setStatisticsMode(EventChannelOptions.StatisticsMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Statistics mode cannot be null");
+        }
+        this.statisticsMode = mode;
+        standardChannel.setStatisticsMode(mode);
+        for (EventChannel channel : specializedChannels.values()) {
+            if (channel instanceof StandardEventChannel) {
+                ((StandardEventChannel) channel).setStatisticsMode(mode);
+            }
+        }
+    }
+
+    /**
+     * Sets how many parallel-safe listeners an event needs before its synchronous
+     * listeners are fanned out on the common {@link ForkJoinPool}.
+     *
+     * <p>Applies to object-based publishing, where listeners opt in through
+     * {@link EventSubscriber#withParallelDelivery()} or
+     * {@link EventListener#isParallelSafe()}, and to the standard channel, where
+     * they opt in through {@link ObjectLessListener#isParallelSafe()}. Specialized
+     * channels use {@link EventChannelOptions.Builder#parallelFanOut(int)}.
+     * {@code publish} still returns only after every listener finished; if
+     * listeners fail, the first failure is rethrown with the others suppressed.</p>
+     *
+     * @param threshold the threshold, at least 2, or {@code 0} to disable fan-out
+     */
+    public void setParallelFanOutThreshold(int threshold) {
+        standardChannel.setParallelFanOutThreshold(threshold);
+        this.parallelFanOutThreshold = threshold;
+    }
+
+    /**
+     * Returns the parallel fan-out threshold of object-based publishing.
+     *
+     * @return the threshold, or {@code 0} if fan-out is disabled
+     */
+    public int getParallelFanOutThreshold() {
+        return parallelFanOutThreshold;
+    }
+
+    /**
+     * Returns the statistics mode of object-based publishing.
+     *
+     * @return the statistics mode
+     */
+    public EventChannelOptions.StatisticsMode getStatisticsMode() {
+        return statisticsMode;
+    }
+
+    /**
+     * Sets the handler for failures of subscribers that catch their exceptions.
+     *
+     * <p>The default logs at most one failure per {@link #DEFAULT_ERROR_LOG_INTERVAL}
+     * through {@code java.util.logging}. Failures are counted per subscriber either
+     * way (see {@link #getSubscriberFailureCounts()}).</p>
+     *
+     * @param handler the handler
+     */
+    public void setErrorHandler(EventErrorHandler handler) {
+        if (handler == null) {
+            throw new IllegalArgumentException("Error handler cannot be null");
+        }
+        this.errorHandler = handler;
+    }
+
+    /**
+     * Returns the handler for failures of subscribers that catch their exceptions.
+     *
+     * @return the error handler
+     */
+    public EventErrorHandler getErrorHandler() {
+        return errorHandler;
+    }
+
+    /**
+     * Returns how often each registered subscriber has thrown, including
+     * subscribers that rethrow. Subscribers that never failed are omitted.
+     *
+     * @return the failure counts by subscriber
+     */
+    public Map<EventSubscriber, Long> getSubscriberFailureCounts() {
+        Map<EventSubscriber, Long> counts = new LinkedHashMap<>();
+        for (SubscriberIndex.ListenerEntry entry : subscriberIndex.listenersByType.values()) {
+            for (int i = 0; i < entry.count; i++) {
+                if (entry.listeners[i] instanceof SubscriberEventListener) {
+                    SubscriberEventListener listener = (SubscriberEventListener) entry.listeners[i];
+                    long failed = listener.failures.sum();
+                    if (failed > 0) {
+                        counts.merge(listener.subscriber, failed, Long::sum);
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Installs the compile-time generated dispatcher for {@code @Subscribe} methods.
+     *
+     * <p>Called by the generated event registry when it binds the first component
+     * to this bus; applications normally never call this directly. While a
+     * dispatcher is installed, every object-less publish method, including
+     * {@link #publishAsync(int, Object)} and journal replay, delivers to its
+     * subscribers and to the standard channel listeners in one priority order.
+     * Generated deliveries are included in the returned counts but not in the
+     * standard channel statistics.</p>
+     *
+     * @param dispatcher the dispatcher, or {@code null} to remove it
+     */
+    public void setGeneratedDispatcher(GeneratedEventDispatcher dispatcher) {
+        standardChannel.setGeneratedDispatcher(dispatcher);
+    }
+
+    /**
+     * Returns the installed compile-time generated dispatcher.
+     *
+     * @return the dispatcher, or {@code null} if none is installed
+     */
+    public GeneratedEventDispatcher getGeneratedDispatcher() {
+        return standardChannel.getGeneratedDispatcher();
+    }
+
+    /**
+     * Returns a snapshot of the object-based event statistics, broken down by
+     * concrete event class.
+     *
+     * @return the statistics snapshot
+     */
+    public EventStatistics<Class<?>> getObjectEventStatistics() {
+        long published = 0;
+        long delivered = 0;
+        Map<Class<?>, EventStatistics.Counts> byType = new LinkedHashMap<>();
+        synchronized (subscriberIndex.countersByType) {
+            for (Map.Entry<Class<?>, EventCounters> entry : subscriberIndex.countersByType.entrySet()) {
+                long typePublished = entry.getValue().getPublished();
+                long typeDelivered = entry.getValue().getDelivered();
+                published += typePublished;
+                delivered += typeDelivered;
+                byType.put(entry.getKey(), new EventStatistics.Counts(typePublished, typeDelivered));
+            }
+        }
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        return new EventStatistics<>("EventBus", mode, published, delivered, byType,
+                mode == EventChannelOptions.StatisticsMode.LATENCY ? dispatchLatency.snapshot() : null);
+    }
+
+    /**
+     * Returns statistics snapshots of the standard channel and all specialized
+     * channels, keyed by channel name.
+     *
+     * @return the channel statistics, standard channel first
+     */
+    public Map<String, EventStatistics<Integer>> getChannelStatistics() {
+        Map<String, EventStatistics<Integer>> result = new LinkedHashMap<>();
+        result.put("Standard", standardChannel.getStatisticsSnapshot());
+        for (Map.Entry<String, EventChannel> entry : specializedChannels.entrySet()) {
+            if (entry.getValue() instanceof StandardEventChannel) {
+                result.put(entry.getKey(), ((StandardEventChannel) entry.getValue()).getStatisticsSnapshot());
+            }
+        }
+        for (Map.Entry<String, StandardEventChannel> entry : topicRouter.subscriptions().entrySet()) {
+            result.putIfAbsent(entry.getKey(), entry.getValue().getStatisticsSnapshot());
+        }
+        return result;
     }
 
     /**
@@ -825,6 +1756,9 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
         for (EventChannel channel : specializedChannels.values()) {
             count += channel.getListenerCount();
         }
+        for (EventChannel channel : topicRouter.subscriptions().values()) {
+            count += channel.getListenerCount();
+        }
         return count;
     }
 
@@ -835,13 +1769,20 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
     public void clear() {
         shuttingDown = false;
         subscriberIndex.clear();
+        GeneratedEventDispatcher generated = standardChannel.getGeneratedDispatcher();
+        if (generated != null) {
+            generated.clear();
+            standardChannel.setGeneratedDispatcher(null);
+        }
         standardChannel.clear();
         for (EventChannel channel : specializedChannels.values()) {
             channel.clear();
         }
-        publishedCount.set(0);
-        deliveredCount.set(0);
-        System.out.println("[EventBus] Cleared all subscribers and listeners");
+        for (EventChannel channel : topicRouter.subscriptions().values()) {
+            channel.clear();
+        }
+        dispatchLatency.reset();
+        LOGGER.fine("Cleared all subscribers and listeners");
     }
 
     /**
@@ -849,16 +1790,34 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
      */
     public void shutdown() {
         shuttingDown = true;
+        for (EventChannel channel : specializedChannels.values()) {
+            if (channel instanceof StandardEventChannel) {
+                ((StandardEventChannel) channel).shutdown();
+            }
+        }
+        for (StandardEventChannel channel : topicRouter.subscriptions().values()) {
+            channel.shutdown();
+        }
         asyncExecutor.shutdown();
+        ExecutorService virtual = virtualThreadExecutor;
+        if (virtual != null) {
+            virtual.shutdown();
+        }
         try {
             if (!asyncExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
                 asyncExecutor.shutdownNow();
             }
+            if (virtual != null && !virtual.awaitTermination(5, TimeUnit.SECONDS)) {
+                virtual.shutdownNow();
+            }
         } catch (InterruptedException e) {
             asyncExecutor.shutdownNow();
+            if (virtual != null) {
+                virtual.shutdownNow();
+            }
             Thread.currentThread().interrupt();
         }
-        System.out.println("[EventBus] Shutdown complete");
+        LOGGER.fine("Shutdown complete");
     }
 
     /**
@@ -870,6 +1829,11 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
             asyncExecutor.shutdownNow();
         }
         asyncExecutor = createAsyncExecutor();
+        ExecutorService virtual = virtualThreadExecutor;
+        if (virtual != null) {
+            virtual.shutdownNow();
+            virtualThreadExecutor = null;
+        }
 
         // Update executor reference in standard channel
         standardChannel.updateExecutor(asyncExecutor);
@@ -880,7 +1844,13 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
                 ((StandardEventChannel) channel).updateExecutor(asyncExecutor);
             }
         }
+        for (StandardEventChannel channel : topicRouter.subscriptions().values()) {
+            channel.updateExecutor(asyncExecutor);
+        }
 
+        setStatisticsMode(EventChannelOptions.StatisticsMode.COUNTERS);
+        setParallelFanOutThreshold(0);
+        errorHandler = EventErrorHandler.logging(DEFAULT_ERROR_LOG_INTERVAL);
         clear();
     }
 
@@ -897,7 +1867,8 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
      */
     @Override
     public String getStatistics() {
-        return String.format(
+        EventStatistics<Class<?>> objectStats = getObjectEventStatistics();
+        StringBuilder sb = new StringBuilder(String.format(
                 "EventBus Statistics:\n" +
                 "  - Object-Based Subscribers: %d\n" +
                 "  - Object-Less Listeners: %d\n" +
@@ -907,8 +1878,15 @@ public class EventBus implements ObjectEventBus, ObjectLessEventBus {
                 getSubscriberCount(),
                 standardChannel.getListenerCount(),
                 specializedChannels.size(),
-                publishedCount.get(),
-                deliveredCount.get()
-        );
+                objectStats.getPublished(),
+                objectStats.getDelivered()
+        ));
+        if (objectStats.getLatency() != null) {
+            sb.append("\n  - Dispatch Latency: ").append(objectStats.getLatency());
+        }
+        for (EventStatistics<Integer> channelStats : getChannelStatistics().values()) {
+            sb.append("\n  - Channel ").append(channelStats);
+        }
+        return sb.toString();
     }
 }
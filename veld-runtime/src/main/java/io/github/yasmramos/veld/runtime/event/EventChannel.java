@@ -15,6 +15,7 @@
  */
 package io.github.yasmramos.veld.runtime.event;
 
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -56,6 +57,63 @@ public interface EventChannel {
      */
     CompletableFuture<Integer> publishAsync(int eventId, Object payload);
 
+    /**
+     * Publishes an event and tracks it until every listener, sync and async, has finished.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param payload the data to publish with the event
+     * @return a future with the delivery count and per-listener failures
+     * @see ObjectLessEventBus#publishTracked(int, Object)
+     */
+    CompletableFuture<PublishResult> publishTracked(int eventId, Object payload);
+
+    /**
+     * Publishes a batch of payloads for a single event ID.
+     *
+     * <p>Every payload in {@code payloads[from..to)} is delivered to the
+     * listeners of {@code eventId} in order, exactly as if
+     * {@link #publish(int, Object)} had been called for each one. Implementations
+     * may resolve listeners and update statistics once per batch.</p>
+     *
+     * @param eventId the unique identifier for this event type
+     * @param payloads the payload array
+     * @param from the first index to publish (inclusive)
+     * @param to the last index to publish (exclusive)
+     * @return the total number of synchronous deliveries
+     * @throws IndexOutOfBoundsException if the range is outside the array
+     */
+    default int publishBatch(int eventId, Object[] payloads, int from, int to) {
+        Objects.checkFromToIndex(from, to, payloads.length);
+        int delivered = 0;
+        for (int i = from; i < to; i++) {
+            delivered += publish(eventId, payloads[i]);
+        }
+        return delivered;
+    }
+
+    /**
+     * Publishes a batch of events with individual event IDs.
+     *
+     * <p>{@code eventIds[i]} is paired with {@code payloads[i]} for every
+     * index in {@code [from..to)}; events are delivered in index order.</p>
+     *
+     * @param eventIds the event ID array
+     * @param payloads the payload array
+     * @param from the first index to publish (inclusive)
+     * @param to the last index to publish (exclusive)
+     * @return the total number of synchronous deliveries
+     * @throws IndexOutOfBoundsException if the range is outside either array
+     */
+    default int publishBatch(int[] eventIds, Object[] payloads, int from, int to) {
+        Objects.checkFromToIndex(from, to, eventIds.length);
+        Objects.checkFromToIndex(from, to, payloads.length);
+        int delivered = 0;
+        for (int i = from; i < to; i++) {
+            delivered += publish(eventIds[i], payloads[i]);
+        }
+        return delivered;
+    }
+
     /**
      * Registers a listener for object-less events.
      *
@@ -81,6 +139,118 @@ public interface EventChannel {
      */
     void unregister(int eventId, ObjectLessEventBus.ObjectLessListener listener);
 
+    /**
+     * Publishes a {@code long} event to the {@link ObjectLessEventBus.LongListener}s
+     * of the event ID without boxing.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param value the value to publish
+     * @return the number of listeners that received the event
+     */
+    int publishLong(int eventId, long value);
+
+    /**
+     * Publishes a {@code double} event to the {@link ObjectLessEventBus.DoubleListener}s
+     * of the event ID without boxing.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param value the value to publish
+     * @return the number of listeners that received the event
+     */
+    int publishDouble(int eventId, double value);
+
+    /**
+     * Publishes a two-{@code long} event to the {@link ObjectLessEventBus.LongPairListener}s
+     * of the event ID without boxing.
+     *
+     * @param eventId the unique identifier for this event type
+     * @param first the first value to publish
+     * @param second the second value to publish
+     * @return the number of listeners that received the event
+     */
+    int publish(int eventId, long first, long second);
+
+    /**
+     * Registers a listener for {@code long} events.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     * @param priority the priority of this listener (higher = called first)
+     */
+    void registerLong(int eventId, ObjectLessEventBus.LongListener listener, int priority);
+
+    /**
+     * Registers a listener for {@code long} events with priority 0.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     */
+    default void registerLong(int eventId, ObjectLessEventBus.LongListener listener) {
+        registerLong(eventId, listener, 0);
+    }
+
+    /**
+     * Registers a listener for {@code double} events.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     * @param priority the priority of this listener (higher = called first)
+     */
+    void registerDouble(int eventId, ObjectLessEventBus.DoubleListener listener, int priority);
+
+    /**
+     * Registers a listener for {@code double} events with priority 0.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     */
+    default void registerDouble(int eventId, ObjectLessEventBus.DoubleListener listener) {
+        registerDouble(eventId, listener, 0);
+    }
+
+    /**
+     * Registers a listener for two-{@code long} events.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when values are published
+     * @param priority the priority of this listener (higher = called first)
+     */
+    void registerLongPair(int eventId, ObjectLessEventBus.LongPairListener listener, int priority);
+
+    /**
+     * Registers a listener for two-{@code long} events with priority 0.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when values are published
+     */
+    default void registerLongPair(int eventId, ObjectLessEventBus.LongPairListener listener) {
+        registerLongPair(eventId, listener, 0);
+    }
+
+    /**
+     * Unregisters a {@code long} listener.
+     *
+     * @param eventId the event ID to stop listening for
+     * @param listener the listener to remove
+     */
+    void unregisterLong(int eventId, ObjectLessEventBus.LongListener listener);
+
+    /**
+     * Unregisters a {@code double} listener.
+     *
+     * @param eventId the event ID to stop listening for
+     * @param listener the listener to remove
+     */
+    void unregisterDouble(int eventId, ObjectLessEventBus.DoubleListener listener);
+
+    /**
+     * Unregisters a two-{@code long} listener.
+     *
+     * @param eventId the event ID to stop listening for
+     * @param listener the listener to remove
+     */
+    void unregisterLongPair(int eventId, ObjectLessEventBus.LongPairListener listener);
+
     /**
      * Unregisters all listeners from this channel.
      */
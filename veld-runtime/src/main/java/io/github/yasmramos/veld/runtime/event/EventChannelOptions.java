@@ -0,0 +1,696 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import io.github.yasmramos.veld.runtime.async.StripedLaneExecutor;
+import io.github.yasmramos.veld.runtime.event.journal.JournalOptions;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Immutable configuration for an {@link EventChannel}.
+ *
+ * <p>Options are supplied when a channel is first created through
+ * {@link ObjectLessEventBus#getChannel(String, EventChannelOptions)}. Once a
+ * channel exists its options are fixed; later lookups return the existing
+ * channel unchanged.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * EventChannel metrics = bus.getChannel("metrics", EventChannelOptions.builder()
+ *         .ringBuffer(4096, EventChannelOptions.WaitStrategy.YIELD)
+ *         .build());
+ *
+ * // Orders of the same customer are handled in order, different customers in parallel
+ * EventChannel orders = bus.getChannel("orders", EventChannelOptions.builder()
+ *         .partitioned(64, payload -> ((Order) payload).getCustomerId())
+ *         .build());
+ *
+ * // At most 10k pending deliveries; only the latest price per symbol is kept when full
+ * EventChannel prices = bus.getChannel("prices", EventChannelOptions.builder()
+ *         .bounded(10_000, EventChannelOptions.OverflowPolicy.COALESCE)
+ *         .coalesceKey(payload -> ((Quote) payload).getSymbol())
+ *         .build());
+ *
+ * // Listeners see at most one refresh per cache key every 100 ms
+ * EventChannel refresh = bus.getChannel("cache-refresh", EventChannelOptions.builder()
+ *         .coalescing(Duration.ofMillis(100), payload -> ((CacheKey) payload).getRegion())
+ *         .build());
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class EventChannelOptions {
+
+    /**
+     * How async listeners of a channel are executed.
+     */
+    public enum AsyncMode {
+        /** Each async delivery is submitted as a task to the bus executor (default). */
+        EXECUTOR,
+        /** Async deliveries are claimed in a pre-allocated ring buffer drained by a dedicated consumer thread. */
+        RING_BUFFER,
+        /** Each async delivery runs on its own virtual thread (JDK 21+); falls back to daemon platform threads. */
+        VIRTUAL_THREAD,
+        /**
+         * Async deliveries with equal ordering keys run in publish order on a serial lane,
+         * different keys run in parallel on the bus executor.
+         */
+        PARTITIONED
+    }
+
+    /**
+     * How the ring-buffer consumer waits when no deliveries are available.
+     */
+    public enum WaitStrategy {
+        /** Spin on the sequence; lowest latency, burns a full core. */
+        BUSY_SPIN,
+        /** Spin briefly, then yield the CPU to other threads. */
+        YIELD,
+        /** Spin and yield briefly, then park for a short interval; lowest CPU usage. */
+        PARK
+    }
+
+    /**
+     * Which statistics a channel records on the publish path.
+     */
+    public enum StatisticsMode {
+        /** No statistics; the publish path performs no shared writes. */
+        OFF,
+        /** Striped per-event-ID published/delivered counters (default). */
+        COUNTERS,
+        /** Counters plus a dispatch latency histogram; adds two {@code System.nanoTime()} calls per publish. */
+        LATENCY
+    }
+
+    /**
+     * What a bounded channel does with a new async delivery when its queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait up to the overflow timeout for space, then drop the new delivery. */
+        BLOCK,
+        /** Drop the new delivery. */
+        DROP_NEWEST,
+        /** Drop the oldest queued delivery to make room for the new one. */
+        DROP_OLDEST,
+        /** Run the new delivery on the publishing thread. */
+        CALLER_RUNS,
+        /**
+         * Replace the payload of a queued delivery with the same coalescing key to the
+         * same listener; deliveries with a new key behave as {@link #BLOCK}.
+         */
+        COALESCE
+    }
+
+    /**
+     * What a {@link CoalescingEventChannel} delivers for the payloads collapsed under one key.
+     */
+    public enum CoalesceDelivery {
+        /** The most recent payload. */
+        LATEST,
+        /** The result of folding the payloads with the configured merge function. */
+        MERGED,
+        /** An unmodifiable {@code List} of all payloads in publish order. */
+        BATCH
+    }
+
+    /** Default number of slots in a ring buffer. */
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+
+    /** Default time a publisher waits for queue space under {@link OverflowPolicy#BLOCK}. */
+    public static final Duration DEFAULT_OVERFLOW_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final EventChannelOptions DEFAULTS = builder().build();
+
+    private final AsyncMode asyncMode;
+    private final int ringBufferSize;
+    private final WaitStrategy waitStrategy;
+    private final int laneCount;
+    private final Function<Object, ?> orderingKey;
+    private final StatisticsMode statisticsMode;
+    private final int queueCapacity;
+    private final int queueConcurrency;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration overflowTimeout;
+    private final Function<Object, ?> coalesceKey;
+    private final Duration coalesceWindow;
+    private final CoalesceDelivery coalesceDelivery;
+    private final BinaryOperator<Object> coalesceMerger;
+    private final JournalOptions journal;
+    private final int parallelFanOutThreshold;
+    private final ForkJoinPool parallelFanOutPool;
+
+    private EventChannelOptions(Builder builder) {
+        this.asyncMode = builder.asyncMode;
+        this.ringBufferSize = builder.ringBufferSize;
+        this.waitStrategy = builder.waitStrategy;
+        this.laneCount = builder.laneCount;
+        this.orderingKey = builder.orderingKey;
+        this.statisticsMode = builder.statisticsMode;
+        this.queueCapacity = builder.queueCapacity;
+        this.queueConcurrency = builder.queueConcurrency;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.overflowTimeout = builder.overflowTimeout;
+        this.coalesceKey = builder.coalesceKey;
+        this.coalesceWindow = builder.coalesceWindow;
+        this.coalesceDelivery = builder.coalesceDelivery;
+        this.coalesceMerger = builder.coalesceMerger;
+        this.journal = builder.journal;
+        this.parallelFanOutThreshold = builder.parallelFanOutThreshold;
+        this.parallelFanOutPool = builder.parallelFanOutPool;
+    }
+
+    /**
+     * Returns the default options: executor-based async delivery and counter statistics.
+     *
+     * @return the shared default options
+     */
+    public static EventChannelOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Creates a new builder initialized with default values.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the async execution mode.
+     *
+     * @return the async mode
+     */
+    public AsyncMode getAsyncMode() {
+        return asyncMode;
+    }
+
+    /**
+     * Returns the ring buffer size (a power of two).
+     *
+     * @return the number of ring buffer slots
+     */
+    public int getRingBufferSize() {
+        return ringBufferSize;
+    }
+
+    /**
+     * Returns the wait strategy of the ring-buffer consumer.
+     *
+     * @return the wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Returns the number of serial lanes used in {@link AsyncMode#PARTITIONED} mode.
+     *
+     * @return the lane count
+     */
+    public int getLaneCount() {
+        return laneCount;
+    }
+
+    /**
+     * Returns the channel-wide ordering key extractor used in
+     * {@link AsyncMode#PARTITIONED} mode for listeners that declare no key.
+     *
+     * @return the key extractor, or {@code null} if none
+     */
+    public Function<Object, ?> getOrderingKey() {
+        return orderingKey;
+    }
+
+    /**
+     * Returns the initial statistics mode of the channel.
+     *
+     * @return the statistics mode
+     */
+    public StatisticsMode getStatisticsMode() {
+        return statisticsMode;
+    }
+
+    /**
+     * Returns whether async deliveries go through a bounded queue.
+     *
+     * @return {@code true} if a queue capacity was configured
+     */
+    public boolean isBounded() {
+        return queueCapacity > 0;
+    }
+
+    /**
+     * Returns the capacity of the async delivery queue.
+     *
+     * @return the queue capacity, or 0 if the queue is unbounded
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the maximum number of threads draining the bounded queue at once.
+     *
+     * @return the drain concurrency
+     */
+    public int getQueueConcurrency() {
+        return queueConcurrency;
+    }
+
+    /**
+     * Returns the policy applied when the bounded queue is full.
+     *
+     * @return the overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns how long a publisher waits for queue space under
+     * {@link OverflowPolicy#BLOCK} and {@link OverflowPolicy#COALESCE}.
+     *
+     * @return the overflow timeout
+     */
+    public Duration getOverflowTimeout() {
+        return overflowTimeout;
+    }
+
+    /**
+     * Returns the coalescing key extractor used by {@link OverflowPolicy#COALESCE}
+     * and coalescing channels.
+     *
+     * @return the key extractor, or {@code null} if none
+     */
+    public Function<Object, ?> getCoalesceKey() {
+        return coalesceKey;
+    }
+
+    /**
+     * Returns whether the channel collapses payloads by key before delivering them.
+     *
+     * @return {@code true} for a {@link CoalescingEventChannel}
+     */
+    public boolean isCoalescing() {
+        return coalesceWindow != null;
+    }
+
+    /**
+     * Returns how long a coalescing channel collects payloads before delivering them.
+     *
+     * @return the window, zero to deliver as soon as the previous flush finished,
+     *         or {@code null} if the channel does not coalesce
+     */
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    /**
+     * Returns what a coalescing channel delivers per key.
+     *
+     * @return the delivery kind
+     */
+    public CoalesceDelivery getCoalesceDelivery() {
+        return coalesceDelivery;
+    }
+
+    /**
+     * Returns the merge function used with {@link CoalesceDelivery#MERGED}.
+     *
+     * @return the merge function, or {@code null} if none
+     */
+    public BinaryOperator<Object> getCoalesceMerger() {
+        return coalesceMerger;
+    }
+
+    /**
+     * Returns the journal configuration of the channel.
+     *
+     * @return the journal options, or {@code null} if the channel is not journaled
+     */
+    public JournalOptions getJournal() {
+        return journal;
+    }
+
+    /**
+     * Returns the number of parallel-safe listeners an event ID needs before its
+     * synchronous deliveries are fanned out.
+     *
+     * @return the threshold, or {@code 0} if parallel fan-out is disabled
+     */
+    public int getParallelFanOutThreshold() {
+        return parallelFanOutThreshold;
+    }
+
+    /**
+     * Returns the pool that runs parallel fan-out deliveries.
+     *
+     * @return the pool; the common pool unless one was configured
+     */
+    public ForkJoinPool getParallelFanOutPool() {
+        return parallelFanOutPool;
+    }
+
+    @Override
+    public String toString() {
+        return "EventChannelOptions[asyncMode=" + asyncMode +
+                ", ringBufferSize=" + ringBufferSize +
+                ", waitStrategy=" + waitStrategy +
+                ", laneCount=" + laneCount +
+                ", statisticsMode=" + statisticsMode +
+                (queueCapacity > 0
+                        ? ", queueCapacity=" + queueCapacity + ", overflowPolicy=" + overflowPolicy
+                        : "") +
+                (coalesceWindow != null
+                        ? ", coalesceWindow=" + coalesceWindow + ", coalesceDelivery=" + coalesceDelivery
+                        : "") +
+                (journal != null ? ", journal=" + journal.getDirectory() : "") +
+                (parallelFanOutThreshold > 0 ? ", parallelFanOutThreshold=" + parallelFanOutThreshold : "") + "]";
+    }
+
+    /**
+     * Builder for {@link EventChannelOptions}.
+     */
+    public static final class Builder {
+        private AsyncMode asyncMode = AsyncMode.EXECUTOR;
+        private int ringBufferSize = DEFAULT_RING_BUFFER_SIZE;
+        private WaitStrategy waitStrategy = WaitStrategy.PARK;
+        private int laneCount = StripedLaneExecutor.DEFAULT_LANES;
+        private Function<Object, ?> orderingKey;
+        private StatisticsMode statisticsMode = StatisticsMode.COUNTERS;
+        private int queueCapacity;
+        private int queueConcurrency = Runtime.getRuntime().availableProcessors();
+        private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+        private Duration overflowTimeout = DEFAULT_OVERFLOW_TIMEOUT;
+        private Function<Object, ?> coalesceKey;
+        private Duration coalesceWindow;
+        private CoalesceDelivery coalesceDelivery = CoalesceDelivery.LATEST;
+        private BinaryOperator<Object> coalesceMerger;
+        private JournalOptions journal;
+        private int parallelFanOutThreshold;
+        private ForkJoinPool parallelFanOutPool = ForkJoinPool.commonPool();
+
+        private Builder() {}
+
+        /**
+         * Delivers async listeners through the bus executor (one task per delivery).
+         *
+         * @return this builder
+         */
+        public Builder executor() {
+            this.asyncMode = AsyncMode.EXECUTOR;
+            return this;
+        }
+
+        /**
+         * Delivers async listeners through a pre-allocated ring buffer.
+         *
+         * @param size the number of slots; must be a power of two
+         * @param waitStrategy how the consumer waits for new deliveries
+         * @return this builder
+         */
+        public Builder ringBuffer(int size, WaitStrategy waitStrategy) {
+            if (size <= 0 || Integer.bitCount(size) != 1) {
+                throw new IllegalArgumentException("Ring buffer size must be a power of two: " + size);
+            }
+            if (waitStrategy == null) {
+                throw new IllegalArgumentException("Wait strategy cannot be null");
+            }
+            this.asyncMode = AsyncMode.RING_BUFFER;
+            this.ringBufferSize = size;
+            this.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        /**
+         * Runs each async delivery on its own virtual thread.
+         *
+         * <p>On runtimes without virtual threads the channel uses daemon platform
+         * threads instead.</p>
+         *
+         * @return this builder
+         */
+        public Builder virtualThreads() {
+            this.asyncMode = AsyncMode.VIRTUAL_THREAD;
+            return this;
+        }
+
+        /**
+         * Delivers async listeners on serial lanes selected by an ordering key.
+         *
+         * <p>A listener's own {@link ObjectLessEventBus.ObjectLessListener#getOrderingKey(Object)}
+         * takes precedence over the channel-wide extractor. Deliveries without a key
+         * run unordered.</p>
+         *
+         * @param lanes the number of serial lanes; rounded up to a power of two
+         * @param orderingKey the channel-wide key extractor, or {@code null} to rely on listener keys
+         * @return this builder
+         */
+        public Builder partitioned(int lanes, Function<Object, ?> orderingKey) {
+            if (lanes <= 0) {
+                throw new IllegalArgumentException("Lane count must be positive: " + lanes);
+            }
+            this.asyncMode = AsyncMode.PARTITIONED;
+            this.laneCount = lanes;
+            this.orderingKey = orderingKey;
+            return this;
+        }
+
+        /**
+         * Sets which statistics the channel records.
+         *
+         * @param mode the statistics mode
+         * @return this builder
+         */
+        public Builder statistics(StatisticsMode mode) {
+            if (mode == null) {
+                throw new IllegalArgumentException("Statistics mode cannot be null");
+            }
+            this.statisticsMode = mode;
+            return this;
+        }
+
+        /**
+         * Bounds the queue of pending async deliveries and {@code publishAsync} calls.
+         *
+         * <p>Applies to {@link AsyncMode#EXECUTOR} and {@link AsyncMode#VIRTUAL_THREAD}
+         * channels; the queue is drained by up to one task per available processor.
+         * Ring-buffer channels are bounded by their buffer size already.</p>
+         *
+         * @param capacity the maximum number of queued deliveries
+         * @param policy what to do with a new delivery when the queue is full
+         * @return this builder
+         */
+        public Builder bounded(int capacity, OverflowPolicy policy) {
+            return bounded(capacity, policy, queueConcurrency);
+        }
+
+        /**
+         * Bounds the queue of pending async deliveries and limits how many threads drain it.
+         *
+         * @param capacity the maximum number of queued deliveries
+         * @param policy what to do with a new delivery when the queue is full
+         * @param concurrency the maximum number of deliveries running at once
+         * @return this builder
+         */
+        public Builder bounded(int capacity, OverflowPolicy policy, int concurrency) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive: " + capacity);
+            }
+            if (policy == null) {
+                throw new IllegalArgumentException("Overflow policy cannot be null");
+            }
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("Queue concurrency must be positive: " + concurrency);
+            }
+            this.queueCapacity = capacity;
+            this.overflowPolicy = policy;
+            this.queueConcurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Sets how long a publisher waits for space in a full bounded queue.
+         *
+         * @param timeout the maximum wait; zero drops immediately
+         * @return this builder
+         */
+        public Builder overflowTimeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("Overflow timeout must not be negative: " + timeout);
+            }
+            this.overflowTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets the key under which queued deliveries are coalesced by
+         * {@link OverflowPolicy#COALESCE}. Payloads with a {@code null} key are never coalesced.
+         *
+         * @param coalesceKey the key extractor
+         * @return this builder
+         */
+        public Builder coalesceKey(Function<Object, ?> coalesceKey) {
+            if (coalesceKey == null) {
+                throw new IllegalArgumentException("Coalesce key cannot be null");
+            }
+            this.coalesceKey = coalesceKey;
+            return this;
+        }
+
+        /**
+         * Makes the channel a {@link CoalescingEventChannel} that delivers only the latest
+         * payload per key and event ID.
+         *
+         * <p>Payloads are collected for {@code window} after the first pending payload
+         * and then delivered together. A zero window delivers on the bus executor as soon
+         * as the previous flush has finished, so payloads collapse only while listeners
+         * are busy. Payloads with a {@code null} key are published immediately.</p>
+         *
+         * @param window how long to collect payloads before delivering them
+         * @param key the coalescing key extractor
+         * @return this builder
+         */
+        public Builder coalescing(Duration window, Function<Object, ?> key) {
+            if (window == null || window.isNegative()) {
+                throw new IllegalArgumentException("Coalesce window must not be negative: " + window);
+            }
+            coalesceKey(key);
+            this.coalesceWindow = window;
+            this.coalesceDelivery = CoalesceDelivery.LATEST;
+            this.coalesceMerger = null;
+            return this;
+        }
+
+        /**
+         * Makes the channel a {@link CoalescingEventChannel} that folds the payloads of
+         * each key with {@code merger} before delivering the result.
+         *
+         * @param window how long to collect payloads before delivering them
+         * @param key the coalescing key extractor
+         * @param merger combines the pending payload with a newer one
+         * @return this builder
+         * @see #coalescing(Duration, Function)
+         */
+        public Builder coalescing(Duration window, Function<Object, ?> key, BinaryOperator<Object> merger) {
+            if (merger == null) {
+                throw new IllegalArgumentException("Merge function cannot be null");
+            }
+            coalescing(window, key);
+            this.coalesceDelivery = CoalesceDelivery.MERGED;
+            this.coalesceMerger = merger;
+            return this;
+        }
+
+        /**
+         * Makes the channel a {@link CoalescingEventChannel} that delivers all payloads of
+         * each key as one unmodifiable {@code List}.
+         *
+         * @param window how long to collect payloads before delivering them
+         * @param key the coalescing key extractor
+         * @return this builder
+         * @see #coalescing(Duration, Function)
+         */
+        public Builder coalescingBatches(Duration window, Function<Object, ?> key) {
+            coalescing(window, key);
+            this.coalesceDelivery = CoalesceDelivery.BATCH;
+            return this;
+        }
+
+        /**
+         * Appends every event published on the channel to a durable
+         * {@link io.github.yasmramos.veld.runtime.event.journal.EventJournal EventJournal}
+         * before delivering it. The journal is opened when the channel is created and
+         * closed by {@link StandardEventChannel#shutdown()}.
+         *
+         * @param journal the journal configuration
+         * @return this builder
+         * @see StandardEventChannel#replay(long)
+         */
+        public Builder journal(JournalOptions journal) {
+            if (journal == null) {
+                throw new IllegalArgumentException("Journal options cannot be null");
+            }
+            this.journal = journal;
+            return this;
+        }
+
+        /**
+         * Runs the synchronous listeners of an event in parallel on the common
+         * {@link ForkJoinPool} once at least {@code threshold} of them are
+         * {@linkplain ObjectLessEventBus.ObjectLessListener#isParallelSafe() parallel-safe}.
+         *
+         * @param threshold the minimum number of parallel-safe listeners; at least 2
+         * @return this builder
+         * @see #parallelFanOut(int, ForkJoinPool)
+         */
+        public Builder parallelFanOut(int threshold) {
+            return parallelFanOut(threshold, ForkJoinPool.commonPool());
+        }
+
+        /**
+         * Runs the synchronous listeners of an event in parallel on the given pool
+         * once at least {@code threshold} of them are parallel-safe.
+         *
+         * <p>The parallel-safe listeners are forked first, the remaining listeners
+         * run on the publishing thread in priority order, and {@code publish}
+         * returns after all of them finished. Parallel-safe listeners therefore do
+         * not take part in priority ordering. If listeners fail, the first failure
+         * is rethrown with the others attached as suppressed exceptions.</p>
+         *
+         * @param threshold the minimum number of parallel-safe listeners; at least 2
+         * @param pool the pool that runs the parallel-safe listeners
+         * @return this builder
+         */
+        public Builder parallelFanOut(int threshold, ForkJoinPool pool) {
+            if (threshold < 2) {
+                throw new IllegalArgumentException("Parallel fan-out threshold must be at least 2: " + threshold);
+            }
+            if (pool == null) {
+                throw new IllegalArgumentException("Fork/join pool cannot be null");
+            }
+            this.parallelFanOutThreshold = threshold;
+            this.parallelFanOutPool = pool;
+            return this;
+        }
+
+        /**
+         * Builds the immutable options.
+         *
+         * @return the options
+         * @throws IllegalArgumentException if a bounded queue is combined with a ring-buffer
+         *         or partitioned channel, or {@link OverflowPolicy#COALESCE} has no key
+         */
+        public EventChannelOptions build() {
+            if (queueCapacity > 0) {
+                if (asyncMode == AsyncMode.RING_BUFFER || asyncMode == AsyncMode.PARTITIONED) {
+                    throw new IllegalArgumentException("Bounded queues are not supported in " + asyncMode + " mode");
+                }
+                if (overflowPolicy == OverflowPolicy.COALESCE && coalesceKey == null) {
+                    throw new IllegalArgumentException("COALESCE overflow policy requires a coalesce key");
+                }
+            }
+            return new EventChannelOptions(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Striped publish/delivery counters for one event ID or event type.
+ *
+ * <p>Counters are kept per event key rather than per channel, so concurrent
+ * publishers of different events never write to the same cells. Channel and
+ * bus totals are computed by summing when statistics are read.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class EventCounters {
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+
+    void record(int deliveries) {
+        published.increment();
+        delivered.add(deliveries);
+    }
+
+    void record(long publications, long deliveries) {
+        published.add(publications);
+        delivered.add(deliveries);
+    }
+
+    long getPublished() {
+        return published.sum();
+    }
+
+    long getDelivered() {
+        return delivered.sum();
+    }
+
+    void reset() {
+        published.reset();
+        delivered.reset();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.time.Duration;
+import java.util.logging.Level;
+
+/**
+ * Receives failures of subscribers that catch their exceptions
+ * ({@code @Subscribe(catchExceptions = true)}, the default).
+ *
+ * <p>Handlers run on the thread that delivered the event, so they should return
+ * quickly. The bus passes the raw subscriber, event and exception and never
+ * builds a message itself; handlers that need one call
+ * {@link #describe(Object, Object, Throwable)}.</p>
+ *
+ * <pre>{@code
+ * EventBus.getInstance().setErrorHandler(
+ *         EventErrorHandler.logging(Duration.ofSeconds(10))
+ *                 .andThen(EventErrorHandler.deadLetter(deadLetters, DEAD_LETTER_ID)));
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see EventBus#setErrorHandler(EventErrorHandler)
+ * @see DeadLetter
+ */
+@FunctionalInterface
+public interface EventErrorHandler {
+
+    /**
+     * Called when a subscriber threw while handling an event.
+     *
+     * @param subscriber the failed subscriber, usually an {@link EventSubscriber}
+     * @param event the event or payload being delivered
+     * @param cause the exception thrown by the subscriber
+     */
+    void onError(Object subscriber, Object event, Throwable cause);
+
+    /**
+     * Returns a handler that calls this handler and then the given one.
+     *
+     * @param next the handler to call second
+     * @return the combined handler
+     */
+    default EventErrorHandler andThen(EventErrorHandler next) {
+        if (next == null) {
+            throw new IllegalArgumentException("Next error handler cannot be null");
+        }
+        return (subscriber, event, cause) -> {
+            onError(subscriber, event, cause);
+            next.onError(subscriber, event, cause);
+        };
+    }
+
+    /**
+     * Builds the description of a failure used by the built-in handlers.
+     *
+     * @param subscriber the failed subscriber
+     * @param event the event or payload being delivered
+     * @param cause the exception thrown by the subscriber
+     * @return the message
+     */
+    static String describe(Object subscriber, Object event, Throwable cause) {
+        return "Exception in subscriber " + subscriber + " while handling "
+                + (event != null ? event.getClass().getName() : "null") + ": " + cause.getMessage();
+    }
+
+    /**
+     * Returns a handler that logs at most one failure per interval as a
+     * {@code WARNING} of the {@code EventBus} logger and reports how many were
+     * suppressed in between.
+     *
+     * @param interval the minimum time between two log records
+     * @return the handler
+     */
+    static EventErrorHandler logging(Duration interval) {
+        if (interval == null || interval.isNegative()) {
+            throw new IllegalArgumentException("Logging interval must not be negative: " + interval);
+        }
+        return new RateLimitedErrorLogger(interval.toNanos());
+    }
+
+    /**
+     * Returns a handler that publishes every failure as a {@link DeadLetter} to the
+     * given channel and event ID.
+     *
+     * <p>Failures of the dead-letter listeners themselves are logged and not
+     * republished.</p>
+     *
+     * @param channel the dead-letter channel
+     * @param eventId the event ID of dead letters
+     * @return the handler
+     */
+    static EventErrorHandler deadLetter(EventChannel channel, int eventId) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Dead-letter channel cannot be null");
+        }
+        return (subscriber, event, cause) -> {
+            try {
+                channel.publish(eventId, new DeadLetter(subscriber, event, cause));
+            } catch (RuntimeException e) {
+                RateLimitedErrorLogger.LOGGER.log(Level.WARNING,
+                        "Dead-letter listener failed for event ID " + eventId, e);
+            }
+        };
+    }
+}
@@ -20,11 +20,20 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Evaluates filter expressions for event subscribers.
+ * Evaluates filter expressions for event subscribers at runtime.
+ * <p>
+ * Filters declared with {@code @Subscribe(filter = "...")} on components are
+ * compiled by the annotation processor into direct getter-based predicates and
+ * never reach this class. Runtime evaluation is only an opt-in fallback for
+ * {@link EventSubscriber}s registered dynamically with a filter string; enable it
+ * with {@link #setRuntimeEvaluationEnabled(boolean)}. When disabled (the default),
+ * such filters are not evaluated.
  * <p>
  * This class is designed for zero-reflection mode, using pre-computed
  * MethodHandles for property access instead of reflection.
@@ -40,6 +49,8 @@ import java.util.regex.Pattern;
  */
 public class EventFilter {
 
+    private static final Logger LOGGER = Logger.getLogger(EventFilter.class.getName());
+
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
     /**
@@ -63,9 +74,33 @@ public class EventFilter {
         }
     }
 
+    private static volatile boolean runtimeEvaluationEnabled = false;
+
     private static final Map<Class<?>, EventPropertyAccessor> propertyAccessors = new ConcurrentHashMap<>();
     private static final Map<String, PropertyGetter> methodHandleCache = new ConcurrentHashMap<>();
 
+    /**
+     * Enables or disables runtime evaluation of filter strings for dynamically
+     * registered {@link EventSubscriber}s.
+     * <p>
+     * The setting is read when a subscriber is registered; subscribers that are
+     * already registered keep their behavior.
+     *
+     * @param enabled true to evaluate filter strings on every delivery
+     */
+    public static void setRuntimeEvaluationEnabled(boolean enabled) {
+        runtimeEvaluationEnabled = enabled;
+    }
+
+    /**
+     * Returns whether runtime evaluation of filter strings is enabled.
+     *
+     * @return true if dynamically registered subscribers have their filters evaluated
+     */
+    public static boolean isRuntimeEvaluationEnabled() {
+        return runtimeEvaluationEnabled;
+    }
+
     /**
      * Registers a property accessor for a specific event class.
      *
@@ -137,8 +172,8 @@ public class EventFilter {
             try {
                 return propertyGetter.getter.invoke(event);
             } catch (Throwable e) {
-                System.err.println("[EventFilter] Error invoking MethodHandle for property '" +
-                        propertyName + "': " + e.getMessage());
+                LOGGER.log(Level.WARNING, "Error invoking accessor for property ''{0}'': {1}",
+                        new Object[]{propertyName, e.getMessage()});
                 return null;
             }
         }
@@ -168,7 +203,7 @@ public class EventFilter {
                 return method.invoke(event);
             }
         } catch (Exception e) {
-            System.err.println("[EventFilter] No property accessor found for: " + propertyName);
+            LOGGER.log(Level.WARNING, "No property accessor found for: {0}", propertyName);
             return null;
         }
     }
@@ -199,7 +234,7 @@ public class EventFilter {
         try {
             Matcher matcher = EXPRESSION_PATTERN.matcher(expression.trim());
             if (!matcher.matches()) {
-                System.err.println("[EventFilter] Invalid expression syntax: " + expression);
+                LOGGER.log(Level.WARNING, "Invalid expression syntax: {0}", expression);
                 return true; // Invalid expression, accept event
             }
 
@@ -220,7 +255,8 @@ public class EventFilter {
             return compare(propertyValue, operator, comparisonValue);
 
         } catch (Exception e) {
-            System.err.println("[EventFilter] Error evaluating expression '" + expression + "': " + e.getMessage());
+            LOGGER.log(Level.WARNING, "Error evaluating expression ''{0}'': {1}",
+                    new Object[]{expression, e.getMessage()});
             return true; // On error, accept the event
         }
     }
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of the publish/delivery statistics of an event scope.
+ *
+ * <p>A scope is either an {@link EventChannel} (broken down by event ID) or the
+ * object event side of the {@link EventBus} (broken down by event class).
+ * Totals include events whose keys have since been cleared; the breakdown only
+ * covers keys that are currently known.</p>
+ *
+ * @param <K> the breakdown key type: {@code Integer} event IDs or {@code Class<?>} event types
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class EventStatistics<K> {
+
+    private final String name;
+    private final EventChannelOptions.StatisticsMode mode;
+    private final long published;
+    private final long delivered;
+    private final Map<K, Counts> breakdown;
+    private final LatencyHistogram.Snapshot latency;
+    private final QueueStatistics queue;
+    private final long coalesced;
+
+    EventStatistics(String name, EventChannelOptions.StatisticsMode mode, long published, long delivered,
+                    Map<K, Counts> breakdown, LatencyHistogram.Snapshot latency) {
+        this(name, mode, published, delivered, breakdown, latency, null, 0L);
+    }
+
+    EventStatistics(String name, EventChannelOptions.StatisticsMode mode, long published, long delivered,
+                    Map<K, Counts> breakdown, LatencyHistogram.Snapshot latency, QueueStatistics queue,
+                    long coalesced) {
+        this.name = name;
+        this.mode = mode;
+        this.published = published;
+        this.delivered = delivered;
+        this.breakdown = Collections.unmodifiableMap(breakdown);
+        this.latency = latency;
+        this.queue = queue;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * Returns the name of the scope (channel name, or {@code "EventBus"}).
+     *
+     * @return the scope name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the statistics mode in effect when the snapshot was taken.
+     *
+     * @return the statistics mode
+     */
+    public EventChannelOptions.StatisticsMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the number of published events.
+     *
+     * @return the published count
+     */
+    public long getPublished() {
+        return published;
+    }
+
+    /**
+     * Returns the number of listener deliveries.
+     *
+     * @return the delivered count
+     */
+    public long getDelivered() {
+        return delivered;
+    }
+
+    /**
+     * Returns the counts per event ID or event class.
+     *
+     * @return an unmodifiable breakdown map
+     */
+    public Map<K, Counts> getBreakdown() {
+        return breakdown;
+    }
+
+    /**
+     * Returns the dispatch latency histogram.
+     *
+     * @return the latency snapshot, or {@code null} unless the mode is
+     *         {@link EventChannelOptions.StatisticsMode#LATENCY}
+     */
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency;
+    }
+
+    /**
+     * Returns the state of the bounded async delivery queue.
+     *
+     * @return the queue statistics, or {@code null} if the scope has no bounded queue
+     */
+    public QueueStatistics getQueue() {
+        return queue;
+    }
+
+    /**
+     * Returns the number of payloads a {@link CoalescingEventChannel} collapsed into a
+     * pending payload instead of publishing them. Published events are counted after
+     * coalescing.
+     *
+     * @return the coalesced count, 0 for scopes that do not coalesce
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    @Override
+    public String toString() {
+        return name + "[published=" + published + ", delivered=" + delivered +
+                (coalesced != 0L ? ", coalesced=" + coalesced : "") +
+                (latency != null ? ", latency(" + latency + ")" : "") +
+                (queue != null ? ", queue(" + queue + ")" : "") + "]";
+    }
+
+    /**
+     * Publish/delivery counts for a single event ID or event class.
+     */
+    public static final class Counts {
+        private final long published;
+        private final long delivered;
+
+        Counts(long published, long delivered) {
+            this.published = published;
+            this.delivered = delivered;
+        }
+
+        /**
+         * Returns the number of published events.
+         *
+         * @return the published count
+         */
+        public long getPublished() {
+            return published;
+        }
+
+        /**
+         * Returns the number of listener deliveries.
+         *
+         * @return the delivered count
+         */
+        public long getDelivered() {
+            return delivered;
+        }
+
+        @Override
+        public String toString() {
+            return "published=" + published + ", delivered=" + delivered;
+        }
+    }
+
+    /**
+     * Depth, drop and wait counters of a bounded async delivery queue.
+     */
+    public static final class QueueStatistics {
+        private final EventChannelOptions.OverflowPolicy policy;
+        private final int capacity;
+        private final int depth;
+        private final long dropped;
+        private final long coalesced;
+        private final long callerRuns;
+        private final long waits;
+        private final long waitNanos;
+
+        QueueStatistics(EventChannelOptions.OverflowPolicy policy, int capacity, int depth, long dropped,
+                        long coalesced, long callerRuns, long waits, long waitNanos) {
+            this.policy = policy;
+            this.capacity = capacity;
+            this.depth = depth;
+            this.dropped = dropped;
+            this.coalesced = coalesced;
+            this.callerRuns = callerRuns;
+            this.waits = waits;
+            this.waitNanos = waitNanos;
+        }
+
+        /**
+         * Returns the overflow policy of the queue.
+         *
+         * @return the overflow policy
+         */
+        public EventChannelOptions.OverflowPolicy getPolicy() {
+            return policy;
+        }
+
+        /**
+         * Returns the queue capacity.
+         *
+         * @return the capacity
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Returns the number of deliveries waiting in the queue.
+         *
+         * @return the queue depth
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Returns the number of deliveries dropped because the queue was full.
+         *
+         * @return the dropped count
+         */
+        public long getDropped() {
+            return dropped;
+        }
+
+        /**
+         * Returns the number of deliveries merged into a queued delivery with the same key.
+         *
+         * @return the coalesced count
+         */
+        public long getCoalesced() {
+            return coalesced;
+        }
+
+        /**
+         * Returns the number of deliveries run on the publishing thread.
+         *
+         * @return the caller-runs count
+         */
+        public long getCallerRuns() {
+            return callerRuns;
+        }
+
+        /**
+         * Returns the number of times a publisher waited for queue space.
+         *
+         * @return the wait count
+         */
+        public long getWaits() {
+            return waits;
+        }
+
+        /**
+         * Returns the total time publishers spent waiting for queue space.
+         *
+         * @return the wait time in nanoseconds
+         */
+        public long getWaitNanos() {
+            return waitNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "policy=" + policy + ", depth=" + depth + "/" + capacity + ", dropped=" + dropped +
+                    ", coalesced=" + coalesced + ", callerRuns=" + callerRuns +
+                    ", waits=" + waits + ", waitMillis=" + waitNanos / 1_000_000L;
+        }
+    }
+}
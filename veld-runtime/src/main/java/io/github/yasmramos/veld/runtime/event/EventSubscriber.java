@@ -15,9 +15,12 @@
  */
 package io.github.yasmramos.veld.runtime.event;
 
+import io.github.yasmramos.veld.annotation.Subscribe;
+
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Optimized event subscriber using MethodHandles for fast reflection-free invocation.
@@ -60,6 +63,9 @@ public class EventSubscriber implements Comparable<EventSubscriber> {
     private final String filter;
     private final boolean catchExceptions;
     private final String signatureWarning;
+    private final Subscribe.AsyncMode asyncMode;
+    private final Function<? super Event, ?> orderingKey;
+    private final boolean parallelSafe;
 
     /**
      * Creates a new optimized event subscriber.
@@ -90,6 +96,9 @@ public class EventSubscriber implements Comparable<EventSubscriber> {
 
         // Build signature validation warning
         this.signatureWarning = buildSignatureWarning(method, eventType);
+        this.asyncMode = Subscribe.AsyncMode.EXECUTOR;
+        this.orderingKey = null;
+        this.parallelSafe = false;
     }
 
     /**
@@ -120,6 +129,65 @@ public class EventSubscriber implements Comparable<EventSubscriber> {
         this.catchExceptions = catchExceptions;
         // Functional interface constructor - skip signature validation
         this.signatureWarning = null;
+        this.asyncMode = Subscribe.AsyncMode.EXECUTOR;
+        this.orderingKey = null;
+        this.parallelSafe = false;
+    }
+
+    private EventSubscriber(EventSubscriber source, Subscribe.AsyncMode asyncMode,
+                            Function<? super Event, ?> orderingKey, boolean parallelSafe) {
+        this.target = source.target;
+        this.methodName = source.methodName;
+        this.methodHandle = source.methodHandle;
+        this.eventType = source.eventType;
+        this.async = source.async;
+        this.priority = source.priority;
+        this.filter = source.filter;
+        this.catchExceptions = source.catchExceptions;
+        this.signatureWarning = source.signatureWarning;
+        this.asyncMode = asyncMode;
+        this.orderingKey = orderingKey;
+        this.parallelSafe = parallelSafe;
+    }
+
+    /**
+     * Returns a copy of this subscriber with the given async delivery settings.
+     *
+     * <p>The settings only apply when the subscriber {@linkplain #isAsync() is async}.</p>
+     *
+     * @param asyncMode where async deliveries run
+     * @param orderingKey extracts the key that orders deliveries, or {@code null} for unordered delivery
+     * @return the configured subscriber
+     */
+    public EventSubscriber withAsyncDelivery(Subscribe.AsyncMode asyncMode,
+                                             Function<? super Event, ?> orderingKey) {
+        return new EventSubscriber(this,
+                Objects.requireNonNull(asyncMode, "asyncMode cannot be null"), orderingKey, parallelSafe);
+    }
+
+    /**
+     * Returns a copy of this subscriber that declares itself thread-safe and
+     * independent of the other subscribers of its event.
+     *
+     * <p>Once enough such subscribers handle an event (see
+     * {@link EventBus#setParallelFanOutThreshold(int)}), they run concurrently on a
+     * fork/join pool, outside priority order and without observing cancellation
+     * by other subscribers. Ignored for async subscribers.</p>
+     *
+     * @return the configured subscriber
+     */
+    public EventSubscriber withParallelDelivery() {
+        return new EventSubscriber(this, asyncMode, orderingKey, true);
+    }
+
+    /**
+     * Returns whether this subscriber may run in parallel with the other
+     * subscribers of its event.
+     *
+     * @return true if parallel delivery was requested
+     */
+    public boolean isParallelSafe() {
+        return parallelSafe;
     }
 
     /**
@@ -222,6 +290,24 @@ public class EventSubscriber implements Comparable<EventSubscriber> {
         return async;
     }
 
+    /**
+     * Returns where async deliveries of this subscriber run.
+     *
+     * @return the async mode
+     */
+    public Subscribe.AsyncMode getAsyncMode() {
+        return asyncMode;
+    }
+
+    /**
+     * Returns the function extracting the key that orders async deliveries.
+     *
+     * @return the ordering key extractor, or {@code null} for unordered delivery
+     */
+    public Function<? super Event, ?> getOrderingKey() {
+        return orderingKey;
+    }
+
     /**
      * Returns the priority of this subscriber.
      *
@@ -312,11 +398,14 @@ public class EventSubscriber implements Comparable<EventSubscriber> {
 
     @Override
     public String toString() {
-        return String.format("EventSubscriber[%s.%s(%s), priority=%d, async=%s]",
+        return String.format("EventSubscriber[%s.%s(%s), priority=%d, async=%s%s%s]",
                 target.getClass().getSimpleName(),
                 methodName,
                 eventType.getSimpleName(),
                 priority,
-                async);
+                async,
+                async && (asyncMode != Subscribe.AsyncMode.EXECUTOR || orderingKey != null)
+                        ? ", asyncMode=" + asyncMode + (orderingKey != null ? ", ordered" : "") : "",
+                !async && parallelSafe ? ", parallel" : "");
     }
 }
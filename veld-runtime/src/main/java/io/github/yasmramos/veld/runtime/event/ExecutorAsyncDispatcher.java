@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Async dispatcher that submits one task per delivery to an executor.
+ *
+ * <p>This is the default {@link EventChannelOptions.AsyncMode#EXECUTOR} mode,
+ * where the executor is owned by the {@link EventBus} and {@link #shutdown()}
+ * does not terminate it. In {@link EventChannelOptions.AsyncMode#VIRTUAL_THREAD}
+ * mode the dispatcher owns a thread-per-task executor and shuts it down.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class ExecutorAsyncDispatcher implements AsyncDispatcher {
+
+    private final ExecutorService executor;
+    private final boolean owned;
+
+    ExecutorAsyncDispatcher(ExecutorService executor) {
+        this(executor, false);
+    }
+
+    ExecutorAsyncDispatcher(ExecutorService executor, boolean owned) {
+        this.executor = executor;
+        this.owned = owned;
+    }
+
+    @Override
+    public void dispatch(ObjectLessEventBus.ObjectLessListener listener, Object payload) {
+        if (!submit(() -> listener.onEvent(payload))) {
+            DeliveryTracker.discard(listener);
+        }
+    }
+
+    /**
+     * Submits the whole range as a single task instead of one task per payload.
+     */
+    @Override
+    public void dispatchBatch(ObjectLessEventBus.ObjectLessListener listener, Object[] payloads, int from, int to) {
+        Object[] batch = Arrays.copyOfRange(payloads, from, to);
+        Runnable task = () -> {
+            for (Object payload : batch) {
+                listener.onEvent(payload);
+            }
+        };
+        if (!submit(task)) {
+            DeliveryTracker.discard(listener);
+        }
+    }
+
+    /**
+     * Submits all pairs as a single task instead of one task per delivery.
+     */
+    @Override
+    public void dispatchAll(ObjectLessEventBus.ObjectLessListener[] listeners, Object[] payloads, int count) {
+        Runnable task = () -> {
+            for (int i = 0; i < count; i++) {
+                listeners[i].onEvent(payloads[i]);
+            }
+        };
+        if (!submit(task)) {
+            // The executor is gone: release every delivery of the batch, as dispatch() does for one
+            for (int i = 0; i < count; i++) {
+                DeliveryTracker.discard(listeners[i]);
+            }
+        }
+    }
+
+    private boolean submit(Runnable task) {
+        try {
+            executor.submit(ContextPropagation.wrapFor(executor, task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (!owned) {
+                throw e;
+            }
+            // Own executor already shut down: discard like the other dispatchers
+            return false;
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (owned) {
+            executor.shutdown();
+        }
+        // Otherwise the executor is shared and owned by the EventBus
+    }
+}
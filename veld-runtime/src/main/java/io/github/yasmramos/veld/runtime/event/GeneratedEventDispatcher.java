@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+/**
+ * Direct dispatcher for {@code @Subscribe} methods, generated at compile time.
+ *
+ * <p>The annotation processor emits one implementation per application,
+ * {@code io.github.yasmramos.veld.VeldEventDispatcher}, with a method per
+ * event type that calls every synchronous subscriber directly, in priority
+ * order. The generated registry creates one dispatcher per {@link EventBus},
+ * installs it with {@link EventBus#setGeneratedDispatcher(GeneratedEventDispatcher)}
+ * and binds the component instances to it.</p>
+ *
+ * <p>The standard channel merges the dispatcher with its own listeners of the
+ * same event ID: it calls {@link #dispatch(int, Object, int, int)} for the
+ * subscribers ranked before each listener, so every publish method, including
+ * the async ones, delivers to both in one priority order. Without channel
+ * listeners for the ID, {@link #dispatch(int, Object)} delivers to all of them
+ * at once.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public interface GeneratedEventDispatcher {
+
+    /**
+     * Delivers a payload to the bound subscribers of an event ID.
+     *
+     * @param eventId the event ID, the hash code of the event type name
+     * @param payload the payload to deliver
+     * @return the number of subscribers that received the payload
+     */
+    int dispatch(int eventId, Object payload);
+
+    /**
+     * Delivers a payload to the bound subscribers of an event ID whose priority
+     * is within a range, in priority order.
+     *
+     * <p>The default implementation is for dispatchers whose subscribers all have
+     * the default priority {@code 0}.</p>
+     *
+     * @param eventId the event ID, the hash code of the event type name
+     * @param payload the payload to deliver
+     * @param minPriority the lowest priority to deliver to, inclusive
+     * @param maxPriority the highest priority to deliver to, inclusive
+     * @return the number of subscribers that received the payload
+     */
+    default int dispatch(int eventId, Object payload, int minPriority, int maxPriority) {
+        return minPriority <= 0 && 0 <= maxPriority ? dispatch(eventId, payload) : 0;
+    }
+
+    /**
+     * Unbinds a component instance, if it is bound.
+     *
+     * @param component the component instance
+     */
+    void unbind(Object component);
+
+    /**
+     * Unbinds all component instances.
+     */
+    void clear();
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of dispatch latencies with power-of-two nanosecond buckets.
+ *
+ * <p>Bucket {@code i} counts latencies in {@code [2^(i-1), 2^i)} nanoseconds
+ * (bucket 0 counts zero). Recording is a {@code numberOfLeadingZeros} and two
+ * striped adds, so it can stay enabled under concurrent publishing. Percentiles
+ * are reported as the upper bound of the bucket they fall into, which is at most
+ * a factor of two above the exact value.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one latency sample.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        buckets[Math.min(64 - Long.numberOfLeadingZeros(value), BUCKETS - 1)].increment();
+        totalNanos.add(value);
+    }
+
+    /**
+     * Clears all recorded samples.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+
+    /**
+     * Returns a point-in-time copy of this histogram.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return new Snapshot(counts, totalNanos.sum());
+    }
+
+    /**
+     * Immutable copy of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+
+        Snapshot(long[] counts, long totalNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.count = sum;
+        }
+
+        /**
+         * Returns the number of recorded samples.
+         *
+         * @return the sample count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the mean latency.
+         *
+         * @return the mean in nanoseconds, or 0 if there are no samples
+         */
+        public double getMeanNanos() {
+            return count == 0 ? 0.0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns the upper bound of the bucket containing the given percentile.
+         *
+         * @param percentile the percentile in {@code [0, 100]}
+         * @return the latency bound in nanoseconds, or 0 if there are no samples
+         */
+        public long getPercentileNanos(double percentile) {
+            if (percentile < 0.0 || percentile > 100.0) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+            }
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return i == 0 ? 0L : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                }
+            }
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, mean=%.1fns, p50<=%dns, p99<=%dns, p99.9<=%dns",
+                    count, getMeanNanos(), getPercentileNanos(50), getPercentileNanos(99),
+                    getPercentileNanos(99.9));
+        }
+    }
+}
@@ -127,6 +127,19 @@ public interface ObjectEventBus {
      */
     CompletableFuture<Integer> publishAsync(Event event);
 
+    /**
+     * Publishes an event and tracks it until every subscriber has finished.
+     *
+     * <p>Synchronous subscribers run on the calling thread in priority order and
+     * still honor cancellation, but a failing subscriber is recorded instead of
+     * aborting the publish. The returned future completes once async subscribers
+     * have finished as well.</p>
+     *
+     * @param event the Event object to publish
+     * @return a future with the delivery count and per-subscriber failures
+     */
+    CompletableFuture<PublishResult> publishTracked(Event event);
+
     /**
      * Returns the number of registered subscribers.
      *
@@ -115,6 +115,84 @@ public interface ObjectLessEventBus {
         default int getPriority() {
             return 0;
         }
+
+        /**
+         * Returns the key that orders async deliveries of this listener on a
+         * {@link EventChannelOptions.AsyncMode#PARTITIONED partitioned} channel.
+         *
+         * <p>Deliveries with equal keys are processed one at a time in publish
+         * order. Other async modes ignore the key.</p>
+         *
+         * @param payload the payload being delivered
+         * @return the ordering key, or {@code null} to use the channel's key extractor
+         */
+        default Object getOrderingKey(Object payload) {
+            return null;
+        }
+
+        /**
+         * Returns whether this listener is thread-safe and independent of the
+         * other listeners of its event, so a channel with
+         * {@linkplain EventChannelOptions.Builder#parallelFanOut(int) parallel fan-out}
+         * may run it concurrently with them, outside priority order.
+         *
+         * <p>Ignored for async listeners.</p>
+         *
+         * @return true if the listener may run in parallel
+         */
+        default boolean isParallelSafe() {
+            return false;
+        }
+    }
+
+    /**
+     * Listener for events that carry a single {@code long}.
+     *
+     * <p>Primitive listeners are always invoked synchronously on the publishing
+     * thread, so a publish never boxes the value.</p>
+     */
+    @FunctionalInterface
+    interface LongListener {
+        /**
+         * Called when a {@code long} event is published.
+         *
+         * @param value the published value
+         */
+        void onEvent(long value);
+    }
+
+    /**
+     * Listener for events that carry a single {@code double}.
+     *
+     * <p>Primitive listeners are always invoked synchronously on the publishing
+     * thread, so a publish never boxes the value.</p>
+     */
+    @FunctionalInterface
+    interface DoubleListener {
+        /**
+         * Called when a {@code double} event is published.
+         *
+         * @param value the published value
+         */
+        void onEvent(double value);
+    }
+
+    /**
+     * Listener for events that carry two {@code long}s, such as a timestamp
+     * and a measurement.
+     *
+     * <p>Primitive listeners are always invoked synchronously on the publishing
+     * thread, so a publish never boxes the values.</p>
+     */
+    @FunctionalInterface
+    interface LongPairListener {
+        /**
+         * Called when a two-{@code long} event is published.
+         *
+         * @param first the first published value
+         * @param second the second published value
+         */
+        void onEvent(long first, long second);
     }
 
     /**
@@ -141,6 +219,84 @@ public interface ObjectLessEventBus {
      */
     CompletableFuture<Integer> publishAsync(int eventId, Object payload);
 
+    /**
+     * Publishes an object-less event and tracks it until every listener has finished.
+     *
+     * <p>Synchronous listeners run on the calling thread, as with
+     * {@link #publish(int, Object)}, but a failing listener is recorded instead of
+     * aborting the publish. The returned future completes once the synchronous
+     * listeners and every async delivery handed off by this publish have run;
+     * it is already complete when no async listener is involved.</p>
+     *
+     * @param eventId the unique identifier for this event type
+     * @param payload the data to publish with the event
+     * @return a future with the delivery count and per-listener failures
+     */
+    CompletableFuture<PublishResult> publishTracked(int eventId, Object payload);
+
+    /**
+     * Publishes a batch of payloads for a single event ID synchronously.
+     *
+     * <p>Intended for ingest loops: listeners are resolved once, payloads are
+     * delivered in a tight loop and statistics are updated once per batch.
+     * Async listeners receive the whole batch as a single task.</p>
+     *
+     * @param eventId the unique identifier for this event type
+     * @param payloads the payload array
+     * @param from the first index to publish (inclusive)
+     * @param to the last index to publish (exclusive)
+     * @return the total number of synchronous deliveries
+     */
+    int publishBatch(int eventId, Object[] payloads, int from, int to);
+
+    /**
+     * Publishes a batch of events with individual event IDs synchronously.
+     *
+     * <p>{@code eventIds[i]} is paired with {@code payloads[i]}.</p>
+     *
+     * @param eventIds the event ID array
+     * @param payloads the payload array
+     * @param from the first index to publish (inclusive)
+     * @param to the last index to publish (exclusive)
+     * @return the total number of synchronous deliveries
+     */
+    int publishBatch(int[] eventIds, Object[] payloads, int from, int to);
+
+    /**
+     * Publishes a {@code long} event without boxing.
+     *
+     * <p>The value is delivered only to {@link LongListener}s of the event ID;
+     * object listeners of the same ID are not invoked.</p>
+     *
+     * @param eventId the unique identifier for this event type
+     * @param value the value to publish
+     * @return the number of listeners that received the event
+     */
+    int publishLong(int eventId, long value);
+
+    /**
+     * Publishes a {@code double} event without boxing.
+     *
+     * <p>The value is delivered only to {@link DoubleListener}s of the event ID.</p>
+     *
+     * @param eventId the unique identifier for this event type
+     * @param value the value to publish
+     * @return the number of listeners that received the event
+     */
+    int publishDouble(int eventId, double value);
+
+    /**
+     * Publishes a two-{@code long} event without boxing or an array.
+     *
+     * <p>The values are delivered only to {@link LongPairListener}s of the event ID.</p>
+     *
+     * @param eventId the unique identifier for this event type
+     * @param first the first value to publish
+     * @param second the second value to publish
+     * @return the number of listeners that received the event
+     */
+    int publish(int eventId, long first, long second);
+
     /**
      * Registers a listener for an object-less event.
      *
@@ -169,6 +325,87 @@ public interface ObjectLessEventBus {
      */
     void unregister(int eventId, ObjectLessListener listener);
 
+    /**
+     * Registers a listener for {@code long} events.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     * @param priority the priority of this listener (higher = called first)
+     */
+    void registerLong(int eventId, LongListener listener, int priority);
+
+    /**
+     * Registers a listener for {@code long} events with priority 0.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     */
+    default void registerLong(int eventId, LongListener listener) {
+        registerLong(eventId, listener, 0);
+    }
+
+    /**
+     * Registers a listener for {@code double} events.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     * @param priority the priority of this listener (higher = called first)
+     */
+    void registerDouble(int eventId, DoubleListener listener, int priority);
+
+    /**
+     * Registers a listener for {@code double} events with priority 0.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when a value is published
+     */
+    default void registerDouble(int eventId, DoubleListener listener) {
+        registerDouble(eventId, listener, 0);
+    }
+
+    /**
+     * Registers a listener for two-{@code long} events.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when values are published
+     * @param priority the priority of this listener (higher = called first)
+     */
+    void registerLongPair(int eventId, LongPairListener listener, int priority);
+
+    /**
+     * Registers a listener for two-{@code long} events with priority 0.
+     *
+     * @param eventId the event ID to listen for
+     * @param listener the listener to invoke when values are published
+     */
+    default void registerLongPair(int eventId, LongPairListener listener) {
+        registerLongPair(eventId, listener, 0);
+    }
+
+    /**
+     * Unregisters a {@code long} listener.
+     *
+     * @param eventId the event ID to stop listening for
+     * @param listener the listener to remove
+     */
+    void unregisterLong(int eventId, LongListener listener);
+
+    /**
+     * Unregisters a {@code double} listener.
+     *
+     * @param eventId the event ID to stop listening for
+     * @param listener the listener to remove
+     */
+    void unregisterDouble(int eventId, DoubleListener listener);
+
+    /**
+     * Unregisters a two-{@code long} listener.
+     *
+     * @param eventId the event ID to stop listening for
+     * @param listener the listener to remove
+     */
+    void unregisterLongPair(int eventId, LongPairListener listener);
+
     /**
      * Gets a specialized channel for event domain isolation.
      *
@@ -181,6 +418,18 @@ public interface ObjectLessEventBus {
      */
     EventChannel getChannel(String channelName);
 
+    /**
+     * Gets a specialized channel, creating it with the given options if absent.
+     *
+     * <p>Options only apply when the channel is created; if a channel with the
+     * same name already exists it is returned unchanged.</p>
+     *
+     * @param channelName the name of the specialized channel
+     * @param options the options used to create the channel
+     * @return the EventChannel for the specified domain
+     */
+    EventChannel getChannel(String channelName, EventChannelOptions options);
+
     /**
      * Returns the standard channel for object-less events.
      *
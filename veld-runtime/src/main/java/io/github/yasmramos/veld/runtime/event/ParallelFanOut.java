@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiConsumer;
+
+/**
+ * Fork/join delivery of one payload to a set of independent listeners.
+ *
+ * <p>The listener range is split in halves down to single listeners, so listeners
+ * of uneven cost are balanced by work stealing. Each leaf catches its own failure,
+ * so one failing listener never cancels the others; {@link #await(Throwable)}
+ * waits for all of them and rethrows the failures together.</p>
+ *
+ * @param <L> the listener type
+ * @param <P> the payload type
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class ParallelFanOut<L, P> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient L[] listeners;
+    private final int from;
+    private final int to;
+    private final transient P payload;
+    private final transient BiConsumer<? super L, ? super P> delivery;
+    private final transient List<Throwable> failures;
+
+    private ParallelFanOut(L[] listeners, int from, int to, P payload,
+                           BiConsumer<? super L, ? super P> delivery, List<Throwable> failures) {
+        this.listeners = listeners;
+        this.from = from;
+        this.to = to;
+        this.payload = payload;
+        this.delivery = delivery;
+        this.failures = failures;
+    }
+
+    /**
+     * Starts delivering the payload to every listener on the pool.
+     *
+     * @param pool the pool to run on
+     * @param listeners the listeners; not modified
+     * @param payload the payload to deliver
+     * @param delivery invokes one listener
+     * @return the running fan-out, to be {@linkplain #await(Throwable) awaited}
+     */
+    static <L, P> ParallelFanOut<L, P> start(ForkJoinPool pool, L[] listeners, P payload,
+                                             BiConsumer<? super L, ? super P> delivery) {
+        ParallelFanOut<L, P> root = new ParallelFanOut<>(listeners, 0, listeners.length, payload,
+                delivery, new ArrayList<>());
+        pool.execute(root);
+        return root;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from == 1) {
+            try {
+                delivery.accept(listeners[from], payload);
+            } catch (Throwable t) {
+                synchronized (failures) {
+                    failures.add(t);
+                }
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(new ParallelFanOut<>(listeners, from, mid, payload, delivery, failures),
+                new ParallelFanOut<>(listeners, mid, to, payload, delivery, failures));
+    }
+
+    /**
+     * Waits until every listener finished and rethrows failures.
+     *
+     * <p>The first failure, or {@code callerFailure} if given, is thrown with the
+     * remaining ones attached as suppressed exceptions.</p>
+     *
+     * @param callerFailure a failure of the listeners run by the caller meanwhile, or {@code null}
+     */
+    void await(Throwable callerFailure) {
+        join();
+        Throwable first = callerFailure;
+        synchronized (failures) {
+            for (Throwable failure : failures) {
+                if (first == null) {
+                    first = failure;
+                } else {
+                    first.addSuppressed(failure);
+                }
+            }
+        }
+        if (first instanceof RuntimeException) {
+            throw (RuntimeException) first;
+        }
+        if (first instanceof Error) {
+            throw (Error) first;
+        }
+        if (first != null) {
+            throw new RuntimeException("Listener failed during parallel fan-out", first);
+        }
+    }
+}
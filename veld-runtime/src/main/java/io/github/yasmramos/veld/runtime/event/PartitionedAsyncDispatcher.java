@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import io.github.yasmramos.veld.runtime.async.StripedLaneExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Async dispatcher that keeps deliveries with equal ordering keys in order.
+ *
+ * <p>This is the {@link EventChannelOptions.AsyncMode#PARTITIONED} mode. The
+ * key of a delivery is the listener's
+ * {@link ObjectLessEventBus.ObjectLessListener#getOrderingKey(Object) ordering key},
+ * or else the channel-wide extractor. Keyed deliveries of one listener are
+ * queued on a {@link StripedLaneExecutor} lane chosen from the key and the
+ * listener, so they run one at a time in publish order while other keys and
+ * other listeners proceed in parallel. Deliveries without a key are submitted
+ * unordered.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class PartitionedAsyncDispatcher implements AsyncDispatcher {
+
+    private final StripedLaneExecutor lanes;
+    private final Function<Object, ?> orderingKey;
+
+    PartitionedAsyncDispatcher(Executor executor, int laneCount, Function<Object, ?> orderingKey) {
+        this.lanes = new StripedLaneExecutor(executor, laneCount);
+        this.orderingKey = orderingKey;
+    }
+
+    @Override
+    public void dispatch(ObjectLessEventBus.ObjectLessListener listener, Object payload) {
+        Object key = listener.getOrderingKey(payload);
+        if (key == null && orderingKey != null) {
+            key = orderingKey.apply(payload);
+        }
+        Runnable task = () -> listener.onEvent(payload);
+        if (key == null) {
+            lanes.execute(task);
+        } else {
+            // Key on the real listener so tracked and plain deliveries share a lane
+            lanes.execute(31 * key.hashCode() + System.identityHashCode(DeliveryTracker.unwrap(listener)), task);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        // The lanes drain on the executor owned by the EventBus
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a tracked publish, available once every listener has finished.
+ *
+ * <p>Listeners are isolated from each other: a failing listener is recorded
+ * here instead of aborting the publish, so {@link #getFailures()} lists every
+ * failure in the order it happened.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see ObjectLessEventBus#publishTracked(int, Object)
+ * @see ObjectEventBus#publishTracked(Event)
+ */
+public final class PublishResult {
+
+    static final PublishResult EMPTY = new PublishResult(0, 0, Collections.emptyList());
+
+    private final int delivered;
+    private final int dropped;
+    private final List<ListenerFailure> failures;
+
+    PublishResult(int delivered, int dropped, List<ListenerFailure> failures) {
+        this.delivered = delivered;
+        this.dropped = dropped;
+        this.failures = failures;
+    }
+
+    /**
+     * Returns the number of listeners, sync and async, that completed normally.
+     *
+     * @return the successful delivery count
+     */
+    public int getDelivered() {
+        return delivered;
+    }
+
+    /**
+     * Returns the number of async deliveries that never ran because the channel's
+     * queue dropped or coalesced them, or its dispatcher was shut down.
+     *
+     * @return the dropped delivery count
+     */
+    public int getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Returns the listener failures in the order they were recorded.
+     *
+     * @return an unmodifiable list, empty if every listener succeeded
+     */
+    public List<ListenerFailure> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Returns whether no listener failed.
+     *
+     * @return {@code true} if there were no failures
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PublishResult{delivered=" + delivered + ", dropped=" + dropped
+                + ", failures=" + failures.size() + '}';
+    }
+
+    /**
+     * A listener that threw while handling a tracked publish.
+     */
+    public static final class ListenerFailure {
+
+        private final Object listener;
+        private final Throwable cause;
+
+        ListenerFailure(Object listener, Throwable cause) {
+            this.listener = listener;
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the listener that failed: an {@link ObjectLessEventBus.ObjectLessListener},
+         * an {@link EventBus.EventListener}, an async handler or the generated dispatcher.
+         *
+         * @return the failing listener
+         */
+        public Object getListener() {
+            return listener;
+        }
+
+        /**
+         * Returns what the listener threw.
+         *
+         * @return the failure cause
+         */
+        public Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "ListenerFailure{listener=" + listener + ", cause=" + cause + '}';
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * {@link EventErrorHandler} that logs at most one failure per interval.
+ *
+ * <p>Failures inside the interval only bump a striped counter, so an error storm
+ * costs neither string building nor console I/O; the next record reports how
+ * many were suppressed.</p>
+ */
+final class RateLimitedErrorLogger implements EventErrorHandler {
+
+    static final Logger LOGGER = Logger.getLogger(EventBus.class.getName());
+
+    private final long intervalNanos;
+    private final AtomicLong nextLogTime;
+    private final LongAdder suppressed = new LongAdder();
+
+    RateLimitedErrorLogger(long intervalNanos) {
+        this.intervalNanos = intervalNanos;
+        this.nextLogTime = new AtomicLong(System.nanoTime());
+    }
+
+    @Override
+    public void onError(Object subscriber, Object event, Throwable cause) {
+        long now = System.nanoTime();
+        long next = nextLogTime.get();
+        if (now - next < 0L || !nextLogTime.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return;
+        }
+        long skipped = suppressed.sumThenReset();
+        if (LOGGER.isLoggable(Level.WARNING)) {
+            String message = EventErrorHandler.describe(subscriber, event, cause);
+            LOGGER.log(Level.WARNING, skipped > 0 ? message + " (" + skipped + " more suppressed)" : message, cause);
+        }
+    }
+
+    /**
+     * Returns the number of failures not logged since the last record.
+     *
+     * @return the suppressed count
+     */
+    long getSuppressedCount() {
+        return suppressed.sum();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Multi-producer, single-consumer ring buffer for async listener delivery.
+ *
+ * <p>Slots are pre-allocated at construction, so handing a delivery to the
+ * consumer allocates nothing: a producer claims a sequence, writes the listener
+ * and payload into the slot and marks it available. A single daemon thread
+ * drains available slots in sequence order and invokes the listeners.</p>
+ *
+ * <p><b>Sequencing (Disruptor-style):</b></p>
+ * <ul>
+ *   <li>Producers claim sequences with one atomic increment on the cursor</li>
+ *   <li>Each slot records the lap in which it was last published, so the
+ *       consumer can detect out-of-order publication by racing producers</li>
+ *   <li>Producers wait (never drop) when the ring is full, which bounds memory
+ *       and the number of threads under bursts</li>
+ *   <li>Deliveries published from the consumer thread itself run inline</li>
+ *   <li>On shutdown the consumer seals the cursor: every sequence claimed
+ *       before the seal is still delivered, later claims are discarded</li>
+ * </ul>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see EventChannelOptions.AsyncMode#RING_BUFFER
+ */
+final class RingBufferAsyncDispatcher implements AsyncDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(RingBufferAsyncDispatcher.class.getName());
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long PARK_NANOS = 50_000L;
+    // Added to the cursor on shutdown; producers that claim a sequence past it discard their delivery
+    private static final long SEALED = 1L << 62;
+
+    private final String name;
+    private final int mask;
+    private final int indexShift;
+    private final EventChannelOptions.WaitStrategy waitStrategy;
+
+    private final ObjectLessEventBus.ObjectLessListener[] listeners;
+    private final Object[] payloads;
+    private final int[] available;
+
+    private final Sequence cursor = new Sequence(-1L);
+    private final Sequence consumed = new Sequence(-1L);
+
+    private final Thread consumer;
+    private volatile boolean running = true;
+    private volatile boolean terminated;
+    // Last sequence claimed before the seal, or Long.MAX_VALUE while open
+    private volatile long sealedCursor = Long.MAX_VALUE;
+
+    /**
+     * Cache-line padded sequence to keep producer and consumer counters apart.
+     */
+    @SuppressWarnings("unused")
+    static final class Sequence extends AtomicLong {
+        private static final long serialVersionUID = 1L;
+        long p1, p2, p3, p4, p5, p6, p7;
+
+        Sequence(long initial) {
+            super(initial);
+        }
+    }
+
+    /**
+     * Creates and starts a ring buffer dispatcher.
+     *
+     * @param name the owning channel name, used for the consumer thread name
+     * @param size the number of slots (a power of two)
+     * @param waitStrategy how the consumer waits for new deliveries
+     */
+    RingBufferAsyncDispatcher(String name, int size, EventChannelOptions.WaitStrategy waitStrategy) {
+        if (size <= 0 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of two: " + size);
+        }
+        this.name = name;
+        this.mask = size - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(size);
+        this.waitStrategy = waitStrategy;
+        this.listeners = new ObjectLessEventBus.ObjectLessListener[size];
+        this.payloads = new Object[size];
+        this.available = new int[size];
+        Arrays.fill(available, -1);
+
+        this.consumer = new Thread(this::consume, "EventChannel-" + name + "-RingBuffer");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public void dispatch(ObjectLessEventBus.ObjectLessListener listener, Object payload) {
+        if (!running) {
+            DeliveryTracker.discard(listener);
+            return;
+        }
+        if (Thread.currentThread() == consumer) {
+            // Re-entrant publish from an async listener: waiting for space here would deadlock
+            deliver(listener, payload);
+            return;
+        }
+        long sequence = cursor.incrementAndGet();
+        if (sequence >= SEALED) {
+            // Claimed after the consumer sealed the cursor on shutdown: nobody will read this slot
+            DeliveryTracker.discard(listener);
+            return;
+        }
+        long wrapPoint = sequence - listeners.length;
+        int idle = 0;
+        while (wrapPoint > consumed.get()) {
+            if (terminated) {
+                DeliveryTracker.discard(listener);
+                return;
+            }
+            idle = backOff(idle);
+        }
+
+        int index = (int) sequence & mask;
+        listeners[index] = listener;
+        payloads[index] = payload;
+        AVAILABLE.setRelease(available, index, (int) (sequence >>> indexShift));
+    }
+
+    private void consume() {
+        try {
+            consumeUntilSealed();
+        } finally {
+            terminated = true;
+        }
+    }
+
+    private void consumeUntilSealed() {
+        long next = consumed.get() + 1;
+        long limit = Long.MAX_VALUE;
+        int idle = 0;
+        while (true) {
+            int index = (int) next & mask;
+            if ((int) AVAILABLE.getAcquire(available, index) == (int) (next >>> indexShift)) {
+                ObjectLessEventBus.ObjectLessListener listener = listeners[index];
+                Object payload = payloads[index];
+                listeners[index] = null;
+                payloads[index] = null;
+                deliver(listener, payload);
+                consumed.lazySet(next);
+                next++;
+                idle = 0;
+            } else if (!running) {
+                if (limit == Long.MAX_VALUE) {
+                    // Producers that claimed a sequence before the seal publish it; wait for those
+                    limit = cursor.getAndAdd(SEALED);
+                    sealedCursor = limit;
+                }
+                if (next > limit) {
+                    return;
+                }
+                idle = idle(idle);
+            } else {
+                idle = idle(idle);
+            }
+        }
+    }
+
+    private void deliver(ObjectLessEventBus.ObjectLessListener listener, Object payload) {
+        try {
+            listener.onEvent(payload);
+        } catch (Throwable t) {
+            LOGGER.log(Level.WARNING, "Async listener failed on channel " + name, t);
+        }
+    }
+
+    /**
+     * Consumer-side wait according to the configured strategy.
+     */
+    private int idle(int counter) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                Thread.onSpinWait();
+                return counter;
+            case YIELD:
+                if (counter < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                    return counter + 1;
+                }
+                Thread.yield();
+                return counter;
+            case PARK:
+            default:
+                if (counter < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (counter < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(PARK_NANOS);
+                    return counter;
+                }
+                return counter + 1;
+        }
+    }
+
+    /**
+     * Producer-side wait while the ring is full.
+     */
+    private static int backOff(int counter) {
+        if (counter < SPIN_TRIES) {
+            Thread.onSpinWait();
+            return counter + 1;
+        }
+        LockSupport.parkNanos(1L);
+        return counter;
+    }
+
+    /**
+     * Returns the number of deliveries claimed but not yet consumed.
+     *
+     * @return the current backlog
+     */
+    long getBacklog() {
+        long claimed = cursor.get();
+        if (claimed >= SEALED) {
+            long sealed = sealedCursor;
+            claimed = sealed != Long.MAX_VALUE ? sealed : claimed - SEALED;
+        }
+        return Math.max(0L, claimed - consumed.get());
+    }
+
+    /**
+     * Returns the number of slots in the ring.
+     *
+     * @return the ring capacity
+     */
+    int getCapacity() {
+        return listeners.length;
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+        if (Thread.currentThread() == consumer) {
+            return;
+        }
+        try {
+            consumer.join(5_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
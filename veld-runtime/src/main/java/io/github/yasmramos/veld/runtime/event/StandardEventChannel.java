@@ -15,10 +15,15 @@
  */
 package io.github.yasmramos.veld.runtime.event;
 
+import io.github.yasmramos.veld.runtime.async.VirtualThreads;
+import io.github.yasmramos.veld.runtime.event.journal.EventJournal;
+
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * High-performance event channel implementation with object-less event support.
@@ -32,7 +37,16 @@ import java.util.concurrent.atomic.AtomicLong;
  *   <li>No event object allocation on publish</li>
  *   <li>Cardinality-based dispatch (specialized paths for 0-4 listeners)</li>
  *   <li>Priority-ordered listener invocation</li>
- *   <li>Async listener support with dedicated executor</li>
+ *   <li>Async listener support with dedicated executor, a pre-allocated ring buffer,
+ *       virtual threads or key-ordered serial lanes (see {@link EventChannelOptions})</li>
+ *   <li>Striped per-event-ID statistics that can be switched off entirely
+ *       (see {@link #setStatisticsMode})</li>
+ *   <li>Primitive {@code long}, {@code double} and two-{@code long} events delivered
+ *       to their own listener arrays without boxing (see {@link #publishLong})</li>
+ *   <li>Optional fork/join fan-out to parallel-safe listeners
+ *       (see {@link EventChannelOptions.Builder#parallelFanOut(int)})</li>
+ *   <li>Tracked publishing that completes when async listeners have finished
+ *       (see {@link #publishTracked})</li>
  * </ul>
  *
  * @author Veld Framework Team
@@ -41,28 +55,158 @@ import java.util.concurrent.atomic.AtomicLong;
 public class StandardEventChannel implements EventChannel {
 
     private final String channelName;
+    private final EventChannelOptions options;
     private ExecutorService asyncExecutor;
-    private final AtomicLong publishedCount;
-    private final AtomicLong deliveredCount;
+    private volatile AsyncDispatcher asyncDispatcher;
+    private volatile EventChannelOptions.StatisticsMode statisticsMode;
+    private volatile int parallelFanOutThreshold;
+    private final LatencyHistogram dispatchLatency = new LatencyHistogram();
+    // Counts of event IDs that were cleared, so channel totals survive clear()
+    private final EventCounters retiredCounters = new EventCounters();
 
     // Optimized storage using int keys for direct lookup
     private volatile ListenerEntry[] listenersById;
     private int maxRegisteredId;
     private volatile boolean shuttingDown;
+    private final EventJournal journal;
+    // Compile-time generated dispatcher installed by the EventBus, merged with the listeners by priority
+    private volatile GeneratedEventDispatcher generatedDispatcher;
 
     private static final int INITIAL_CAPACITY = 64;
     private static final int MAX_CAPACITY = 65536;
+    private static final ObjectLessEventBus.ObjectLessListener[] NO_LISTENERS =
+            new ObjectLessEventBus.ObjectLessListener[0];
+    private static final int[] NO_PRIORITIES = new int[0];
+    private static final PrimitiveListeners<ObjectLessEventBus.LongListener> NO_LONG_LISTENERS =
+            new PrimitiveListeners<>(new ObjectLessEventBus.LongListener[0], new int[0]);
+    private static final PrimitiveListeners<ObjectLessEventBus.DoubleListener> NO_DOUBLE_LISTENERS =
+            new PrimitiveListeners<>(new ObjectLessEventBus.DoubleListener[0], new int[0]);
+    private static final PrimitiveListeners<ObjectLessEventBus.LongPairListener> NO_LONG_PAIR_LISTENERS =
+            new PrimitiveListeners<>(new ObjectLessEventBus.LongPairListener[0], new int[0]);
 
     /**
      * Entry holding listener information with cardinality and priority metadata.
+     * The counters are carried over when the entry is replaced on (un)registration.
+     * Registered priorities are kept alongside the listeners, since a lambda
+     * registered with a priority does not report it from {@code getPriority()}.
      */
     private static class ListenerEntry {
         ObjectLessEventBus.ObjectLessListener[] listeners;
+        final int[] priorities;
         int count;
+        final EventCounters counters;
+        // Split for parallel fan-out: parallel-safe sync listeners, and all others in priority order
+        final ObjectLessEventBus.ObjectLessListener[] parallelListeners;
+        final ObjectLessEventBus.ObjectLessListener[] serialListeners;
+        final PrimitiveListeners<ObjectLessEventBus.LongListener> longs;
+        final PrimitiveListeners<ObjectLessEventBus.DoubleListener> doubles;
+        final PrimitiveListeners<ObjectLessEventBus.LongPairListener> longPairs;
+
+        ListenerEntry(EventCounters counters) {
+            this(NO_LISTENERS, NO_PRIORITIES, counters, NO_LONG_LISTENERS, NO_DOUBLE_LISTENERS,
+                    NO_LONG_PAIR_LISTENERS);
+        }
 
-        ListenerEntry(ObjectLessEventBus.ObjectLessListener[] listeners) {
+        ListenerEntry(ObjectLessEventBus.ObjectLessListener[] listeners, int[] priorities, EventCounters counters,
+                      PrimitiveListeners<ObjectLessEventBus.LongListener> longs,
+                      PrimitiveListeners<ObjectLessEventBus.DoubleListener> doubles,
+                      PrimitiveListeners<ObjectLessEventBus.LongPairListener> longPairs) {
             this.listeners = listeners;
+            this.priorities = priorities;
             this.count = listeners.length;
+            this.counters = counters;
+            int parallel = 0;
+            for (ObjectLessEventBus.ObjectLessListener listener : listeners) {
+                if (!listener.isAsync() && listener.isParallelSafe()) {
+                    parallel++;
+                }
+            }
+            if (parallel == 0) {
+                this.parallelListeners = NO_LISTENERS;
+                this.serialListeners = listeners;
+            } else {
+                this.parallelListeners = new ObjectLessEventBus.ObjectLessListener[parallel];
+                this.serialListeners = new ObjectLessEventBus.ObjectLessListener[listeners.length - parallel];
+                int p = 0;
+                int s = 0;
+                for (ObjectLessEventBus.ObjectLessListener listener : listeners) {
+                    if (!listener.isAsync() && listener.isParallelSafe()) {
+                        parallelListeners[p++] = listener;
+                    } else {
+                        serialListeners[s++] = listener;
+                    }
+                }
+            }
+            this.longs = longs;
+            this.doubles = doubles;
+            this.longPairs = longPairs;
+        }
+
+        ListenerEntry withListeners(ObjectLessEventBus.ObjectLessListener[] newListeners, int[] newPriorities) {
+            return new ListenerEntry(newListeners, newPriorities, counters, longs, doubles, longPairs);
+        }
+
+        ListenerEntry withLongs(PrimitiveListeners<ObjectLessEventBus.LongListener> newLongs) {
+            return new ListenerEntry(listeners, priorities, counters, newLongs, doubles, longPairs);
+        }
+
+        ListenerEntry withDoubles(PrimitiveListeners<ObjectLessEventBus.DoubleListener> newDoubles) {
+            return new ListenerEntry(listeners, priorities, counters, longs, newDoubles, longPairs);
+        }
+
+        ListenerEntry withLongPairs(PrimitiveListeners<ObjectLessEventBus.LongPairListener> newLongPairs) {
+            return new ListenerEntry(listeners, priorities, counters, longs, doubles, newLongPairs);
+        }
+
+        int listenerCount() {
+            return count + longs.listeners.length + doubles.listeners.length + longPairs.listeners.length;
+        }
+    }
+
+    /**
+     * Copy-on-write listeners of one primitive event shape, in priority order.
+     * Priorities are kept alongside because the primitive listener interfaces
+     * are plain functional interfaces.
+     */
+    private static final class PrimitiveListeners<L> {
+        final L[] listeners;
+        final int[] priorities;
+
+        PrimitiveListeners(L[] listeners, int[] priorities) {
+            this.listeners = listeners;
+            this.priorities = priorities;
+        }
+
+        PrimitiveListeners<L> add(L listener, int priority) {
+            int n = listeners.length;
+            int insertPos = n;
+            for (int i = 0; i < n; i++) {
+                if (priority > priorities[i]) {
+                    insertPos = i;
+                    break;
+                }
+            }
+            L[] newListeners = Arrays.copyOf(listeners, n + 1);
+            int[] newPriorities = Arrays.copyOf(priorities, n + 1);
+            System.arraycopy(listeners, insertPos, newListeners, insertPos + 1, n - insertPos);
+            System.arraycopy(priorities, insertPos, newPriorities, insertPos + 1, n - insertPos);
+            newListeners[insertPos] = listener;
+            newPriorities[insertPos] = priority;
+            return new PrimitiveListeners<>(newListeners, newPriorities);
+        }
+
+        PrimitiveListeners<L> remove(L listener) {
+            int n = listeners.length;
+            for (int i = 0; i < n; i++) {
+                if (listeners[i] == listener) {
+                    L[] newListeners = Arrays.copyOf(listeners, n - 1);
+                    int[] newPriorities = Arrays.copyOf(priorities, n - 1);
+                    System.arraycopy(listeners, i + 1, newListeners, i, n - i - 1);
+                    System.arraycopy(priorities, i + 1, newPriorities, i, n - i - 1);
+                    return new PrimitiveListeners<>(newListeners, newPriorities);
+                }
+            }
+            return this;
         }
     }
 
@@ -73,18 +217,134 @@ public class StandardEventChannel implements EventChannel {
      * @param asyncExecutor the executor for async listener invocation
      */
     public StandardEventChannel(String channelName, ExecutorService asyncExecutor) {
+        this(channelName, asyncExecutor, EventChannelOptions.defaults());
+    }
+
+    /**
+     * Creates a new StandardEventChannel with explicit options.
+     *
+     * @param channelName the name for debugging purposes
+     * @param asyncExecutor the executor for async publishing and executor-mode listeners
+     * @param options the channel options
+     */
+    public StandardEventChannel(String channelName, ExecutorService asyncExecutor, EventChannelOptions options) {
         this.channelName = channelName;
+        this.options = options != null ? options : EventChannelOptions.defaults();
         this.asyncExecutor = asyncExecutor;
+        this.asyncDispatcher = createDispatcher(asyncExecutor);
         this.listenersById = new ListenerEntry[INITIAL_CAPACITY];
         this.maxRegisteredId = -1;
-        this.publishedCount = new AtomicLong(0);
-        this.deliveredCount = new AtomicLong(0);
+        this.statisticsMode = this.options.getStatisticsMode();
+        this.parallelFanOutThreshold = this.options.getParallelFanOutThreshold();
         this.shuttingDown = false;
+        this.journal = this.options.getJournal() != null ? EventJournal.open(this.options.getJournal()) : null;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>On a journaled channel the event is appended to the journal first, even
+     * if no listener is registered for its ID.</p>
+     */
     @Override
     public int publish(int eventId, Object payload) {
-        if (eventId < 0 || eventId >= listenersById.length) {
+        EventJournal j = journal;
+        if (j != null) {
+            j.append(eventId, payload);
+        }
+        return deliver(eventId, payload);
+    }
+
+    private int deliver(int eventId, Object payload) {
+        GeneratedEventDispatcher generated = generatedDispatcher;
+        ListenerEntry entry = entryFor(eventId);
+        if (entry == null || entry.count == 0) {
+            return generated != null ? generated.dispatch(eventId, payload) : 0;
+        }
+        if (generated != null) {
+            return deliverMerged(eventId, payload, entry, generated);
+        }
+
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        if (mode == EventChannelOptions.StatisticsMode.OFF) {
+            return dispatch(eventId, payload, entry);
+        }
+        int delivered;
+        if (mode == EventChannelOptions.StatisticsMode.LATENCY) {
+            long start = System.nanoTime();
+            delivered = dispatch(eventId, payload, entry);
+            dispatchLatency.record(System.nanoTime() - start);
+        } else {
+            delivered = dispatch(eventId, payload, entry);
+        }
+        entry.counters.record(delivered);
+        return delivered;
+    }
+
+    /**
+     * Calls the listeners and the generated subscribers of an event ID in one
+     * priority order. Before each listener, the generated subscribers with a
+     * priority from that listener's up to the previous listener's run, so they
+     * go first among equal priorities. Parallel fan-out is not used, and the
+     * statistics count only the listeners' deliveries.
+     */
+    private int deliverMerged(int eventId, Object payload, ListenerEntry entry, GeneratedEventDispatcher generated) {
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        long start = mode == EventChannelOptions.StatisticsMode.LATENCY ? System.nanoTime() : 0L;
+        ObjectLessEventBus.ObjectLessListener[] listeners = entry.listeners;
+        int[] priorities = entry.priorities;
+        int count = entry.count;
+        int delivered = 0;
+        int direct = 0;
+        int upper = Integer.MAX_VALUE;
+        boolean remaining = true;
+        for (int i = 0; i < count; i++) {
+            int priority = priorities[i];
+            if (remaining && priority <= upper) {
+                direct += generated.dispatch(eventId, payload, priority, upper);
+                remaining = priority != Integer.MIN_VALUE;
+                upper = priority - 1;
+            }
+            ObjectLessEventBus.ObjectLessListener listener = listeners[i];
+            if (listener.isAsync()) {
+                asyncDispatcher.dispatch(listener, payload);
+            } else {
+                listener.onEvent(payload);
+                delivered++;
+            }
+        }
+        if (remaining) {
+            direct += generated.dispatch(eventId, payload, Integer.MIN_VALUE, upper);
+        }
+        recordDelivery(entry, mode, start, delivered);
+        return delivered + direct;
+    }
+
+    /**
+     * Publishes a batch of payloads for one event ID.
+     *
+     * <p>The listener array is resolved once and each listener sees the payloads
+     * in order. Statistics are updated once per batch. Each async listener gets
+     * the whole batch as a single task.</p>
+     */
+    @Override
+    public int publishBatch(int eventId, Object[] payloads, int from, int to) {
+        Objects.checkFromToIndex(from, to, payloads.length);
+        EventJournal j = journal;
+        if (j != null) {
+            for (int i = from; i < to; i++) {
+                j.append(eventId, payloads[i]);
+            }
+        }
+        if (generatedDispatcher != null) {
+            // Interleaving by priority is per event, so the batch is delivered event by event
+            int delivered = 0;
+            for (int i = from; i < to; i++) {
+                delivered += deliver(eventId, payloads[i]);
+            }
+            return delivered;
+        }
+        if (eventId < 0 || eventId >= listenersById.length || from == to) {
             return 0;
         }
 
@@ -93,31 +353,373 @@ public class StandardEventChannel implements EventChannel {
             return 0;
         }
 
-        publishedCount.incrementAndGet();
-        int delivered = dispatchOptimized(eventId, payload, entry.listeners, entry.count);
-        deliveredCount.addAndGet(delivered);
+        ObjectLessEventBus.ObjectLessListener[] listeners = entry.listeners;
+        int count = entry.count;
+        int syncListeners = 0;
+        for (int l = 0; l < count; l++) {
+            ObjectLessEventBus.ObjectLessListener listener = listeners[l];
+            if (listener.isAsync()) {
+                asyncDispatcher.dispatchBatch(listener, payloads, from, to);
+            } else {
+                syncListeners++;
+            }
+        }
+
+        if (syncListeners > 0) {
+            for (int i = from; i < to; i++) {
+                Object payload = payloads[i];
+                for (int l = 0; l < count; l++) {
+                    ObjectLessEventBus.ObjectLessListener listener = listeners[l];
+                    if (!listener.isAsync()) {
+                        listener.onEvent(payload);
+                    }
+                }
+            }
+        }
+
+        int delivered = syncListeners * (to - from);
+        if (statisticsMode != EventChannelOptions.StatisticsMode.OFF) {
+            entry.counters.record(to - from, delivered);
+        }
         return delivered;
     }
 
+    /**
+     * Publishes a batch of events with individual event IDs.
+     *
+     * <p>Consecutive events with the same ID reuse the resolved listener array.
+     * Statistics are updated once per batch, and all async deliveries of the
+     * batch are handed to the dispatcher together.</p>
+     */
+    @Override
+    public int publishBatch(int[] eventIds, Object[] payloads, int from, int to) {
+        Objects.checkFromToIndex(from, to, eventIds.length);
+        Objects.checkFromToIndex(from, to, payloads.length);
+        EventJournal j = journal;
+        if (j != null) {
+            for (int i = from; i < to; i++) {
+                j.append(eventIds[i], payloads[i]);
+            }
+        }
+        if (generatedDispatcher != null) {
+            int delivered = 0;
+            for (int i = from; i < to; i++) {
+                delivered += deliver(eventIds[i], payloads[i]);
+            }
+            return delivered;
+        }
+
+        ListenerEntry[] table = listenersById;
+        ObjectLessEventBus.ObjectLessListener[] asyncListeners = null;
+        Object[] asyncPayloads = null;
+        int asyncCount = 0;
+        int delivered = 0;
+        boolean recordStatistics = statisticsMode != EventChannelOptions.StatisticsMode.OFF;
+        // Counts for the current run of equal IDs, flushed to that entry's counters when the run ends
+        int runPublished = 0;
+        int runDelivered = 0;
+
+        int lastId = -1;
+        ListenerEntry entry = null;
+        for (int i = from; i < to; i++) {
+            int eventId = eventIds[i];
+            if (eventId != lastId) {
+                if (recordStatistics && runPublished > 0) {
+                    entry.counters.record(runPublished, runDelivered);
+                }
+                runPublished = 0;
+                runDelivered = 0;
+                lastId = eventId;
+                entry = eventId >= 0 && eventId < table.length ? table[eventId] : null;
+            }
+            if (entry == null || entry.count == 0) {
+                continue;
+            }
+
+            runPublished++;
+            Object payload = payloads[i];
+            ObjectLessEventBus.ObjectLessListener[] listeners = entry.listeners;
+            for (int l = 0; l < entry.count; l++) {
+                ObjectLessEventBus.ObjectLessListener listener = listeners[l];
+                if (listener.isAsync()) {
+                    if (asyncListeners == null) {
+                        asyncListeners = new ObjectLessEventBus.ObjectLessListener[to - i];
+                        asyncPayloads = new Object[to - i];
+                    } else if (asyncCount == asyncListeners.length) {
+                        asyncListeners = Arrays.copyOf(asyncListeners, asyncCount * 2);
+                        asyncPayloads = Arrays.copyOf(asyncPayloads, asyncCount * 2);
+                    }
+                    asyncListeners[asyncCount] = listener;
+                    asyncPayloads[asyncCount] = payload;
+                    asyncCount++;
+                } else {
+                    listener.onEvent(payload);
+                    runDelivered++;
+                    delivered++;
+                }
+            }
+        }
+
+        if (recordStatistics && runPublished > 0) {
+            entry.counters.record(runPublished, runDelivered);
+        }
+        if (asyncCount > 0) {
+            asyncDispatcher.dispatchAll(asyncListeners, asyncPayloads, asyncCount);
+        }
+        return delivered;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive events are delivered synchronously, are counted in the
+     * statistics of their event ID, and are neither journaled nor coalesced.</p>
+     */
+    @Override
+    public int publishLong(int eventId, long value) {
+        ListenerEntry entry = entryFor(eventId);
+        if (entry == null) {
+            return 0;
+        }
+        ObjectLessEventBus.LongListener[] listeners = entry.longs.listeners;
+        if (listeners.length == 0) {
+            return 0;
+        }
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        long start = mode == EventChannelOptions.StatisticsMode.LATENCY ? System.nanoTime() : 0L;
+        for (ObjectLessEventBus.LongListener listener : listeners) {
+            listener.onEvent(value);
+        }
+        recordDelivery(entry, mode, start, listeners.length);
+        return listeners.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive events are delivered synchronously, are counted in the
+     * statistics of their event ID, and are neither journaled nor coalesced.</p>
+     */
+    @Override
+    public int publishDouble(int eventId, double value) {
+        ListenerEntry entry = entryFor(eventId);
+        if (entry == null) {
+            return 0;
+        }
+        ObjectLessEventBus.DoubleListener[] listeners = entry.doubles.listeners;
+        if (listeners.length == 0) {
+            return 0;
+        }
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        long start = mode == EventChannelOptions.StatisticsMode.LATENCY ? System.nanoTime() : 0L;
+        for (ObjectLessEventBus.DoubleListener listener : listeners) {
+            listener.onEvent(value);
+        }
+        recordDelivery(entry, mode, start, listeners.length);
+        return listeners.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive events are delivered synchronously, are counted in the
+     * statistics of their event ID, and are neither journaled nor coalesced.</p>
+     */
+    @Override
+    public int publish(int eventId, long first, long second) {
+        ListenerEntry entry = entryFor(eventId);
+        if (entry == null) {
+            return 0;
+        }
+        ObjectLessEventBus.LongPairListener[] listeners = entry.longPairs.listeners;
+        if (listeners.length == 0) {
+            return 0;
+        }
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        long start = mode == EventChannelOptions.StatisticsMode.LATENCY ? System.nanoTime() : 0L;
+        for (ObjectLessEventBus.LongPairListener listener : listeners) {
+            listener.onEvent(first, second);
+        }
+        recordDelivery(entry, mode, start, listeners.length);
+        return listeners.length;
+    }
+
+    private ListenerEntry entryFor(int eventId) {
+        ListenerEntry[] table = listenersById;
+        return eventId >= 0 && eventId < table.length ? table[eventId] : null;
+    }
+
+    private void recordDelivery(ListenerEntry entry, EventChannelOptions.StatisticsMode mode,
+                                 long start, int delivered) {
+        if (mode == EventChannelOptions.StatisticsMode.OFF) {
+            return;
+        }
+        if (mode == EventChannelOptions.StatisticsMode.LATENCY) {
+            dispatchLatency.record(System.nanoTime() - start);
+        }
+        entry.counters.record(delivered);
+    }
+
     @Override
     public CompletableFuture<Integer> publishAsync(int eventId, Object payload) {
-        if (eventId < 0 || eventId >= listenersById.length || shuttingDown) {
+        EventJournal j = journal;
+        if (j != null && !shuttingDown) {
+            // Journal on the caller so the journal keeps publish order
+            j.append(eventId, payload);
+        }
+        if (shuttingDown || (generatedDispatcher == null && (eventId < 0 || eventId >= listenersById.length))) {
             return CompletableFuture.completedFuture(0);
         }
 
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        if (dispatcher instanceof BoundedAsyncDispatcher) {
+            return ((BoundedAsyncDispatcher) dispatcher).submit(payload, p -> deliver(eventId, p));
+        }
         return CompletableFuture.supplyAsync(
-                () -> publish(eventId, payload),
+                () -> deliver(eventId, payload),
                 asyncExecutor
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Listeners run in priority order; parallel fan-out is not used. Each async
+     * listener's delivery goes through the configured async mode, wrapped so its
+     * completion is counted, and deliveries the mode drops are reported by
+     * {@link PublishResult#getDropped()}.</p>
+     */
+    @Override
+    public CompletableFuture<PublishResult> publishTracked(int eventId, Object payload) {
+        DeliveryTracker tracker = new DeliveryTracker();
+        publishTracked(eventId, payload, tracker);
+        return tracker.complete();
+    }
+
+    /**
+     * Publishes into an existing tracker. Generated subscribers are merged in by
+     * priority, as in {@link #publish(int, Object)}; each range of them counts as
+     * one listener for failure reporting.
+     */
+    void publishTracked(int eventId, Object payload, DeliveryTracker tracker) {
+        EventJournal j = journal;
+        if (j != null) {
+            j.append(eventId, payload);
+        }
+        GeneratedEventDispatcher generated = generatedDispatcher;
+        ListenerEntry entry = entryFor(eventId);
+        if (entry == null || entry.count == 0) {
+            if (generated != null) {
+                dispatchTracked(generated, eventId, payload, Integer.MIN_VALUE, Integer.MAX_VALUE, tracker);
+            }
+            return;
+        }
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        long start = mode == EventChannelOptions.StatisticsMode.LATENCY ? System.nanoTime() : 0L;
+        ObjectLessEventBus.ObjectLessListener[] listeners = entry.listeners;
+        int[] priorities = entry.priorities;
+        int count = entry.count;
+        int delivered = 0;
+        int upper = Integer.MAX_VALUE;
+        boolean remaining = generated != null;
+        DeliveryTracker previous = tracker.enter();
+        try {
+            for (int i = 0; i < count; i++) {
+                int priority = priorities[i];
+                if (remaining && priority <= upper) {
+                    dispatchTracked(generated, eventId, payload, priority, upper, tracker);
+                    remaining = priority != Integer.MIN_VALUE;
+                    upper = priority - 1;
+                }
+                ObjectLessEventBus.ObjectLessListener listener = listeners[i];
+                if (listener.isAsync()) {
+                    tracker.dispatch(asyncDispatcher, listener, payload);
+                } else if (tracker.deliver(listener, payload, ObjectLessEventBus.ObjectLessListener::onEvent)) {
+                    delivered++;
+                }
+            }
+            if (remaining) {
+                dispatchTracked(generated, eventId, payload, Integer.MIN_VALUE, upper, tracker);
+            }
+        } finally {
+            DeliveryTracker.exit(previous);
+        }
+        recordDelivery(entry, mode, start, delivered);
+    }
+
+    private static void dispatchTracked(GeneratedEventDispatcher generated, int eventId, Object payload,
+                                        int minPriority, int maxPriority, DeliveryTracker tracker) {
+        try {
+            tracker.recordDelivered(generated.dispatch(eventId, payload, minPriority, maxPriority));
+        } catch (RuntimeException e) {
+            tracker.fail(generated, e);
+        }
+    }
+
+    /**
+     * Installs the generated dispatcher whose subscribers are delivered together
+     * with this channel's listeners, or removes it with {@code null}.
+     */
+    void setGeneratedDispatcher(GeneratedEventDispatcher dispatcher) {
+        this.generatedDispatcher = dispatcher;
+    }
+
+    GeneratedEventDispatcher getGeneratedDispatcher() {
+        return generatedDispatcher;
+    }
+
     @Override
     public void register(int eventId, ObjectLessEventBus.ObjectLessListener listener) {
-        register(eventId, listener, 0);
+        register(eventId, listener, listener != null ? listener.getPriority() : 0);
     }
 
     @Override
     public void register(int eventId, ObjectLessEventBus.ObjectLessListener listener, int priority) {
+        ListenerEntry existing = entryForRegistration(eventId, listener);
+        ObjectLessEventBus.ObjectLessListener[] newListeners = Arrays.copyOf(existing.listeners, existing.count + 1);
+        int[] newPriorities = Arrays.copyOf(existing.priorities, existing.count + 1);
+        int insertPos = existing.count;
+
+        // Insert in priority order (higher priority first), after listeners of equal priority
+        for (int i = 0; i < existing.count; i++) {
+            if (priority > existing.priorities[i]) {
+                insertPos = i;
+                break;
+            }
+        }
+
+        // Shift elements and insert
+        System.arraycopy(newListeners, insertPos, newListeners, insertPos + 1, existing.count - insertPos);
+        System.arraycopy(newPriorities, insertPos, newPriorities, insertPos + 1, existing.count - insertPos);
+        newListeners[insertPos] = listener;
+        newPriorities[insertPos] = priority;
+
+        install(eventId, existing.withListeners(newListeners, newPriorities));
+    }
+
+    @Override
+    public void registerLong(int eventId, ObjectLessEventBus.LongListener listener, int priority) {
+        ListenerEntry existing = entryForRegistration(eventId, listener);
+        install(eventId, existing.withLongs(existing.longs.add(listener, priority)));
+    }
+
+    @Override
+    public void registerDouble(int eventId, ObjectLessEventBus.DoubleListener listener, int priority) {
+        ListenerEntry existing = entryForRegistration(eventId, listener);
+        install(eventId, existing.withDoubles(existing.doubles.add(listener, priority)));
+    }
+
+    @Override
+    public void registerLongPair(int eventId, ObjectLessEventBus.LongPairListener listener, int priority) {
+        ListenerEntry existing = entryForRegistration(eventId, listener);
+        install(eventId, existing.withLongPairs(existing.longPairs.add(listener, priority)));
+    }
+
+    /**
+     * Validates a registration, grows the table if needed and returns the current
+     * entry of the event ID, or a new empty one.
+     */
+    private ListenerEntry entryForRegistration(int eventId, Object listener) {
         if (eventId < 0) {
             throw new IllegalArgumentException("Event ID cannot be negative");
         }
@@ -135,30 +737,11 @@ public class StandardEventChannel implements EventChannel {
         }
 
         ListenerEntry existing = listenersById[eventId];
-        ObjectLessEventBus.ObjectLessListener[] newListeners;
-
-        if (existing == null) {
-            newListeners = new ObjectLessEventBus.ObjectLessListener[]{listener};
-        } else {
-            // Add with priority sorting
-            newListeners = Arrays.copyOf(existing.listeners, existing.count + 1);
-            int insertPos = existing.count;
-
-            // Insert in priority order (higher priority first)
-            for (int i = 0; i < existing.count; i++) {
-                if (listener.getPriority() > existing.listeners[i].getPriority()) {
-                    insertPos = i;
-                    break;
-                }
-            }
-
-            // Shift elements and insert
-            System.arraycopy(newListeners, insertPos, newListeners, insertPos + 1,
-                    existing.count - insertPos);
-            newListeners[insertPos] = listener;
-        }
+        return existing != null ? existing : new ListenerEntry(new EventCounters());
+    }
 
-        listenersById[eventId] = new ListenerEntry(newListeners);
+    private void install(int eventId, ListenerEntry entry) {
+        listenersById[eventId] = entry;
         if (eventId > maxRegisteredId) {
             maxRegisteredId = eventId;
         }
@@ -188,20 +771,56 @@ public class StandardEventChannel implements EventChannel {
         }
 
         if (existing.count == 1) {
-            listenersById[eventId] = null;
+            // Keep an empty entry so the event ID's statistics survive
+            listenersById[eventId] = existing.withListeners(NO_LISTENERS, NO_PRIORITIES);
         } else {
             ObjectLessEventBus.ObjectLessListener[] newListeners = new ObjectLessEventBus.ObjectLessListener[existing.count - 1];
+            int[] newPriorities = new int[existing.count - 1];
             System.arraycopy(existing.listeners, 0, newListeners, 0, removePos);
             System.arraycopy(existing.listeners, removePos + 1, newListeners, removePos,
                     existing.count - removePos - 1);
-            listenersById[eventId] = new ListenerEntry(newListeners);
+            System.arraycopy(existing.priorities, 0, newPriorities, 0, removePos);
+            System.arraycopy(existing.priorities, removePos + 1, newPriorities, removePos,
+                    existing.count - removePos - 1);
+            listenersById[eventId] = existing.withListeners(newListeners, newPriorities);
+        }
+    }
+
+    @Override
+    public void unregisterLong(int eventId, ObjectLessEventBus.LongListener listener) {
+        ListenerEntry existing = entryFor(eventId);
+        if (existing != null) {
+            listenersById[eventId] = existing.withLongs(existing.longs.remove(listener));
+        }
+    }
+
+    @Override
+    public void unregisterDouble(int eventId, ObjectLessEventBus.DoubleListener listener) {
+        ListenerEntry existing = entryFor(eventId);
+        if (existing != null) {
+            listenersById[eventId] = existing.withDoubles(existing.doubles.remove(listener));
+        }
+    }
+
+    @Override
+    public void unregisterLongPair(int eventId, ObjectLessEventBus.LongPairListener listener) {
+        ListenerEntry existing = entryFor(eventId);
+        if (existing != null) {
+            listenersById[eventId] = existing.withLongPairs(existing.longPairs.remove(listener));
         }
     }
 
     @Override
     public void clear() {
         shuttingDown = false;
-        Arrays.fill(listenersById, null);
+        ListenerEntry[] table = listenersById;
+        for (int i = 0; i <= maxRegisteredId && i < table.length; i++) {
+            ListenerEntry entry = table[i];
+            if (entry != null) {
+                retiredCounters.record(entry.counters.getPublished(), entry.counters.getDelivered());
+            }
+        }
+        Arrays.fill(table, null);
         maxRegisteredId = -1;
     }
 
@@ -212,6 +831,81 @@ public class StandardEventChannel implements EventChannel {
      */
     void updateExecutor(ExecutorService newExecutor) {
         this.asyncExecutor = newExecutor;
+        EventChannelOptions.AsyncMode mode = options.getAsyncMode();
+        if (mode == EventChannelOptions.AsyncMode.EXECUTOR || mode == EventChannelOptions.AsyncMode.PARTITIONED) {
+            this.asyncDispatcher = createDispatcher(newExecutor);
+        }
+    }
+
+    private AsyncDispatcher createDispatcher(ExecutorService executor) {
+        if (options.isBounded()) {
+            return options.getAsyncMode() == EventChannelOptions.AsyncMode.VIRTUAL_THREAD
+                    ? new BoundedAsyncDispatcher(channelName,
+                            VirtualThreads.newThreadPerTaskExecutor("EventChannel-" + channelName), true, options)
+                    : new BoundedAsyncDispatcher(channelName, executor, false, options);
+        }
+        switch (options.getAsyncMode()) {
+            case RING_BUFFER:
+                return new RingBufferAsyncDispatcher(channelName,
+                        options.getRingBufferSize(), options.getWaitStrategy());
+            case VIRTUAL_THREAD:
+                return new ExecutorAsyncDispatcher(
+                        VirtualThreads.newThreadPerTaskExecutor("EventChannel-" + channelName), true);
+            case PARTITIONED:
+                return new PartitionedAsyncDispatcher(executor, options.getLaneCount(), options.getOrderingKey());
+            case EXECUTOR:
+            default:
+                return new ExecutorAsyncDispatcher(executor);
+        }
+    }
+
+    /**
+     * Returns the options this channel was created with.
+     *
+     * @return the channel options
+     */
+    public EventChannelOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Returns the journal of this channel.
+     *
+     * @return the journal, or {@code null} if the channel is not journaled
+     */
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * Re-delivers journaled events to the current listeners, typically at startup
+     * after the listeners have been registered. Replayed events are not journaled again.
+     *
+     * @param fromOffset the first journal offset to replay
+     * @return the offset after the last replayed event
+     * @throws IllegalStateException if the channel is not journaled
+     */
+    public long replay(long fromOffset) {
+        EventJournal j = journal;
+        if (j == null) {
+            throw new IllegalStateException("Channel " + channelName + " has no journal");
+        }
+        return j.replay(fromOffset, (offset, eventId, timestamp, payload) -> deliver(eventId, payload));
+    }
+
+    /**
+     * Stops the channel's async dispatcher and closes its journal.
+     *
+     * <p>Async deliveries already accepted are completed; later async
+     * deliveries are discarded. Synchronous listeners are unaffected, but
+     * publishing on a journaled channel fails once the journal is closed.</p>
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        asyncDispatcher.shutdown();
+        if (journal != null) {
+            journal.close();
+        }
     }
 
     @Override
@@ -220,12 +914,39 @@ public class StandardEventChannel implements EventChannel {
         for (int i = 0; i <= maxRegisteredId && i < listenersById.length; i++) {
             ListenerEntry entry = listenersById[i];
             if (entry != null) {
-                total += entry.count;
+                total += entry.listenerCount();
             }
         }
         return total;
     }
 
+    private int dispatch(int eventId, Object payload, ListenerEntry entry) {
+        int threshold = parallelFanOutThreshold;
+        if (threshold > 0 && entry.parallelListeners.length >= threshold) {
+            return dispatchParallel(eventId, payload, entry);
+        }
+        return dispatchOptimized(eventId, payload, entry.listeners, entry.count);
+    }
+
+    /**
+     * Forks the parallel-safe listeners, runs the others on the publishing thread
+     * and waits for both.
+     */
+    private int dispatchParallel(int eventId, Object payload, ListenerEntry entry) {
+        ParallelFanOut<ObjectLessEventBus.ObjectLessListener, Object> fanOut = ParallelFanOut.start(
+                options.getParallelFanOutPool(), entry.parallelListeners, payload,
+                ObjectLessEventBus.ObjectLessListener::onEvent);
+        int delivered = 0;
+        Throwable failure = null;
+        try {
+            delivered = dispatchOptimized(eventId, payload, entry.serialListeners, entry.serialListeners.length);
+        } catch (Throwable t) {
+            failure = t;
+        }
+        fanOut.await(failure);
+        return delivered + entry.parallelListeners.length;
+    }
+
     /**
      * Optimized dispatch based on listener count.
      * Uses specialized code paths for different cardinalities.
@@ -263,7 +984,7 @@ public class StandardEventChannel implements EventChannel {
 
     private int dispatchSingle(int eventId, Object payload, ObjectLessEventBus.ObjectLessListener listener) {
         if (listener.isAsync()) {
-            asyncExecutor.submit(() -> listener.onEvent(payload));
+            asyncDispatcher.dispatch(listener, payload);
             return 0;
         }
         listener.onEvent(payload);
@@ -274,14 +995,14 @@ public class StandardEventChannel implements EventChannel {
         int count = 0;
 
         if (l1.isAsync()) {
-            asyncExecutor.submit(() -> l1.onEvent(payload));
+            asyncDispatcher.dispatch(l1, payload);
         } else {
             l1.onEvent(payload);
             count++;
         }
 
         if (l2.isAsync()) {
-            asyncExecutor.submit(() -> l2.onEvent(payload));
+            asyncDispatcher.dispatch(l2, payload);
         } else {
             l2.onEvent(payload);
             count++;
@@ -295,21 +1016,21 @@ public class StandardEventChannel implements EventChannel {
         int count = 0;
 
         if (l1.isAsync()) {
-            asyncExecutor.submit(() -> l1.onEvent(payload));
+            asyncDispatcher.dispatch(l1, payload);
         } else {
             l1.onEvent(payload);
             count++;
         }
 
         if (l2.isAsync()) {
-            asyncExecutor.submit(() -> l2.onEvent(payload));
+            asyncDispatcher.dispatch(l2, payload);
         } else {
             l2.onEvent(payload);
             count++;
         }
 
         if (l3.isAsync()) {
-            asyncExecutor.submit(() -> l3.onEvent(payload));
+            asyncDispatcher.dispatch(l3, payload);
         } else {
             l3.onEvent(payload);
             count++;
@@ -323,28 +1044,28 @@ public class StandardEventChannel implements EventChannel {
         int count = 0;
 
         if (l1.isAsync()) {
-            asyncExecutor.submit(() -> l1.onEvent(payload));
+            asyncDispatcher.dispatch(l1, payload);
         } else {
             l1.onEvent(payload);
             count++;
         }
 
         if (l2.isAsync()) {
-            asyncExecutor.submit(() -> l2.onEvent(payload));
+            asyncDispatcher.dispatch(l2, payload);
         } else {
             l2.onEvent(payload);
             count++;
         }
 
         if (l3.isAsync()) {
-            asyncExecutor.submit(() -> l3.onEvent(payload));
+            asyncDispatcher.dispatch(l3, payload);
         } else {
             l3.onEvent(payload);
             count++;
         }
 
         if (l4.isAsync()) {
-            asyncExecutor.submit(() -> l4.onEvent(payload));
+            asyncDispatcher.dispatch(l4, payload);
         } else {
             l4.onEvent(payload);
             count++;
@@ -358,7 +1079,7 @@ public class StandardEventChannel implements EventChannel {
         for (int i = 0; i < count; i++) {
             ObjectLessEventBus.ObjectLessListener listener = listeners[i];
             if (listener.isAsync()) {
-                asyncExecutor.submit(() -> listener.onEvent(payload));
+                asyncDispatcher.dispatch(listener, payload);
             } else {
                 listener.onEvent(payload);
                 deliveryCount++;
@@ -374,19 +1095,122 @@ public class StandardEventChannel implements EventChannel {
         return channelName;
     }
 
+    /**
+     * Sets which statistics this channel records from now on.
+     *
+     * <p>Counters already recorded are kept. With
+     * {@link EventChannelOptions.StatisticsMode#OFF} the publish path performs no
+     * shared writes at all.</p>
+     *
+     * @param mode the statistics mode
+     */
+    public void setStatisticsMode(EventChannelOptions.StatisticsMode mode) {
+        if (mode == null) {
+            throw new IllegalArgumentException("Statistics mode cannot be null");
+        }
+        this.statisticsMode = mode;
+    }
+
+    /**
+     * Returns the statistics mode currently in effect.
+     *
+     * @return the statistics mode
+     */
+    public EventChannelOptions.StatisticsMode getStatisticsMode() {
+        return statisticsMode;
+    }
+
+    /**
+     * Sets how many parallel-safe listeners an event ID needs before its
+     * synchronous deliveries are fanned out on the channel's fork/join pool.
+     *
+     * <p>Applies to {@code publish}, {@code publishAsync} and replay; batch
+     * publishing always delivers serially.</p>
+     *
+     * @param threshold the threshold, at least 2, or {@code 0} to disable fan-out
+     * @see EventChannelOptions.Builder#parallelFanOut(int, java.util.concurrent.ForkJoinPool)
+     */
+    public void setParallelFanOutThreshold(int threshold) {
+        if (threshold != 0 && threshold < 2) {
+            throw new IllegalArgumentException("Parallel fan-out threshold must be 0 or at least 2: " + threshold);
+        }
+        this.parallelFanOutThreshold = threshold;
+    }
+
+    /**
+     * Returns the parallel fan-out threshold currently in effect.
+     *
+     * @return the threshold, or {@code 0} if fan-out is disabled
+     */
+    public int getParallelFanOutThreshold() {
+        return parallelFanOutThreshold;
+    }
+
+    /**
+     * Returns a snapshot of this channel's statistics, broken down by event ID.
+     *
+     * @return the statistics snapshot
+     */
+    public EventStatistics<Integer> getStatisticsSnapshot() {
+        long published = retiredCounters.getPublished();
+        long delivered = retiredCounters.getDelivered();
+        Map<Integer, EventStatistics.Counts> byId = new LinkedHashMap<>();
+        ListenerEntry[] table = listenersById;
+        for (int i = 0; i <= maxRegisteredId && i < table.length; i++) {
+            ListenerEntry entry = table[i];
+            if (entry != null) {
+                long idPublished = entry.counters.getPublished();
+                long idDelivered = entry.counters.getDelivered();
+                published += idPublished;
+                delivered += idDelivered;
+                byId.put(i, new EventStatistics.Counts(idPublished, idDelivered));
+            }
+        }
+        EventChannelOptions.StatisticsMode mode = statisticsMode;
+        AsyncDispatcher dispatcher = asyncDispatcher;
+        return new EventStatistics<>(channelName, mode, published, delivered, byId,
+                mode == EventChannelOptions.StatisticsMode.LATENCY ? dispatchLatency.snapshot() : null,
+                dispatcher instanceof BoundedAsyncDispatcher ? ((BoundedAsyncDispatcher) dispatcher).statistics() : null,
+                coalescedCount());
+    }
+
+    /**
+     * Returns the number of payloads collapsed before publishing; overridden by
+     * {@link CoalescingEventChannel}.
+     *
+     * @return the coalesced count
+     */
+    long coalescedCount() {
+        return 0L;
+    }
+
     /**
      * Returns statistics about this channel.
      */
     public String getStatistics() {
-        return String.format(
+        EventStatistics<Integer> stats = getStatisticsSnapshot();
+        StringBuilder sb = new StringBuilder(String.format(
                 "%s Channel Statistics:\n" +
                 "  - Total Listeners: %d\n" +
                 "  - Events Published: %d\n" +
                 "  - Events Delivered: %d",
                 channelName,
                 getListenerCount(),
-                publishedCount.get(),
-                deliveredCount.get()
-        );
+                stats.getPublished(),
+                stats.getDelivered()
+        ));
+        if (stats.getLatency() != null) {
+            sb.append("\n  - Dispatch Latency: ").append(stats.getLatency());
+        }
+        if (options.isCoalescing()) {
+            sb.append("\n  - Events Coalesced: ").append(stats.getCoalesced());
+        }
+        if (stats.getQueue() != null) {
+            sb.append("\n  - Async Queue: ").append(stats.getQueue());
+        }
+        for (Map.Entry<Integer, EventStatistics.Counts> entry : stats.getBreakdown().entrySet()) {
+            sb.append("\n  - Event ").append(entry.getKey()).append(": ").append(entry.getValue());
+        }
+        return sb.toString();
     }
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Routes dotted topics such as {@code orders.eu.created} to the channels that
+ * should receive them.
+ *
+ * <p>Wildcard subscriptions are stored in a trie keyed by topic token. In a
+ * pattern, {@code *} matches exactly one token and a trailing {@code >} matches
+ * one or more remaining tokens, so {@code orders.*.created} and {@code orders.>}
+ * both match {@code orders.eu.created}. Each wildcard pattern owns one channel.</p>
+ *
+ * <p>Resolving a concrete topic walks the trie once; the resulting channel array
+ * is cached per topic, so a warm publish is a single map lookup. The cache only
+ * depends on which patterns and concrete channels exist, not on their listeners,
+ * so it is invalidated when a pattern is added or removed and, per topic, when a
+ * concrete channel is created. Mutations and cache fills share one lock, so a
+ * stale route can never be cached after an invalidation.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class TopicRouter {
+
+    /** Cached routes; the cache is emptied when it reaches this size. */
+    static final int MAX_CACHED_ROUTES = 1 << 16;
+
+    private static final EventChannel[] NO_CHANNELS = new EventChannel[0];
+
+    private final Function<String, EventChannel> concreteChannels;
+    private final Node root = new Node();
+    private final ConcurrentHashMap<String, EventChannel[]> routes = new ConcurrentHashMap<>();
+
+    /**
+     * Trie node; {@code channel} receives topics ending here, {@code tail} receives
+     * topics with at least one more token ({@code >}).
+     */
+    private static final class Node {
+        final Map<String, Node> children = new HashMap<>();
+        Node any;
+        StandardEventChannel channel;
+        StandardEventChannel tail;
+    }
+
+    /**
+     * Creates a router.
+     *
+     * @param concreteChannels looks up the existing channel named exactly like a topic, or {@code null}
+     */
+    TopicRouter(Function<String, EventChannel> concreteChannels) {
+        this.concreteChannels = concreteChannels;
+    }
+
+    /**
+     * Returns whether the topic contains a {@code *} or {@code >} token.
+     *
+     * @param topic a validated topic or pattern
+     * @return {@code true} for wildcard patterns
+     */
+    static boolean isPattern(String topic) {
+        for (String token : tokens(topic, true)) {
+            if ("*".equals(token) || ">".equals(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the channels a concrete topic is delivered to: the channel named
+     * like the topic, if any, then matching wildcard channels from the most to
+     * the least specific pattern.
+     *
+     * @param topic the concrete topic
+     * @return the channels, never {@code null}; callers must not modify the array
+     * @throws IllegalArgumentException if the topic is empty, has empty tokens or wildcards
+     */
+    EventChannel[] route(String topic) {
+        EventChannel[] route = topic != null ? routes.get(topic) : null;
+        return route != null ? route : resolve(topic);
+    }
+
+    private synchronized EventChannel[] resolve(String topic) {
+        String[] tokens = tokens(topic, false);
+        List<EventChannel> matched = new ArrayList<>();
+        EventChannel concrete = concreteChannels.apply(topic);
+        if (concrete != null) {
+            matched.add(concrete);
+        }
+        match(root, tokens, 0, matched);
+        EventChannel[] route = matched.isEmpty() ? NO_CHANNELS : matched.toArray(NO_CHANNELS);
+        if (routes.size() >= MAX_CACHED_ROUTES) {
+            routes.clear();
+        }
+        routes.put(topic, route);
+        return route;
+    }
+
+    /**
+     * Depth-first match; literal tokens are tried before {@code *}, and {@code >}
+     * is added last, so more specific patterns come first.
+     */
+    private static void match(Node node, String[] tokens, int index, List<EventChannel> matched) {
+        if (index == tokens.length) {
+            if (node.channel != null) {
+                matched.add(node.channel);
+            }
+            return;
+        }
+        Node literal = node.children.get(tokens[index]);
+        if (literal != null) {
+            match(literal, tokens, index + 1, matched);
+        }
+        if (node.any != null) {
+            match(node.any, tokens, index + 1, matched);
+        }
+        if (node.tail != null) {
+            matched.add(node.tail);
+        }
+    }
+
+    /**
+     * Returns the channel of a wildcard pattern, creating it if needed.
+     *
+     * @param pattern the wildcard pattern
+     * @param factory creates the channel for a new pattern
+     * @return the pattern's channel
+     */
+    synchronized StandardEventChannel subscription(String pattern, Function<String, StandardEventChannel> factory) {
+        String[] tokens = tokens(pattern, true);
+        Node node = root;
+        int last = tokens.length - 1;
+        for (int i = 0; i < last; i++) {
+            node = child(node, tokens[i]);
+        }
+        if (">".equals(tokens[last])) {
+            if (node.tail == null) {
+                node.tail = factory.apply(pattern);
+                routes.clear();
+            }
+            return node.tail;
+        }
+        node = child(node, tokens[last]);
+        if (node.channel == null) {
+            node.channel = factory.apply(pattern);
+            routes.clear();
+        }
+        return node.channel;
+    }
+
+    private static Node child(Node node, String token) {
+        if ("*".equals(token)) {
+            if (node.any == null) {
+                node.any = new Node();
+            }
+            return node.any;
+        }
+        return node.children.computeIfAbsent(token, t -> new Node());
+    }
+
+    /**
+     * Removes a wildcard pattern.
+     *
+     * @param pattern the wildcard pattern
+     * @return the removed channel, or {@code null} if the pattern was not subscribed
+     */
+    synchronized StandardEventChannel remove(String pattern) {
+        String[] tokens = tokens(pattern, true);
+        Node node = root;
+        int last = tokens.length - 1;
+        for (int i = 0; i < last && node != null; i++) {
+            node = "*".equals(tokens[i]) ? node.any : node.children.get(tokens[i]);
+        }
+        if (node == null) {
+            return null;
+        }
+        StandardEventChannel removed;
+        if (">".equals(tokens[last])) {
+            removed = node.tail;
+            node.tail = null;
+        } else {
+            node = "*".equals(tokens[last]) ? node.any : node.children.get(tokens[last]);
+            if (node == null) {
+                return null;
+            }
+            removed = node.channel;
+            node.channel = null;
+        }
+        if (removed != null) {
+            routes.clear();
+        }
+        return removed;
+    }
+
+    /**
+     * Drops the cached route of a topic whose concrete channel was just created.
+     *
+     * @param topic the channel name
+     */
+    synchronized void invalidate(String topic) {
+        routes.remove(topic);
+    }
+
+    /**
+     * Returns the channels of all wildcard patterns.
+     *
+     * @return the pattern channels keyed by pattern
+     */
+    synchronized Map<String, StandardEventChannel> subscriptions() {
+        Map<String, StandardEventChannel> result = new LinkedHashMap<>();
+        collect(root, result);
+        return result;
+    }
+
+    private static void collect(Node node, Map<String, StandardEventChannel> result) {
+        if (node.channel != null) {
+            result.put(node.channel.getChannelName(), node.channel);
+        }
+        if (node.tail != null) {
+            result.put(node.tail.getChannelName(), node.tail);
+        }
+        for (Node child : node.children.values()) {
+            collect(child, result);
+        }
+        if (node.any != null) {
+            collect(node.any, result);
+        }
+    }
+
+    /**
+     * Returns the number of cached routes.
+     *
+     * @return the cache size
+     */
+    int getCachedRouteCount() {
+        return routes.size();
+    }
+
+    /**
+     * Splits and validates a topic or pattern.
+     *
+     * @param wildcards whether {@code *} and a trailing {@code >} are allowed
+     */
+    private static String[] tokens(String topic, boolean wildcards) {
+        if (topic == null || topic.isEmpty()) {
+            throw new IllegalArgumentException("Topic cannot be null or empty");
+        }
+        String[] tokens = topic.split("\\.", -1);
+        for (int i = 0; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (token.isEmpty()) {
+                throw new IllegalArgumentException("Topic has an empty token: " + topic);
+            }
+            boolean wildcard = "*".equals(token) || ">".equals(token);
+            if (wildcard && !wildcards) {
+                throw new IllegalArgumentException("Cannot publish to a wildcard topic: " + topic);
+            }
+            if (">".equals(token) && i != tokens.length - 1) {
+                throw new IllegalArgumentException("'>' must be the last token: " + topic);
+            }
+        }
+        return tokens;
+    }
+}
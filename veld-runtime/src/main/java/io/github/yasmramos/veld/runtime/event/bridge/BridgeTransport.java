@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.bridge;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Bidirectional byte stream between two {@link EventBridge}s on the same host.
+ *
+ * <p>The bridge calls {@link #connect()} from its receiver thread and again after
+ * every failure, reads on the receiver thread and writes on its sender thread,
+ * so implementations must allow one concurrent reader and one concurrent writer.
+ * Frames may be split across reads; the bridge reassembles them.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see UnixSocketTransport
+ * @see SharedMemoryTransport
+ */
+public interface BridgeTransport extends AutoCloseable {
+
+    /**
+     * Establishes the connection, blocking until the peer is reachable.
+     *
+     * @throws IOException if the peer cannot be reached; the bridge retries later
+     */
+    void connect() throws IOException;
+
+    /**
+     * Returns whether {@link #connect()} succeeded and no failure was seen since.
+     *
+     * @return {@code true} while connected
+     */
+    boolean isConnected();
+
+    /**
+     * Writes all remaining bytes of the buffer.
+     *
+     * @param bytes the bytes to write; its position is advanced to its limit
+     * @throws IOException if the connection failed
+     */
+    void write(ByteBuffer bytes) throws IOException;
+
+    /**
+     * Reads available bytes into the buffer.
+     *
+     * <p>Blocks until at least one byte is available, the transport is closed, or
+     * an implementation-specific poll interval elapses.</p>
+     *
+     * @param into the buffer to fill from its position
+     * @return the number of bytes read, {@code 0} if the poll interval elapsed,
+     *         or {@code -1} if the peer closed the connection
+     * @throws IOException if the connection failed
+     */
+    int read(ByteBuffer into) throws IOException;
+
+    /**
+     * Confirms that bytes returned by earlier reads were consumed as whole frames.
+     *
+     * <p>The bridge calls this after delivering every complete frame of a read. A
+     * resumable transport keeps unconfirmed bytes, so after a reconnect, or in a
+     * restarted process, reading continues at the first frame not yet delivered.
+     * The default does nothing.</p>
+     *
+     * @param bytes the number of bytes consumed since the last call
+     */
+    default void acknowledge(int bytes) {
+    }
+
+    /**
+     * Moves the read position of a resumable transport past unread bytes that
+     * cannot be parsed, so the next connection starts at a frame boundary. The
+     * bridge calls this after receiving a corrupt frame, before disconnecting.
+     * The default does nothing, as a fresh connection starts a new stream.
+     */
+    default void resync() {
+    }
+
+    /**
+     * Returns whether bytes written before a failure remain readable by the peer
+     * after reconnecting, as with a persistent shared buffer.
+     *
+     * <p>When {@code false}, every connection is a fresh stream: the bridge resends
+     * the whole batch that failed. Either way, a reconnect discards partially
+     * received frames; a resumable transport reads them again from the last
+     * {@linkplain #acknowledge(int) acknowledged} position.</p>
+     *
+     * @return {@code true} if the stream survives reconnects
+     */
+    default boolean resumesAfterReconnect() {
+        return false;
+    }
+
+    /**
+     * Drops the current connection so the next {@link #connect()} starts afresh.
+     * Safe to call from either bridge thread, and when not connected.
+     */
+    void disconnect();
+
+    /**
+     * Drops the connection and releases all resources; blocked calls return or fail.
+     */
+    @Override
+    void close();
+}
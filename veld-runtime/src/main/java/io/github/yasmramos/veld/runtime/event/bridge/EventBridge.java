@@ -0,0 +1,705 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.bridge;
+
+import io.github.yasmramos.veld.runtime.event.EventChannel;
+import io.github.yasmramos.veld.runtime.event.ObjectLessEventBus;
+import io.github.yasmramos.veld.runtime.event.journal.PayloadCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Forwards selected event IDs of an {@link EventChannel} to a peer bridge in
+ * another JVM on the same host, and publishes the events received from the peer
+ * into the same channel.
+ *
+ * <p>Each forwarded ID gets a synchronous listener that encodes the payload with
+ * its {@link PayloadCodec} and appends a {@code [length][eventId][payload]} frame
+ * to a pending buffer. A sender thread writes everything that accumulated while
+ * the previous write was in progress as one batch, optionally lingering to fill
+ * larger batches. A receiver thread connects the {@link BridgeTransport},
+ * reconnects after failures and republishes incoming frames. A republished event
+ * is not forwarded back, so both peers may forward the same ID, while events its
+ * listeners publish under other IDs are forwarded as usual.</p>
+ *
+ * <p>Only frames with an ID the bridge forwards or {@linkplain Builder#receive(int...)
+ * receives} are decoded; any other ID from the peer is dropped unread. There is
+ * no default codec: Java serialization must be chosen explicitly, preferably as
+ * {@link PayloadCodec#serializable(java.io.ObjectInputFilter)} with a filter
+ * that only admits the payload classes.</p>
+ *
+ * <p>Delivery is at-least-once while both bridges run: a batch interrupted by a
+ * connection failure is resent after reconnecting. Events published while the
+ * pending buffer is full, or still pending when the bridge closes, are dropped
+ * and counted.</p>
+ *
+ * <pre>{@code
+ * EventBridge bridge = EventBridge.builder(channel, UnixSocketTransport.client(socket))
+ *         .forward(ORDER_PLACED, PayloadCodec.strings())
+ *         .receive(ORDER_SHIPPED, PayloadCodec.strings())
+ *         .start();
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class EventBridge implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(EventBridge.class.getName());
+
+    /** Default largest encoded payload in bytes. */
+    public static final int DEFAULT_MAX_FRAME_SIZE = 1024 * 1024;
+
+    /** Default capacity of the pending buffer in bytes. */
+    public static final int DEFAULT_MAX_PENDING_BYTES = 4 * 1024 * 1024;
+
+    private static final int FRAME_HEADER = 8;
+
+    private final String name;
+    private final EventChannel channel;
+    private final BridgeTransport transport;
+    // Decoders of every ID accepted from the peer
+    private final Map<Integer, PayloadCodec> codecs;
+    private final List<Forwarder> forwarders = new ArrayList<>();
+    private final int maxFrameSize;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long reconnectDelayNanos;
+    private final long drainTimeoutMillis;
+    private final boolean resumes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private ByteBuffer pending;
+    private ByteBuffer spare;
+    private int pendingFrames;
+
+    private final Thread sender;
+    private final Thread receiver;
+    private int inboundEventId;
+    private volatile boolean closing;
+    private volatile boolean closed;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private EventBridge(Builder builder) {
+        this.name = builder.name;
+        this.channel = builder.channel;
+        this.transport = builder.transport;
+        this.maxFrameSize = builder.maxFrameSize;
+        this.batchSize = builder.batchSize;
+        this.lingerNanos = builder.linger.toNanos();
+        this.reconnectDelayNanos = builder.reconnectDelay.toNanos();
+        this.drainTimeoutMillis = builder.drainTimeout.toMillis();
+        this.resumes = transport.resumesAfterReconnect();
+        this.pending = ByteBuffer.allocateDirect(builder.maxPendingBytes);
+        this.spare = ByteBuffer.allocateDirect(builder.maxPendingBytes);
+
+        Map<Integer, PayloadCodec> resolved = new HashMap<>();
+        for (Map.Entry<Integer, PayloadCodec> entry : builder.forwarded.entrySet()) {
+            PayloadCodec codec = entry.getValue() != null ? entry.getValue() : builder.codec;
+            resolved.put(entry.getKey(), codec);
+            forwarders.add(new Forwarder(entry.getKey(), codec));
+        }
+        for (Map.Entry<Integer, PayloadCodec> entry : builder.received.entrySet()) {
+            if (entry.getValue() != null) {
+                resolved.put(entry.getKey(), entry.getValue());
+            } else {
+                resolved.putIfAbsent(entry.getKey(), builder.codec);
+            }
+        }
+        this.codecs = Map.copyOf(resolved);
+        this.inboundEventId = -1;
+
+        this.sender = new Thread(this::send, "EventBridge-" + name + "-Sender");
+        this.sender.setDaemon(true);
+        this.receiver = new Thread(this::receive, "EventBridge-" + name + "-Receiver");
+        this.receiver.setDaemon(true);
+    }
+
+    /**
+     * Creates a builder for a bridge between the channel and a transport.
+     *
+     * @param channel the local channel
+     * @param transport the transport to the peer
+     * @return the builder
+     */
+    public static Builder builder(EventChannel channel, BridgeTransport transport) {
+        return new Builder(channel, transport);
+    }
+
+    private EventBridge start() {
+        receiver.start();
+        sender.start();
+        for (Forwarder forwarder : forwarders) {
+            channel.register(forwarder.eventId, forwarder);
+        }
+        return this;
+    }
+
+    private void enqueue(int eventId, PayloadCodec codec, Object payload) {
+        byte[] bytes = codec.encode(payload);
+        if (bytes.length > maxFrameSize) {
+            dropped.increment();
+            LOGGER.log(Level.WARNING, "Event bridge {0} dropped event {1}: {2} bytes exceed the frame limit",
+                    new Object[]{name, eventId, bytes.length});
+            return;
+        }
+        lock.lock();
+        try {
+            ByteBuffer buffer = pending;
+            if (closing || buffer.remaining() < FRAME_HEADER + bytes.length) {
+                dropped.increment();
+                return;
+            }
+            boolean wasEmpty = buffer.position() == 0;
+            buffer.putInt(bytes.length + Integer.BYTES).putInt(eventId).put(bytes);
+            pendingFrames++;
+            if (wasEmpty || buffer.position() >= batchSize) {
+                notEmpty.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void send() {
+        ByteBuffer batch = spare;
+        while (true) {
+            int frames;
+            lock.lock();
+            try {
+                while (pending.position() == 0) {
+                    if (closing) {
+                        return;
+                    }
+                    notEmpty.awaitUninterruptibly();
+                }
+                long remaining = lingerNanos;
+                while (remaining > 0L && pending.position() < batchSize && !closing) {
+                    remaining = notEmpty.awaitNanos(remaining);
+                }
+                ByteBuffer full = pending;
+                pending = batch;
+                batch = full;
+                frames = pendingFrames;
+                pendingFrames = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            batch.flip();
+            while (batch.hasRemaining()) {
+                if (!awaitConnected()) {
+                    dropped.add(frames);
+                    break;
+                }
+                try {
+                    transport.write(batch);
+                } catch (IOException e) {
+                    LOGGER.log(Level.FINE, "Event bridge " + name + " lost its connection while sending", e);
+                    transport.disconnect();
+                    if (!resumes) {
+                        batch.rewind();
+                    }
+                }
+            }
+            if (!batch.hasRemaining()) {
+                sent.add(frames);
+            }
+            batch.clear();
+        }
+    }
+
+    private boolean awaitConnected() {
+        while (!transport.isConnected()) {
+            if (closed) {
+                return false;
+            }
+            LockSupport.parkNanos(this, reconnectDelayNanos);
+        }
+        return true;
+    }
+
+    private void receive() {
+        ByteBuffer inbound = ByteBuffer.allocateDirect(Math.max(64 * 1024, FRAME_HEADER + maxFrameSize));
+        boolean connectedBefore = false;
+        while (!closed) {
+            if (!transport.isConnected()) {
+                try {
+                    transport.connect();
+                } catch (IOException e) {
+                    if (closed) {
+                        break;
+                    }
+                    LOGGER.log(Level.FINE, "Event bridge " + name + " cannot connect yet", e);
+                    LockSupport.parkNanos(this, reconnectDelayNanos);
+                    continue;
+                }
+                if (connectedBefore) {
+                    reconnects.increment();
+                }
+                connectedBefore = true;
+                // A resumable transport reads unacknowledged bytes again, so partial frames are never kept
+                inbound.clear();
+                LockSupport.unpark(sender);
+            }
+            try {
+                int read = transport.read(inbound);
+                if (read < 0) {
+                    transport.disconnect();
+                } else if (read > 0) {
+                    int consumed = deliver(inbound);
+                    if (consumed < 0) {
+                        LOGGER.log(Level.WARNING, "Event bridge {0} received a corrupt frame; resynchronizing", name);
+                        inbound.clear();
+                        transport.resync();
+                        transport.disconnect();
+                    } else if (consumed > 0) {
+                        transport.acknowledge(consumed);
+                    }
+                }
+            } catch (IOException e) {
+                if (closed) {
+                    break;
+                }
+                LOGGER.log(Level.FINE, "Event bridge " + name + " lost its connection while receiving", e);
+                transport.disconnect();
+            }
+        }
+    }
+
+    /**
+     * Publishes every complete frame in the buffer and keeps the partial rest.
+     *
+     * @return the number of bytes consumed, or -1 if a frame is corrupt
+     */
+    private int deliver(ByteBuffer inbound) {
+        inbound.flip();
+        while (inbound.remaining() >= FRAME_HEADER) {
+            int position = inbound.position();
+            int length = inbound.getInt(position);
+            if (length < Integer.BYTES || length > maxFrameSize + Integer.BYTES) {
+                return -1;
+            }
+            if (inbound.remaining() < Integer.BYTES + length) {
+                break;
+            }
+            int eventId = inbound.getInt(position + Integer.BYTES);
+            ByteBuffer bytes = inbound.slice(position + FRAME_HEADER, length - Integer.BYTES);
+            inbound.position(position + Integer.BYTES + length);
+            publish(eventId, bytes);
+        }
+        int consumed = inbound.position();
+        inbound.compact();
+        return consumed;
+    }
+
+    private void publish(int eventId, ByteBuffer bytes) {
+        PayloadCodec codec = codecs.get(eventId);
+        if (codec == null) {
+            // Never decode what the bridge was not configured for: the peer chooses the bytes
+            dropped.increment();
+            LOGGER.log(Level.WARNING, "Event bridge {0} dropped event {1} from the peer: the ID is not bridged",
+                    new Object[]{name, eventId});
+            return;
+        }
+        received.increment();
+        try {
+            Object payload = codec.decode(bytes);
+            inboundEventId = eventId;
+            channel.publish(eventId, payload);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Event bridge " + name + " failed to deliver event " + eventId, e);
+        } finally {
+            inboundEventId = -1;
+        }
+    }
+
+    /**
+     * Returns whether the transport is currently connected to the peer.
+     *
+     * @return {@code true} while connected
+     */
+    public boolean isConnected() {
+        return transport.isConnected();
+    }
+
+    /**
+     * Returns the number of events written to the peer.
+     *
+     * @return the sent count
+     */
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    /**
+     * Returns the number of events received from the peer.
+     *
+     * @return the received count
+     */
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Returns the number of events that were not forwarded because they were too
+     * large, the pending buffer was full or the bridge closed first, plus the
+     * events received from the peer under an ID this bridge does not accept.
+     *
+     * @return the dropped count
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns how often the transport was connected again after a failure.
+     *
+     * @return the reconnect count
+     */
+    public long getReconnectCount() {
+        return reconnects.sum();
+    }
+
+    /**
+     * Stops forwarding, gives the sender up to the drain timeout to write pending
+     * events, then closes the transport and stops both threads.
+     */
+    @Override
+    public synchronized void close() {
+        if (closing) {
+            return;
+        }
+        for (Forwarder forwarder : forwarders) {
+            channel.unregister(forwarder.eventId, forwarder);
+        }
+        lock.lock();
+        try {
+            closing = true;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        if (drainTimeoutMillis > 0L) {
+            join(sender, drainTimeoutMillis);
+        }
+        closed = true;
+        transport.close();
+        LockSupport.unpark(sender);
+        LockSupport.unpark(receiver);
+        join(sender, 0L);
+        join(receiver, 0L);
+        lock.lock();
+        try {
+            dropped.add(pendingFrames);
+            pendingFrames = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void join(Thread thread, long millis) {
+        try {
+            thread.join(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<Integer> forwarded = new ArrayList<>();
+        for (Forwarder forwarder : forwarders) {
+            forwarded.add(forwarder.eventId);
+        }
+        return "EventBridge{name=" + name + ", transport=" + transport + ", forwarded=" + forwarded
+                + ", accepted=" + codecs.keySet() + '}';
+    }
+
+    /**
+     * Synchronous listener that forwards one event ID, except for the event the
+     * receiver thread is republishing from the peer.
+     */
+    private final class Forwarder implements ObjectLessEventBus.ObjectLessListener {
+        final int eventId;
+        final PayloadCodec codec;
+
+        Forwarder(int eventId, PayloadCodec codec) {
+            this.eventId = eventId;
+            this.codec = codec;
+        }
+
+        @Override
+        public void onEvent(Object payload) {
+            if (Thread.currentThread() != receiver || inboundEventId != eventId) {
+                enqueue(eventId, codec, payload);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link EventBridge}.
+     */
+    public static final class Builder {
+        private final EventChannel channel;
+        private final BridgeTransport transport;
+        private final Map<Integer, PayloadCodec> forwarded = new LinkedHashMap<>();
+        private final Map<Integer, PayloadCodec> received = new LinkedHashMap<>();
+        private String name = "bridge";
+        private PayloadCodec codec;
+        private int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+        private int maxPendingBytes = DEFAULT_MAX_PENDING_BYTES;
+        private int batchSize = 64 * 1024;
+        private Duration linger = Duration.ZERO;
+        private Duration reconnectDelay = Duration.ofMillis(100);
+        private Duration drainTimeout = Duration.ofSeconds(1);
+
+        private Builder(EventChannel channel, BridgeTransport transport) {
+            if (channel == null) {
+                throw new IllegalArgumentException("Event channel cannot be null");
+            }
+            if (transport == null) {
+                throw new IllegalArgumentException("Bridge transport cannot be null");
+            }
+            this.channel = channel;
+            this.transport = transport;
+        }
+
+        /**
+         * Sets the name used for the bridge threads (default: {@code bridge}).
+         *
+         * @param name the name
+         * @return this builder
+         */
+        public Builder name(String name) {
+            if (name == null || name.isEmpty()) {
+                throw new IllegalArgumentException("Bridge name cannot be empty");
+            }
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Forwards the event IDs to the peer using the default codec.
+         *
+         * @param eventIds the event IDs
+         * @return this builder
+         */
+        public Builder forward(int... eventIds) {
+            for (int eventId : eventIds) {
+                forwarded.putIfAbsent(eventId, null);
+            }
+            return this;
+        }
+
+        /**
+         * Forwards the event ID to the peer using its own codec, which also decodes
+         * events with this ID received from the peer.
+         *
+         * @param eventId the event ID
+         * @param codec the codec
+         * @return this builder
+         */
+        public Builder forward(int eventId, PayloadCodec codec) {
+            if (codec == null) {
+                throw new IllegalArgumentException("Payload codec cannot be null");
+            }
+            forwarded.put(eventId, codec);
+            return this;
+        }
+
+        /**
+         * Accepts the event IDs from the peer without forwarding them, decoded with
+         * the codec they are forwarded with, or else the default codec.
+         *
+         * @param eventIds the event IDs
+         * @return this builder
+         */
+        public Builder receive(int... eventIds) {
+            for (int eventId : eventIds) {
+                received.putIfAbsent(eventId, null);
+            }
+            return this;
+        }
+
+        /**
+         * Accepts the event ID from the peer, decoded with its own codec.
+         *
+         * @param eventId the event ID
+         * @param codec the codec
+         * @return this builder
+         */
+        public Builder receive(int eventId, PayloadCodec codec) {
+            if (codec == null) {
+                throw new IllegalArgumentException("Payload codec cannot be null");
+            }
+            received.put(eventId, codec);
+            return this;
+        }
+
+        /**
+         * Sets the codec for IDs forwarded or received without their own codec.
+         * There is no default, so that decoding peer input with Java serialization
+         * is always an explicit choice.
+         *
+         * @param codec the codec
+         * @return this builder
+         */
+        public Builder codec(PayloadCodec codec) {
+            if (codec == null) {
+                throw new IllegalArgumentException("Payload codec cannot be null");
+            }
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Sets the largest encoded payload; larger events are dropped (default 1 MiB).
+         *
+         * @param bytes the limit in bytes
+         * @return this builder
+         */
+        public Builder maxFrameSize(int bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Max frame size must be positive: " + bytes);
+            }
+            this.maxFrameSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the capacity of the pending buffer; events published while it is full
+         * are dropped (default 4 MiB).
+         *
+         * @param bytes the capacity in bytes
+         * @return this builder
+         */
+        public Builder maxPendingBytes(int bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Max pending bytes must be positive: " + bytes);
+            }
+            this.maxPendingBytes = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the batch size in bytes at which a lingering sender stops waiting
+         * (default 64 KiB).
+         *
+         * @param bytes the batch size in bytes
+         * @return this builder
+         */
+        public Builder batchSize(int bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive: " + bytes);
+            }
+            this.batchSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets how long the sender waits for a batch to fill before writing it. The
+         * default of zero writes as soon as the transport is free, batching only
+         * what arrived during the previous write.
+         *
+         * @param linger the linger time
+         * @return this builder
+         */
+        public Builder linger(Duration linger) {
+            if (linger == null || linger.isNegative()) {
+                throw new IllegalArgumentException("Linger time must not be negative: " + linger);
+            }
+            this.linger = linger;
+            return this;
+        }
+
+        /**
+         * Sets the delay between connection attempts (default 100 ms).
+         *
+         * @param delay the delay
+         * @return this builder
+         */
+        public Builder reconnectDelay(Duration delay) {
+            if (delay == null || delay.isNegative() || delay.isZero()) {
+                throw new IllegalArgumentException("Reconnect delay must be positive: " + delay);
+            }
+            this.reconnectDelay = delay;
+            return this;
+        }
+
+        /**
+         * Sets how long {@link EventBridge#close()} waits for pending events to be
+         * written (default 1 s).
+         *
+         * @param timeout the timeout
+         * @return this builder
+         */
+        public Builder drainTimeout(Duration timeout) {
+            if (timeout == null || timeout.isNegative()) {
+                throw new IllegalArgumentException("Drain timeout must not be negative: " + timeout);
+            }
+            this.drainTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Builds the bridge, starts its threads and registers its forwarding listeners.
+         *
+         * @return the running bridge
+         */
+        public EventBridge start() {
+            if (maxPendingBytes < FRAME_HEADER + maxFrameSize) {
+                throw new IllegalArgumentException("Max pending bytes (" + maxPendingBytes
+                        + ") must hold at least one frame of " + maxFrameSize + " bytes");
+            }
+            if (codec == null) {
+                for (Map.Entry<Integer, PayloadCodec> entry : forwarded.entrySet()) {
+                    if (entry.getValue() == null) {
+                        throw new IllegalArgumentException("No codec for forwarded event " + entry.getKey()
+                                + "; pass one to forward() or set a default codec");
+                    }
+                }
+                for (Map.Entry<Integer, PayloadCodec> entry : received.entrySet()) {
+                    if (entry.getValue() == null && forwarded.get(entry.getKey()) == null) {
+                        throw new IllegalArgumentException("No codec for received event " + entry.getKey()
+                                + "; pass one to receive() or set a default codec");
+                    }
+                }
+            }
+            return new EventBridge(this).start();
+        }
+    }
+}
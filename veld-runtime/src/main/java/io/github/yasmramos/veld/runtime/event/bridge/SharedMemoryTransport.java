@@ -0,0 +1,382 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.bridge;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link BridgeTransport} over two single-producer/single-consumer byte rings in
+ * a shared memory-mapped file.
+ *
+ * <p>The {@linkplain #primary(Path, int) primary} side creates the file and
+ * writes to the first ring; the {@linkplain #secondary(Path) secondary} side
+ * opens the existing file and writes to the second. Each ring keeps its write
+ * and read positions, on separate cache lines, in the file itself, so a
+ * restarted process continues exactly where its predecessor stopped. Positions
+ * are published with release/acquire semantics, so no system call is made per
+ * transfer.</p>
+ *
+ * <p>The read position only advances when the bridge
+ * {@linkplain #acknowledge(int) acknowledges} whole frames, so a reader that
+ * reconnects or restarts resumes at a frame boundary. The writer records where
+ * its last complete write ended and where its process started writing. A reader
+ * reaching a restart that left a torn frame behind drops that frame, and
+ * {@link #resync()} skips to the last frame boundary after a corrupt frame. A
+ * frame larger than the ring cannot be held back and is released as it is
+ * read.</p>
+ *
+ * <p>A reader polls, spinning briefly before parking; a writer facing a full ring
+ * waits up to the write timeout for the peer to catch up and then fails, which
+ * the bridge reports as a disconnect.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class SharedMemoryTransport implements BridgeTransport {
+
+    /** Smallest ring capacity in bytes. */
+    public static final int MIN_CAPACITY = 4096;
+
+    private static final int MAGIC = 0x56454C42; // "VELB"
+    private static final int FILE_HEADER = 64;
+    private static final int RING_HEADER = 128;
+    // Ring header: write position, end of the last complete write and the writer's
+    // restart position on the writer's cache line, the read position on its own
+    private static final int FRAME_BOUNDARY = 8;
+    private static final int RESTART = 16;
+    private static final int READ_POSITION = 64;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SPIN_TRIES = 200;
+    private static final long PARK_NANOS = 20_000L;
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final Path path;
+    private final boolean primary;
+    private final int requestedCapacity;
+    private final long writeTimeoutNanos;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int mask;
+    private int outRing;
+    private int inRing;
+    // Position up to which this reader copied bytes, and up to which the bridge consumed whole frames
+    private long readCursor;
+    private long consumed;
+    private volatile boolean connected;
+    private volatile boolean closed;
+
+    private SharedMemoryTransport(Path path, boolean primary, int capacity, Duration writeTimeout) {
+        this.path = Objects.requireNonNull(path, "path");
+        this.primary = primary;
+        this.requestedCapacity = capacity;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+    }
+
+    /**
+     * Creates the side that owns the file, with a five second write timeout.
+     *
+     * @param path the shared file
+     * @param capacity the size of each ring in bytes, a power of two of at least {@link #MIN_CAPACITY}
+     * @return the transport
+     */
+    public static SharedMemoryTransport primary(Path path, int capacity) {
+        return primary(path, capacity, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Creates the side that owns the file.
+     *
+     * @param path the shared file
+     * @param capacity the size of each ring in bytes, a power of two of at least {@link #MIN_CAPACITY}
+     * @param writeTimeout how long a write waits for space before failing
+     * @return the transport
+     */
+    public static SharedMemoryTransport primary(Path path, int capacity, Duration writeTimeout) {
+        if (capacity < MIN_CAPACITY || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two of at least "
+                    + MIN_CAPACITY + ": " + capacity);
+        }
+        return new SharedMemoryTransport(path, true, capacity, checkTimeout(writeTimeout));
+    }
+
+    /**
+     * Creates the side that attaches to a file created by the primary, with a
+     * five second write timeout.
+     *
+     * @param path the shared file
+     * @return the transport
+     */
+    public static SharedMemoryTransport secondary(Path path) {
+        return secondary(path, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Creates the side that attaches to a file created by the primary.
+     *
+     * @param path the shared file
+     * @param writeTimeout how long a write waits for space before failing
+     * @return the transport
+     */
+    public static SharedMemoryTransport secondary(Path path, Duration writeTimeout) {
+        return new SharedMemoryTransport(path, false, 0, checkTimeout(writeTimeout));
+    }
+
+    private static Duration checkTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Write timeout must be positive: " + timeout);
+        }
+        return timeout;
+    }
+
+    @Override
+    public synchronized void connect() throws IOException {
+        if (closed) {
+            throw new IOException("Transport is closed: " + path);
+        }
+        if (buffer == null) {
+            buffer = primary ? create() : attach();
+            capacity = (int) INTS.getAcquire(buffer, CAPACITY_OFFSET);
+            mask = capacity - 1;
+            outRing = ringOffset(primary ? 0 : 1);
+            inRing = ringOffset(primary ? 1 : 0);
+            // A new writer starts frame-aligned, even if its predecessor died mid-frame
+            long write = (long) LONGS.getAcquire(buffer, outRing);
+            LONGS.setRelease(buffer, outRing + RESTART, write);
+            LONGS.setRelease(buffer, outRing + FRAME_BOUNDARY, write);
+        }
+        readCursor = (long) LONGS.getAcquire(buffer, inRing + READ_POSITION);
+        consumed = readCursor;
+        connected = true;
+    }
+
+    private MappedByteBuffer create() throws IOException {
+        long size = FILE_HEADER + 2L * (RING_HEADER + requestedCapacity);
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long existing = file.size();
+            if (existing != 0 && existing != size) {
+                throw new IOException("Shared memory file " + path + " has size " + existing
+                        + ", expected " + size);
+            }
+            MappedByteBuffer mapped = file.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if ((int) INTS.getAcquire(mapped, 0) != MAGIC) {
+                // New file: positions start at zero; the magic is published last
+                INTS.setRelease(mapped, CAPACITY_OFFSET, requestedCapacity);
+                INTS.setRelease(mapped, 0, MAGIC);
+            }
+            return mapped;
+        }
+    }
+
+    private MappedByteBuffer attach() throws IOException {
+        if (!Files.exists(path)) {
+            throw new IOException("Shared memory file does not exist yet: " + path);
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            if (size < FILE_HEADER) {
+                throw new IOException("Shared memory file is not initialized yet: " + path);
+            }
+            MappedByteBuffer mapped = file.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if ((int) INTS.getAcquire(mapped, 0) != MAGIC) {
+                throw new IOException("Shared memory file is not initialized yet: " + path);
+            }
+            int ringCapacity = (int) INTS.getAcquire(mapped, CAPACITY_OFFSET);
+            if (size != FILE_HEADER + 2L * (RING_HEADER + ringCapacity)) {
+                throw new IOException("Shared memory file " + path + " is corrupt");
+            }
+            return mapped;
+        }
+    }
+
+    private int ringOffset(int ring) {
+        return FILE_HEADER + ring * (RING_HEADER + capacity);
+    }
+
+    @Override
+    public boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public void write(ByteBuffer bytes) throws IOException {
+        checkConnected();
+        int ring = outRing;
+        int data = ring + RING_HEADER;
+        long deadline = 0L;
+        int idle = 0;
+        while (bytes.hasRemaining()) {
+            long write = (long) LONGS.getOpaque(buffer, ring);
+            long read = (long) LONGS.getAcquire(buffer, ring + READ_POSITION);
+            int free = capacity - (int) (write - read);
+            if (free == 0) {
+                if (deadline == 0L) {
+                    deadline = System.nanoTime() + writeTimeoutNanos;
+                } else if (System.nanoTime() - deadline > 0L) {
+                    throw new IOException("Shared memory peer is not consuming: " + path);
+                }
+                idle = backOff(idle);
+                checkConnected();
+                continue;
+            }
+            deadline = 0L;
+            idle = 0;
+            int count = Math.min(free, bytes.remaining());
+            int index = (int) write & mask;
+            int first = Math.min(count, capacity - index);
+            buffer.put(data + index, bytes, bytes.position(), first);
+            if (first < count) {
+                buffer.put(data, bytes, bytes.position() + first, count - first);
+            }
+            bytes.position(bytes.position() + count);
+            LONGS.setRelease(buffer, ring, write + count);
+        }
+        // The bridge writes whole frames, so a completed write ends on a frame boundary
+        LONGS.setRelease(buffer, ring + FRAME_BOUNDARY, (long) LONGS.getOpaque(buffer, ring));
+    }
+
+    @Override
+    public int read(ByteBuffer into) throws IOException {
+        checkConnected();
+        int ring = inRing;
+        int data = ring + RING_HEADER;
+        long start = System.nanoTime();
+        int idle = 0;
+        while (true) {
+            long read = readCursor;
+            long write = (long) LONGS.getAcquire(buffer, ring);
+            long restart = (long) LONGS.getAcquire(buffer, ring + RESTART);
+            long acknowledged = (long) LONGS.getOpaque(buffer, ring + READ_POSITION);
+            if (read == restart && acknowledged < restart) {
+                // The previous writer died mid-frame: drop the torn frame and start over at the restart
+                LONGS.setRelease(buffer, ring + READ_POSITION, restart);
+                return -1;
+            }
+            if (read < restart) {
+                // Bytes of the previous writer are read on their own, so its torn frame can be dropped
+                write = Math.min(write, restart);
+            }
+            int available = (int) (write - read);
+            if (available > 0) {
+                int count = Math.min(available, into.remaining());
+                int index = (int) read & mask;
+                int first = Math.min(count, capacity - index);
+                into.put(into.position(), buffer, data + index, first);
+                if (first < count) {
+                    into.put(into.position() + first, buffer, data, count - first);
+                }
+                into.position(into.position() + count);
+                readCursor = read + count;
+                return count;
+            }
+            if (write - acknowledged >= capacity) {
+                // A frame larger than the ring: release what was read so the writer can finish it
+                LONGS.setRelease(buffer, ring + READ_POSITION, read);
+            }
+            if (closed) {
+                return -1;
+            }
+            if (System.nanoTime() - start > POLL_NANOS) {
+                return 0;
+            }
+            idle = backOff(idle);
+        }
+    }
+
+    @Override
+    public void acknowledge(int bytes) {
+        int ring = inRing;
+        consumed += bytes;
+        // Never moves back behind an oversized frame that was already released
+        if (consumed > (long) LONGS.getOpaque(buffer, ring + READ_POSITION)) {
+            LONGS.setRelease(buffer, ring + READ_POSITION, consumed);
+        }
+    }
+
+    @Override
+    public void resync() {
+        if (buffer == null) {
+            return;
+        }
+        int ring = inRing;
+        long acknowledged = (long) LONGS.getOpaque(buffer, ring + READ_POSITION);
+        long boundary = (long) LONGS.getAcquire(buffer, ring + FRAME_BOUNDARY);
+        // Past the last complete write if it is still ahead, otherwise past everything written
+        long target = boundary > acknowledged ? boundary : (long) LONGS.getAcquire(buffer, ring);
+        LONGS.setRelease(buffer, ring + READ_POSITION, target);
+        readCursor = target;
+        consumed = target;
+    }
+
+    @Override
+    public boolean resumesAfterReconnect() {
+        return true;
+    }
+
+    private static int backOff(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+            return idle + 1;
+        }
+        if (idle == SPIN_TRIES) {
+            Thread.yield();
+            return idle + 1;
+        }
+        LockSupport.parkNanos(PARK_NANOS);
+        return idle;
+    }
+
+    private void checkConnected() throws IOException {
+        if (!connected) {
+            throw new IOException(closed ? "Transport is closed: " + path : "Not connected: " + path);
+        }
+    }
+
+    @Override
+    public void disconnect() {
+        // The mapping and the ring positions survive; the next connect resumes them
+        connected = false;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        connected = false;
+    }
+
+    @Override
+    public String toString() {
+        return "SharedMemoryTransport{" + (primary ? "primary" : "secondary") + ", path=" + path + '}';
+    }
+}
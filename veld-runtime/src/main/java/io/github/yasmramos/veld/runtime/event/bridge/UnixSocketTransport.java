@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.bridge;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * {@link BridgeTransport} over a Unix domain socket.
+ *
+ * <p>One side is the {@linkplain #server(Path) server}: it binds the socket file,
+ * replacing a stale one left by a crashed process, and accepts one peer at a
+ * time. The {@linkplain #client(Path) client} connects to that file and is
+ * reconnected by the bridge whenever the server restarts.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class UnixSocketTransport implements BridgeTransport {
+
+    private final Path path;
+    private final boolean server;
+    private ServerSocketChannel serverChannel;
+    private volatile SocketChannel socket;
+    private volatile boolean closed;
+
+    private UnixSocketTransport(Path path, boolean server) {
+        this.path = Objects.requireNonNull(path, "path");
+        this.server = server;
+    }
+
+    /**
+     * Creates the accepting side, bound to the socket file on first connect.
+     *
+     * @param path the socket file
+     * @return the transport
+     */
+    public static UnixSocketTransport server(Path path) {
+        return new UnixSocketTransport(path, true);
+    }
+
+    /**
+     * Creates the connecting side.
+     *
+     * @param path the socket file bound by the server
+     * @return the transport
+     */
+    public static UnixSocketTransport client(Path path) {
+        return new UnixSocketTransport(path, false);
+    }
+
+    @Override
+    public void connect() throws IOException {
+        if (closed) {
+            throw new IOException("Transport is closed: " + path);
+        }
+        SocketChannel connected = server ? accept() : open();
+        socket = connected;
+        if (closed) {
+            // close() ran while we were connecting and could not see this socket
+            disconnect();
+            throw new IOException("Transport is closed: " + path);
+        }
+    }
+
+    private SocketChannel accept() throws IOException {
+        ServerSocketChannel listening;
+        synchronized (this) {
+            if (serverChannel == null) {
+                Files.deleteIfExists(path);
+                ServerSocketChannel created = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+                try {
+                    created.bind(UnixDomainSocketAddress.of(path));
+                } catch (IOException e) {
+                    created.close();
+                    throw e;
+                }
+                serverChannel = created;
+            }
+            listening = serverChannel;
+        }
+        return listening.accept();
+    }
+
+    private SocketChannel open() throws IOException {
+        SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+        try {
+            channel.connect(UnixDomainSocketAddress.of(path));
+            return channel;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        return socket != null;
+    }
+
+    @Override
+    public void write(ByteBuffer bytes) throws IOException {
+        SocketChannel channel = connected();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    @Override
+    public int read(ByteBuffer into) throws IOException {
+        return connected().read(into);
+    }
+
+    private SocketChannel connected() throws IOException {
+        SocketChannel channel = socket;
+        if (channel == null) {
+            throw new IOException("Not connected: " + path);
+        }
+        return channel;
+    }
+
+    @Override
+    public void disconnect() {
+        SocketChannel channel = socket;
+        socket = null;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already broken
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        disconnect();
+        synchronized (this) {
+            if (serverChannel != null) {
+                try {
+                    serverChannel.close();
+                    Files.deleteIfExists(path);
+                } catch (IOException ignored) {
+                    // Best effort; a new server replaces a stale socket file
+                }
+                serverChannel = null;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "UnixSocketTransport{" + (server ? "server" : "client") + ", path=" + path + '}';
+    }
+}
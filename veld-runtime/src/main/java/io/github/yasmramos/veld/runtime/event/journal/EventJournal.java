@@ -0,0 +1,388 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Durable, append-only log of published events backed by memory-mapped segment files.
+ *
+ * <p>Each record gets a monotonically increasing offset. Records are appended to
+ * the active segment; when it is full a new segment is rolled, named after its
+ * first offset, and old segments are deleted according to the retention
+ * settings. On open, the last segment is scanned and truncated after the last
+ * record with a valid checksum, so a crash loses at most the records that were
+ * not yet forced to disk under the configured {@link JournalOptions.FsyncPolicy}.</p>
+ *
+ * <p>{@link #replay(long, JournalRecordHandler)} streams records from an offset,
+ * typically at startup to rebuild listener state. Appends are serialized by a
+ * lock; replay runs concurrently with appends and sees the records that existed
+ * when it started.</p>
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * try (EventJournal journal = EventJournal.open(JournalOptions.builder(dir)
+ *         .codec(PayloadCodec.strings())
+ *         .build())) {
+ *     journal.append(ORDER_PLACED, "order-42");
+ *     journal.replay(0, (offset, eventId, timestamp, payload) -> rebuild(eventId, payload));
+ * }
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class EventJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(EventJournal.class.getName());
+
+    private final JournalOptions options;
+    private final Path directory;
+    private final PayloadCodec codec;
+    private final JournalOptions.FsyncPolicy fsyncPolicy;
+    private final Clock clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<SegmentRef> closedSegments = new ArrayDeque<>();
+    private JournalSegment active;
+    private long nextOffset;
+    private boolean closed;
+    private final ScheduledThreadPoolExecutor groupCommitter;
+
+    /**
+     * A rolled segment, which is no longer mapped for writing.
+     */
+    private static final class SegmentRef {
+        final Path path;
+        final long baseOffset;
+        // Newest record timestamp, which ages the segment for retention; file times are too coarse
+        // and do not reliably advance for writes through a mapping
+        final long lastTimestamp;
+
+        SegmentRef(Path path, long baseOffset, long lastTimestamp) {
+            this.path = path;
+            this.baseOffset = baseOffset;
+            this.lastTimestamp = lastTimestamp;
+        }
+    }
+
+    private EventJournal(JournalOptions options) throws IOException {
+        this.options = options;
+        this.directory = options.getDirectory();
+        this.codec = options.getCodec();
+        this.fsyncPolicy = options.getFsyncPolicy();
+        this.clock = options.getClock();
+
+        Files.createDirectories(directory);
+        List<Path> existing = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> JournalSegment.parseBaseOffset(file) >= 0).forEach(existing::add);
+        }
+        existing.sort(Comparator.comparingLong(JournalSegment::parseBaseOffset));
+
+        if (existing.isEmpty()) {
+            this.active = JournalSegment.openForAppend(
+                    directory.resolve(JournalSegment.fileName(0L)), 0L, options.getSegmentSize());
+        } else {
+            Path last = existing.remove(existing.size() - 1);
+            for (Path file : existing) {
+                // Only age-based retention needs the timestamps, which takes a pass over the headers
+                long lastTimestamp = options.getRetention() != null ? JournalSegment.lastTimestamp(file) : 0L;
+                closedSegments.add(new SegmentRef(file, JournalSegment.parseBaseOffset(file), lastTimestamp));
+            }
+            this.active = JournalSegment.openForAppend(last, JournalSegment.parseBaseOffset(last),
+                    options.getSegmentSize());
+        }
+        this.nextOffset = active.baseOffset + active.records();
+        applyRetention();
+
+        if (fsyncPolicy == JournalOptions.FsyncPolicy.GROUP_COMMIT) {
+            this.groupCommitter = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread t = new Thread(r, "EventJournal-" + directory.getFileName() + "-GroupCommit");
+                t.setDaemon(true);
+                return t;
+            });
+            long interval = options.getGroupCommitInterval().toNanos();
+            groupCommitter.scheduleWithFixedDelay(this::groupCommit, interval, interval, TimeUnit.NANOSECONDS);
+        } else {
+            this.groupCommitter = null;
+        }
+    }
+
+    /**
+     * Opens the journal in the configured directory, recovering existing segments.
+     *
+     * @param options the journal options
+     * @return the open journal
+     * @throws JournalException if the directory or a segment cannot be opened
+     */
+    public static EventJournal open(JournalOptions options) {
+        try {
+            return new EventJournal(options);
+        } catch (IOException e) {
+            throw new JournalException("Cannot open event journal in " + options.getDirectory(), e);
+        }
+    }
+
+    /**
+     * Appends an event.
+     *
+     * <p>Under {@link JournalOptions.FsyncPolicy#EVERY_WRITE} the record is on the
+     * storage device when this method returns; otherwise it is in the page cache and
+     * survives a process crash, but not necessarily a power loss.</p>
+     *
+     * @param eventId the event ID
+     * @param payload the payload, encoded with the configured codec
+     * @return the offset of the new record
+     * @throws JournalException if the journal is closed, the record is larger than
+     *         a segment, or a new segment cannot be created
+     */
+    public long append(int eventId, Object payload) {
+        byte[] bytes = codec.encode(payload);
+        if (bytes.length > options.getSegmentSize() - JournalSegment.HEADER_SIZE) {
+            throw new JournalException("Record of " + bytes.length + " bytes does not fit into a segment of " +
+                    options.getSegmentSize() + " bytes");
+        }
+        long timestamp = clock.millis();
+        lock.lock();
+        try {
+            if (closed) {
+                throw new JournalException("Event journal is closed: " + directory);
+            }
+            if (!active.fits(bytes.length)) {
+                roll();
+            }
+            active.append(eventId, timestamp, bytes);
+            if (fsyncPolicy == JournalOptions.FsyncPolicy.EVERY_WRITE) {
+                active.forceTo(active.position());
+            }
+            return nextOffset++;
+        } catch (IOException e) {
+            throw new JournalException("Cannot roll event journal segment in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll() throws IOException {
+        JournalSegment full = active;
+        if (fsyncPolicy != JournalOptions.FsyncPolicy.NONE) {
+            full.forceTo(full.position());
+        }
+        full.close();
+        active = JournalSegment.openForAppend(
+                directory.resolve(JournalSegment.fileName(nextOffset)), nextOffset, options.getSegmentSize());
+        closedSegments.addLast(new SegmentRef(full.path, full.baseOffset, full.lastTimestamp()));
+        applyRetention();
+    }
+
+    private void applyRetention() {
+        int retainSegments = options.getRetainSegments();
+        long cutoff = options.getRetention() != null
+                ? clock.millis() - options.getRetention().toMillis()
+                : Long.MIN_VALUE;
+        while (!closedSegments.isEmpty()) {
+            SegmentRef oldest = closedSegments.peekFirst();
+            boolean overCount = retainSegments > 0 && closedSegments.size() + 1 > retainSegments;
+            try {
+                if (!overCount && oldest.lastTimestamp > cutoff) {
+                    return;
+                }
+                Files.deleteIfExists(oldest.path);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Cannot delete event journal segment " + oldest.path, e);
+                return;
+            }
+            closedSegments.pollFirst();
+        }
+    }
+
+    private void groupCommit() {
+        JournalSegment segment;
+        int position;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            segment = active;
+            position = segment.position();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            segment.forceTo(position);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Group commit failed for event journal " + directory, e);
+        }
+    }
+
+    /**
+     * Replays records starting at the given offset.
+     *
+     * <p>Records older than {@link #getFirstOffset()} were deleted by retention;
+     * replay then starts at the first retained record. Records appended after
+     * replay started are not included.</p>
+     *
+     * @param fromOffset the first offset to replay
+     * @param handler receives each record in offset order
+     * @return the offset after the last replayed record, to resume from later
+     * @throws JournalException if a segment cannot be read or a payload cannot be decoded
+     */
+    public long replay(long fromOffset, JournalRecordHandler handler) {
+        List<SegmentRef> segments;
+        long endOffset;
+        lock.lock();
+        try {
+            segments = new ArrayList<>(closedSegments.size() + 1);
+            segments.addAll(closedSegments);
+            segments.add(new SegmentRef(active.path, active.baseOffset, active.lastTimestamp()));
+            endOffset = nextOffset;
+        } finally {
+            lock.unlock();
+        }
+
+        long offset = Math.max(fromOffset, segments.get(0).baseOffset);
+        for (int i = 0; i < segments.size() && offset < endOffset; i++) {
+            SegmentRef segment = segments.get(i);
+            long segmentEnd = i + 1 < segments.size() ? segments.get(i + 1).baseOffset : endOffset;
+            if (segmentEnd <= offset) {
+                continue;
+            }
+            try {
+                offset = JournalSegment.read(segment.path, segment.baseOffset, offset, segmentEnd, codec, handler);
+            } catch (IOException e) {
+                throw new JournalException("Cannot read event journal segment " + segment.path, e);
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Forces all appended records to the storage device.
+     */
+    public void flush() {
+        JournalSegment segment;
+        int position;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            segment = active;
+            position = segment.position();
+        } finally {
+            lock.unlock();
+        }
+        segment.forceTo(position);
+    }
+
+    /**
+     * Returns the offset of the oldest retained record.
+     *
+     * @return the first offset
+     */
+    public long getFirstOffset() {
+        lock.lock();
+        try {
+            return closedSegments.isEmpty() ? active.baseOffset : closedSegments.peekFirst().baseOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the offset the next appended record will get.
+     *
+     * @return the next offset
+     */
+    public long getNextOffset() {
+        lock.lock();
+        try {
+            return nextOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of segment files, including the active one.
+     *
+     * @return the segment count
+     */
+    public int getSegmentCount() {
+        lock.lock();
+        try {
+            return closedSegments.size() + 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the options this journal was opened with.
+     *
+     * @return the journal options
+     */
+    public JournalOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Forces outstanding records unless the policy is {@link JournalOptions.FsyncPolicy#NONE},
+     * stops the group commit thread and closes the active segment. Later appends fail.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (groupCommitter != null) {
+                groupCommitter.shutdownNow();
+            }
+            if (fsyncPolicy != JournalOptions.FsyncPolicy.NONE) {
+                active.forceTo(active.position());
+            }
+            active.close();
+        } catch (IOException e) {
+            throw new JournalException("Cannot close event journal in " + directory, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventJournal[" + directory + ", nextOffset=" + getNextOffset() +
+                ", segments=" + getSegmentCount() + "]";
+    }
+}
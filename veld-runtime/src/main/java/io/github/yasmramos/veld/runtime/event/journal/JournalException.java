@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+/**
+ * Exception thrown when an event journal cannot be opened, written or read.
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public class JournalException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new exception with the specified message.
+     *
+     * @param message the error message
+     */
+    public JournalException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new exception with the specified message and cause.
+     *
+     * @param message the error message
+     * @param cause the underlying cause
+     */
+    public JournalException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
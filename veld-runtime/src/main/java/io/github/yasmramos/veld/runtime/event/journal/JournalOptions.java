@@ -0,0 +1,310 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Immutable configuration for an {@link EventJournal}.
+ *
+ * <p><b>Example:</b></p>
+ * <pre>{@code
+ * JournalOptions journal = JournalOptions.builder(Path.of("data/orders"))
+ *         .codec(PayloadCodec.serializable())
+ *         .fsync(JournalOptions.FsyncPolicy.GROUP_COMMIT, Duration.ofMillis(5))
+ *         .segmentSize(16 * 1024 * 1024)
+ *         .retainSegments(8)
+ *         .build();
+ *
+ * EventChannel orders = bus.getChannel("orders", EventChannelOptions.builder()
+ *         .journal(journal)
+ *         .build());
+ * }</pre>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public final class JournalOptions {
+
+    /**
+     * When appended records are forced to the storage device.
+     */
+    public enum FsyncPolicy {
+        /** Never force explicitly; the OS writes dirty pages back on its own schedule. */
+        NONE,
+        /** A background thread forces all records appended since the last force once per interval. */
+        GROUP_COMMIT,
+        /** Every append forces its record before returning; durable but slow. */
+        EVERY_WRITE
+    }
+
+    /** Default segment size: 64 MiB. */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /** Smallest allowed segment size: 4 KiB. */
+    public static final int MIN_SEGMENT_SIZE = 4 * 1024;
+
+    /** Largest allowed segment size: 1 GiB. */
+    public static final int MAX_SEGMENT_SIZE = 1024 * 1024 * 1024;
+
+    /** Default interval between group commits. */
+    public static final Duration DEFAULT_GROUP_COMMIT_INTERVAL = Duration.ofMillis(10);
+
+    private final Path directory;
+    private final PayloadCodec codec;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final Duration groupCommitInterval;
+    private final int retainSegments;
+    private final Duration retention;
+    private final Clock clock;
+
+    private JournalOptions(Builder builder) {
+        this.directory = builder.directory;
+        this.codec = builder.codec;
+        this.segmentSize = builder.segmentSize;
+        this.fsyncPolicy = builder.fsyncPolicy;
+        this.groupCommitInterval = builder.groupCommitInterval;
+        this.retainSegments = builder.retainSegments;
+        this.retention = builder.retention;
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Creates a new builder for a journal stored in the given directory.
+     *
+     * @param directory the directory holding the segment files; created if missing
+     * @return a new builder
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Returns the directory holding the segment files.
+     *
+     * @return the journal directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the payload codec.
+     *
+     * @return the codec
+     */
+    public PayloadCodec getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns the size of each segment file in bytes.
+     *
+     * @return the segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the fsync policy.
+     *
+     * @return the fsync policy
+     */
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    /**
+     * Returns the interval between group commits.
+     *
+     * @return the group commit interval
+     */
+    public Duration getGroupCommitInterval() {
+        return groupCommitInterval;
+    }
+
+    /**
+     * Returns the maximum number of segments kept, including the active one.
+     *
+     * @return the segment limit, or 0 for no limit
+     */
+    public int getRetainSegments() {
+        return retainSegments;
+    }
+
+    /**
+     * Returns how long closed segments are kept after their newest record.
+     *
+     * @return the retention period, or {@code null} for no limit
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * Returns the clock that timestamps records and ages segments.
+     *
+     * @return the clock
+     */
+    public Clock getClock() {
+        return clock;
+    }
+
+    @Override
+    public String toString() {
+        return "JournalOptions[directory=" + directory +
+                ", segmentSize=" + segmentSize +
+                ", fsyncPolicy=" + fsyncPolicy +
+                (fsyncPolicy == FsyncPolicy.GROUP_COMMIT ? ", groupCommitInterval=" + groupCommitInterval : "") +
+                ", retainSegments=" + retainSegments +
+                ", retention=" + retention + "]";
+    }
+
+    /**
+     * Builder for {@link JournalOptions}.
+     */
+    public static final class Builder {
+        private final Path directory;
+        private PayloadCodec codec = PayloadCodec.serializable();
+        private int segmentSize = DEFAULT_SEGMENT_SIZE;
+        private FsyncPolicy fsyncPolicy = FsyncPolicy.GROUP_COMMIT;
+        private Duration groupCommitInterval = DEFAULT_GROUP_COMMIT_INTERVAL;
+        private int retainSegments;
+        private Duration retention;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder(Path directory) {
+            if (directory == null) {
+                throw new IllegalArgumentException("Journal directory cannot be null");
+            }
+            this.directory = directory;
+        }
+
+        /**
+         * Sets the payload codec (default: Java serialization).
+         *
+         * @param codec the codec
+         * @return this builder
+         */
+        public Builder codec(PayloadCodec codec) {
+            if (codec == null) {
+                throw new IllegalArgumentException("Payload codec cannot be null");
+            }
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * Sets the size of each memory-mapped segment file.
+         *
+         * @param bytes the segment size, between {@link #MIN_SEGMENT_SIZE} and {@link #MAX_SEGMENT_SIZE}
+         * @return this builder
+         */
+        public Builder segmentSize(int bytes) {
+            if (bytes < MIN_SEGMENT_SIZE || bytes > MAX_SEGMENT_SIZE) {
+                throw new IllegalArgumentException("Segment size must be between " + MIN_SEGMENT_SIZE +
+                        " and " + MAX_SEGMENT_SIZE + ": " + bytes);
+            }
+            this.segmentSize = bytes;
+            return this;
+        }
+
+        /**
+         * Sets the fsync policy (default: group commit every 10 ms).
+         *
+         * @param policy the fsync policy
+         * @return this builder
+         */
+        public Builder fsync(FsyncPolicy policy) {
+            return fsync(policy, groupCommitInterval);
+        }
+
+        /**
+         * Sets the fsync policy and the group commit interval.
+         *
+         * @param policy the fsync policy
+         * @param interval the interval between group commits
+         * @return this builder
+         */
+        public Builder fsync(FsyncPolicy policy, Duration interval) {
+            if (policy == null) {
+                throw new IllegalArgumentException("Fsync policy cannot be null");
+            }
+            if (interval == null || interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("Group commit interval must be positive: " + interval);
+            }
+            this.fsyncPolicy = policy;
+            this.groupCommitInterval = interval;
+            return this;
+        }
+
+        /**
+         * Limits the number of segments kept; the oldest are deleted when a new segment is rolled.
+         *
+         * @param segments the maximum number of segments, or 0 for no limit
+         * @return this builder
+         */
+        public Builder retainSegments(int segments) {
+            if (segments < 0) {
+                throw new IllegalArgumentException("Retained segment count must not be negative: " + segments);
+            }
+            this.retainSegments = segments;
+            return this;
+        }
+
+        /**
+         * Deletes closed segments whose newest record is older than the given period.
+         *
+         * @param period the retention period
+         * @return this builder
+         */
+        public Builder retention(Duration period) {
+            if (period == null || period.isNegative()) {
+                throw new IllegalArgumentException("Retention period must not be negative: " + period);
+            }
+            this.retention = period;
+            return this;
+        }
+
+        /**
+         * Sets the clock that timestamps records and ages segments for
+         * {@link #retention(Duration)} (default: the system clock).
+         *
+         * @param clock the clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            if (clock == null) {
+                throw new IllegalArgumentException("Clock cannot be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Builds the immutable options.
+         *
+         * @return the options
+         */
+        public JournalOptions build() {
+            return new JournalOptions(this);
+        }
+    }
+}
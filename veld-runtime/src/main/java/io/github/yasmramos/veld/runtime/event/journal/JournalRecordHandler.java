@@ -0,0 +1,37 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+/**
+ * Receives the records of an {@link EventJournal} during replay.
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ * @see EventJournal#replay(long, JournalRecordHandler)
+ */
+@FunctionalInterface
+public interface JournalRecordHandler {
+
+    /**
+     * Handles one journaled event.
+     *
+     * @param offset the record offset
+     * @param eventId the event ID the payload was published under
+     * @param timestamp the publish time in epoch milliseconds
+     * @param payload the decoded payload
+     */
+    void onRecord(long offset, int eventId, long timestamp, Object payload);
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped segment file of an {@link EventJournal}.
+ *
+ * <p><b>Record format</b> (little-endian, 20-byte header):</p>
+ * <pre>
+ * int  length     header + payload bytes; 0 marks the end of the segment
+ * int  crc        CRC32C of eventId, timestamp and payload
+ * int  eventId
+ * long timestamp  epoch milliseconds
+ * byte[] payload  codec output
+ * </pre>
+ *
+ * <p>The length is written last, so a record is only visible to recovery once it
+ * is complete; a torn record fails its checksum and is discarded together with
+ * everything after it. Record offsets are implicit: the file name holds the
+ * offset of the first record.</p>
+ *
+ * <p>Not thread-safe; the journal serializes appends. {@link #forceTo(int)} may be
+ * called concurrently by the group commit thread.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+final class JournalSegment {
+
+    static final int HEADER_SIZE = 20;
+    static final String SUFFIX = ".log";
+
+    private static final int CRC = 4;
+    private static final int EVENT_ID = 8;
+    private static final int TIMESTAMP = 12;
+
+    final Path path;
+    final long baseOffset;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final CRC32C crc = new CRC32C();
+    private final byte[] header = new byte[12];
+    private final ByteBuffer headerView = ByteBuffer.wrap(header).order(ByteOrder.LITTLE_ENDIAN);
+    private int position;
+    private int records;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private int forcedPosition;
+
+    private JournalSegment(Path path, long baseOffset, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.baseOffset = baseOffset;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    /**
+     * Returns the file name of the segment starting at the given offset.
+     */
+    static String fileName(long baseOffset) {
+        return String.format("%020d%s", baseOffset, SUFFIX);
+    }
+
+    /**
+     * Parses the base offset from a segment file name.
+     *
+     * @return the base offset, or -1 if the name is not a segment file name
+     */
+    static long parseBaseOffset(Path file) {
+        String name = file.getFileName().toString();
+        if (!name.endsWith(SUFFIX) || name.length() != 20 + SUFFIX.length()) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(name.substring(0, 20));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Maps a segment for writing, creating it if needed, and recovers its records.
+     *
+     * @param path the segment file
+     * @param baseOffset the offset of the first record
+     * @param size the segment size; existing larger files keep their size
+     */
+    static JournalSegment openForAppend(Path path, long baseOffset, int size) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            int capacity = (int) Math.max(channel.size(), size);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            JournalSegment segment = new JournalSegment(path, baseOffset, channel, buffer);
+            segment.recover();
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Finds the end of the valid records and clears anything after it, so stale
+     * bytes cannot be mistaken for records once new ones are appended.
+     */
+    private void recover() {
+        int pos = 0;
+        int count = 0;
+        while (pos + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(pos);
+            if (length < HEADER_SIZE || length > capacity - pos || checksum(pos, length) != buffer.getInt(pos + CRC)) {
+                break;
+            }
+            lastTimestamp = Math.max(lastTimestamp, buffer.getLong(pos + TIMESTAMP));
+            pos += length;
+            count++;
+        }
+        int p = pos;
+        for (; p + Long.BYTES <= capacity; p += Long.BYTES) {
+            if (buffer.getLong(p) != 0L) {
+                buffer.putLong(p, 0L);
+            }
+        }
+        for (; p < capacity; p++) {
+            if (buffer.get(p) != 0) {
+                buffer.put(p, (byte) 0);
+            }
+        }
+        this.position = pos;
+        this.records = count;
+        this.forcedPosition = pos;
+    }
+
+    private int checksum(int recordStart, int length) {
+        crc.reset();
+        crc.update(buffer.duplicate().position(recordStart + EVENT_ID).limit(recordStart + length));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns whether a record with the given payload size fits into the remaining space.
+     */
+    boolean fits(int payloadLength) {
+        return payloadLength <= capacity - position - HEADER_SIZE;
+    }
+
+    /**
+     * Appends a record; the caller must have checked {@link #fits(int)}.
+     */
+    void append(int eventId, long timestamp, byte[] payload) {
+        int start = position;
+        int length = HEADER_SIZE + payload.length;
+        headerView.putInt(0, eventId).putLong(4, timestamp);
+        crc.reset();
+        crc.update(header, 0, header.length);
+        crc.update(payload, 0, payload.length);
+
+        buffer.put(start + EVENT_ID, header, 0, header.length);
+        buffer.put(start + HEADER_SIZE, payload);
+        buffer.putInt(start + CRC, (int) crc.getValue());
+        buffer.putInt(start, length);
+        position = start + length;
+        records++;
+        lastTimestamp = Math.max(lastTimestamp, timestamp);
+    }
+
+    /**
+     * Forces all bytes up to {@code to} to the storage device.
+     */
+    synchronized void forceTo(int to) {
+        if (to > forcedPosition) {
+            buffer.force(forcedPosition, to - forcedPosition);
+            forcedPosition = to;
+        }
+    }
+
+    int position() {
+        return position;
+    }
+
+    int records() {
+        return records;
+    }
+
+    /**
+     * Returns the newest record timestamp, or {@link Long#MIN_VALUE} if the segment is empty.
+     */
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Returns the newest record timestamp of a closed segment file, read from
+     * the record headers.
+     *
+     * @return the timestamp, or {@link Long#MIN_VALUE} if the segment has no records
+     */
+    static long lastTimestamp(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int capacity = buffer.capacity();
+        long newest = Long.MIN_VALUE;
+        int pos = 0;
+        while (pos + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(pos);
+            if (length < HEADER_SIZE || length > capacity - pos) {
+                break;
+            }
+            newest = Math.max(newest, buffer.getLong(pos + TIMESTAMP));
+            pos += length;
+        }
+        return newest;
+    }
+
+    /**
+     * Reads records of a segment file in {@code [fromOffset, endOffset)}.
+     *
+     * @return the offset after the last record read
+     */
+    static long read(Path path, long baseOffset, long fromOffset, long endOffset,
+                     PayloadCodec codec, JournalRecordHandler handler) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int capacity = buffer.capacity();
+        long offset = baseOffset;
+        int pos = 0;
+        while (offset < endOffset && pos + HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(pos);
+            if (length < HEADER_SIZE || length > capacity - pos) {
+                break;
+            }
+            if (offset >= fromOffset) {
+                ByteBuffer payload = buffer.duplicate().position(pos + HEADER_SIZE).limit(pos + length).slice();
+                handler.onRecord(offset, buffer.getInt(pos + EVENT_ID), buffer.getLong(pos + TIMESTAMP),
+                        codec.decode(payload));
+            }
+            pos += length;
+            offset++;
+        }
+        return offset;
+    }
+}
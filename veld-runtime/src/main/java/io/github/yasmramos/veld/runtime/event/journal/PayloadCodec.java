@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+import java.io.ObjectInputFilter;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * Converts event payloads to and from the bytes stored in an {@link EventJournal}.
+ *
+ * <p>Codecs must be thread-safe; {@link #encode(Object)} is called by every
+ * publishing thread and {@link #decode(ByteBuffer)} by the replaying thread.</p>
+ *
+ * @author Veld Framework Team
+ * @since 1.1.0
+ */
+public interface PayloadCodec {
+
+    /**
+     * Encodes a payload.
+     *
+     * @param payload the payload, may be {@code null} if the codec supports it
+     * @return the encoded bytes
+     * @throws JournalException if the payload cannot be encoded
+     */
+    byte[] encode(Object payload);
+
+    /**
+     * Decodes a payload.
+     *
+     * @param bytes the encoded payload between position and limit; only valid during the call
+     * @return the payload
+     * @throws JournalException if the bytes cannot be decoded
+     */
+    Object decode(ByteBuffer bytes);
+
+    /**
+     * Returns a codec for {@code String} payloads encoded as UTF-8.
+     *
+     * @return the string codec
+     */
+    static PayloadCodec strings() {
+        return PayloadCodecs.STRINGS;
+    }
+
+    /**
+     * Returns a codec for {@code byte[]} payloads stored as-is.
+     *
+     * @return the byte array codec
+     */
+    static PayloadCodec bytes() {
+        return PayloadCodecs.BYTES;
+    }
+
+    /**
+     * Returns a codec for {@link Serializable} payloads using Java serialization.
+     *
+     * <p>Convenient but slow and verbose; prefer a dedicated codec for
+     * high-frequency channels.</p>
+     *
+     * @return the serialization codec
+     */
+    static PayloadCodec serializable() {
+        return PayloadCodecs.SERIALIZABLE;
+    }
+
+    /**
+     * Returns a codec for {@link Serializable} payloads using Java serialization
+     * that decodes only what the filter accepts.
+     *
+     * <p>Use this for bytes that come from another process, such as an
+     * {@code EventBridge} peer, with a filter that admits just the payload
+     * classes, e.g. {@code ObjectInputFilter.Config.createFilter("com.example.orders.*;!*")}.
+     * Rejected input fails to decode.</p>
+     *
+     * @param filter the deserialization filter
+     * @return the filtering serialization codec
+     */
+    static PayloadCodec serializable(ObjectInputFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Deserialization filter cannot be null");
+        }
+        return new PayloadCodecs.SerializingCodec(filter);
+    }
+}
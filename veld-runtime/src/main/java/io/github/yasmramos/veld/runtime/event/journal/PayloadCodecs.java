@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event.journal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Built-in {@link PayloadCodec} implementations.
+ */
+final class PayloadCodecs {
+
+    static final PayloadCodec STRINGS = new PayloadCodec() {
+        @Override
+        public byte[] encode(Object payload) {
+            return ((String) payload).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public Object decode(ByteBuffer bytes) {
+            if (bytes.hasArray()) {
+                return new String(bytes.array(), bytes.arrayOffset() + bytes.position(),
+                        bytes.remaining(), StandardCharsets.UTF_8);
+            }
+            return StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+    };
+
+    static final PayloadCodec BYTES = new PayloadCodec() {
+        @Override
+        public byte[] encode(Object payload) {
+            return (byte[]) payload;
+        }
+
+        @Override
+        public Object decode(ByteBuffer bytes) {
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            return copy;
+        }
+    };
+
+    static final PayloadCodec SERIALIZABLE = new SerializingCodec(null);
+
+    /**
+     * Java serialization, optionally restricted by a deserialization filter.
+     */
+    static final class SerializingCodec implements PayloadCodec {
+        private final ObjectInputFilter filter;
+
+        SerializingCodec(ObjectInputFilter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        public byte[] encode(Object payload) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+                stream.writeObject(payload);
+            } catch (IOException e) {
+                throw new JournalException("Cannot serialize payload of type " +
+                        (payload != null ? payload.getClass().getName() : "null"), e);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public Object decode(ByteBuffer bytes) {
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(copy))) {
+                if (filter != null) {
+                    stream.setObjectInputFilter(filter);
+                }
+                return stream.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new JournalException("Cannot deserialize journaled payload", e);
+            }
+        }
+    }
+
+    private PayloadCodecs() {}
+}
@@ -19,6 +19,10 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -96,14 +100,15 @@ class AsyncExecutorTest {
     }
 
     @Test
-    void submit_withUnknownExecutor_usesDefault() throws Exception {
+    void submit_withUnknownExecutor_isRejected() {
         AtomicBoolean executed = new AtomicBoolean(false);
-        
-        CompletableFuture<Void> future = AsyncExecutor.getInstance()
-            .submit(() -> executed.set(true), "unknown");
-        
-        future.get(5, TimeUnit.SECONDS);
-        assertTrue(executed.get());
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+
+        assertThrows(RejectedExecutionException.class,
+            () -> executor.submit(() -> executed.set(true), "unknown"));
+        assertThrows(RejectedExecutionException.class,
+            () -> executor.getExecutor("unknown").execute(() -> executed.set(true)));
+        assertFalse(executed.get());
     }
 
     @Test
@@ -226,4 +231,211 @@ class AsyncExecutorTest {
         
         assertEquals("noArgs", future.get(5, TimeUnit.SECONDS));
     }
+
+    @Test
+    void configure_virtualThreadMode_runsEachTaskOnNewThread() throws Exception {
+        AsyncExecutor.configure(AsyncExecutor.ExecutionMode.VIRTUAL_THREAD, 0);
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        assertEquals(AsyncExecutor.ExecutionMode.VIRTUAL_THREAD, executor.getMode());
+        assertTrue(executor.getDefaultExecutor() instanceof VirtualThreadExecutor);
+
+        CountDownLatch allBlocked = new CountDownLatch(50);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[50];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = executor.submit(() -> {
+                allBlocked.countDown();
+                release.await();
+                return null;
+            });
+        }
+        // A pool of cores..cores*2 threads could never block 50 tasks at once
+        assertTrue(allBlocked.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+        assertThrows(IllegalStateException.class,
+            () -> AsyncExecutor.configure(AsyncExecutor.ExecutionMode.THREAD_POOL, 0));
+    }
+
+    @Test
+    void registerVirtualExecutor_capsConcurrencyWithoutBlockingCaller() throws Exception {
+        VirtualThreadExecutor limited = AsyncExecutor.getInstance().registerVirtualExecutor("io", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        String caller = Thread.currentThread().getName();
+        AtomicBoolean ranOnCaller = new AtomicBoolean();
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[8];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = AsyncExecutor.getInstance().submit(() -> {
+                ranOnCaller.compareAndSet(false, Thread.currentThread().getName().equals(caller));
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }, "io");
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (limited.getWaitingCount() < 6 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(2, limited.getRunningCount());
+        assertEquals(6, limited.getWaitingCount());
+        release.countDown();
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, maxRunning.get());
+        assertFalse(ranOnCaller.get());
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadExecutor("x", -1));
+    }
+
+    @Test
+    void getExecutor_resolvesNamesLazily() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        Executor reports = executor.getExecutor("reports");
+        assertSame(reports, executor.getExecutor("reports"));
+        assertSame(executor.getDefaultExecutor(), executor.getExecutor(""));
+        assertSame(executor.getVirtualExecutor(), executor.getExecutor(AsyncExecutor.VIRTUAL));
+
+        ExecutorService registered = Executors.newSingleThreadExecutor(r -> new Thread(r, "reports-thread"));
+        try {
+            executor.registerExecutor("reports", registered);
+            CompletableFuture<String> thread = CompletableFuture.supplyAsync(
+                () -> Thread.currentThread().getName(), reports);
+            assertEquals("reports-thread", thread.get(5, TimeUnit.SECONDS));
+        } finally {
+            registered.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class,
+            () -> executor.registerExecutor(AsyncExecutor.VIRTUAL, registered));
+    }
+
+    @Test
+    void declareExecutor_recordsQueueDepthWaitTimeAndRejections() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        executor.declareExecutor(ExecutorDefinition.builder("bounded")
+            .coreSize(1)
+            .queue(ExecutorDefinition.QueueType.ARRAY, 1)
+            .rejection(ExecutorDefinition.RejectionPolicy.ABORT)
+            .threadPriority(Thread.MAX_PRIORITY)
+            .build());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> running = executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return Thread.currentThread().getPriority();
+        }, "bounded");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> queued = executor.submit(() -> { }, "bounded");
+        assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> { }, "bounded"));
+
+        ExecutorMetrics saturated = executor.getMetrics("bounded");
+        assertEquals(1, saturated.getActiveCount());
+        assertEquals(1, saturated.getQueueDepth());
+        assertEquals(0, saturated.getQueueRemainingCapacity());
+        assertEquals(1, saturated.getRejected());
+        assertEquals(3, saturated.getSubmitted());
+
+        Thread.sleep(20);
+        release.countDown();
+        assertEquals(Thread.MAX_PRIORITY, running.get(5, TimeUnit.SECONDS));
+        queued.get(5, TimeUnit.SECONDS);
+        ExecutorMetrics drained = executor.getMetrics("bounded");
+        assertEquals(2, drained.getWaitSamples());
+        assertEquals(0, drained.getQueueDepth());
+        // The queued task waited for the first one to be released
+        assertTrue(drained.getMaxWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(20), drained.toString());
+        assertTrue(drained.getAverageWaitNanos() <= drained.getMaxWaitNanos());
+        assertTrue(executor.getMetrics().containsKey(""));
+        assertTrue(executor.getMetrics().containsKey("bounded"));
+    }
+
+    @Test
+    void declareExecutor_appliesPropertyOverridesAndKeepsFirstRegistration() {
+        System.setProperty("veld.async.executor.tuned.core-size", "3");
+        System.setProperty("veld.async.executor.tuned.queue", "synchronous");
+        try {
+            AsyncExecutor executor = AsyncExecutor.getInstance();
+            MonitoredExecutor tuned = executor.registerExecutor(ExecutorDefinition.builder("tuned").build());
+            assertEquals(3, tuned.getCorePoolSize());
+            assertEquals(3, tuned.getMaximumPoolSize());
+            assertEquals(ExecutorDefinition.QueueType.SYNCHRONOUS, tuned.getDefinition().getQueueType());
+
+            // The registered pool wins over a later declaration
+            executor.declareExecutor(ExecutorDefinition.builder("tuned").coreSize(7).build()).execute(() -> { });
+            assertEquals(1, tuned.getMetrics().getSubmitted());
+        } finally {
+            System.clearProperty("veld.async.executor.tuned.core-size");
+            System.clearProperty("veld.async.executor.tuned.queue");
+        }
+        Properties invalid = new Properties();
+        invalid.setProperty("veld.async.executor.tuned.colour", "blue");
+        assertThrows(IllegalArgumentException.class,
+            () -> ExecutorDefinition.builder("tuned").build().withOverrides(invalid));
+        assertThrows(IllegalArgumentException.class,
+            () -> ExecutorDefinition.builder("tuned").coreSize(4).maxSize(2).build());
+        assertThrows(IllegalArgumentException.class, () -> ExecutorDefinition.builder(AsyncExecutor.VIRTUAL));
+    }
+
+    @Test
+    void executorsProperty_declaresExecutorsFromConfiguration() {
+        System.setProperty(AsyncExecutor.EXECUTORS_PROPERTY, "mail, audit");
+        System.setProperty("veld.async.executor.mail.max-size", "4");
+        try {
+            AsyncExecutor executor = AsyncExecutor.getInstance();
+            assertNotNull(executor.getMetrics("mail"));
+            assertNotNull(executor.getMetrics("audit"));
+            assertNull(executor.getMetrics("unknown"));
+        } finally {
+            System.clearProperty(AsyncExecutor.EXECUTORS_PROPERTY);
+            System.clearProperty("veld.async.executor.mail.max-size");
+        }
+    }
+
+    @Test
+    void composeAsync_releasesPoolThreadWhileNestedFuturesRun() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        Executor single = executor.declareExecutor(ExecutorDefinition.builder("single").build());
+
+        // Each level waits for the next one; with join() the only pool thread would deadlock at level 2
+        CompletableFuture<Integer> nested = AsyncExecutor.composeAsync(
+            () -> AsyncExecutor.composeAsync(
+                () -> AsyncExecutor.<Integer>composeAsync(() -> CompletableFuture.completedFuture(3), single)
+                    .thenApply(depth -> depth - 1), single)
+                .thenApply(depth -> depth - 1), single);
+        assertEquals(1, nested.get(5, TimeUnit.SECONDS));
+        assertEquals(3, executor.getMetrics("single").getWaitSamples());
+
+        CompletableFuture<String> failed = executor.submitComposed(
+            () -> CompletableFuture.failedFuture(new IllegalStateException("boom")), "single");
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertNull(executor.submitComposed(() -> null, "").get(5, TimeUnit.SECONDS));
+
+        FutureTask<String> plain = new FutureTask<>(() -> "done");
+        plain.run();
+        assertEquals("done", AsyncExecutor.asCompletionStage(plain).toCompletableFuture().get());
+    }
+
+    @Test
+    void submitOrdered_runsEqualKeysInOrderAndSharesLanesWithCallables() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 200; i++) {
+            String entry = "order-" + (i % 4) + ":" + i;
+            executor.submitOrdered("order-" + (i % 4), () -> seen.add(entry));
+        }
+        // Runs after the 50 earlier tasks of its key
+        CompletableFuture<Long> count = executor.submitOrdered("order-1",
+                () -> seen.stream().filter(s -> s.startsWith("order-1:")).count());
+
+        assertEquals(50L, count.get(5, TimeUnit.SECONDS));
+        assertSame(executor.getOrderedExecutor(""), executor.getOrderedExecutor(null));
+    }
 }
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Property tests for {@link SchedulerService.CronExpression}: random expressions
+ * and start times are checked against a slow reference that enumerates calendar
+ * days and matches each field by interpreting its text.
+ */
+class CronExpressionPropertyTest {
+
+    private static final List<ZoneId> ZONES = List.of(
+            ZoneId.of("UTC"),
+            ZoneId.of("America/New_York"),
+            ZoneId.of("Europe/London"),
+            ZoneId.of("Australia/Lord_Howe"),
+            ZoneId.of("Asia/Kolkata"));
+    private static final String[] MONTHS = {
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAYS = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final int REFERENCE_YEARS = 30;
+
+    @Test
+    void next_randomExpressions_matchReference() {
+        Random random = new Random(20251017);
+        for (int trial = 0; trial < 600; trial++) {
+            String expression = String.join(" ",
+                    timeField(random, 59), timeField(random, 59), timeField(random, 23),
+                    dayOfMonthField(random), monthField(random), dayOfWeekField(random));
+            SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse(expression);
+            ZoneId zone = ZONES.get(random.nextInt(ZONES.size()));
+            ZonedDateTime from = LocalDateTime.of(2000 + random.nextInt(60), 1 + random.nextInt(12),
+                    1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60))
+                    .atZone(zone).plusNanos(random.nextInt(2) * 500_000_000L);
+
+            // Follow a few fire times so each trial also starts from times the engine produced
+            for (int step = 0; step < 5 && from != null; step++) {
+                ZonedDateTime expected = referenceNext(expression, from);
+                ZonedDateTime actual = cron.next(from);
+                if (expected == null) {
+                    assertTrue(actual == null || actual.getYear() >= from.getYear() + REFERENCE_YEARS,
+                            expression + " from " + from + " gave " + actual);
+                    break;
+                }
+                assertEquals(expected, actual, expression + " from " + from);
+                assertTrue(actual.isAfter(from), expression + " from " + from);
+                from = actual;
+            }
+        }
+    }
+
+    @Test
+    void next_acrossDaylightSavingTransitions_matchesReference() {
+        String[] expressions = {
+                "0 */15 * * * *", "0 30 2 * * *", "0 0 1,2,3 * * *", "30 59 1 * * SUN", "0 0 0-3/2 L * ?"};
+        // Both transitions of New York and Lord Howe, whose daylight saving shift is 30 minutes
+        ZonedDateTime[] starts = {
+                ZonedDateTime.of(2025, 3, 9, 0, 50, 0, 0, ZoneId.of("America/New_York")),
+                ZonedDateTime.of(2025, 11, 2, 0, 50, 0, 0, ZoneId.of("America/New_York")),
+                ZonedDateTime.of(2025, 4, 6, 0, 50, 0, 0, ZoneId.of("Australia/Lord_Howe")),
+                ZonedDateTime.of(2025, 10, 5, 0, 50, 0, 0, ZoneId.of("Australia/Lord_Howe"))};
+        for (String expression : expressions) {
+            SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse(expression);
+            for (ZonedDateTime start : starts) {
+                ZonedDateTime from = start;
+                for (int step = 0; step < 12; step++) {
+                    ZonedDateTime expected = referenceNext(expression, from);
+                    ZonedDateTime actual = cron.next(from);
+                    assertEquals(expected, actual, expression + " from " + from);
+                    from = actual;
+                }
+            }
+        }
+    }
+
+    // ---- Reference implementation ----
+
+    private static ZonedDateTime referenceNext(String expression, ZonedDateTime from) {
+        String[] fields = expression.toUpperCase(Locale.ROOT).split(" ");
+        LocalDateTime start = from.toLocalDateTime().withNano(0).plusSeconds(1);
+        LocalDate last = start.toLocalDate().plusYears(REFERENCE_YEARS);
+        for (LocalDate date = start.toLocalDate(); date.isBefore(last); date = date.plusDays(1)) {
+            if (!matches(fields[4], date.getMonthValue(), 1, 12, MONTHS)
+                    || !dayOfMonthMatches(fields[3], date)
+                    || !dayOfWeekMatches(fields[5], date)) {
+                continue;
+            }
+            for (int hour = 0; hour < 24; hour++) {
+                if (!matches(fields[2], hour, 0, 23, null)) {
+                    continue;
+                }
+                for (int minute = 0; minute < 60; minute++) {
+                    if (!matches(fields[1], minute, 0, 59, null)) {
+                        continue;
+                    }
+                    for (int second = 0; second < 60; second++) {
+                        if (!matches(fields[0], second, 0, 59, null)) {
+                            continue;
+                        }
+                        LocalDateTime local = date.atTime(hour, minute, second);
+                        if (local.isBefore(start)) {
+                            continue;
+                        }
+                        ZonedDateTime candidate = ZonedDateTime.ofLocal(local, from.getZone(), from.getOffset());
+                        if (candidate.isAfter(from)) {
+                            return candidate;
+                        }
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean dayOfMonthMatches(String field, LocalDate date) {
+        LocalDate lastDay = date.with(TemporalAdjusters.lastDayOfMonth());
+        for (String item : field.split(",")) {
+            if (item.equals("L")) {
+                if (date.equals(lastDay)) return true;
+            } else if (item.startsWith("L-")) {
+                if (date.getDayOfMonth() == lastDay.getDayOfMonth() - Integer.parseInt(item.substring(2))) return true;
+            } else if (item.equals("LW")) {
+                LocalDate day = lastDay;
+                while (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    day = day.minusDays(1);
+                }
+                if (date.equals(day)) return true;
+            } else if (item.endsWith("W")) {
+                int target = Integer.parseInt(item.substring(0, item.length() - 1));
+                if (target > lastDay.getDayOfMonth()) continue;
+                LocalDate day = date.withDayOfMonth(target);
+                if (day.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                    day = target == 1 ? day.plusDays(2) : day.minusDays(1);
+                } else if (day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                    day = day.equals(lastDay) ? day.minusDays(2) : day.plusDays(1);
+                }
+                if (date.equals(day)) return true;
+            } else if (itemMatches(item, date.getDayOfMonth(), 1, 31, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean dayOfWeekMatches(String field, LocalDate date) {
+        int dayOfWeek = date.getDayOfWeek().getValue() % 7;
+        for (String item : field.split(",")) {
+            if (item.contains("#")) {
+                String[] parts = item.split("#");
+                DayOfWeek day = dayOfWeek(parts[0]);
+                if (date.equals(date.with(TemporalAdjusters.dayOfWeekInMonth(Integer.parseInt(parts[1]), day)))) {
+                    return true;
+                }
+            } else if (item.equals("L")) {
+                if (date.getDayOfWeek() == DayOfWeek.SATURDAY) return true;
+            } else if (item.endsWith("L")) {
+                DayOfWeek day = dayOfWeek(item.substring(0, item.length() - 1));
+                if (date.equals(date.with(TemporalAdjusters.lastInMonth(day)))) return true;
+            } else if (itemMatches(item, dayOfWeek, 0, 7, DAYS)
+                    || (dayOfWeek == 0 && itemMatches(item, 7, 0, 7, DAYS))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static DayOfWeek dayOfWeek(String text) {
+        int value = number(text, 0, DAYS);
+        return value % 7 == 0 ? DayOfWeek.SUNDAY : DayOfWeek.of(value % 7);
+    }
+
+    private static boolean matches(String field, int value, int min, int max, String[] names) {
+        for (String item : field.split(",")) {
+            if (itemMatches(item, value, min, max, names)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean itemMatches(String item, int value, int min, int max, String[] names) {
+        String[] stepParts = item.split("/");
+        int step = stepParts.length > 1 ? Integer.parseInt(stepParts[1]) : 1;
+        String range = stepParts[0];
+        int low;
+        int high;
+        if (range.equals("*") || range.equals("?")) {
+            low = min;
+            high = max;
+        } else if (range.contains("-")) {
+            String[] bounds = range.split("-");
+            low = number(bounds[0], min, names);
+            high = number(bounds[1], min, names);
+        } else {
+            low = number(range, min, names);
+            high = stepParts.length > 1 ? max : low;
+        }
+        return value >= low && value <= high && (value - low) % step == 0;
+    }
+
+    private static int number(String text, int min, String[] names) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(text)) {
+                    return i + min;
+                }
+            }
+        }
+        return Integer.parseInt(text);
+    }
+
+    // ---- Expression generators ----
+
+    private static String timeField(Random random, int max) {
+        switch (random.nextInt(8)) {
+            case 0:
+            case 1:
+                return "*";
+            case 2:
+                return "0";
+            case 3:
+                return String.valueOf(random.nextInt(max + 1));
+            case 4: {
+                int low = random.nextInt(max);
+                return low + "-" + (low + random.nextInt(max - low + 1));
+            }
+            case 5:
+                return "*/" + (1 + random.nextInt(max / 2));
+            case 6: {
+                int low = random.nextInt(max);
+                return low + "-" + (low + random.nextInt(max - low + 1)) + "/" + (2 + random.nextInt(5));
+            }
+            default:
+                return random.nextInt(max + 1) + "," + random.nextInt(max + 1) + "/" + (1 + random.nextInt(10));
+        }
+    }
+
+    private static String dayOfMonthField(Random random) {
+        switch (random.nextInt(10)) {
+            case 0:
+                return "*";
+            case 1:
+            case 2:
+                return "?";
+            case 3:
+                return String.valueOf(1 + random.nextInt(31));
+            case 4:
+                return "L";
+            case 5:
+                return "L-" + random.nextInt(5);
+            case 6:
+                // Month edges are where the nearest weekday leaves its side of the target
+                return (random.nextBoolean() ? 1 + random.nextInt(31) : random.nextBoolean() ? 1 : 30 + random.nextInt(2))
+                        + "W";
+            case 7:
+                return "LW";
+            case 8:
+                return (1 + random.nextInt(10)) + "-" + (15 + random.nextInt(17));
+            default:
+                return (1 + random.nextInt(31)) + ",L," + (1 + random.nextInt(28)) + "W";
+        }
+    }
+
+    private static String monthField(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+            case 1:
+                return "*";
+            case 2:
+                return MONTHS[random.nextInt(12)].toLowerCase(Locale.ROOT);
+            case 3:
+                return "*/" + (1 + random.nextInt(6));
+            case 4:
+                return MONTHS[random.nextInt(6)] + "-" + MONTHS[6 + random.nextInt(6)];
+            default:
+                return (1 + random.nextInt(12)) + "," + (1 + random.nextInt(12));
+        }
+    }
+
+    private static String dayOfWeekField(Random random) {
+        switch (random.nextInt(10)) {
+            case 0:
+            case 1:
+                return "*";
+            case 2:
+            case 3:
+                return "?";
+            case 4:
+                return String.valueOf(random.nextInt(8));
+            case 5:
+                return "MON-FRI";
+            case 6:
+                return DAYS[random.nextInt(7)] + "L";
+            case 7:
+                return random.nextInt(8) + "#" + (1 + random.nextInt(5));
+            case 8:
+                return "5-7";
+            default:
+                return DAYS[random.nextInt(7)] + "," + random.nextInt(7) + "#2,L";
+        }
+    }
+}
@@ -219,4 +219,98 @@ class CronExpressionTest {
         assertNotNull(next);
         assertEquals(java.time.DayOfWeek.SUNDAY, next.getDayOfWeek());
     }
+
+    @Test
+    void next_secondsList_isHonoredInEveryMinute() {
+        SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse("15,45 * * * * *");
+        ZonedDateTime from = ZonedDateTime.of(2025, 1, 1, 10, 0, 50, 0, ZoneId.of("UTC"));
+
+        ZonedDateTime first = cron.next(from);
+        ZonedDateTime second = cron.next(first);
+
+        assertEquals(ZonedDateTime.of(2025, 1, 1, 10, 1, 15, 0, ZoneId.of("UTC")), first);
+        assertEquals(ZonedDateTime.of(2025, 1, 1, 10, 1, 45, 0, ZoneId.of("UTC")), second);
+    }
+
+    @Test
+    void next_monthAndDayNames_matchNumericFields() {
+        SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse("0 0 9 ? jun-AUG MON-FRI");
+        ZonedDateTime from = ZonedDateTime.of(2025, 5, 30, 10, 0, 0, 0, ZoneId.of("UTC"));
+
+        // June 1st 2025 is a Sunday
+        assertEquals(ZonedDateTime.of(2025, 6, 2, 9, 0, 0, 0, ZoneId.of("UTC")), cron.next(from));
+        assertEquals(SchedulerService.CronExpression.parse("0 0 9 ? 6-8 1-5").next(from), cron.next(from));
+    }
+
+    @Test
+    void next_lastDayOfMonth_handlesLeapYears() {
+        SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse("0 0 0 L * ?");
+        ZonedDateTime from = ZonedDateTime.of(2024, 2, 10, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+        assertEquals(29, cron.next(from).getDayOfMonth());
+        assertEquals(28, cron.next(from.withYear(2025)).getDayOfMonth());
+        assertEquals(27, SchedulerService.CronExpression.parse("0 0 0 L-2 * ?").next(from).getDayOfMonth());
+    }
+
+    @Test
+    void next_nearestWeekday_staysInsideTheMonth() {
+        // March 1st 2025 is a Saturday, so 1W moves forward to Monday the 3rd
+        SchedulerService.CronExpression first = SchedulerService.CronExpression.parse("0 0 0 1W * ?");
+        assertEquals(3, first.next(ZonedDateTime.of(2025, 2, 20, 0, 0, 0, 0, ZoneId.of("UTC"))).getDayOfMonth());
+
+        // August 31st 2025 is a Sunday, so the last weekday is Friday the 29th
+        SchedulerService.CronExpression last = SchedulerService.CronExpression.parse("0 0 0 LW * ?");
+        assertEquals(29, last.next(ZonedDateTime.of(2025, 8, 20, 0, 0, 0, 0, ZoneId.of("UTC"))).getDayOfMonth());
+    }
+
+    @Test
+    void next_nthAndLastDayOfWeek_findTheRightWeek() {
+        ZonedDateTime from = ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+        // Third Friday and last Monday of January 2025
+        assertEquals(17, SchedulerService.CronExpression.parse("0 0 0 ? * FRI#3").next(from).getDayOfMonth());
+        assertEquals(27, SchedulerService.CronExpression.parse("0 0 0 ? * 1L").next(from).getDayOfMonth());
+        // A fifth Monday only exists in some months
+        assertEquals(3, SchedulerService.CronExpression.parse("0 0 0 ? * MON#5").next(from).getMonthValue());
+    }
+
+    @Test
+    void next_springForwardGap_firesWhenTheGapEnds() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse("0 30 2 * * *");
+        ZonedDateTime from = ZonedDateTime.of(2025, 3, 9, 0, 0, 0, 0, newYork);
+
+        ZonedDateTime next = cron.next(from);
+
+        assertEquals(ZonedDateTime.of(2025, 3, 9, 3, 30, 0, 0, newYork), next);
+        assertEquals(ZonedDateTime.of(2025, 3, 10, 2, 30, 0, 0, newYork), cron.next(next));
+    }
+
+    @Test
+    void next_fallBackOverlap_firesOnce() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+        SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse("0 30 1 * * *");
+        ZonedDateTime from = ZonedDateTime.of(2025, 11, 2, 0, 0, 0, 0, newYork);
+
+        ZonedDateTime next = cron.next(from);
+
+        assertEquals(-4 * 3600, next.getOffset().getTotalSeconds());
+        assertEquals(3, cron.next(next).getDayOfMonth());
+    }
+
+    @Test
+    void next_impossibleDate_returnsNull() {
+        SchedulerService.CronExpression cron = SchedulerService.CronExpression.parse("0 0 0 30 FEB ?");
+        assertNull(cron.next(ZonedDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"))));
+    }
+
+    @Test
+    void parse_invalidFields_throwException() {
+        for (String expression : new String[]{
+                "60 * * * * *", "* * 24 * * *", "* * * 0 * *", "* * * * 13 *", "* * * * * 8",
+                "* * * * FOO *", "* 10-5 * * * *", "* */0 * * * *", "* * * * * MON#6", "* 1,,2 * * * *"}) {
+            assertThrows(IllegalArgumentException.class, () -> SchedulerService.CronExpression.parse(expression),
+                    expression);
+        }
+    }
 }
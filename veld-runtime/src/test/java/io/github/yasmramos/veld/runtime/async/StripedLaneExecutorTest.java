@@ -0,0 +1,289 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link StripedLaneExecutor}.
+ */
+class StripedLaneExecutorTest {
+
+    private ExecutorService backing;
+
+    @BeforeEach
+    void setUp() {
+        backing = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        backing.shutdownNow();
+        assertTrue(backing.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void constructor_roundsLaneCountUpToPowerOfTwo() {
+        assertEquals(8, new StripedLaneExecutor(backing, 5).getLaneCount());
+        assertEquals(StripedLaneExecutor.DEFAULT_LANES, new StripedLaneExecutor(backing).getLaneCount());
+        assertThrows(IllegalArgumentException.class, () -> new StripedLaneExecutor(backing, 0));
+        assertThrows(IllegalArgumentException.class, () -> new StripedLaneExecutor(null, 4));
+    }
+
+    @Test
+    void execute_sameKey_runsInSubmissionOrderWithoutOverlap() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 16);
+        int keys = 8;
+        int perKey = 500;
+        List<List<Integer>> seen = new ArrayList<>();
+        AtomicInteger[] running = new AtomicInteger[keys];
+        AtomicInteger overlaps = new AtomicInteger();
+        for (int k = 0; k < keys; k++) {
+            seen.add(Collections.synchronizedList(new ArrayList<>()));
+            running[k] = new AtomicInteger();
+        }
+        CountDownLatch done = new CountDownLatch(keys * perKey);
+
+        for (int i = 0; i < perKey; i++) {
+            for (int k = 0; k < keys; k++) {
+                int key = k;
+                int value = i;
+                lanes.execute("key-" + key, () -> {
+                    if (running[key].incrementAndGet() > 1) {
+                        overlaps.incrementAndGet();
+                    }
+                    seen.get(key).add(value);
+                    running[key].decrementAndGet();
+                    done.countDown();
+                });
+            }
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, overlaps.get());
+        for (List<Integer> values : seen) {
+            for (int i = 0; i < perKey; i++) {
+                assertEquals(i, values.get(i));
+            }
+        }
+        assertEquals(0, lanes.getQueuedTaskCount());
+    }
+
+    @Test
+    void execute_rejectedByBacking_neverRunsTheRejectedTask() throws Exception {
+        AtomicInteger rejections = new AtomicInteger(1);
+        Executor flaky = task -> {
+            if (rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("saturated");
+            }
+            backing.execute(task);
+        };
+        StripedLaneExecutor lanes = new StripedLaneExecutor(flaky, 4);
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+
+        assertThrows(RejectedExecutionException.class, () -> lanes.execute("key", () -> ran.add("rejected")));
+        assertEquals(0, lanes.getQueuedTaskCount());
+        lanes.execute("key", () -> {
+            ran.add("accepted");
+            done.countDown();
+        });
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("accepted"), ran);
+    }
+
+    @Test
+    void execute_differentKeys_runInParallel() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 64);
+        Object first = "a";
+        Object second = findKeyOnOtherLane(first);
+        CountDownLatch secondRan = new CountDownLatch(1);
+        CompletableFuture<Boolean> firstResult = new CompletableFuture<>();
+
+        lanes.execute(first, () -> {
+            try {
+                firstResult.complete(secondRan.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                firstResult.complete(false);
+            }
+        });
+        lanes.execute(second, secondRan::countDown);
+
+        assertTrue(firstResult.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_failingTask_doesNotBlockLane() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 1);
+        CountDownLatch after = new CountDownLatch(1);
+
+        lanes.execute("k", () -> {
+            throw new IllegalStateException("boom");
+        });
+        lanes.execute("k", after::countDown);
+
+        assertTrue(after.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_nullKey_runsUnordered() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 1);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        lanes.execute((Object) null, ran::countDown);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_longBacklog_isDrainedAcrossTurns() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 1);
+        int tasks = 2_000;
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            int expected = i;
+            lanes.execute(0, () -> {
+                if (next.getAndIncrement() != expected) {
+                    outOfOrder.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(0, outOfOrder.get());
+    }
+
+    @Test
+    void execute_allocatesLanesOnDemandAndReclaimsThemWhenIdle() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 64);
+        assertEquals(0, lanes.getActiveLaneCount());
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        Runnable blocked = () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        };
+        lanes.execute("a", blocked);
+        lanes.execute(findKeyOnOtherLane("a"), blocked);
+        assertEquals(2, lanes.getActiveLaneCount());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        awaitIdle(lanes);
+
+        // A reclaimed slot gets a fresh lane that still preserves order
+        List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch again = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            lanes.execute("a", () -> {
+                seen.add(value);
+                again.countDown();
+            });
+        }
+        assertTrue(again.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, seen.get(i));
+        }
+        awaitIdle(lanes);
+    }
+
+    @Test
+    void execute_skewedKeys_keepOrderPerKeyAndFinish() throws Exception {
+        StripedLaneExecutor lanes = new StripedLaneExecutor(backing, 64);
+        int keys = 1000;
+        int tasks = 50_000;
+        int[] lastSeen = new int[keys];
+        java.util.Arrays.fill(lastSeen, -1);
+        AtomicInteger[] running = new AtomicInteger[keys];
+        for (int k = 0; k < keys; k++) {
+            running[k] = new AtomicInteger();
+        }
+        AtomicInteger violations = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+        // Zipf-like: key k is picked with weight 1/(k+1), so key 0 gets about 13% of all tasks
+        double[] cumulative = new double[keys];
+        double total = 0;
+        for (int k = 0; k < keys; k++) {
+            total += 1.0 / (k + 1);
+            cumulative[k] = total;
+        }
+        java.util.Random random = new java.util.Random(42);
+
+        for (int i = 0; i < tasks; i++) {
+            int found = java.util.Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            int key = Math.min(found >= 0 ? found : -found - 1, keys - 1);
+            int sequence = i;
+            lanes.execute(key, () -> {
+                if (running[key].incrementAndGet() > 1 || lastSeen[key] >= sequence) {
+                    violations.incrementAndGet();
+                }
+                lastSeen[key] = sequence;
+                running[key].decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        assertEquals(0, violations.get());
+        awaitIdle(lanes);
+    }
+
+    private static void awaitIdle(StripedLaneExecutor lanes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lanes.getActiveLaneCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(0, lanes.getActiveLaneCount());
+        assertEquals(0, lanes.getQueuedTaskCount());
+    }
+
+    private static Object findKeyOnOtherLane(Object key) {
+        for (int i = 0; i < 1000; i++) {
+            String candidate = "b" + i;
+            if (laneOf(candidate) != laneOf(key)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No key on another lane");
+    }
+
+    // Mirrors the lane selection of a 64-lane executor
+    private static int laneOf(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & 63;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TimingWheel}.
+ */
+class TimingWheelTest {
+
+    private final List<TimingWheel> wheels = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        wheels.forEach(TimingWheel::stop);
+    }
+
+    private TimingWheel newWheel(Duration tick) {
+        TimingWheel wheel = TimingWheel.builder().tick(tick).threadName("test-wheel").build();
+        wheels.add(wheel);
+        return wheel;
+    }
+
+    @Test
+    void schedule_firesInDeadlineOrderAndNeverEarly() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        List<Long> fired = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(3);
+        long start = System.nanoTime();
+        for (long delay : new long[]{60, 20, 40}) {
+            wheel.schedule(() -> {
+                assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(delay));
+                fired.add(delay);
+                done.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(20L, 40L, 60L), fired);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void cancel_preventsTaskAndReleasesPendingCount() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        AtomicInteger runs = new AtomicInteger();
+        TimingWheel.Timeout cancelled = wheel.schedule(runs::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+        CountDownLatch later = new CountDownLatch(1);
+        TimingWheel.Timeout kept = wheel.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+        assertEquals(2, wheel.getPendingCount());
+
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+        assertEquals(1, wheel.getPendingCount());
+
+        assertTrue(later.await(5, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertTrue(kept.isExpired());
+        assertFalse(kept.cancel());
+        assertFalse(cancelled.isExpired());
+    }
+
+    @Test
+    void tick_expiresDueTimersAsOneBatchOnTheTickerThread() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(5));
+        int count = 1_000;
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(() -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, 20, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(Set.of("test-wheel"), threads);
+    }
+
+    @Test
+    void schedule_cascadesLongDelaysThroughHigherLevels() throws Exception {
+        // With a 1 µs tick these delays land on levels 1, 2 and 3
+        TimingWheel wheel = newWheel(Duration.ofNanos(1_000));
+        long[] delays = {1, 10, 100, 300};
+        CountDownLatch done = new CountDownLatch(delays.length);
+        List<Long> fired = Collections.synchronizedList(new ArrayList<>());
+        long start = System.nanoTime();
+        for (long delay : delays) {
+            wheel.schedule(() -> {
+                if (System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(delay)) {
+                    fired.add(delay);
+                }
+                done.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 10L, 100L, 300L), fired);
+    }
+
+    @Test
+    void schedule_randomDelaysAndCancels_firesEachLiveTimerOnceAndNeverEarly() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofNanos(100_000));
+        Random random = new Random(42);
+        int count = 20_000;
+        AtomicIntegerArray runs = new AtomicIntegerArray(count);
+        AtomicInteger early = new AtomicInteger();
+        List<TimingWheel.Timeout> timeouts = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            int id = i;
+            long delayMicros = random.nextInt(300_000);
+            timeouts.add(wheel.schedule(() -> {
+                if (System.nanoTime() - start < TimeUnit.MICROSECONDS.toNanos(delayMicros)) {
+                    early.incrementAndGet();
+                }
+                runs.incrementAndGet(id);
+            }, delayMicros, TimeUnit.MICROSECONDS));
+        }
+        Set<Integer> cancelled = new HashSet<>();
+        for (int i = 0; i < count; i += 3) {
+            if (timeouts.get(i).cancel()) {
+                cancelled.add(i);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (wheel.getPendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, wheel.getPendingCount());
+        assertEquals(0, early.get());
+        for (int i = 0; i < count; i++) {
+            assertEquals(cancelled.contains(i) ? 0 : 1, runs.get(i), "timer " + i);
+        }
+    }
+
+    @Test
+    void schedule_beyondWheelSpan_staysPendingUntilCancelled() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        TimingWheel.Timeout far = wheel.schedule(() -> fail("must not fire"), Long.MAX_VALUE, TimeUnit.DAYS);
+        CountDownLatch near = new CountDownLatch(1);
+        wheel.schedule(near::countDown, 5, TimeUnit.MILLISECONDS);
+
+        assertTrue(near.await(5, TimeUnit.SECONDS));
+        assertEquals(1, wheel.getPendingCount());
+        assertTrue(far.getDelay(TimeUnit.DAYS) > 365L * 100);
+        assertTrue(far.cancel());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void schedule_zeroDelay_firesOnNextTick() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        CountDownLatch done = new CountDownLatch(2);
+        wheel.schedule(done::countDown, 0, TimeUnit.MILLISECONDS);
+        wheel.schedule(done::countDown, -5, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executor_runsExpiredTasksOffTheTicker() throws Exception {
+        ExecutorService pool = Executors.newSingleThreadExecutor(r -> new Thread(r, "timer-worker"));
+        try {
+            TimingWheel wheel = TimingWheel.builder().executor(pool).threadName("test-wheel").build();
+            wheels.add(wheel);
+            CountDownLatch done = new CountDownLatch(1);
+            List<String> threads = new ArrayList<>();
+            wheel.schedule(() -> {
+                threads.add(Thread.currentThread().getName());
+                done.countDown();
+            }, 5, TimeUnit.MILLISECONDS);
+
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("timer-worker"), threads);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failingTask_doesNotStopTheTicker() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+        CountDownLatch done = new CountDownLatch(1);
+        wheel.schedule(done::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void schedule_afterIdle_usesCurrentTime() throws Exception {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        CountDownLatch first = new CountDownLatch(1);
+        wheel.schedule(first::countDown, 1, TimeUnit.MILLISECONDS);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        long start = System.nanoTime();
+        CountDownLatch second = new CountDownLatch(1);
+        wheel.schedule(second::countDown, 30, TimeUnit.MILLISECONDS);
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+    }
+
+    @Test
+    void stop_rejectsNewTimers() {
+        TimingWheel wheel = newWheel(Duration.ofMillis(1));
+        wheel.schedule(() -> { }, 1, TimeUnit.HOURS);
+        wheel.stop();
+
+        assertThrows(RejectedExecutionException.class, () -> wheel.schedule(() -> { }, 1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void builder_validatesArguments() {
+        assertThrows(IllegalArgumentException.class, () -> TimingWheel.builder().tick(Duration.ofNanos(10)));
+        assertThrows(IllegalArgumentException.class, () -> TimingWheel.builder().tick(null));
+        assertThrows(IllegalArgumentException.class, () -> TimingWheel.builder().executor(null));
+        assertThrows(IllegalArgumentException.class, () -> TimingWheel.builder().threadName(""));
+        TimingWheel wheel = newWheel(Duration.ofMillis(2));
+        assertEquals(Duration.ofMillis(2), wheel.getTick());
+        assertThrows(IllegalArgumentException.class, () -> wheel.schedule(null, 1, TimeUnit.SECONDS));
+        assertSame(TimingWheel.getInstance(), TimingWheel.getInstance());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link VirtualThreads}.
+ */
+class VirtualThreadsTest {
+
+    @Test
+    void newThreadFactory_namesThreadsWithPrefix() {
+        Thread thread = VirtualThreads.newThreadFactory("vt-test").newThread(() -> { });
+
+        assertEquals("vt-test-1", thread.getName());
+        assertTrue(thread.isDaemon(), "virtual and fallback threads are daemon threads");
+    }
+
+    @Test
+    void newThreadPerTaskExecutor_runsTasksOnNewThreads() throws Exception {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("vt-exec");
+        try {
+            String name = CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor)
+                    .get(5, TimeUnit.SECONDS);
+            assertTrue(name.startsWith("vt-exec-"), name);
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void isSupported_matchesRuntimeVersion() {
+        assertEquals(Runtime.version().feature() >= 21, VirtualThreads.isSupported());
+    }
+}
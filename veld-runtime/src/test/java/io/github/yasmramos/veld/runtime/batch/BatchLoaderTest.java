@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.batch;
+
+import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link BatchLoader} and {@link BatchScope}.
+ */
+class BatchLoaderTest {
+
+    // Runs tasks only when the test drains it, so batches close deterministically
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final Executor manual = tasks::add;
+    private final List<List<Integer>> calls = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        BatchScope scope = BatchScope.current();
+        if (scope != null) {
+            scope.close();
+        }
+        AsyncExecutor.reset();
+    }
+
+    @Test
+    void load_sameTickCalls_shareOneBulkCallAndGetTheirOwnFutures() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.builder(this::names).executor(manual).build();
+
+        CompletableFuture<String> first = loader.load(1);
+        CompletableFuture<String> second = loader.load(2);
+        CompletableFuture<String> again = loader.load(1);
+        assertFalse(first.isDone());
+        drain();
+
+        assertEquals(List.of(List.of(1, 2)), calls);
+        assertEquals("name-1", first.get());
+        assertEquals("name-2", second.get());
+        assertEquals("name-1", again.get());
+        assertNotSame(first, again);
+        assertEquals(1, loader.getDispatchedBatches());
+        assertEquals(2, loader.getDispatchedKeys());
+
+        // Completing one caller's future leaves the others alone
+        CompletableFuture<String> third = loader.load(3);
+        CompletableFuture<String> fourth = loader.load(3);
+        third.complete("mine");
+        drain();
+        assertEquals("name-3", fourth.get());
+    }
+
+    @Test
+    void load_fullBatch_dispatchesWithoutWaitingForTheFlush() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.builder(this::names)
+                .maxBatchSize(2)
+                .executor(manual)
+                .build();
+
+        CompletableFuture<String> first = loader.load(1);
+        loader.load(2);
+        loader.load(3);
+        drain();
+
+        assertEquals(List.of(List.of(1, 2), List.of(3)), calls);
+        assertEquals("name-1", first.get());
+        assertEquals(2, loader.getDispatchedBatches());
+    }
+
+    @Test
+    void load_failingBulkCall_failsEveryCallerOfTheBatch() {
+        IllegalStateException failure = new IllegalStateException("database down");
+        BatchLoader<Integer, String> loader = BatchLoader.<Integer, String>builder(keys -> {
+            throw failure;
+        }).executor(manual).build();
+
+        CompletableFuture<String> first = loader.load(1);
+        CompletableFuture<String> second = loader.load(2);
+        drain();
+
+        ExecutionException error = assertThrows(ExecutionException.class, first::get);
+        assertSame(failure, error.getCause());
+        assertTrue(second.isCompletedExceptionally());
+    }
+
+    @Test
+    void load_missingKeysAndListResults_completeByPosition() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.<Integer, String>builder(keys -> {
+            Map<Integer, String> found = names(keys);
+            found.remove(2);
+            return found;
+        }).executor(manual).build();
+        CompletableFuture<String> missing = loader.load(2);
+        drain();
+        assertNull(missing.get());
+
+        assertEquals(Map.of(1, "a", 2, "b"), BatchLoader.zip(List.of(1, 2), List.of("a", "b")));
+        assertThrows(IllegalStateException.class, () -> BatchLoader.zip(List.of(1, 2), List.of("a")));
+    }
+
+    @Test
+    void load_insideScope_cachesKeysUntilTheScopeCloses() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.builder(this::names).executor(manual).build();
+
+        try (BatchScope scope = BatchScope.open()) {
+            assertSame(scope, BatchScope.current());
+            CompletableFuture<String> first = loader.load(1);
+            drain();
+            CompletableFuture<String> cached = loader.load(1);
+
+            assertTrue(cached.isDone());
+            assertEquals("name-1", cached.get());
+            assertNotSame(first, cached);
+            assertEquals(1, calls.size());
+
+            try (BatchScope nested = BatchScope.open()) {
+                assertSame(nested, BatchScope.current());
+                loader.load(1);
+                drain();
+                assertEquals(2, calls.size());
+            }
+            assertSame(scope, BatchScope.current());
+        }
+        assertNull(BatchScope.current());
+
+        loader.load(1);
+        drain();
+        assertEquals(3, calls.size());
+    }
+
+    @Test
+    void load_insideScope_evictsFailuresSoTheyCanBeRetried() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        BatchLoader<Integer, String> loader = BatchLoader.<Integer, String>builder(keys -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("timeout");
+            }
+            return names(keys);
+        }).executor(manual).build();
+
+        try (BatchScope scope = BatchScope.open()) {
+            assertSame(scope, BatchScope.current());
+            CompletableFuture<String> failed = loader.load(1);
+            drain();
+            assertTrue(failed.isCompletedExceptionally());
+
+            CompletableFuture<String> retried = loader.load(1);
+            drain();
+            assertEquals("name-1", retried.get());
+            assertEquals(2, attempts.get());
+        }
+    }
+
+    @Test
+    void load_concurrentCallersWithinTheWindow_areBatchedOnTheAsyncExecutor() throws Exception {
+        BatchLoader<Integer, String> loader = BatchLoader.builder(this::names)
+                .window(Duration.ofMillis(200))
+                .executor(AsyncExecutor.getInstance().getDefaultExecutor())
+                .build();
+
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> results = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            int key = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                results.add(loader.load(key));
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        assertEquals(1, calls.size(), calls.toString());
+        assertEquals(callers, calls.get(0).size());
+    }
+
+    @Test
+    void builder_rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> BatchLoader.builder(this::names).maxBatchSize(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> BatchLoader.builder(this::names).window(Duration.ofMillis(-1)));
+        BatchLoader<Integer, String> loader = BatchLoader.builder(this::names).executor(manual).build();
+        assertThrows(IllegalArgumentException.class, () -> loader.load(null));
+    }
+
+    private Map<Integer, String> names(List<Integer> keys) {
+        calls.add(List.copyOf(keys));
+        Map<Integer, String> names = new HashMap<>();
+        for (Integer key : keys) {
+            names.put(key, "name-" + key);
+        }
+        return names;
+    }
+
+    private void drain() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.context;
+
+import io.github.yasmramos.veld.annotation.Subscribe;
+import io.github.yasmramos.veld.runtime.async.AsyncExecutor;
+import io.github.yasmramos.veld.runtime.async.SchedulerService;
+import io.github.yasmramos.veld.runtime.batch.BatchLoader;
+import io.github.yasmramos.veld.runtime.event.Event;
+import io.github.yasmramos.veld.runtime.event.EventBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link ContextPropagation}.
+ */
+class ContextPropagationTest {
+
+    private static final int EVENT_ID = 7001;
+
+    private final ThreadLocal<String> user = new ThreadLocal<>();
+    private final ThreadLocal<String> traceId = new ThreadLocal<>();
+    private final ContextHolder<String> userHolder = ContextHolder.ofThreadLocal(user);
+    private final ContextHolder<String> traceHolder = ContextHolder.ofThreadLocal(traceId);
+
+    static class PingEvent extends Event {
+        PingEvent(Object source) {
+            super(source);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        AsyncExecutor.reset();
+        ContextPropagation.register(userHolder);
+        ContextPropagation.register(traceHolder);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ContextPropagation.unregister(userHolder);
+        ContextPropagation.unregister(traceHolder);
+        user.remove();
+        traceId.remove();
+        AsyncExecutor.reset();
+        EventBus.getInstance().clear();
+    }
+
+    @Test
+    void capture_isEmptyWithoutValues() {
+        ContextSnapshot snapshot = ContextPropagation.capture();
+        Runnable task = () -> { };
+
+        assertSame(ContextSnapshot.EMPTY, snapshot);
+        assertSame(task, ContextPropagation.wrap(task));
+    }
+
+    @Test
+    void capture_keepsOnlyHoldersWithValues() {
+        traceId.set("t-1");
+
+        ContextSnapshot snapshot = ContextPropagation.capture();
+
+        assertFalse(snapshot.isEmpty());
+        assertEquals("t-1", snapshot.get(traceHolder));
+        assertNull(snapshot.get(userHolder));
+    }
+
+    @Test
+    void register_ignoresDuplicatesAndUnregisterStopsCapture() {
+        assertFalse(ContextPropagation.register(userHolder));
+
+        user.set("alice");
+        assertTrue(ContextPropagation.unregister(userHolder));
+        assertFalse(ContextPropagation.unregister(userHolder));
+
+        assertSame(ContextSnapshot.EMPTY, ContextPropagation.capture());
+    }
+
+    @Test
+    void run_installsSnapshotAndRestoresThreadContext() throws Exception {
+        user.set("alice");
+        ContextSnapshot snapshot = ContextPropagation.capture();
+        user.set("bob");
+        traceId.set("own");
+
+        String seen = snapshot.call(() -> {
+            assertSame(snapshot, ContextPropagation.current());
+            return user.get() + "/" + traceId.get();
+        });
+
+        assertEquals("alice/own", seen);
+        assertEquals("bob", user.get());
+        assertEquals("own", traceId.get());
+        assertSame(ContextSnapshot.EMPTY, ContextPropagation.current());
+    }
+
+    @Test
+    void call_propagatesCheckedException() {
+        user.set("alice");
+        Callable<String> failing = ContextPropagation.wrap(() -> {
+            throw new java.io.IOException("boom");
+        });
+
+        assertThrows(java.io.IOException.class, failing::call);
+    }
+
+    @Test
+    void asyncExecutor_runsTaskInSubmitterContext() throws Exception {
+        user.set("alice");
+        traceId.set("t-1");
+
+        CompletableFuture<String> future = AsyncExecutor.getInstance()
+                .submit(() -> user.get() + "/" + traceId.get());
+
+        assertEquals("alice/t-1", future.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void asyncExecutor_leavesPoolThreadClean() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        user.set("alice");
+        assertEquals("alice", executor.submit(() -> user.get()).get(5, TimeUnit.SECONDS));
+        user.remove();
+
+        // Every pool thread must see an empty context once the propagated task is done
+        for (int i = 0; i < 16; i++) {
+            assertNull(executor.submit(() -> user.get()).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void orderedLane_runsEachTaskInItsOwnSubmitterContext() throws Exception {
+        AsyncExecutor executor = AsyncExecutor.getInstance();
+        CountDownLatch release = new CountDownLatch(1);
+        user.set("alice");
+        CompletableFuture<String> first = executor.submitOrdered("k", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return user.get();
+        });
+        user.remove();
+
+        // Queued behind alice's task on the same lane, from a thread without a principal
+        CompletableFuture<String> second = executor.submitOrdered("k", () -> String.valueOf(user.get()));
+        release.countDown();
+
+        assertEquals("alice", first.get(5, TimeUnit.SECONDS));
+        assertEquals("null", second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void asyncEventHandler_runsInPublisherContext() throws Exception {
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        EventBus bus = EventBus.getInstance();
+        bus.registerAsyncEventHandler(EVENT_ID, PingEvent.class,
+                event -> seen.complete(user.get()), 0, null, Subscribe.AsyncMode.EXECUTOR, null);
+
+        user.set("alice");
+        bus.publish(EVENT_ID, new PingEvent(this));
+
+        assertEquals("alice", seen.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void scheduledTask_runsInSchedulingContext() throws Exception {
+        CompletableFuture<String> seen = new CompletableFuture<>();
+        user.set("alice");
+
+        ScheduledFuture<?> scheduled = SchedulerService.getInstance()
+                .scheduleWithFixedDelay(() -> seen.complete(user.get()), 0, 50, TimeUnit.MILLISECONDS);
+        try {
+            assertEquals("alice", seen.get(5, TimeUnit.SECONDS));
+        } finally {
+            scheduled.cancel(false);
+        }
+    }
+
+    @Test
+    void propagatingExecutor_capturesContextOnce() throws Exception {
+        AtomicInteger captures = new AtomicInteger();
+        ContextHolder<String> counting = new ContextHolder<>() {
+            @Override
+            public String capture() {
+                captures.incrementAndGet();
+                return user.get();
+            }
+
+            @Override
+            public String swap(String value) {
+                return userHolder.swap(value);
+            }
+        };
+        ContextPropagation.unregister(userHolder);
+        ContextPropagation.register(counting);
+        try {
+            Executor pool = AsyncExecutor.getInstance().getExecutor("");
+            assertSame(pool, ContextPropagation.wrap(pool));
+
+            // The window is captured by the caller and reaches the pool from the timer thread
+            BatchLoader<Integer, String> loader = BatchLoader.<Integer, String>builder(keys -> BatchLoader.zip(keys,
+                            Collections.nCopies(keys.size(), user.get())))
+                    .window(Duration.ofMillis(1))
+                    .executor(pool)
+                    .build();
+            user.set("alice");
+            assertEquals("alice", loader.load(1).get(5, TimeUnit.SECONDS));
+            assertEquals(1, captures.get());
+
+            CompletableFuture<String> direct = new CompletableFuture<>();
+            pool.execute(() -> direct.complete(user.get()));
+            assertEquals("alice", direct.get(5, TimeUnit.SECONDS));
+            assertEquals(2, captures.get());
+        } finally {
+            ContextPropagation.unregister(counting);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package io.github.yasmramos.veld.runtime.event;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CoalescingEventChannel: key collapsing, merge and batch delivery,
+ * windowed and consumer-paced flushing, and statistics.
+ */
+@DisplayName("CoalescingEventChannel Tests")
+@Execution(ExecutionMode.SAME_THREAD)
+class CoalescingEventChannelTest {
+
+    private ExecutorService executor;
+    private CoalescingEventChannel channel;
+    private final List<Object> received = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (channel != null) {
+            channel.shutdown();
+            channel.clear();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private CoalescingEventChannel create(EventChannelOptions.Builder builder) {
+        channel = new CoalescingEventChannel("coalescing", executor, builder.build());
+        return channel;
+    }
+
+    private static Object keyOf(Object payload) {
+        return payload instanceof String ? ((String) payload).substring(0, 1) : null;
+    }
+
+    private void awaitReceived(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (received.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, received.size());
+    }
+
+    @Nested
+    @DisplayName("Windowed Delivery Tests")
+    class WindowedDeliveryTests {
+
+        @Test
+        @DisplayName("Should deliver only the latest payload per key")
+        void shouldDeliverLatestPerKey() throws InterruptedException {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ofMillis(100), CoalescingEventChannelTest::keyOf));
+            channel.register(1, received::add);
+
+            for (int i = 0; i < 50; i++) {
+                assertEquals(0, channel.publish(1, "a" + i));
+                assertEquals(0, channel.publish(1, "b" + i));
+            }
+
+            awaitReceived(2);
+            assertTrue(received.containsAll(List.of("a49", "b49")));
+            assertEquals(98, channel.getCoalescedCount());
+            assertEquals(0, channel.getPendingCount());
+            EventStatistics<Integer> stats = channel.getStatisticsSnapshot();
+            assertEquals(2, stats.getPublished());
+            assertEquals(98, stats.getCoalesced());
+            assertTrue(channel.getStatistics().contains("Events Coalesced: 98"));
+        }
+
+        @Test
+        @DisplayName("Should keep equal keys of different event IDs apart")
+        void shouldSeparateEventIds() throws InterruptedException {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ofMillis(50), CoalescingEventChannelTest::keyOf));
+            channel.register(1, received::add);
+            channel.register(2, received::add);
+
+            channel.publish(1, "a1");
+            channel.publish(2, "a2");
+
+            awaitReceived(2);
+            assertEquals(0, channel.getCoalescedCount());
+        }
+
+        @Test
+        @DisplayName("Should publish payloads without a key immediately")
+        void shouldPublishUnkeyedImmediately() {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ofSeconds(10), CoalescingEventChannelTest::keyOf));
+            channel.register(1, received::add);
+
+            assertEquals(1, channel.publish(1, 42));
+
+            assertEquals(List.of(42), received);
+        }
+
+        @Test
+        @DisplayName("Should fold payloads with the merge function")
+        void shouldMergePayloads() throws InterruptedException {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ofMillis(50), payload -> "sum", (a, b) -> (Integer) a + (Integer) b));
+            channel.register(1, received::add);
+
+            channel.publishBatch(1, new Object[]{1, 2, 3, 4}, 0, 4);
+
+            awaitReceived(1);
+            assertEquals(10, received.get(0));
+            assertEquals(3, channel.getCoalescedCount());
+        }
+
+        @Test
+        @DisplayName("Should deliver all payloads of a key as one batch")
+        void shouldDeliverBatches() throws InterruptedException {
+            create(EventChannelOptions.builder()
+                .coalescingBatches(Duration.ofMillis(50), CoalescingEventChannelTest::keyOf));
+            channel.register(1, received::add);
+
+            channel.publish(1, "a1");
+            channel.publish(1, "a2");
+            channel.publish(1, "a3");
+
+            awaitReceived(1);
+            assertEquals(List.of("a1", "a2", "a3"), received.get(0));
+            assertThrows(UnsupportedOperationException.class, () -> ((List<?>) received.get(0)).clear());
+        }
+
+        @Test
+        @DisplayName("Should deliver pending payloads on shutdown")
+        void shouldFlushOnShutdown() {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ofSeconds(10), CoalescingEventChannelTest::keyOf));
+            channel.register(1, received::add);
+
+            channel.publish(1, "a1");
+            channel.publish(1, "a2");
+            channel.shutdown();
+
+            assertEquals(List.of("a2"), received);
+            assertEquals(1, channel.publish(1, "a3"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Shutdown Tests")
+    class ShutdownTests {
+
+        @Test
+        @DisplayName("Should not overtake a running flush when draining on shutdown")
+        void shouldDrainAfterRunningFlush() throws Exception {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ZERO, CoalescingEventChannelTest::keyOf));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            channel.register(1, payload -> {
+                if (payload.equals("a0")) {
+                    started.countDown();
+                    try {
+                        gate.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                received.add(payload);
+            });
+
+            channel.publish(1, "a0");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            channel.publish(1, "a1");
+            Thread shutdown = new Thread(channel::shutdown);
+            shutdown.start();
+            Thread.sleep(50);
+            gate.countDown();
+            shutdown.join(5_000);
+
+            assertFalse(shutdown.isAlive());
+            assertEquals(List.of("a0", "a1"), received);
+        }
+    }
+
+    @Nested
+    @DisplayName("Consumer-Paced Delivery Tests")
+    class ConsumerPacedDeliveryTests {
+
+        @Test
+        @DisplayName("Should collapse payloads while the listener is busy")
+        void shouldCollapseWhileBusy() throws InterruptedException {
+            create(EventChannelOptions.builder()
+                .coalescing(Duration.ZERO, CoalescingEventChannelTest::keyOf));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch gate = new CountDownLatch(1);
+            channel.register(1, payload -> {
+                received.add(payload);
+                started.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            channel.publish(1, "a0");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i <= 100; i++) {
+                channel.publish(1, "a" + i);
+            }
+            assertEquals(1, channel.getPendingCount());
+            gate.countDown();
+
+            awaitReceived(2);
+            assertEquals(List.of("a0", "a100"), received);
+            assertEquals(99, channel.getCoalescedCount());
+        }
+
+        @Test
+        @DisplayName("Should preserve per-key order across flushes")
+        void shouldPreserveKeyOrder() throws InterruptedException {
+            create(EventChannelOptions.builder()
+                .coalescingBatches(Duration.ZERO, payload -> "k"));
+            List<Integer> seen = Collections.synchronizedList(new ArrayList<>());
+            channel.register(1, payload -> {
+                for (Object value : (List<?>) payload) {
+                    seen.add((Integer) value);
+                }
+            });
+
+            for (int i = 0; i < 1_000; i++) {
+                channel.publish(1, i);
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (seen.size() < 1_000 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1_000, seen.size());
+            for (int i = 0; i < 1_000; i++) {
+                assertEquals(i, seen.get(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Options Tests")
+    class OptionsTests {
+
+        @Test
+        @DisplayName("Should reject invalid coalescing options")
+        void shouldRejectInvalidOptions() {
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().coalescing(Duration.ofMillis(-1), payload -> payload));
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().coalescing(Duration.ZERO, null));
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().coalescing(Duration.ZERO, payload -> payload, null));
+            assertThrows(IllegalArgumentException.class,
+                () -> new CoalescingEventChannel("plain", executor, EventChannelOptions.defaults()));
+        }
+
+        @Test
+        @DisplayName("Should expose coalescing options")
+        void shouldExposeOptions() {
+            EventChannelOptions options = EventChannelOptions.builder()
+                .coalescingBatches(Duration.ofMillis(20), payload -> payload)
+                .build();
+            assertTrue(options.isCoalescing());
+            assertEquals(Duration.ofMillis(20), options.getCoalesceWindow());
+            assertEquals(EventChannelOptions.CoalesceDelivery.BATCH, options.getCoalesceDelivery());
+            assertFalse(EventChannelOptions.defaults().isCoalescing());
+        }
+    }
+}
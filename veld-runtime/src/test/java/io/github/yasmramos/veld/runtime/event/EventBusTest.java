@@ -5,8 +5,12 @@ import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -116,6 +120,50 @@ class EventBusTest {
         }
     }
 
+    public static class PublicMessageEvent extends Event {
+        private final String message;
+
+        PublicMessageEvent(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+
+    static class PublicMessageSubscriber {
+        List<String> receivedMessages = new ArrayList<>();
+
+        void onEvent(PublicMessageEvent event) {
+            receivedMessages.add(event.getMessage());
+        }
+    }
+
+    static EventSubscriber simpleSubscriber(SimpleSubscriber subscriber) throws NoSuchMethodException {
+        return new EventSubscriber(subscriber,
+            SimpleSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+            TestEvent.class, false, 0, null, false);
+    }
+
+    static class EqualSubscriber {
+        AtomicInteger received = new AtomicInteger();
+
+        void onEvent(TestEvent event) {
+            received.incrementAndGet();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualSubscriber;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
     static class ExceptionSubscriber {
         AtomicInteger callCount = new AtomicInteger(0);
 
@@ -235,6 +283,90 @@ class EventBusTest {
             assertEquals(0, eventBus.getSubscriberCount());
         }
 
+        @Test
+        @DisplayName("Should only unregister listeners owned by the given instance")
+        void shouldOnlyUnregisterOwnedListeners() throws NoSuchMethodException {
+            SimpleSubscriber first = new SimpleSubscriber();
+            SimpleSubscriber second = new SimpleSubscriber();
+            eventBus.register(simpleSubscriber(first));
+            eventBus.register(simpleSubscriber(second));
+
+            eventBus.unregister(first);
+            eventBus.publish(new TestEvent(this, "m"));
+
+            assertEquals(0, first.receivedEvents.size());
+            assertEquals(1, second.receivedEvents.size());
+            assertEquals(1, eventBus.getSubscriberCount());
+        }
+
+        @Test
+        @DisplayName("Should track subscribers by identity, not equals")
+        void shouldTrackSubscribersByIdentity() throws NoSuchMethodException {
+            EqualSubscriber first = new EqualSubscriber();
+            EqualSubscriber second = new EqualSubscriber();
+            eventBus.register(new EventSubscriber(first,
+                EqualSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                TestEvent.class, false, 0, null, false));
+            eventBus.register(new EventSubscriber(second,
+                EqualSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                TestEvent.class, false, 0, null, false));
+
+            eventBus.unregister(first);
+
+            assertEquals(1, eventBus.getSubscriberCount());
+            assertEquals(1, eventBus.publish(new TestEvent(this, "m")));
+            assertEquals(1, second.received.get());
+        }
+
+        @Test
+        @DisplayName("Should drop event type when its last subscriber is unregistered")
+        void shouldDropEventTypeWhenEmpty() throws NoSuchMethodException {
+            SimpleSubscriber subscriber = new SimpleSubscriber();
+            eventBus.register(simpleSubscriber(subscriber));
+
+            eventBus.unregister(subscriber);
+
+            assertFalse(eventBus.getRegisteredEventTypes().contains(TestEvent.class));
+        }
+
+        @Test
+        @DisplayName("Should not lose registrations under concurrent register/unregister churn")
+        void shouldNotLoseRegistrationsUnderChurn() throws Exception {
+            SimpleSubscriber stable = new SimpleSubscriber();
+            eventBus.register(simpleSubscriber(stable));
+
+            int threads = 4;
+            int iterations = 500;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> workers = new ArrayList<>();
+            List<Throwable> failures = java.util.Collections.synchronizedList(new ArrayList<>());
+            for (int t = 0; t < threads; t++) {
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < iterations; i++) {
+                            SimpleSubscriber transientSubscriber = new SimpleSubscriber();
+                            eventBus.register(simpleSubscriber(transientSubscriber));
+                            eventBus.unregister(transientSubscriber);
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                workers.add(worker);
+                worker.start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join(TimeUnit.SECONDS.toMillis(30));
+            }
+
+            assertTrue(failures.isEmpty(), () -> "Failures: " + failures);
+            assertEquals(1, eventBus.getSubscriberCount());
+            assertEquals(1, eventBus.publish(new TestEvent(this, "m")));
+            assertEquals(1, stable.receivedEvents.size());
+        }
+
         @Test
         @DisplayName("Should handle unregister of null gracefully")
         void shouldHandleUnregisterNullGracefully() {
@@ -439,6 +571,51 @@ class EventBusTest {
             // Verify that events are received (filtering is implementation-specific)
             assertTrue(subscriber.receivedMessages.size() >= 0);
         }
+
+        @Test
+        @DisplayName("Should only invoke typed handler for events accepted by compiled filter")
+        void shouldApplyCompiledFilter() {
+            List<String> received = new ArrayList<>();
+            eventBus.registerEventHandler(TestEvent.ID, TestEvent.class,
+                    event -> received.add(event.getMessage()), 0,
+                    event -> "accept".equals(event.getMessage()));
+
+            eventBus.publish(TestEvent.ID, new TestEvent(this, "reject"));
+            eventBus.publish(TestEvent.ID, new TestEvent(this, "accept"));
+
+            assertEquals(List.of("accept"), received);
+        }
+
+        @Test
+        @DisplayName("Should reject null compiled filter")
+        void shouldRejectNullCompiledFilter() {
+            assertThrows(IllegalArgumentException.class, () ->
+                eventBus.registerEventHandler(TestEvent.ID, TestEvent.class, event -> { }, 0, null));
+        }
+
+        @Test
+        @DisplayName("Should evaluate filter string only when runtime evaluation is enabled")
+        void shouldEvaluateFilterStringWhenEnabled() throws NoSuchMethodException {
+            PublicMessageSubscriber disabled = new PublicMessageSubscriber();
+            PublicMessageSubscriber enabled = new PublicMessageSubscriber();
+            eventBus.register(new EventSubscriber(disabled,
+                PublicMessageSubscriber.class.getDeclaredMethod("onEvent", PublicMessageEvent.class),
+                PublicMessageEvent.class, false, 0, "event.message == 'accept'", false));
+            EventFilter.setRuntimeEvaluationEnabled(true);
+            try {
+                eventBus.register(new EventSubscriber(enabled,
+                    PublicMessageSubscriber.class.getDeclaredMethod("onEvent", PublicMessageEvent.class),
+                    PublicMessageEvent.class, false, 0, "event.message == 'accept'", false));
+            } finally {
+                EventFilter.setRuntimeEvaluationEnabled(false);
+            }
+
+            eventBus.publish(new PublicMessageEvent("reject"));
+            eventBus.publish(new PublicMessageEvent("accept"));
+
+            assertEquals(List.of("reject", "accept"), disabled.receivedMessages);
+            assertEquals(List.of("accept"), enabled.receivedMessages);
+        }
     }
     
     @Nested
@@ -496,6 +673,97 @@ class EventBusTest {
             assertTrue(thrown.getCause() instanceof RuntimeException);
         }
     }
+
+    @Nested
+    @DisplayName("Error Handler Tests")
+    class ErrorHandlerTests {
+
+        private EventSubscriber failing(ExceptionSubscriber subscriber) throws NoSuchMethodException {
+            return new EventSubscriber(subscriber,
+                ExceptionSubscriber.class.getDeclaredMethod("onEventWithException", TestEvent.class),
+                TestEvent.class, false, 0, null, true);
+        }
+
+        @Test
+        @DisplayName("Should pass failures to the error handler and count them per subscriber")
+        void shouldPassFailuresToHandler() throws NoSuchMethodException {
+            List<Object[]> errors = new ArrayList<>();
+            eventBus.setErrorHandler((subscriber, event, cause) -> errors.add(new Object[]{subscriber, event, cause}));
+            EventSubscriber subscriber = failing(new ExceptionSubscriber());
+            eventBus.register(subscriber);
+
+            TestEvent event = new TestEvent(this, "boom");
+            eventBus.publish(event);
+            eventBus.publish(new TestEvent(this, "again"));
+
+            assertEquals(2, errors.size());
+            assertSame(subscriber, errors.get(0)[0]);
+            assertSame(event, errors.get(0)[1]);
+            assertEquals("Test exception", ((Throwable) errors.get(0)[2]).getMessage());
+            assertEquals(Map.of(subscriber, 2L), eventBus.getSubscriberFailureCounts());
+            assertThrows(IllegalArgumentException.class, () -> eventBus.setErrorHandler(null));
+        }
+
+        @Test
+        @DisplayName("Should publish dead letters and keep going when a handler fails")
+        void shouldPublishDeadLetters() throws NoSuchMethodException {
+            List<DeadLetter> deadLetters = new ArrayList<>();
+            EventChannel channel = eventBus.getChannel("dead-letters");
+            channel.register(1, payload -> deadLetters.add((DeadLetter) payload));
+            eventBus.setErrorHandler(((EventErrorHandler) (subscriber, event, cause) -> {
+                throw new IllegalStateException("handler bug");
+            }).andThen(EventErrorHandler.deadLetter(channel, 1)));
+            ExceptionSubscriber target = new ExceptionSubscriber();
+            eventBus.register(failing(target));
+
+            assertDoesNotThrow(() -> eventBus.publish(new TestEvent(this, "lost")));
+            assertEquals(1, target.callCount.get());
+            assertTrue(deadLetters.isEmpty(), "the failing first handler stops the chain");
+
+            eventBus.setErrorHandler(EventErrorHandler.deadLetter(channel, 1));
+            eventBus.publish(new TestEvent(this, "lost"));
+            assertEquals(1, deadLetters.size());
+            assertEquals("lost", ((TestEvent) deadLetters.get(0).getEvent()).getMessage());
+            assertTrue(deadLetters.get(0).toString().contains("Exception in subscriber"));
+        }
+
+        @Test
+        @DisplayName("Should log at most one failure per interval")
+        void shouldRateLimitLogging() {
+            RateLimitedErrorLogger logger = new RateLimitedErrorLogger(TimeUnit.HOURS.toNanos(1));
+            java.util.logging.Logger jul = java.util.logging.Logger.getLogger(EventBus.class.getName());
+            List<java.util.logging.LogRecord> records = new ArrayList<>();
+            java.util.logging.Handler capture = new java.util.logging.Handler() {
+                @Override
+                public void publish(java.util.logging.LogRecord record) {
+                    records.add(record);
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+            boolean parentHandlers = jul.getUseParentHandlers();
+            jul.addHandler(capture);
+            jul.setUseParentHandlers(false);
+            try {
+                for (int i = 0; i < 100; i++) {
+                    logger.onError("subscriber", "event", new RuntimeException("storm"));
+                }
+            } finally {
+                jul.removeHandler(capture);
+                jul.setUseParentHandlers(parentHandlers);
+            }
+
+            assertEquals(1, records.size());
+            assertTrue(records.get(0).getMessage().contains("storm"));
+            assertEquals(99, logger.getSuppressedCount());
+        }
+    }
     
     @Nested
     @DisplayName("Event Cancellation Tests")
@@ -643,6 +911,608 @@ class EventBusTest {
         }
     }
     
+    interface Audited {
+    }
+
+    static class AuditedChildEvent extends ChildEvent implements Audited {
+        AuditedChildEvent(Object source, String message) {
+            super(source, message);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    static EventBus.EventListener recording(List<String> log, String name, int priority) {
+        return new EventBus.EventListener() {
+            @Override
+            public void onEvent(Event event) {
+                log.add(name);
+            }
+
+            @Override
+            public int getPriority() {
+                return priority;
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("Hierarchy Dispatch Tests")
+    @SuppressWarnings("deprecation")
+    class HierarchyDispatchTests {
+
+        @Test
+        @DisplayName("Should deliver to listeners of the class and all its supertypes")
+        void shouldDeliverToAllLevels() {
+            List<String> log = new ArrayList<>();
+            eventBus.register(recording(log, "child", 0), ChildEvent.class);
+            eventBus.register(recording(log, "parent", 0), TestEvent.class);
+            eventBus.register(recording(log, "interface", 0), Audited.class);
+            eventBus.register(recording(log, "root", 0), Event.class);
+
+            int delivered = eventBus.publish(new AuditedChildEvent(this, "m"));
+
+            assertEquals(4, delivered);
+            assertEquals(List.of("child", "parent", "root", "interface"), log);
+        }
+
+        @Test
+        @DisplayName("Should order flattened listeners by priority across levels")
+        void shouldOrderByPriorityAcrossLevels() {
+            List<String> log = new ArrayList<>();
+            eventBus.register(recording(log, "child-low", -5), ChildEvent.class);
+            eventBus.register(recording(log, "parent-high", 10), TestEvent.class);
+            eventBus.register(recording(log, "child-mid", 0), ChildEvent.class);
+
+            eventBus.publish(new ChildEvent(this, "m"));
+
+            assertEquals(List.of("parent-high", "child-mid", "child-low"), log);
+        }
+
+        @Test
+        @DisplayName("Should not deliver subclass listeners for parent events")
+        void shouldNotDeliverSubclassListenersForParentEvents() {
+            List<String> log = new ArrayList<>();
+            eventBus.register(recording(log, "child", 0), ChildEvent.class);
+            eventBus.register(recording(log, "parent", 0), TestEvent.class);
+
+            assertEquals(1, eventBus.publish(new TestEvent(this, "m")));
+            assertEquals(List.of("parent"), log);
+        }
+
+        @Test
+        @DisplayName("Should rebuild dispatch table after registration changes")
+        void shouldRebuildAfterRegistrationChanges() throws NoSuchMethodException {
+            List<String> log = new ArrayList<>();
+            eventBus.register(recording(log, "child", 0), ChildEvent.class);
+            assertEquals(1, eventBus.publish(new ChildEvent(this, "first")));
+
+            SimpleSubscriber subscriber = new SimpleSubscriber();
+            eventBus.register(new EventSubscriber(subscriber,
+                SimpleSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                TestEvent.class, false, 0, null, false));
+            assertEquals(2, eventBus.publish(new ChildEvent(this, "second")));
+            assertEquals(1, subscriber.receivedEvents.size());
+
+            eventBus.unregister(subscriber);
+            assertEquals(1, eventBus.publish(new ChildEvent(this, "third")));
+            assertEquals(1, subscriber.receivedEvents.size());
+
+            eventBus.clear();
+            assertEquals(0, eventBus.publish(new ChildEvent(this, "fourth")));
+            assertEquals(List.of("child", "child", "child"), log);
+        }
+
+        @Test
+        @DisplayName("Should deliver every event to listeners of Event and Object")
+        void shouldDeliverEveryEventToCatchAllListeners() {
+            List<String> log = new ArrayList<>();
+            eventBus.register(recording(log, "event", 0), Event.class);
+            eventBus.register(recording(log, "object", 0), Object.class);
+
+            assertEquals(2, eventBus.publish(new TestEvent(this, "m")));
+            assertEquals(2, eventBus.publish(new KeyedEvent(1, 1)));
+            assertEquals(List.of("event", "object", "event", "object"), log);
+        }
+
+        @Test
+        @DisplayName("Should rebuild only the tables a registration change affects")
+        void shouldRebuildOnlyAffectedTables() {
+            List<String> log = new ArrayList<>();
+            eventBus.register(recording(log, "parent", 0), TestEvent.class);
+            assertEquals(1, eventBus.publish(new AuditedChildEvent(this, "first")));
+            assertEquals(0, eventBus.publish(new KeyedEvent(1, 1)));
+
+            eventBus.register(recording(log, "keyed", 0), KeyedEvent.class);
+            assertEquals(1, eventBus.publish(new AuditedChildEvent(this, "second")));
+            assertEquals(1, eventBus.publish(new KeyedEvent(1, 2)));
+
+            eventBus.register(recording(log, "interface", 0), Audited.class);
+            assertEquals(2, eventBus.publish(new AuditedChildEvent(this, "third")));
+            assertEquals(1, eventBus.publish(new ChildEvent(this, "plain")));
+            assertEquals(1, eventBus.publish(new KeyedEvent(1, 3)));
+            assertEquals(List.of("parent", "parent", "keyed", "parent", "interface", "parent", "keyed"), log);
+        }
+    }
+
+    static class KeyedEvent extends Event {
+        final int key;
+        final int sequence;
+
+        KeyedEvent(int key, int sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        public int getKey() {
+            return key;
+        }
+    }
+
+    static class KeyedSubscriber {
+        final List<List<Integer>> seen = new ArrayList<>();
+        final CountDownLatch latch;
+
+        KeyedSubscriber(int keys, int events) {
+            for (int k = 0; k < keys; k++) {
+                seen.add(Collections.synchronizedList(new ArrayList<>()));
+            }
+            latch = new CountDownLatch(events);
+        }
+
+        void onKeyed(KeyedEvent event) {
+            seen.get(event.key).add(event.sequence);
+            latch.countDown();
+        }
+
+        void assertOrdered(int perKey) {
+            for (List<Integer> values : seen) {
+                assertEquals(perKey, values.size());
+                for (int i = 0; i < perKey; i++) {
+                    assertEquals(i, values.get(i));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Delivery Tests")
+    class AsyncDeliveryTests {
+
+        private static final int KEYED_EVENT_ID = 4242;
+
+        @Test
+        @DisplayName("Should deliver events with equal ordering keys in order")
+        void shouldOrderAsyncHandlerByKey() throws InterruptedException {
+            KeyedSubscriber subscriber = new KeyedSubscriber(4, 800);
+            eventBus.registerAsyncEventHandler(KEYED_EVENT_ID, KeyedEvent.class, subscriber::onKeyed, 0,
+                null, Subscribe.AsyncMode.EXECUTOR, KeyedEvent::getKey);
+
+            for (int i = 0; i < 200; i++) {
+                for (int k = 0; k < 4; k++) {
+                    eventBus.publish(KEYED_EVENT_ID, new KeyedEvent(k, i));
+                }
+            }
+
+            assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+            subscriber.assertOrdered(200);
+        }
+
+        @Test
+        @DisplayName("Should run virtual-thread handlers off the publishing thread")
+        void shouldRunOnVirtualThreadExecutor() throws Exception {
+            CompletableFuture<String> thread = new CompletableFuture<>();
+            eventBus.registerAsyncEventHandler(KEYED_EVENT_ID, KeyedEvent.class,
+                event -> thread.complete(Thread.currentThread().getName()), 0,
+                event -> event.key == 1, Subscribe.AsyncMode.VIRTUAL_THREAD, null);
+
+            eventBus.publish(KEYED_EVENT_ID, new KeyedEvent(0, 0));
+            eventBus.publish(KEYED_EVENT_ID, new KeyedEvent(1, 0));
+
+            assertTrue(thread.get(5, TimeUnit.SECONDS).startsWith("EventBus-Virtual-"));
+        }
+
+        @Test
+        @DisplayName("Should order object-based async subscribers by key")
+        void shouldOrderAsyncSubscriberByKey() throws Exception {
+            KeyedSubscriber target = new KeyedSubscriber(3, 300);
+            EventSubscriber subscriber = new EventSubscriber(target,
+                KeyedSubscriber.class.getDeclaredMethod("onKeyed", KeyedEvent.class),
+                KeyedEvent.class, true, 0, null, true)
+                .withAsyncDelivery(Subscribe.AsyncMode.VIRTUAL_THREAD, event -> ((KeyedEvent) event).key);
+            eventBus.register(subscriber);
+
+            for (int i = 0; i < 100; i++) {
+                for (int k = 0; k < 3; k++) {
+                    eventBus.publish(new KeyedEvent(k, i));
+                }
+            }
+
+            assertTrue(target.latch.await(10, TimeUnit.SECONDS));
+            target.assertOrdered(100);
+            assertTrue(subscriber.toString().contains("asyncMode=VIRTUAL_THREAD, ordered"));
+        }
+
+        @Test
+        @DisplayName("Should reject a null async mode")
+        void shouldRejectNullAsyncMode() {
+            assertThrows(IllegalArgumentException.class, () -> eventBus.registerAsyncEventHandler(
+                KEYED_EVENT_ID, KeyedEvent.class, event -> { }, 0, null, null, null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Topic Channel Tests")
+    class TopicChannelTests {
+
+        @Test
+        @DisplayName("Should deliver to the concrete topic channel and every matching wildcard channel")
+        void shouldPublishToMatchingChannels() {
+            List<String> calls = new ArrayList<>();
+            eventBus.getTopicChannel("orders.eu.created").register(1, payload -> calls.add("exact:" + payload));
+            eventBus.getTopicChannel("orders.*.created").register(1, payload -> calls.add("created:" + payload));
+            eventBus.getTopicChannel("orders.>").register(1, payload -> calls.add("all:" + payload));
+            eventBus.getTopicChannel("orders.>").register(2, payload -> calls.add("other-id:" + payload));
+
+            assertEquals(3, eventBus.publish("orders.eu.created", 1, "a"));
+            assertEquals(1, eventBus.publish("orders.us.shipped", 1, "b"));
+            assertEquals(0, eventBus.publish("payments.eu.created", 1, "c"));
+
+            assertEquals(List.of("exact:a", "created:a", "all:a", "all:b"), calls);
+            assertSame(eventBus.getChannel("orders.eu.created"), eventBus.getTopicChannel("orders.eu.created"));
+        }
+
+        @Test
+        @DisplayName("Should pick up channels created and patterns removed after the route was cached")
+        void shouldRefreshRoutes() {
+            AtomicInteger wildcard = new AtomicInteger();
+            AtomicInteger exact = new AtomicInteger();
+            eventBus.getTopicChannel("metrics.>").register(1, payload -> wildcard.incrementAndGet());
+            assertEquals(1, eventBus.publish("metrics.cpu.load", 1, "x"));
+
+            eventBus.getChannel("metrics.cpu.load").register(1, payload -> exact.incrementAndGet());
+            assertEquals(2, eventBus.publish("metrics.cpu.load", 1, "x"));
+
+            assertTrue(eventBus.removeTopicChannel("metrics.>"));
+            assertFalse(eventBus.removeTopicChannel("metrics.>"));
+            assertEquals(1, eventBus.publish("metrics.cpu.load", 1, "x"));
+            assertEquals(2, wildcard.get());
+            assertEquals(2, exact.get());
+        }
+
+        @Test
+        @DisplayName("Should reject wildcard publishes and coalescing wildcard channels")
+        void shouldRejectInvalidTopics() {
+            assertThrows(IllegalArgumentException.class, () -> eventBus.publish("orders.*", 1, "x"));
+            assertThrows(IllegalArgumentException.class, () -> eventBus.getTopicChannel("orders..x"));
+            assertThrows(IllegalArgumentException.class, () -> eventBus.getTopicChannel("orders.>",
+                EventChannelOptions.builder().coalescing(Duration.ZERO, payload -> payload).build()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tracked Publish Tests")
+    class TrackedPublishTests {
+
+        @Test
+        @DisplayName("Should complete after async subscribers and report failing ones")
+        void shouldTrackObjectSubscribers() throws Exception {
+            List<String> calls = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch gate = new CountDownLatch(1);
+            eventBus.register(new EventSubscriber(new RecordingSubscriber(calls, "sync"),
+                RecordingSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                TestEvent.class, false, 10, null, false));
+            eventBus.register(new EventSubscriber(new GatedSubscriber(calls, gate),
+                GatedSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                TestEvent.class, true, 5, null, false));
+            eventBus.register(new EventSubscriber(new RecordingSubscriber(calls, "failing"),
+                RecordingSubscriber.class.getDeclaredMethod("fail", TestEvent.class),
+                TestEvent.class, false, 0, null, false));
+
+            CompletableFuture<PublishResult> future = eventBus.publishTracked(new TestEvent(this, "tracked"));
+            assertFalse(future.isDone());
+
+            gate.countDown();
+            PublishResult result = future.get(5, TimeUnit.SECONDS);
+            assertEquals(List.of("sync", "failing", "async"), calls);
+            assertEquals(2, result.getDelivered());
+            assertEquals(1, result.getFailures().size());
+            Throwable cause = result.getFailures().get(0).getCause();
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            assertEquals("failing", cause.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should wait for async event handlers of object-less events")
+        void shouldTrackAsyncEventHandlers() throws Exception {
+            AtomicInteger handled = new AtomicInteger();
+            eventBus.registerAsyncEventHandler(TestEvent.ID, TestEvent.class, event -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.incrementAndGet();
+            }, 0, null, Subscribe.AsyncMode.EXECUTOR, null);
+
+            PublishResult result = eventBus.publishTracked(TestEvent.ID, new TestEvent(this, "handler"))
+                .get(5, TimeUnit.SECONDS);
+
+            assertEquals(1, handled.get());
+            assertEquals(2, result.getDelivered());
+            assertTrue(result.isSuccessful());
+        }
+
+        @Test
+        @DisplayName("Should complete empty when nothing is subscribed")
+        void shouldCompleteEmpty() {
+            CompletableFuture<PublishResult> future = eventBus.publishTracked(TestEvent.ID, "nobody");
+
+            assertTrue(future.isDone());
+            assertEquals(0, future.join().getDelivered());
+            assertEquals(0, eventBus.publishTracked(null).join().getDelivered());
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Fan-Out Tests")
+    class ParallelFanOutTests {
+
+        @Test
+        @DisplayName("Should fan out parallel subscribers and still honor cancellation for serial ones")
+        void shouldFanOutParallelSubscribers() throws Exception {
+            List<String> calls = Collections.synchronizedList(new ArrayList<>());
+            for (int i = 0; i < 3; i++) {
+                RecordingSubscriber target = new RecordingSubscriber(calls, "parallel");
+                eventBus.register(new EventSubscriber(target,
+                    RecordingSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                    TestEvent.class, false, 0, null, false).withParallelDelivery());
+            }
+            RecordingSubscriber canceller = new RecordingSubscriber(calls, "cancel");
+            eventBus.register(new EventSubscriber(canceller,
+                RecordingSubscriber.class.getDeclaredMethod("cancel", TestEvent.class),
+                TestEvent.class, false, 10, null, false));
+            RecordingSubscriber skipped = new RecordingSubscriber(calls, "skipped");
+            eventBus.register(new EventSubscriber(skipped,
+                RecordingSubscriber.class.getDeclaredMethod("onEvent", TestEvent.class),
+                TestEvent.class, false, 0, null, false));
+
+            eventBus.setParallelFanOutThreshold(3);
+            assertEquals(3, eventBus.getParallelFanOutThreshold());
+            assertEquals(4, eventBus.publish(new TestEvent(this, "fan-out")));
+
+            assertEquals(4, calls.size());
+            assertEquals(3, Collections.frequency(calls, "parallel"));
+            assertTrue(calls.contains("cancel"));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid thresholds")
+        void shouldRejectInvalidThreshold() {
+            assertThrows(IllegalArgumentException.class, () -> eventBus.setParallelFanOutThreshold(1));
+            assertEquals(0, eventBus.getParallelFanOutThreshold());
+        }
+    }
+
+    static class RecordingSubscriber {
+        private final List<String> calls;
+        private final String name;
+
+        RecordingSubscriber(List<String> calls, String name) {
+            this.calls = calls;
+            this.name = name;
+        }
+
+        public void onEvent(TestEvent event) {
+            calls.add(name);
+        }
+
+        public void cancel(TestEvent event) {
+            calls.add(name);
+            event.cancel();
+        }
+
+        public void fail(TestEvent event) {
+            calls.add(name);
+            throw new IllegalStateException(name);
+        }
+    }
+
+    static class GatedSubscriber {
+        private final List<String> calls;
+        private final CountDownLatch gate;
+
+        GatedSubscriber(List<String> calls, CountDownLatch gate) {
+            this.calls = calls;
+            this.gate = gate;
+        }
+
+        public void onEvent(TestEvent event) throws InterruptedException {
+            gate.await(5, TimeUnit.SECONDS);
+            calls.add("async");
+        }
+    }
+
+    @Nested
+    @DisplayName("Generated Dispatcher Tests")
+    class GeneratedDispatcherTests {
+
+        private static final int GENERATED_ID = 5150;
+
+        /** Hand-written equivalent of a generated VeldEventDispatcher with one bound component. */
+        private final class RecordingDispatcher implements GeneratedEventDispatcher {
+            private final List<String> calls;
+            private Object component = new Object();
+
+            RecordingDispatcher(List<String> calls) {
+                this.calls = calls;
+            }
+
+            @Override
+            public int dispatch(int eventId, Object payload) {
+                if (eventId == GENERATED_ID && payload instanceof String && component != null) {
+                    calls.add("generated:" + payload);
+                    return 1;
+                }
+                return 0;
+            }
+
+            @Override
+            public void unbind(Object c) {
+                if (component == c) {
+                    component = null;
+                }
+            }
+
+            @Override
+            public void clear() {
+                component = null;
+            }
+        }
+
+        @Test
+        @DisplayName("Should merge generated subscribers with channel listeners by priority")
+        void shouldMergeByPriority() throws Exception {
+            List<String> calls = Collections.synchronizedList(new ArrayList<>());
+            eventBus.setGeneratedDispatcher(new RecordingDispatcher(calls));
+            eventBus.register(GENERATED_ID, payload -> calls.add("low:" + payload), -5);
+            eventBus.register(GENERATED_ID, payload -> calls.add("equal:" + payload), 0);
+            eventBus.register(GENERATED_ID, payload -> calls.add("high:" + payload), 100);
+
+            assertEquals(4, eventBus.publish(GENERATED_ID, "a"));
+            assertEquals(4, eventBus.publishAsync(GENERATED_ID, "b").get(5, TimeUnit.SECONDS));
+            assertEquals(4, eventBus.publishTracked(GENERATED_ID, "c").get(5, TimeUnit.SECONDS).getDelivered());
+            assertEquals(0, eventBus.publish(GENERATED_ID + 1, "d"));
+
+            // Generated subscribers have priority 0 here and go first among equal priorities
+            assertEquals(List.of("high:a", "generated:a", "equal:a", "low:a",
+                    "high:b", "generated:b", "equal:b", "low:b",
+                    "high:c", "generated:c", "equal:c", "low:c"), calls);
+        }
+
+        @Test
+        @DisplayName("Should include generated deliveries in batch and async counts")
+        void shouldDispatchBatchesAndAsync() throws Exception {
+            List<String> calls = Collections.synchronizedList(new ArrayList<>());
+            eventBus.setGeneratedDispatcher(new RecordingDispatcher(calls));
+
+            assertEquals(2, eventBus.publishBatch(GENERATED_ID, new Object[]{"x", "a", "b"}, 1, 3));
+            assertEquals(1, eventBus.publishBatch(new int[]{GENERATED_ID, 7}, new Object[]{"c", "d"}, 0, 2));
+            assertEquals(1, eventBus.publishAsync(GENERATED_ID, "e").get(5, TimeUnit.SECONDS));
+
+            assertEquals(List.of("generated:a", "generated:b", "generated:c", "generated:e"), calls);
+        }
+
+        @Test
+        @DisplayName("Should unbind components on unregister and remove the dispatcher on clear")
+        void shouldUnbindAndClear() {
+            List<String> calls = new ArrayList<>();
+            RecordingDispatcher dispatcher = new RecordingDispatcher(calls);
+            Object component = dispatcher.component;
+            eventBus.setGeneratedDispatcher(dispatcher);
+
+            eventBus.unregister(new Object());
+            assertEquals(1, eventBus.publish(GENERATED_ID, "a"));
+
+            eventBus.unregister(component);
+            assertEquals(0, eventBus.publish(GENERATED_ID, "b"));
+
+            eventBus.clear();
+            assertNull(eventBus.getGeneratedDispatcher());
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics Tests")
+    @SuppressWarnings("deprecation")
+    class StatisticsTests {
+
+        @Test
+        @DisplayName("Should break object event counts down per event class")
+        void shouldBreakDownPerEventClass() {
+            eventBus.register(recording(new ArrayList<>(), "parent", 0), TestEvent.class);
+            eventBus.register(recording(new ArrayList<>(), "child", 0), ChildEvent.class);
+
+            eventBus.publish(new TestEvent(this, "a"));
+            eventBus.publish(new ChildEvent(this, "b"));
+            eventBus.publish(new ChildEvent(this, "c"));
+
+            EventStatistics<Class<?>> stats = eventBus.getObjectEventStatistics();
+            assertEquals(3, stats.getPublished());
+            assertEquals(5, stats.getDelivered());
+            assertEquals(1, stats.getBreakdown().get(TestEvent.class).getPublished());
+            assertEquals(2, stats.getBreakdown().get(ChildEvent.class).getPublished());
+            assertEquals(4, stats.getBreakdown().get(ChildEvent.class).getDelivered());
+            assertEquals(3, eventBus.getPublishedCount());
+            assertEquals(5, eventBus.getDeliveredCount());
+        }
+
+        @Test
+        @DisplayName("Should report statistics per channel")
+        void shouldReportPerChannel() {
+            eventBus.register(7, payload -> { });
+            EventChannel metrics = eventBus.getChannel("stats-metrics");
+            metrics.register(3, payload -> { });
+
+            eventBus.publish(7, "a");
+            metrics.publish(3, "b");
+            metrics.publish(3, "c");
+
+            Map<String, EventStatistics<Integer>> channels = eventBus.getChannelStatistics();
+            assertTrue(channels.get("Standard").getBreakdown().get(7).getPublished() >= 1);
+            assertEquals(2, channels.get("stats-metrics").getPublished());
+            assertTrue(eventBus.getStatistics().contains("stats-metrics[published=2"));
+        }
+
+        @Test
+        @DisplayName("Should create coalescing channels from coalescing options")
+        void shouldCreateCoalescingChannel() {
+            EventChannel ticks = eventBus.getChannel("stats-ticks", EventChannelOptions.builder()
+                .coalescing(Duration.ofSeconds(10), payload -> "latest")
+                .build());
+            assertInstanceOf(CoalescingEventChannel.class, ticks);
+            List<Object> received = new ArrayList<>();
+            ticks.register(1, received::add);
+
+            ticks.publish(1, "a");
+            ticks.publish(1, "b");
+            ((CoalescingEventChannel) ticks).shutdown();
+
+            assertEquals(List.of("b"), received);
+            assertEquals(1, eventBus.getChannelStatistics().get("stats-ticks").getCoalesced());
+        }
+
+        @Test
+        @DisplayName("Should stop counting on every path when statistics are off")
+        void shouldStopCountingWhenOff() {
+            eventBus.register(recording(new ArrayList<>(), "parent", 0), TestEvent.class);
+            eventBus.register(7, payload -> { });
+            long channelBefore = eventBus.getChannelStatistics().get("Standard").getPublished();
+            eventBus.setStatisticsMode(EventChannelOptions.StatisticsMode.OFF);
+
+            assertEquals(1, eventBus.publish(new TestEvent(this, "a")));
+            assertEquals(1, eventBus.publish(7, "b"));
+
+            assertEquals(0, eventBus.getPublishedCount());
+            assertEquals(channelBefore, eventBus.getChannelStatistics().get("Standard").getPublished());
+        }
+
+        @Test
+        @DisplayName("Should record object dispatch latency when enabled")
+        void shouldRecordLatency() {
+            eventBus.register(recording(new ArrayList<>(), "parent", 0), TestEvent.class);
+            eventBus.setStatisticsMode(EventChannelOptions.StatisticsMode.LATENCY);
+
+            eventBus.publish(new TestEvent(this, "a"));
+            eventBus.publish(new TestEvent(this, "b"));
+
+            EventStatistics<Class<?>> stats = eventBus.getObjectEventStatistics();
+            assertNotNull(stats.getLatency());
+            assertEquals(2, stats.getLatency().getCount());
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases Tests")
     class EdgeCasesTests {
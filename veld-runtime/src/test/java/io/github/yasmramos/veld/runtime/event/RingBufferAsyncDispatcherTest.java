@@ -0,0 +1,193 @@
+/*
+ * Copyright 2025 Veld Framework
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.yasmramos.veld.runtime.event;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link RingBufferAsyncDispatcher} and ring-buffer mode channels.
+ */
+@DisplayName("RingBufferAsyncDispatcher Tests")
+@Execution(ExecutionMode.SAME_THREAD)
+class RingBufferAsyncDispatcherTest {
+
+    private RingBufferAsyncDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(EventChannelOptions.WaitStrategy.class)
+    @DisplayName("Should deliver payloads in publication order")
+    void shouldDeliverInOrder(EventChannelOptions.WaitStrategy strategy) throws InterruptedException {
+        dispatcher = new RingBufferAsyncDispatcher("order", 16, strategy);
+        List<Object> received = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        ObjectLessEventBus.ObjectLessListener listener = payload -> {
+            received.add(payload);
+            latch.countDown();
+        };
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(listener, i);
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver everything from concurrent producers when the ring wraps")
+    void shouldDeliverFromConcurrentProducers() throws InterruptedException {
+        dispatcher = new RingBufferAsyncDispatcher("mp", 8, EventChannelOptions.WaitStrategy.YIELD);
+        int producers = 4;
+        int perProducer = 5_000;
+        AtomicInteger delivered = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+        ObjectLessEventBus.ObjectLessListener listener = payload -> {
+            delivered.incrementAndGet();
+            done.countDown();
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        for (int p = 0; p < producers; p++) {
+            pool.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    dispatcher.dispatch(listener, i);
+                }
+            });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, delivered.get());
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should keep consuming after a listener throws")
+    void shouldSurviveListenerFailure() throws InterruptedException {
+        dispatcher = new RingBufferAsyncDispatcher("errors", 4, EventChannelOptions.WaitStrategy.PARK);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        dispatcher.dispatch(payload -> { throw new IllegalStateException("boom"); }, "first");
+        dispatcher.dispatch(payload -> latch.countDown(), "second");
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should drain accepted deliveries on shutdown")
+    void shouldDrainOnShutdown() {
+        dispatcher = new RingBufferAsyncDispatcher("drain", 64, EventChannelOptions.WaitStrategy.PARK);
+        AtomicInteger delivered = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch(payload -> delivered.incrementAndGet(), i);
+        }
+        dispatcher.shutdown();
+
+        assertEquals(50, delivered.get());
+        assertEquals(0, dispatcher.getBacklog());
+    }
+
+    @Test
+    @DisplayName("Should settle every tracked delivery when producers race shutdown")
+    void shouldSettleDeliveriesRacingShutdown() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            dispatcher = new RingBufferAsyncDispatcher("race", 2, EventChannelOptions.WaitStrategy.PARK);
+            DeliveryTracker tracker = new DeliveryTracker();
+            int producers = 4;
+            int perProducer = 200;
+            ExecutorService pool = Executors.newFixedThreadPool(producers);
+            CountDownLatch started = new CountDownLatch(producers);
+            for (int p = 0; p < producers; p++) {
+                pool.execute(() -> {
+                    started.countDown();
+                    for (int i = 0; i < perProducer; i++) {
+                        tracker.dispatch(dispatcher, payload -> Thread.yield(), i);
+                    }
+                });
+            }
+            started.await();
+            dispatcher.shutdown();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS), "producer stuck after shutdown");
+
+            PublishResult result = tracker.complete().get(5, TimeUnit.SECONDS);
+            assertEquals(producers * perProducer, result.getDelivered() + result.getDropped());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject sizes that are not a power of two")
+    void shouldRejectInvalidSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RingBufferAsyncDispatcher("bad", 10, EventChannelOptions.WaitStrategy.PARK));
+        assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().ringBuffer(0, EventChannelOptions.WaitStrategy.PARK));
+    }
+
+    @Test
+    @DisplayName("Channel in ring-buffer mode should deliver async listeners off the publisher thread")
+    void channelShouldUseRingBuffer() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        StandardEventChannel channel = new StandardEventChannel("ring", executor,
+                EventChannelOptions.builder().ringBuffer(32, EventChannelOptions.WaitStrategy.YIELD).build());
+        CountDownLatch latch = new CountDownLatch(1);
+        String[] threadName = new String[1];
+        channel.register(1, new ObjectLessEventBus.ObjectLessListener() {
+            @Override
+            public void onEvent(Object payload) {
+                threadName[0] = Thread.currentThread().getName();
+                latch.countDown();
+            }
+
+            @Override
+            public boolean isAsync() {
+                return true;
+            }
+        });
+
+        assertEquals(0, channel.publish(1, "payload"));
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals("EventChannel-ring-RingBuffer", threadName[0]);
+        assertEquals(EventChannelOptions.AsyncMode.RING_BUFFER, channel.getOptions().getAsyncMode());
+
+        channel.shutdown();
+        executor.shutdown();
+    }
+}
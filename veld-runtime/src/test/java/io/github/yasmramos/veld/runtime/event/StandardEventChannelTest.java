@@ -1,14 +1,23 @@
 package io.github.yasmramos.veld.runtime.event;
 
+import io.github.yasmramos.veld.runtime.event.journal.JournalOptions;
+import io.github.yasmramos.veld.runtime.event.journal.PayloadCodec;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -408,6 +417,20 @@ class StandardEventChannelTest {
             assertEquals("same-priority", first.receivedPayloads.get(0));
             assertEquals("same-priority", second.receivedPayloads.get(0));
         }
+
+        @Test
+        @DisplayName("Should order lambdas by their registered priority")
+        void shouldOrderByRegisteredPriority() {
+            List<String> callOrder = new ArrayList<>();
+
+            channel.register(1, payload -> callOrder.add("low"), -1);
+            channel.register(1, payload -> callOrder.add("high"), 10);
+            channel.register(1, payload -> callOrder.add("default"));
+
+            channel.publish(1, "priority-test");
+
+            assertEquals(List.of("high", "default", "low"), callOrder);
+        }
     }
 
     // ===== Edge Cases Tests =====
@@ -629,4 +652,1011 @@ class StandardEventChannelTest {
                 channel.register(1, null));
         }
     }
+
+    // ===== Batch Publish Tests =====
+
+    @Nested
+    @DisplayName("Batch Publish Tests")
+    class BatchPublishTests {
+
+        @Test
+        @DisplayName("Should deliver every payload in range to every sync listener in order")
+        void shouldDeliverRangeInOrder() {
+            TestListener first = new TestListener();
+            TestListener second = new TestListener();
+            channel.register(1, first);
+            channel.register(1, second);
+
+            Object[] payloads = {"skip", "a", "b", "c", "skip"};
+            int delivered = channel.publishBatch(1, payloads, 1, 4);
+
+            assertEquals(6, delivered);
+            assertEquals(List.of("a", "b", "c"), first.receivedPayloads);
+            assertEquals(List.of("a", "b", "c"), second.receivedPayloads);
+            assertTrue(channel.getStatistics().contains("Events Published: 3"));
+        }
+
+        @Test
+        @DisplayName("Should hand the batch to async listeners")
+        void shouldDeliverBatchToAsyncListener() throws InterruptedException {
+            CountDownLatch latch = new CountDownLatch(3);
+            AsyncTestListener listener = new AsyncTestListener(latch);
+            channel.register(1, listener);
+
+            Object[] payloads = {"x", "y", "z"};
+            int delivered = channel.publishBatch(1, payloads, 0, payloads.length);
+            payloads[0] = "mutated";
+
+            assertEquals(0, delivered);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("x", "y", "z"), listener.receivedPayloads);
+        }
+
+        @Test
+        @DisplayName("Should route multi-id batches to the matching listeners")
+        void shouldRouteMultiIdBatch() {
+            TestListener one = new TestListener();
+            TestListener two = new TestListener();
+            channel.register(1, one);
+            channel.register(2, two);
+
+            int[] ids = {1, 2, 1, 99, -1, 2};
+            Object[] payloads = {"1a", "2a", "1b", "none", "negative", "2b"};
+            int delivered = channel.publishBatch(ids, payloads, 0, ids.length);
+
+            assertEquals(4, delivered);
+            assertEquals(List.of("1a", "1b"), one.receivedPayloads);
+            assertEquals(List.of("2a", "2b"), two.receivedPayloads);
+        }
+
+        @Test
+        @DisplayName("Should deliver async entries of a multi-id batch in order")
+        void shouldDeliverAsyncEntriesOfMultiIdBatch() throws InterruptedException {
+            CountDownLatch latch = new CountDownLatch(3);
+            AsyncTestListener listener = new AsyncTestListener(latch);
+            TestListener sync = new TestListener();
+            channel.register(1, listener);
+            channel.register(2, sync);
+
+            int delivered = channel.publishBatch(new int[]{1, 2, 1, 1}, new Object[]{"a", "s", "b", "c"}, 0, 4);
+
+            assertEquals(1, delivered);
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("a", "b", "c"), listener.receivedPayloads);
+        }
+
+        @Test
+        @DisplayName("Should reject ranges outside the arrays")
+        void shouldRejectInvalidRange() {
+            channel.register(1, new TestListener());
+
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> channel.publishBatch(1, new Object[2], 1, 3));
+            assertThrows(IndexOutOfBoundsException.class,
+                () -> channel.publishBatch(new int[1], new Object[2], 0, 2));
+        }
+
+        @Test
+        @DisplayName("Should return 0 for unknown event ID")
+        void shouldReturnZeroForUnknownEventId() {
+            assertEquals(0, channel.publishBatch(500, new Object[]{"a"}, 0, 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics Tests")
+    class StatisticsTests {
+
+        @Test
+        @DisplayName("Should break counts down per event ID")
+        void shouldBreakDownCountsPerEventId() {
+            channel.register(1, new TestListener());
+            channel.register(1, new TestListener());
+            channel.register(2, new TestListener());
+
+            channel.publish(1, "a");
+            channel.publish(2, "b");
+            channel.publish(2, "c");
+            channel.publishBatch(new int[]{1, 1, 2}, new Object[]{"d", "e", "f"}, 0, 3);
+
+            EventStatistics<Integer> stats = channel.getStatisticsSnapshot();
+            assertEquals("test-channel", stats.getName());
+            assertEquals(EventChannelOptions.StatisticsMode.COUNTERS, stats.getMode());
+            assertEquals(6, stats.getPublished());
+            assertEquals(9, stats.getDelivered());
+            assertEquals(3, stats.getBreakdown().get(1).getPublished());
+            assertEquals(6, stats.getBreakdown().get(1).getDelivered());
+            assertEquals(3, stats.getBreakdown().get(2).getPublished());
+            assertNull(stats.getLatency());
+        }
+
+        @Test
+        @DisplayName("Should keep counts after listeners are removed or cleared")
+        void shouldKeepCountsAcrossUnregisterAndClear() {
+            TestListener listener = new TestListener();
+            channel.register(1, listener);
+            channel.publish(1, "a");
+            channel.unregister(1, listener);
+
+            assertEquals(1, channel.getStatisticsSnapshot().getBreakdown().get(1).getPublished());
+
+            channel.register(1, listener);
+            channel.publish(1, "b");
+            channel.clear();
+
+            EventStatistics<Integer> stats = channel.getStatisticsSnapshot();
+            assertEquals(2, stats.getPublished());
+            assertTrue(stats.getBreakdown().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not count anything when statistics are off")
+        void shouldNotCountWhenOff() {
+            TestListener listener = new TestListener();
+            channel.register(1, listener);
+            channel.setStatisticsMode(EventChannelOptions.StatisticsMode.OFF);
+
+            assertEquals(1, channel.publish(1, "a"));
+            assertEquals(2, channel.publishBatch(1, new Object[]{"b", "c"}, 0, 2));
+
+            assertEquals(3, listener.callCount.get());
+            assertEquals(0, channel.getStatisticsSnapshot().getPublished());
+            assertEquals(EventChannelOptions.StatisticsMode.OFF, channel.getStatisticsMode());
+        }
+
+        @Test
+        @DisplayName("Should record dispatch latency when configured")
+        void shouldRecordLatency() {
+            StandardEventChannel timed = new StandardEventChannel("timed", executor,
+                EventChannelOptions.builder().statistics(EventChannelOptions.StatisticsMode.LATENCY).build());
+            timed.register(1, new TestListener());
+
+            for (int i = 0; i < 10; i++) {
+                timed.publish(1, i);
+            }
+
+            EventStatistics<Integer> stats = timed.getStatisticsSnapshot();
+            assertEquals(10, stats.getPublished());
+            assertNotNull(stats.getLatency());
+            assertEquals(10, stats.getLatency().getCount());
+            assertTrue(timed.getStatistics().contains("Dispatch Latency"));
+        }
+
+        @Test
+        @DisplayName("Should count concurrent publishes exactly")
+        void shouldCountConcurrentPublishes() throws InterruptedException {
+            channel.register(1, new TestListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    callCount.incrementAndGet();
+                }
+            });
+            int threads = 4;
+            int perThread = 10_000;
+            CountDownLatch done = new CountDownLatch(threads);
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        channel.publish(1, i);
+                    }
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertEquals(threads * perThread, channel.getStatisticsSnapshot().getPublished());
+            assertEquals(threads * perThread, channel.getStatisticsSnapshot().getDelivered());
+        }
+
+        @Test
+        @DisplayName("Should reject a null statistics mode")
+        void shouldRejectNullMode() {
+            assertThrows(IllegalArgumentException.class, () -> channel.setStatisticsMode(null));
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().statistics(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Async Mode Tests")
+    class AsyncModeTests {
+
+        @Test
+        @DisplayName("Should deliver async listeners on virtual-thread channels")
+        void shouldDeliverOnVirtualThreadChannel() throws InterruptedException {
+            StandardEventChannel virtual = new StandardEventChannel("virtual", executor,
+                EventChannelOptions.builder().virtualThreads().build());
+            try {
+                CountDownLatch latch = new CountDownLatch(3);
+                AsyncTestListener listener = new AsyncTestListener(latch);
+                virtual.register(1, listener);
+
+                virtual.publish(1, "a");
+                virtual.publishBatch(1, new Object[]{"b", "c"}, 0, 2);
+
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+                assertEquals(3, listener.receivedPayloads.size());
+            } finally {
+                virtual.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep payloads with equal channel keys in order")
+        void shouldOrderByChannelKey() throws InterruptedException {
+            StandardEventChannel partitioned = new StandardEventChannel("partitioned", executor,
+                EventChannelOptions.builder().partitioned(8, payload -> ((int[]) payload)[0]).build());
+            int keys = 4;
+            int perKey = 200;
+            List<List<Integer>> seen = new ArrayList<>();
+            for (int k = 0; k < keys; k++) {
+                seen.add(Collections.synchronizedList(new ArrayList<>()));
+            }
+            CountDownLatch latch = new CountDownLatch(keys * perKey);
+            partitioned.register(1, new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    int[] event = (int[]) payload;
+                    seen.get(event[0]).add(event[1]);
+                    latch.countDown();
+                }
+
+                @Override
+                public boolean isAsync() {
+                    return true;
+                }
+            });
+
+            for (int i = 0; i < perKey; i++) {
+                for (int k = 0; k < keys; k++) {
+                    partitioned.publish(1, new int[]{k, i});
+                }
+            }
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            for (List<Integer> values : seen) {
+                for (int i = 0; i < perKey; i++) {
+                    assertEquals(i, values.get(i));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should prefer the listener's own ordering key")
+        void shouldPreferListenerOrderingKey() throws InterruptedException {
+            StandardEventChannel partitioned = new StandardEventChannel("partitioned", executor,
+                EventChannelOptions.builder().partitioned(4, payload -> {
+                    throw new AssertionError("channel key must not be used");
+                }).build());
+            List<Object> received = Collections.synchronizedList(new ArrayList<>());
+            CountDownLatch latch = new CountDownLatch(50);
+            partitioned.register(1, new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    received.add(payload);
+                    latch.countDown();
+                }
+
+                @Override
+                public boolean isAsync() {
+                    return true;
+                }
+
+                @Override
+                public Object getOrderingKey(Object payload) {
+                    return "same";
+                }
+            });
+
+            for (int i = 0; i < 50; i++) {
+                partitioned.publish(1, i);
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 50; i++) {
+                assertEquals(i, received.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid partitioned options")
+        void shouldRejectInvalidLaneCount() {
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().partitioned(0, null));
+            EventChannelOptions options = EventChannelOptions.builder().partitioned(5, null).build();
+            assertEquals(EventChannelOptions.AsyncMode.PARTITIONED, options.getAsyncMode());
+            assertEquals(5, options.getLaneCount());
+            assertNull(options.getOrderingKey());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounded Queue Tests")
+    class BoundedQueueTests {
+
+        /**
+         * Async listener whose first delivery blocks until released, so later deliveries queue up.
+         */
+        class GatedListener implements ObjectLessEventBus.ObjectLessListener {
+            final List<Object> received = Collections.synchronizedList(new ArrayList<>());
+            final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch gate = new CountDownLatch(1);
+
+            @Override
+            public void onEvent(Object payload) {
+                received.add(payload);
+                threads.add(Thread.currentThread().getName());
+                started.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public boolean isAsync() {
+                return true;
+            }
+        }
+
+        private StandardEventChannel bounded(EventChannelOptions.Builder builder) {
+            return new StandardEventChannel("bounded", executor, builder.build());
+        }
+
+        /** Publishes one blocked delivery, then fills the two queue slots. */
+        private GatedListener fill(StandardEventChannel channel, Object first, Object second, Object third)
+                throws InterruptedException {
+            GatedListener listener = new GatedListener();
+            channel.register(1, listener);
+            channel.publish(1, first);
+            assertTrue(listener.started.await(5, TimeUnit.SECONDS));
+            channel.publish(1, second);
+            channel.publish(1, third);
+            assertEquals(2, channel.getStatisticsSnapshot().getQueue().getDepth());
+            return listener;
+        }
+
+        private void awaitDrained(StandardEventChannel channel, GatedListener listener, int expected)
+                throws InterruptedException {
+            listener.gate.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (listener.received.size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(expected, listener.received.size());
+            assertEquals(0, channel.getStatisticsSnapshot().getQueue().getDepth());
+        }
+
+        @Test
+        @DisplayName("Should drop the new delivery with DROP_NEWEST")
+        void shouldDropNewest() throws InterruptedException {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.DROP_NEWEST, 1));
+            GatedListener listener = fill(channel, 1, 2, 3);
+
+            channel.publish(1, 4);
+
+            awaitDrained(channel, listener, 3);
+            assertEquals(List.of(1, 2, 3), listener.received);
+            assertEquals(1, channel.getStatisticsSnapshot().getQueue().getDropped());
+        }
+
+        @Test
+        @DisplayName("Should report a tracked delivery rejected by the full queue as dropped")
+        void shouldReportDroppedTrackedDelivery() throws Exception {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.DROP_NEWEST, 1));
+            GatedListener listener = fill(channel, 1, 2, 3);
+
+            PublishResult result = channel.publishTracked(1, 4).get(5, TimeUnit.SECONDS);
+
+            assertEquals(0, result.getDelivered());
+            assertEquals(1, result.getDropped());
+            assertTrue(result.isSuccessful());
+            awaitDrained(channel, listener, 3);
+        }
+
+        @Test
+        @DisplayName("Should evict the oldest queued delivery with DROP_OLDEST")
+        void shouldDropOldest() throws InterruptedException {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.DROP_OLDEST, 1));
+            GatedListener listener = fill(channel, 1, 2, 3);
+
+            channel.publish(1, 4);
+
+            awaitDrained(channel, listener, 3);
+            assertEquals(List.of(1, 3, 4), listener.received);
+            assertEquals(1, channel.getStatisticsSnapshot().getQueue().getDropped());
+        }
+
+        @Test
+        @DisplayName("Should run the new delivery on the publisher with CALLER_RUNS")
+        void shouldRunOnCaller() throws InterruptedException {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.CALLER_RUNS, 1));
+            GatedListener listener = fill(channel, 1, 2, 3);
+            listener.gate.countDown();
+
+            channel.publish(1, 4);
+
+            assertEquals(Thread.currentThread().getName(), listener.threads.get(listener.received.indexOf(4)));
+            awaitDrained(channel, listener, 4);
+            EventStatistics.QueueStatistics queue = channel.getStatisticsSnapshot().getQueue();
+            assertEquals(1, queue.getCallerRuns());
+            assertEquals(0, queue.getDropped());
+        }
+
+        @Test
+        @DisplayName("Should replace queued payloads with the same key with COALESCE")
+        void shouldCoalesceByKey() throws InterruptedException {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.COALESCE, 1)
+                .coalesceKey(payload -> ((String) payload).charAt(0)));
+            GatedListener listener = fill(channel, "a1", "b1", "c1");
+
+            channel.publish(1, "b2");
+            channel.publish(1, "c2");
+
+            awaitDrained(channel, listener, 3);
+            assertEquals(List.of("a1", "b2", "c2"), listener.received);
+            EventStatistics.QueueStatistics queue = channel.getStatisticsSnapshot().getQueue();
+            assertEquals(2, queue.getCoalesced());
+            assertEquals(0, queue.getDropped());
+        }
+
+        @Test
+        @DisplayName("Should drop after waiting for the overflow timeout with BLOCK")
+        void shouldBlockThenDrop() throws InterruptedException {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.BLOCK, 1)
+                .overflowTimeout(Duration.ofMillis(50)));
+            GatedListener listener = fill(channel, 1, 2, 3);
+
+            channel.publish(1, 4);
+
+            EventStatistics.QueueStatistics queue = channel.getStatisticsSnapshot().getQueue();
+            assertEquals(1, queue.getWaits());
+            assertTrue(queue.getWaitNanos() >= TimeUnit.MILLISECONDS.toNanos(40));
+            assertEquals(1, queue.getDropped());
+            awaitDrained(channel, listener, 3);
+        }
+
+        @Test
+        @DisplayName("Should accept the delivery once a blocked publisher gets space")
+        void shouldBlockUntilSpace() throws InterruptedException {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.BLOCK, 1));
+            GatedListener listener = fill(channel, 1, 2, 3);
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                listener.gate.countDown();
+            });
+
+            channel.publish(1, 4);
+
+            awaitDrained(channel, listener, 4);
+            assertEquals(0, channel.getStatisticsSnapshot().getQueue().getDropped());
+        }
+
+        @Test
+        @DisplayName("Should route publishAsync through the bounded queue")
+        void shouldBoundPublishAsync() throws Exception {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(1, EventChannelOptions.OverflowPolicy.DROP_NEWEST, 1));
+            CountDownLatch gate = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            channel.register(1, payload -> {
+                started.countDown();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            CompletableFuture<Integer> running = channel.publishAsync(1, "a");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Integer> queued = channel.publishAsync(1, "b");
+            CompletableFuture<Integer> dropped = channel.publishAsync(1, "c");
+            gate.countDown();
+
+            assertEquals(1, running.get(5, TimeUnit.SECONDS));
+            assertEquals(1, queued.get(5, TimeUnit.SECONDS));
+            assertEquals(0, dropped.get(5, TimeUnit.SECONDS));
+            assertEquals(1, channel.getStatisticsSnapshot().getQueue().getDropped());
+        }
+
+        @Test
+        @DisplayName("Should not leave a delivery queued when the executor rejects its drainer")
+        void shouldNotStrandRejectedDelivery() throws Exception {
+            ExecutorService stopped = Executors.newSingleThreadExecutor();
+            stopped.shutdown();
+            StandardEventChannel channel = new StandardEventChannel("rejected", stopped, EventChannelOptions.builder()
+                .bounded(4, EventChannelOptions.OverflowPolicy.DROP_NEWEST, 1).build());
+            GatedListener listener = new GatedListener();
+            channel.register(1, listener);
+
+            PublishResult result = channel.publishTracked(1, "x").get(5, TimeUnit.SECONDS);
+
+            assertEquals(0, result.getDelivered());
+            assertEquals(0, channel.getStatisticsSnapshot().getQueue().getDepth());
+            assertTrue(listener.received.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should complete an evicted publishAsync only after releasing the queue")
+        void shouldCompleteEvictedOutsideQueueLock() throws Exception {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(2, EventChannelOptions.OverflowPolicy.DROP_OLDEST, 1));
+            GatedListener listener = new GatedListener();
+            channel.register(1, listener);
+            channel.publish(1, "a");
+            assertTrue(listener.started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Integer> oldest = channel.publishAsync(1, "b");
+            channel.publish(1, "c");
+
+            // The callback waits for another publisher, which needs the queue lock
+            CompletableFuture<Boolean> otherPublished = oldest.thenApply(count -> {
+                Thread other = new Thread(() -> channel.publish(1, "e"));
+                other.start();
+                try {
+                    other.join(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return !other.isAlive();
+            });
+            channel.publish(1, "d");
+
+            assertTrue(otherPublished.get(5, TimeUnit.SECONDS));
+            assertEquals(0, oldest.get());
+            listener.gate.countDown();
+        }
+
+        @Test
+        @DisplayName("Should start a new drainer after a listener throws an Error")
+        void shouldReleaseDrainerOnError() throws Exception {
+            StandardEventChannel channel = bounded(EventChannelOptions.builder()
+                .bounded(4, EventChannelOptions.OverflowPolicy.DROP_NEWEST, 1));
+            List<Object> received = Collections.synchronizedList(new ArrayList<>());
+            channel.register(1, new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    if ("fatal".equals(payload)) {
+                        throw new Error("fatal listener");
+                    }
+                    received.add(payload);
+                }
+
+                @Override
+                public boolean isAsync() {
+                    return true;
+                }
+            });
+
+            channel.publish(1, "fatal");
+            // The dying drainer frees its slot shortly after the Error, so keep publishing until one runs
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            for (int i = 0; received.isEmpty() && System.nanoTime() < deadline; i++) {
+                channel.publish(1, "ok-" + i);
+                Thread.sleep(10);
+            }
+            assertFalse(received.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report queue statistics only for bounded channels")
+        void shouldReportQueueStatistics() {
+            assertNull(channel.getStatisticsSnapshot().getQueue());
+            StandardEventChannel boundedChannel = bounded(EventChannelOptions.builder()
+                .bounded(16, EventChannelOptions.OverflowPolicy.DROP_OLDEST));
+            EventStatistics.QueueStatistics queue = boundedChannel.getStatisticsSnapshot().getQueue();
+            assertEquals(16, queue.getCapacity());
+            assertEquals(EventChannelOptions.OverflowPolicy.DROP_OLDEST, queue.getPolicy());
+            assertTrue(boundedChannel.getStatistics().contains("Async Queue: policy=DROP_OLDEST, depth=0/16"));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid bounded options")
+        void shouldRejectInvalidBoundedOptions() {
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().bounded(0, EventChannelOptions.OverflowPolicy.BLOCK));
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().bounded(8, EventChannelOptions.OverflowPolicy.BLOCK, 0));
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().bounded(8, EventChannelOptions.OverflowPolicy.COALESCE).build());
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder()
+                    .ringBuffer(8, EventChannelOptions.WaitStrategy.PARK)
+                    .bounded(8, EventChannelOptions.OverflowPolicy.BLOCK)
+                    .build());
+            assertThrows(IllegalArgumentException.class,
+                () -> EventChannelOptions.builder().overflowTimeout(Duration.ofMillis(-1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive Payload Tests")
+    class PrimitivePayloadTests {
+
+        @Test
+        @DisplayName("Should deliver long, double and long-pair events to their own listeners")
+        void shouldDeliverPrimitives() {
+            long[] longs = new long[2];
+            double[] doubles = new double[1];
+            TestListener objectListener = new TestListener();
+            channel.register(1, objectListener);
+            channel.registerLong(1, value -> longs[0] += value);
+            channel.registerDouble(1, value -> doubles[0] += value);
+            channel.registerLongPair(1, (first, second) -> {
+                longs[0] += first;
+                longs[1] += second;
+            });
+
+            assertEquals(1, channel.publishLong(1, 5L));
+            assertEquals(1, channel.publishDouble(1, 2.5));
+            assertEquals(1, channel.publish(1, 10L, 20L));
+
+            assertEquals(15L, longs[0]);
+            assertEquals(20L, longs[1]);
+            assertEquals(2.5, doubles[0]);
+            assertEquals(0, objectListener.callCount.get());
+            assertEquals(4, channel.getListenerCount());
+        }
+
+        @Test
+        @DisplayName("Should call primitive listeners in priority order")
+        void shouldHonorPriority() {
+            List<String> order = new ArrayList<>();
+            channel.registerLong(1, value -> order.add("low"), 1);
+            channel.registerLong(1, value -> order.add("high"), 10);
+            channel.registerLong(1, value -> order.add("default"));
+
+            assertEquals(3, channel.publishLong(1, 0L));
+            assertEquals(List.of("high", "low", "default"), order);
+        }
+
+        @Test
+        @DisplayName("Should unregister primitive listeners without touching object listeners")
+        void shouldUnregisterPrimitives() {
+            ObjectLessEventBus.LongListener longListener = value -> { };
+            ObjectLessEventBus.DoubleListener doubleListener = value -> { };
+            ObjectLessEventBus.LongPairListener pairListener = (first, second) -> { };
+            TestListener objectListener = new TestListener();
+            channel.register(1, objectListener);
+            channel.registerLong(1, longListener);
+            channel.registerDouble(1, doubleListener);
+            channel.registerLongPair(1, pairListener);
+
+            channel.unregisterLong(1, longListener);
+            channel.unregisterDouble(1, doubleListener);
+            channel.unregisterLongPair(1, pairListener);
+            channel.unregisterLong(99, longListener);
+
+            assertEquals(0, channel.publishLong(1, 1L));
+            assertEquals(0, channel.publishDouble(1, 1.0));
+            assertEquals(0, channel.publish(1, 1L, 2L));
+            assertEquals(1, channel.publish(1, "still here"));
+            assertEquals(1, channel.getListenerCount());
+        }
+
+        @Test
+        @DisplayName("Should keep primitive listeners when object listeners change")
+        void shouldKeepPrimitivesAcrossObjectRegistration() {
+            long[] sum = new long[1];
+            TestListener objectListener = new TestListener();
+            channel.registerLong(1, value -> sum[0] += value);
+            channel.register(1, objectListener);
+            channel.unregister(1, objectListener);
+
+            assertEquals(1, channel.publishLong(1, 7L));
+            assertEquals(7L, sum[0]);
+        }
+
+        @Test
+        @DisplayName("Should count primitive events in the event ID statistics")
+        void shouldCountPrimitiveEvents() {
+            channel.registerLong(3, value -> { });
+            channel.registerLong(3, value -> { });
+            channel.publishLong(3, 1L);
+            channel.publishLong(4, 1L);
+
+            EventStatistics.Counts counts = channel.getStatisticsSnapshot().getBreakdown().get(3);
+            assertEquals(1, counts.getPublished());
+            assertEquals(2, counts.getDelivered());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid primitive registrations")
+        void shouldRejectInvalidRegistrations() {
+            assertThrows(IllegalArgumentException.class, () -> channel.registerLong(-1, value -> { }));
+            assertThrows(IllegalArgumentException.class, () -> channel.registerDouble(1, null));
+            assertEquals(0, channel.publishLong(-1, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tracked Publish Tests")
+    class TrackedPublishTests {
+
+        @Test
+        @DisplayName("Should complete at once for synchronous listeners and isolate their failures")
+        void shouldTrackSynchronousListeners() {
+            TestListener first = new TestListener();
+            TestListener last = new TestListener();
+            RuntimeException boom = new IllegalStateException("boom");
+            ObjectLessEventBus.ObjectLessListener failing = payload -> {
+                throw boom;
+            };
+            channel.register(1, first, 10);
+            channel.register(1, failing, 5);
+            channel.register(1, last, 0);
+
+            CompletableFuture<PublishResult> future = channel.publishTracked(1, "sync");
+
+            assertTrue(future.isDone());
+            PublishResult result = future.join();
+            assertEquals(2, result.getDelivered());
+            assertFalse(result.isSuccessful());
+            assertSame(failing, result.getFailures().get(0).getListener());
+            assertSame(boom, result.getFailures().get(0).getCause());
+            assertEquals(1, first.callCount.get());
+            assertEquals(1, last.callCount.get());
+            assertEquals(2, channel.getStatisticsSnapshot().getDelivered());
+        }
+
+        @Test
+        @DisplayName("Should complete only after async listeners have finished")
+        void shouldWaitForAsyncListeners() throws Exception {
+            CountDownLatch gate = new CountDownLatch(1);
+            AtomicInteger finished = new AtomicInteger();
+            channel.register(1, new TestListener());
+            channel.register(1, new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    try {
+                        gate.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    finished.incrementAndGet();
+                }
+
+                @Override
+                public boolean isAsync() {
+                    return true;
+                }
+            });
+
+            CompletableFuture<PublishResult> future = channel.publishTracked(1, "async");
+            assertFalse(future.isDone());
+
+            gate.countDown();
+            PublishResult result = future.get(5, TimeUnit.SECONDS);
+            assertEquals(1, finished.get());
+            assertEquals(2, result.getDelivered());
+            assertTrue(result.isSuccessful());
+        }
+
+        @Test
+        @DisplayName("Should report async failures in every async mode")
+        void shouldReportAsyncFailures() throws Exception {
+            Map<String, EventChannelOptions> modes = Map.of(
+                "EXECUTOR", EventChannelOptions.defaults(),
+                "RING_BUFFER", EventChannelOptions.builder().ringBuffer(64, EventChannelOptions.WaitStrategy.PARK).build(),
+                "VIRTUAL_THREAD", EventChannelOptions.builder().virtualThreads().build(),
+                "PARTITIONED", EventChannelOptions.builder().partitioned(2, payload -> payload).build(),
+                "BOUNDED", EventChannelOptions.builder().bounded(8, EventChannelOptions.OverflowPolicy.BLOCK).build());
+            for (Map.Entry<String, EventChannelOptions> mode : modes.entrySet()) {
+                StandardEventChannel tracked = new StandardEventChannel("tracked-" + mode.getKey(), executor,
+                    mode.getValue());
+                try {
+                    ObjectLessEventBus.ObjectLessListener failing = new ObjectLessEventBus.ObjectLessListener() {
+                        @Override
+                        public void onEvent(Object payload) {
+                            throw new IllegalArgumentException(String.valueOf(payload));
+                        }
+
+                        @Override
+                        public boolean isAsync() {
+                            return true;
+                        }
+                    };
+                    tracked.register(1, failing);
+                    tracked.register(1, new AsyncTestListener(new CountDownLatch(1)));
+
+                    PublishResult result = tracked.publishTracked(1, mode.getKey()).get(5, TimeUnit.SECONDS);
+
+                    assertEquals(1, result.getDelivered(), mode.getKey());
+                    assertEquals(1, result.getFailures().size(), mode.getKey());
+                    assertSame(failing, result.getFailures().get(0).getListener(), mode.getKey());
+                    assertEquals(mode.getKey(), result.getFailures().get(0).getCause().getMessage());
+                } finally {
+                    tracked.shutdown();
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Fan-Out Tests")
+    class ParallelFanOutTests {
+
+        private ForkJoinPool pool;
+
+        @BeforeEach
+        void createPool() {
+            pool = new ForkJoinPool(4);
+        }
+
+        @AfterEach
+        void shutdownPool() {
+            pool.shutdownNow();
+        }
+
+        private ObjectLessEventBus.ObjectLessListener parallelSafe(ObjectLessEventBus.ObjectLessListener delegate) {
+            return new ObjectLessEventBus.ObjectLessListener() {
+                @Override
+                public void onEvent(Object payload) {
+                    delegate.onEvent(payload);
+                }
+
+                @Override
+                public boolean isParallelSafe() {
+                    return true;
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("Should run parallel-safe listeners concurrently and wait for all of them")
+        void shouldRunListenersConcurrently() {
+            StandardEventChannel parallel = new StandardEventChannel("parallel", executor,
+                EventChannelOptions.builder().parallelFanOut(4, pool).build());
+            CountDownLatch allStarted = new CountDownLatch(4);
+            AtomicInteger overlapped = new AtomicInteger();
+            for (int i = 0; i < 4; i++) {
+                parallel.register(1, parallelSafe(payload -> {
+                    allStarted.countDown();
+                    try {
+                        if (allStarted.await(5, TimeUnit.SECONDS)) {
+                            overlapped.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+            }
+            TestListener serial = new TestListener();
+            parallel.register(1, serial);
+
+            assertEquals(5, parallel.publish(1, "fan-out"));
+            assertEquals(4, overlapped.get());
+            assertEquals(1, serial.callCount.get());
+        }
+
+        @Test
+        @DisplayName("Should deliver serially on the publishing thread below the threshold")
+        void shouldStaySerialBelowThreshold() {
+            StandardEventChannel parallel = new StandardEventChannel("parallel", executor,
+                EventChannelOptions.builder().parallelFanOut(3, pool).build());
+            List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+            parallel.register(1, parallelSafe(payload -> threads.add(Thread.currentThread())));
+            parallel.register(1, parallelSafe(payload -> threads.add(Thread.currentThread())));
+
+            assertEquals(2, parallel.publish(1, "serial"));
+            assertEquals(List.of(Thread.currentThread(), Thread.currentThread()), threads);
+        }
+
+        @Test
+        @DisplayName("Should rethrow the first failure with the others suppressed after all listeners ran")
+        void shouldAggregateFailures() {
+            StandardEventChannel parallel = new StandardEventChannel("parallel", executor,
+                EventChannelOptions.builder().parallelFanOut(2, pool).build());
+            AtomicInteger completed = new AtomicInteger();
+            parallel.register(1, parallelSafe(payload -> {
+                throw new IllegalStateException("first");
+            }));
+            parallel.register(1, parallelSafe(payload -> completed.incrementAndGet()));
+            parallel.register(1, parallelSafe(payload -> {
+                throw new IllegalArgumentException("second");
+            }));
+            parallel.register(1, payload -> {
+                throw new UnsupportedOperationException("serial");
+            });
+
+            RuntimeException failure = assertThrows(RuntimeException.class, () -> parallel.publish(1, "x"));
+            assertInstanceOf(UnsupportedOperationException.class, failure);
+            assertEquals(2, failure.getSuppressed().length);
+            assertEquals(1, completed.get());
+        }
+
+        @Test
+        @DisplayName("Should switch fan-out on and off at runtime")
+        void shouldToggleThreshold() {
+            List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+            for (int i = 0; i < 2; i++) {
+                channel.register(1, parallelSafe(payload -> threads.add(Thread.currentThread())));
+            }
+            assertEquals(0, channel.getParallelFanOutThreshold());
+
+            channel.setParallelFanOutThreshold(2);
+            assertEquals(2, channel.publish(1, "a"));
+            channel.setParallelFanOutThreshold(0);
+            assertEquals(2, channel.publish(1, "b"));
+
+            assertEquals(4, threads.size());
+            assertThrows(IllegalArgumentException.class, () -> channel.setParallelFanOutThreshold(1));
+        }
+
+        @Test
+        @DisplayName("Should validate fan-out options")
+        void shouldValidateOptions() {
+            assertThrows(IllegalArgumentException.class, () -> EventChannelOptions.builder().parallelFanOut(1));
+            assertThrows(IllegalArgumentException.class, () -> EventChannelOptions.builder().parallelFanOut(2, null));
+            assertEquals(0, EventChannelOptions.defaults().getParallelFanOutThreshold());
+            assertSame(ForkJoinPool.commonPool(), EventChannelOptions.defaults().getParallelFanOutPool());
+        }
+    }
+
+    @Nested
+    @DisplayName("Journal Tests")
+    class JournalTests {
+
+        @TempDir
+        Path dir;
+
+        private EventChannelOptions journaled() {
+            return EventChannelOptions.builder()
+                .journal(JournalOptions.builder(dir).codec(PayloadCodec.strings()).build())
+                .build();
+        }
+
+        @Test
+        @DisplayName("Should replay journaled events into a new channel")
+        void shouldReplayAfterRestart() {
+            StandardEventChannel first = new StandardEventChannel("journaled", executor, journaled());
+            first.publish(1, "a");
+            first.publishBatch(2, new Object[]{"b", "c"}, 0, 2);
+            first.publishBatch(new int[]{1, 2}, new Object[]{"d", "e"}, 0, 2);
+            first.shutdown();
+
+            StandardEventChannel second = new StandardEventChannel("journaled", executor, journaled());
+            List<Object> received = new ArrayList<>();
+            second.register(1, received::add);
+            second.register(2, received::add);
+
+            assertEquals(5, second.replay(0));
+            assertEquals(List.of("a", "b", "c", "d", "e"), received);
+            assertEquals(5, second.getJournal().getNextOffset());
+            second.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should journal async publishes in publish order")
+        void shouldJournalPublishAsync() throws Exception {
+            StandardEventChannel journaledChannel = new StandardEventChannel("journaled", executor, journaled());
+            journaledChannel.publishAsync(1, "a").get(5, TimeUnit.SECONDS);
+            journaledChannel.publishAsync(99, "b").get(5, TimeUnit.SECONDS);
+
+            List<Object> payloads = new ArrayList<>();
+            journaledChannel.getJournal().replay(0, (offset, eventId, timestamp, payload) -> payloads.add(payload));
+            assertEquals(List.of("a", "b"), payloads);
+            journaledChannel.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should reject replay on channels without a journal")
+        void shouldRejectReplayWithoutJournal() {
+            assertNull(channel.getJournal());
+            assertThrows(IllegalStateException.class, () -> channel.replay(0));
+        }
+    }
 }
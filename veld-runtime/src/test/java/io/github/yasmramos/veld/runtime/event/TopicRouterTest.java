@@ -0,0 +1,108 @@
+package io.github.yasmramos.veld.runtime.event;
+
+import org.junit.jupiter.api.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link TopicRouter} wildcard matching and route caching.
+ */
+@DisplayName("TopicRouter Tests")
+class TopicRouterTest {
+
+    private final Map<String, EventChannel> concrete = new HashMap<>();
+    private ExecutorService executor;
+    private TopicRouter router;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+        router = new TopicRouter(concrete::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private StandardEventChannel subscribe(String pattern) {
+        return router.subscription(pattern, name -> new StandardEventChannel(name, executor));
+    }
+
+    private List<String> route(String topic) {
+        return Arrays.stream(router.route(topic))
+            .map(channel -> ((StandardEventChannel) channel).getChannelName())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should match '*' to one token and '>' to one or more tokens")
+    void shouldMatchWildcards() {
+        subscribe("orders.*.created");
+        subscribe("orders.>");
+        subscribe("*.eu.*");
+        subscribe("orders.*");
+
+        assertEquals(List.of("orders.*.created", "orders.>", "*.eu.*"), route("orders.eu.created"));
+        assertEquals(List.of("orders.*", "orders.>"), route("orders.eu"));
+        assertEquals(List.of("orders.>"), route("orders.eu.created.late"));
+        assertEquals(List.of(), route("orders"));
+        assertEquals(List.of(), route("payments.us.created"));
+    }
+
+    @Test
+    @DisplayName("Should put the concrete channel first and the most specific patterns next")
+    void shouldOrderBySpecificity() {
+        concrete.put("orders.eu.created", new StandardEventChannel("orders.eu.created", executor));
+        subscribe("orders.>");
+        subscribe("orders.*.created");
+        subscribe("orders.eu.*");
+
+        assertEquals(List.of("orders.eu.created", "orders.eu.*", "orders.*.created", "orders.>"),
+            route("orders.eu.created"));
+    }
+
+    @Test
+    @DisplayName("Should cache routes and invalidate them when patterns or channels change")
+    void shouldInvalidateCachedRoutes() {
+        StandardEventChannel wildcard = subscribe("orders.*.created");
+        EventChannel[] first = router.route("orders.eu.created");
+        assertSame(first, router.route("orders.eu.created"));
+        assertEquals(1, router.getCachedRouteCount());
+
+        assertSame(wildcard, subscribe("orders.*.created"));
+        assertSame(first, router.route("orders.eu.created"), "re-subscribing an existing pattern keeps the cache");
+
+        subscribe("orders.>");
+        assertEquals(0, router.getCachedRouteCount());
+        assertEquals(List.of("orders.*.created", "orders.>"), route("orders.eu.created"));
+
+        assertSame(wildcard, router.remove("orders.*.created"));
+        assertNull(router.remove("orders.*.created"));
+        assertEquals(List.of("orders.>"), route("orders.eu.created"));
+
+        concrete.put("orders.eu.created", new StandardEventChannel("orders.eu.created", executor));
+        router.invalidate("orders.eu.created");
+        assertEquals(List.of("orders.eu.created", "orders.>"), route("orders.eu.created"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed topics and patterns")
+    void shouldRejectInvalidTopics() {
+        assertThrows(IllegalArgumentException.class, () -> router.route("orders.*.created"));
+        assertThrows(IllegalArgumentException.class, () -> router.route("orders..created"));
+        assertThrows(IllegalArgumentException.class, () -> router.route(""));
+        assertThrows(IllegalArgumentException.class, () -> router.route(null));
+        assertThrows(IllegalArgumentException.class, () -> subscribe("orders.>.created"));
+        assertTrue(TopicRouter.isPattern("orders.>"));
+        assertFalse(TopicRouter.isPattern("orders.eu"));
+    }
+}
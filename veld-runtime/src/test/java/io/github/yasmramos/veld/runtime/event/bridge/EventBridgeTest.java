@@ -0,0 +1,310 @@
+package io.github.yasmramos.veld.runtime.event.bridge;
+
+import io.github.yasmramos.veld.runtime.event.EventChannel;
+import io.github.yasmramos.veld.runtime.event.StandardEventChannel;
+import io.github.yasmramos.veld.runtime.event.journal.PayloadCodec;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EventBridge over the Unix domain socket and shared memory
+ * transports, within one JVM and against a peer JVM.
+ */
+@DisplayName("EventBridge Tests")
+class EventBridgeTest {
+
+    private static final int PING = 1;
+    private static final int PONG = 2;
+
+    @TempDir
+    Path dir;
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            resources.get(i).close();
+        }
+    }
+
+    private EventBridge bridge(EventChannel channel, BridgeTransport transport, int... forwarded) {
+        EventBridge bridge = EventBridge.builder(channel, transport)
+            .codec(PayloadCodec.strings())
+            .forward(forwarded)
+            .receive(PING, PONG)
+            .reconnectDelay(Duration.ofMillis(20))
+            .start();
+        resources.add(bridge);
+        return bridge;
+    }
+
+    /** Encodes a frame by hand, with a length that may disagree with the payload. */
+    private static ByteBuffer frame(int length, int eventId, String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(8 + bytes.length).putInt(length).putInt(eventId).put(bytes).flip();
+    }
+
+    private static BlockingQueue<Object> listen(EventChannel channel, int eventId) {
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+        channel.register(eventId, received::add);
+        return received;
+    }
+
+    @Nested
+    @DisplayName("Unix Domain Socket Tests")
+    class UnixSocketTests {
+
+        @Test
+        @DisplayName("Should forward events both ways without echoing them back")
+        void shouldForwardBothWays() throws Exception {
+            Path socket = dir.resolve("bridge.sock");
+            StandardEventChannel left = new StandardEventChannel("left", null);
+            StandardEventChannel right = new StandardEventChannel("right", null);
+            EventBridge server = bridge(left, UnixSocketTransport.server(socket), PING);
+            EventBridge client = bridge(right, UnixSocketTransport.client(socket), PING);
+            BlockingQueue<Object> atLeft = listen(left, PING);
+            BlockingQueue<Object> atRight = listen(right, PING);
+
+            left.publish(PING, "from-left");
+            assertEquals("from-left", atLeft.poll());
+            assertEquals("from-left", atRight.poll(10, TimeUnit.SECONDS));
+            right.publish(PING, "from-right");
+            assertEquals("from-right", atRight.poll());
+            assertEquals("from-right", atLeft.poll(10, TimeUnit.SECONDS));
+
+            assertNull(atLeft.poll(200, TimeUnit.MILLISECONDS), "republished events must not bounce back");
+            assertNull(atRight.poll());
+            assertEquals(1, server.getSentCount());
+            assertEquals(1, client.getReceivedCount());
+        }
+
+        @Test
+        @DisplayName("Should reconnect and resend after the server restarts")
+        void shouldReconnect() throws Exception {
+            Path socket = dir.resolve("restart.sock");
+            StandardEventChannel left = new StandardEventChannel("left", null);
+            StandardEventChannel right = new StandardEventChannel("right", null);
+            EventBridge client = bridge(right, UnixSocketTransport.client(socket), PING);
+            BlockingQueue<Object> atLeft = listen(left, PING);
+
+            EventBridge first = EventBridge.builder(left, UnixSocketTransport.server(socket))
+                .receive(PING, PayloadCodec.strings()).start();
+            right.publish(PING, "one");
+            assertEquals("one", atLeft.poll(10, TimeUnit.SECONDS));
+            first.close();
+
+            bridge(left, UnixSocketTransport.server(socket));
+            right.publish(PING, "two");
+            assertEquals("two", atLeft.poll(10, TimeUnit.SECONDS));
+            assertTrue(client.getReconnectCount() >= 1);
+        }
+
+        @Test
+        @DisplayName("Should drop oversized payloads and reject invalid options")
+        void shouldDropOversized() {
+            StandardEventChannel channel = new StandardEventChannel("left", null);
+            EventBridge bridge = EventBridge.builder(channel, UnixSocketTransport.client(dir.resolve("none.sock")))
+                .forward(PING, PayloadCodec.strings())
+                .maxFrameSize(4)
+                .drainTimeout(Duration.ZERO)
+                .start();
+            resources.add(bridge);
+
+            channel.publish(PING, "too large");
+            assertEquals(1, bridge.getDroppedCount());
+            assertFalse(bridge.isConnected());
+            assertThrows(IllegalArgumentException.class, () ->
+                EventBridge.builder(channel, UnixSocketTransport.client(dir)).maxPendingBytes(16).start());
+        }
+
+        @Test
+        @DisplayName("Should require a codec and drop event IDs it does not bridge")
+        void shouldOnlyDecodeBridgedIds() throws Exception {
+            Path socket = dir.resolve("ids.sock");
+            StandardEventChannel left = new StandardEventChannel("left", null);
+            StandardEventChannel right = new StandardEventChannel("right", null);
+            assertThrows(IllegalArgumentException.class, () ->
+                EventBridge.builder(left, UnixSocketTransport.server(socket)).forward(PING).start());
+            assertThrows(IllegalArgumentException.class, () ->
+                EventBridge.builder(left, UnixSocketTransport.server(socket)).receive(PING).start());
+
+            bridge(left, UnixSocketTransport.server(socket), PING, PONG);
+            EventBridge client = EventBridge.builder(right, UnixSocketTransport.client(socket))
+                .receive(PING, PayloadCodec.strings())
+                .reconnectDelay(Duration.ofMillis(20))
+                .start();
+            resources.add(client);
+            BlockingQueue<Object> pings = listen(right, PING);
+            BlockingQueue<Object> pongs = listen(right, PONG);
+
+            left.publish(PONG, "unbridged");
+            left.publish(PING, "bridged");
+            assertEquals("bridged", pings.poll(10, TimeUnit.SECONDS));
+            assertNull(pongs.poll());
+            assertEquals(1, client.getDroppedCount());
+            assertEquals(1, client.getReceivedCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Shared Memory Tests")
+    class SharedMemoryTests {
+
+        @Test
+        @DisplayName("Should stream many events in order through a small ring")
+        void shouldStreamInOrder() throws Exception {
+            Path file = dir.resolve("bridge.shm");
+            StandardEventChannel left = new StandardEventChannel("left", null);
+            StandardEventChannel right = new StandardEventChannel("right", null);
+            bridge(left, SharedMemoryTransport.primary(file, SharedMemoryTransport.MIN_CAPACITY), PING);
+            EventBridge secondary = bridge(right, SharedMemoryTransport.secondary(file), PONG);
+            List<Object> atRight = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(5_000);
+            right.register(PING, payload -> {
+                atRight.add(payload);
+                done.countDown();
+            });
+            BlockingQueue<Object> atLeft = listen(left, PONG);
+
+            for (int i = 0; i < 5_000; i++) {
+                left.publish(PING, Integer.toString(i));
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS), "received " + atRight.size());
+            for (int i = 0; i < 5_000; i++) {
+                assertEquals(Integer.toString(i), atRight.get(i));
+            }
+            right.publish(PONG, "back");
+            assertEquals("back", atLeft.poll(10, TimeUnit.SECONDS));
+            assertEquals(5_000, secondary.getReceivedCount());
+        }
+
+        @Test
+        @DisplayName("Should drop the torn frame of a writer that died mid-frame")
+        void shouldDropTornFrame() throws Exception {
+            Path file = dir.resolve("torn.shm");
+            SharedMemoryTransport crashed = SharedMemoryTransport.primary(file, SharedMemoryTransport.MIN_CAPACITY);
+            resources.add(crashed);
+            crashed.connect();
+            // Declares a five byte payload, but the writer stops after two
+            crashed.write(frame(Integer.BYTES + 5, PING, "to"));
+
+            StandardEventChannel right = new StandardEventChannel("right", null);
+            bridge(right, SharedMemoryTransport.secondary(file));
+            BlockingQueue<Object> atRight = listen(right, PING);
+            StandardEventChannel left = new StandardEventChannel("left", null);
+            bridge(left, SharedMemoryTransport.primary(file, SharedMemoryTransport.MIN_CAPACITY), PING);
+
+            left.publish(PING, "after");
+            assertEquals("after", atRight.poll(10, TimeUnit.SECONDS));
+            left.publish(PING, "next");
+            assertEquals("next", atRight.poll(10, TimeUnit.SECONDS));
+        }
+
+        @Test
+        @DisplayName("Should resynchronize after a corrupt frame instead of looping on it")
+        void shouldResyncAfterCorruptFrame() throws Exception {
+            Path file = dir.resolve("corrupt.shm");
+            SharedMemoryTransport writer = SharedMemoryTransport.primary(file, SharedMemoryTransport.MIN_CAPACITY);
+            resources.add(writer);
+            writer.connect();
+            writer.write(frame(2, PING, ""));
+
+            StandardEventChannel right = new StandardEventChannel("right", null);
+            EventBridge secondary = bridge(right, SharedMemoryTransport.secondary(file));
+            BlockingQueue<Object> atRight = listen(right, PING);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (secondary.getReconnectCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(1, secondary.getReconnectCount());
+
+            writer.write(frame(Integer.BYTES + 5, PING, "after"));
+            assertEquals("after", atRight.poll(10, TimeUnit.SECONDS));
+            assertEquals(1, secondary.getReconnectCount());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid ring capacities")
+        void shouldRejectInvalidCapacity() {
+            Path file = dir.resolve("invalid.shm");
+            assertThrows(IllegalArgumentException.class, () -> SharedMemoryTransport.primary(file, 1000));
+            assertThrows(IllegalArgumentException.class, () -> SharedMemoryTransport.primary(file, 6000));
+        }
+    }
+
+    @Test
+    @DisplayName("Should exchange events with a bridge in another JVM")
+    void shouldBridgeToAnotherJvm() throws Exception {
+        Path socket = dir.resolve("peer.sock");
+        StandardEventChannel channel = new StandardEventChannel("parent", null);
+        bridge(channel, UnixSocketTransport.server(socket), PING);
+        BlockingQueue<Object> pongs = listen(channel, PONG);
+
+        Process peer = new ProcessBuilder(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-cp", System.getProperty("java.class.path"),
+            Peer.class.getName(), socket.toString())
+            .redirectErrorStream(true)
+            .redirectOutput(dir.resolve("peer.log").toFile())
+            .start();
+        try {
+            channel.publish(PING, "hello");
+            assertEquals("pong:hello", pongs.poll(60, TimeUnit.SECONDS));
+        } finally {
+            channel.publish(PING, "stop");
+            if (!peer.waitFor(30, TimeUnit.SECONDS)) {
+                peer.destroyForcibly();
+            }
+        }
+        assertEquals(0, peer.exitValue());
+    }
+
+    /**
+     * Peer process: answers every {@code PING} with a {@code PONG} until it receives {@code stop}.
+     */
+    public static final class Peer {
+
+        public static void main(String[] args) throws Exception {
+            StandardEventChannel channel = new StandardEventChannel("peer", null);
+            CountDownLatch stop = new CountDownLatch(1);
+            channel.register(PING, payload -> {
+                if ("stop".equals(payload)) {
+                    stop.countDown();
+                } else {
+                    channel.publish(PONG, "pong:" + payload);
+                }
+            });
+            EventBridge bridge = EventBridge.builder(channel, UnixSocketTransport.client(Path.of(args[0])))
+                    .codec(PayloadCodec.strings())
+                    .forward(PONG)
+                    .receive(PING)
+                    .reconnectDelay(Duration.ofMillis(20))
+                    .start();
+            boolean stopped;
+            try {
+                stopped = stop.await(60, TimeUnit.SECONDS);
+            } finally {
+                bridge.close();
+            }
+            if (!stopped) {
+                System.exit(1);
+            }
+        }
+    }
+}
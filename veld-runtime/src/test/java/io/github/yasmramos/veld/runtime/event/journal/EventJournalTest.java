@@ -0,0 +1,324 @@
+package io.github.yasmramos.veld.runtime.event.journal;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EventJournal: record round trips, recovery, segment rolling,
+ * retention, fsync policies and options validation.
+ */
+@DisplayName("EventJournal Tests")
+class EventJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private EventJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private JournalOptions.Builder options() {
+        return JournalOptions.builder(dir).codec(PayloadCodec.strings());
+    }
+
+    private static List<String> replayAll(EventJournal journal, long from) {
+        List<String> records = new ArrayList<>();
+        journal.replay(from, (offset, eventId, timestamp, payload) ->
+            records.add(offset + ":" + eventId + ":" + payload));
+        return records;
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(f -> f.toString().endsWith(".log")).count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Append and Replay Tests")
+    class AppendAndReplayTests {
+
+        @Test
+        @DisplayName("Should assign sequential offsets and replay records in order")
+        void shouldReplayInOrder() {
+            journal = EventJournal.open(options().build());
+
+            assertEquals(0, journal.append(1, "a"));
+            assertEquals(1, journal.append(2, "b"));
+            assertEquals(2, journal.append(1, ""));
+
+            assertEquals(List.of("0:1:a", "1:2:b", "2:1:"), replayAll(journal, 0));
+            assertEquals(List.of("2:1:"), replayAll(journal, 2));
+            assertEquals(3, journal.replay(0, (offset, eventId, timestamp, payload) -> { }));
+            assertEquals(3, journal.getNextOffset());
+        }
+
+        @Test
+        @DisplayName("Should record the publish timestamp")
+        void shouldRecordTimestamp() {
+            journal = EventJournal.open(options().build());
+            long before = System.currentTimeMillis();
+            journal.append(1, "a");
+            long[] timestamp = new long[1];
+
+            journal.replay(0, (offset, eventId, ts, payload) -> timestamp[0] = ts);
+
+            assertTrue(timestamp[0] >= before && timestamp[0] <= System.currentTimeMillis());
+        }
+
+        @Test
+        @DisplayName("Should round-trip payloads with the serialization codec")
+        void shouldUseSerializableCodec() {
+            journal = EventJournal.open(JournalOptions.builder(dir).build());
+            journal.append(7, List.of(1, 2, 3));
+
+            List<Object> payloads = new ArrayList<>();
+            journal.replay(0, (offset, eventId, timestamp, payload) -> payloads.add(payload));
+
+            assertEquals(List.of(List.of(1, 2, 3)), payloads);
+        }
+
+        @Test
+        @DisplayName("Should reject appends after close and records larger than a segment")
+        void shouldRejectInvalidAppends() {
+            journal = EventJournal.open(options().segmentSize(JournalOptions.MIN_SEGMENT_SIZE).build());
+
+            assertThrows(JournalException.class, () -> journal.append(1, "x".repeat(JournalOptions.MIN_SEGMENT_SIZE)));
+            journal.close();
+            assertThrows(JournalException.class, () -> journal.append(1, "a"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Should continue offsets after reopening")
+        void shouldRecoverAfterReopen() {
+            journal = EventJournal.open(options().build());
+            journal.append(1, "a");
+            journal.append(1, "b");
+            journal.close();
+
+            journal = EventJournal.open(options().build());
+            assertEquals(2, journal.getNextOffset());
+            assertEquals(2, journal.append(1, "c"));
+            assertEquals(List.of("0:1:a", "1:1:b", "2:1:c"), replayAll(journal, 0));
+        }
+
+        @Test
+        @DisplayName("Should discard a torn record and everything after it")
+        void shouldDiscardTornRecord() throws IOException {
+            journal = EventJournal.open(options().fsync(JournalOptions.FsyncPolicy.NONE).build());
+            journal.append(1, "a");
+            journal.append(1, "bb");
+            journal.append(1, "ccc");
+            journal.close();
+
+            // Corrupt the payload of the second record (header 20 bytes, first record 21 bytes)
+            Path segment = dir.resolve(JournalSegment.fileName(0));
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[]{'X'}), 21 + JournalSegment.HEADER_SIZE);
+            }
+
+            journal = EventJournal.open(options().build());
+            assertEquals(1, journal.getNextOffset());
+            journal.append(2, "d");
+            journal.close();
+
+            journal = EventJournal.open(options().build());
+            assertEquals(List.of("0:1:a", "1:2:d"), replayAll(journal, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Segment Tests")
+    class SegmentTests {
+
+        @Test
+        @DisplayName("Should roll segments and replay across them")
+        void shouldRollSegments() throws IOException {
+            journal = EventJournal.open(options().segmentSize(JournalOptions.MIN_SEGMENT_SIZE).build());
+            String payload = "x".repeat(100);
+            for (int i = 0; i < 200; i++) {
+                journal.append(i, payload);
+            }
+
+            assertTrue(journal.getSegmentCount() > 1);
+            assertEquals(journal.getSegmentCount(), segmentFiles());
+            List<String> records = replayAll(journal, 150);
+            assertEquals(50, records.size());
+            assertEquals("150:150:" + payload, records.get(0));
+            assertEquals("199:199:" + payload, records.get(49));
+        }
+
+        @Test
+        @DisplayName("Should delete the oldest segments beyond the retained count")
+        void shouldRetainSegmentCount() throws IOException {
+            journal = EventJournal.open(options()
+                .segmentSize(JournalOptions.MIN_SEGMENT_SIZE)
+                .retainSegments(2)
+                .build());
+            for (int i = 0; i < 500; i++) {
+                journal.append(1, "x".repeat(100));
+            }
+
+            assertEquals(2, journal.getSegmentCount());
+            assertEquals(2, segmentFiles());
+            long first = journal.getFirstOffset();
+            assertTrue(first > 0);
+            List<String> records = replayAll(journal, 0);
+            assertEquals(500 - first, records.size());
+            assertTrue(records.get(0).startsWith(first + ":"));
+        }
+
+        @Test
+        @DisplayName("Should delete segments older than the retention period")
+        void shouldRetainByAge() throws IOException {
+            journal = EventJournal.open(options()
+                .segmentSize(JournalOptions.MIN_SEGMENT_SIZE)
+                .retention(Duration.ZERO)
+                .clock(Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC))
+                .build());
+            for (int i = 0; i < 200; i++) {
+                journal.append(1, "x".repeat(100));
+            }
+
+            assertEquals(1, journal.getSegmentCount());
+            assertEquals(1, segmentFiles());
+        }
+
+        @Test
+        @DisplayName("Should age segments by their newest record")
+        void shouldAgeSegmentsByNewestRecord() throws IOException {
+            ManualClock clock = new ManualClock();
+            journal = EventJournal.open(options()
+                .segmentSize(JournalOptions.MIN_SEGMENT_SIZE)
+                .retention(Duration.ofMinutes(1))
+                .clock(clock)
+                .build());
+            for (int i = 0; i < 200; i++) {
+                journal.append(1, "x".repeat(100));
+            }
+            int segments = journal.getSegmentCount();
+            assertTrue(segments > 2);
+            assertEquals(segments, segmentFiles());
+
+            // The next roll deletes every segment that only holds records from before the advance
+            clock.advance(Duration.ofMinutes(2));
+            while (journal.getFirstOffset() == 0) {
+                journal.append(1, "y".repeat(100));
+            }
+            assertEquals(2, journal.getSegmentCount());
+            assertEquals(2, segmentFiles());
+        }
+
+        @Test
+        @DisplayName("Should age recovered segments by the timestamps in their records")
+        void shouldAgeRecoveredSegments() throws IOException {
+            ManualClock clock = new ManualClock();
+            journal = EventJournal.open(options()
+                .segmentSize(JournalOptions.MIN_SEGMENT_SIZE)
+                .clock(clock)
+                .build());
+            for (int i = 0; i < 200; i++) {
+                journal.append(1, "x".repeat(100));
+            }
+            journal.close();
+
+            clock.advance(Duration.ofMinutes(2));
+            journal = EventJournal.open(options()
+                .segmentSize(JournalOptions.MIN_SEGMENT_SIZE)
+                .retention(Duration.ofMinutes(1))
+                .clock(clock)
+                .build());
+
+            assertEquals(1, journal.getSegmentCount());
+            assertEquals(1, segmentFiles());
+        }
+    }
+
+    /** A clock that only moves when told to. */
+    private static final class ManualClock extends Clock {
+        private volatile long millis = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fsync Policy Tests")
+    class FsyncPolicyTests {
+
+        @Test
+        @DisplayName("Should append under every fsync policy")
+        void shouldAppendUnderEveryPolicy() {
+            for (JournalOptions.FsyncPolicy policy : JournalOptions.FsyncPolicy.values()) {
+                Path policyDir = dir.resolve(policy.name());
+                try (EventJournal policyJournal = EventJournal.open(JournalOptions.builder(policyDir)
+                        .codec(PayloadCodec.strings())
+                        .fsync(policy, Duration.ofMillis(1))
+                        .build())) {
+                    policyJournal.append(1, "a");
+                    policyJournal.flush();
+                    assertEquals(1, policyJournal.getNextOffset(), policy.name());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject invalid options")
+        void shouldRejectInvalidOptions() {
+            assertThrows(IllegalArgumentException.class, () -> JournalOptions.builder(null));
+            assertThrows(IllegalArgumentException.class, () -> options().segmentSize(100));
+            assertThrows(IllegalArgumentException.class,
+                () -> options().fsync(JournalOptions.FsyncPolicy.GROUP_COMMIT, Duration.ZERO));
+            assertThrows(IllegalArgumentException.class, () -> options().retainSegments(-1));
+            assertThrows(IllegalArgumentException.class, () -> options().codec(null));
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package io.github.yasmramos.veld.security;
 
+import io.github.yasmramos.veld.runtime.context.ContextHolder;
+import io.github.yasmramos.veld.runtime.context.ContextPropagation;
+
 import java.util.Collections;
 import java.util.Set;
 
 /**
  * Security context holder for the current thread.
+ *
+ * <p>The principal is propagated to {@code @Async} methods, async event
+ * listeners and scheduled tasks submitted while it is set.</p>
  */
 public class SecurityContext {
     
     private static final ThreadLocal<Principal> currentPrincipal = new ThreadLocal<>();
     
+    static {
+        ContextPropagation.register(ContextHolder.ofThreadLocal(currentPrincipal));
+    }
+    
     public static void setPrincipal(Principal principal) {
         currentPrincipal.set(principal);
     }